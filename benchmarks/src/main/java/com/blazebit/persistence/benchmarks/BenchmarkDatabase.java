@@ -0,0 +1,106 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.blazebit.persistence.benchmarks;
+
+import com.blazebit.persistence.Criteria;
+import com.blazebit.persistence.CriteriaBuilderFactory;
+import com.blazebit.persistence.benchmarks.model.Document;
+import com.blazebit.persistence.benchmarks.model.Person;
+import com.blazebit.persistence.benchmarks.view.DocumentUpdateView;
+import com.blazebit.persistence.benchmarks.view.DocumentView;
+import com.blazebit.persistence.benchmarks.view.PersonJoinView;
+import com.blazebit.persistence.benchmarks.view.PersonMultisetView;
+import com.blazebit.persistence.benchmarks.view.PersonSelectView;
+import com.blazebit.persistence.benchmarks.view.PersonSubselectView;
+import com.blazebit.persistence.benchmarks.view.PersonView;
+import com.blazebit.persistence.view.EntityViewManager;
+import com.blazebit.persistence.view.EntityViews;
+import com.blazebit.persistence.view.spi.EntityViewConfiguration;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+
+/**
+ * The embedded H2 database, the criteria builder factory and the entity view manager shared by all threads of a benchmark.
+ * The database contains {@link #PERSON_COUNT} persons that own {@link #DOCUMENTS_PER_PERSON} documents each.
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+@State(Scope.Benchmark)
+public class BenchmarkDatabase {
+
+    public static final int PERSON_COUNT = 100;
+    public static final int DOCUMENTS_PER_PERSON = 10;
+
+    private EntityManagerFactory entityManagerFactory;
+    private CriteriaBuilderFactory criteriaBuilderFactory;
+    private EntityViewManager entityViewManager;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        entityManagerFactory = Persistence.createEntityManagerFactory("benchmarks");
+        criteriaBuilderFactory = Criteria.getDefault().createCriteriaBuilderFactory(entityManagerFactory);
+
+        EntityViewConfiguration configuration = EntityViews.createDefaultConfiguration();
+        configuration.addEntityView(DocumentView.class);
+        configuration.addEntityView(DocumentUpdateView.class);
+        configuration.addEntityView(PersonView.class);
+        configuration.addEntityView(PersonJoinView.class);
+        configuration.addEntityView(PersonSelectView.class);
+        configuration.addEntityView(PersonSubselectView.class);
+        configuration.addEntityView(PersonMultisetView.class);
+        entityViewManager = configuration.createEntityViewManager(criteriaBuilderFactory);
+
+        EntityManager em = entityManagerFactory.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            for (int i = 0; i < PERSON_COUNT; i++) {
+                Person person = new Person("Person " + i);
+                em.persist(person);
+                for (int j = 0; j < DOCUMENTS_PER_PERSON; j++) {
+                    em.persist(new Document("Document " + i + "-" + j, j, person));
+                }
+            }
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManagerFactory.close();
+    }
+
+    public EntityManagerFactory getEntityManagerFactory() {
+        return entityManagerFactory;
+    }
+
+    public CriteriaBuilderFactory getCriteriaBuilderFactory() {
+        return criteriaBuilderFactory;
+    }
+
+    public EntityViewManager getEntityViewManager() {
+        return entityViewManager;
+    }
+}
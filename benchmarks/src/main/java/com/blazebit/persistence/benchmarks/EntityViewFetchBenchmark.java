@@ -0,0 +1,100 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.blazebit.persistence.benchmarks;
+
+import com.blazebit.persistence.CriteriaBuilderFactory;
+import com.blazebit.persistence.benchmarks.model.Person;
+import com.blazebit.persistence.benchmarks.view.PersonJoinView;
+import com.blazebit.persistence.benchmarks.view.PersonMultisetView;
+import com.blazebit.persistence.benchmarks.view.PersonSelectView;
+import com.blazebit.persistence.benchmarks.view.PersonSubselectView;
+import com.blazebit.persistence.benchmarks.view.PersonView;
+import com.blazebit.persistence.view.EntityViewManager;
+import com.blazebit.persistence.view.EntityViewSetting;
+import com.blazebit.persistence.view.FetchStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures materializing all persons as entity views with their owned documents fetched by the different fetch strategies.
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityViewFetchBenchmark {
+
+    @Param({ "JOIN", "SELECT", "SUBSELECT", "MULTISET" })
+    private FetchStrategy fetchStrategy;
+    private CriteriaBuilderFactory cbf;
+    private EntityViewManager evm;
+    private EntityManager em;
+    private Class<? extends PersonView> viewClass;
+
+    @Setup
+    public void setup(BenchmarkDatabase database) {
+        cbf = database.getCriteriaBuilderFactory();
+        evm = database.getEntityViewManager();
+        em = database.getEntityManagerFactory().createEntityManager();
+        switch (fetchStrategy) {
+            case JOIN:
+                viewClass = PersonJoinView.class;
+                break;
+            case SELECT:
+                viewClass = PersonSelectView.class;
+                break;
+            case SUBSELECT:
+                viewClass = PersonSubselectView.class;
+                break;
+            case MULTISET:
+                viewClass = PersonMultisetView.class;
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported fetch strategy: " + fetchStrategy);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        em.close();
+    }
+
+    @Benchmark
+    public List<? extends PersonView> fetchViews() {
+        em.clear();
+        return evm.applySetting(EntityViewSetting.create(viewClass), cbf.create(em, Person.class).orderByAsc("id"))
+            .getResultList();
+    }
+}
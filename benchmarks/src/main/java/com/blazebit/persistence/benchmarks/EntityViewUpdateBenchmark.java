@@ -0,0 +1,107 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.blazebit.persistence.benchmarks;
+
+import com.blazebit.persistence.benchmarks.model.Document;
+import com.blazebit.persistence.benchmarks.view.DocumentUpdateView;
+import com.blazebit.persistence.view.EntityViewManager;
+import com.blazebit.persistence.view.EntityViewSetting;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures flushing changes of updatable entity views through the entity view updater.
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityViewUpdateBenchmark {
+
+    private static final int VIEW_COUNT = 10;
+
+    private EntityViewManager evm;
+    private EntityManager em;
+    private List<DocumentUpdateView> views;
+    private long counter;
+
+    @Setup
+    public void setup(BenchmarkDatabase database) {
+        evm = database.getEntityViewManager();
+        em = database.getEntityManagerFactory().createEntityManager();
+        views = evm.applySetting(EntityViewSetting.create(DocumentUpdateView.class), database.getCriteriaBuilderFactory().create(em, Document.class).orderByAsc("id"))
+            .setMaxResults(VIEW_COUNT)
+            .getResultList();
+    }
+
+    @TearDown
+    public void tearDown() {
+        em.close();
+    }
+
+    @Benchmark
+    public void flushDirtyViews() {
+        counter++;
+        em.getTransaction().begin();
+        try {
+            for (int i = 0; i < views.size(); i++) {
+                DocumentUpdateView view = views.get(i);
+                view.setAge(counter);
+                evm.save(em, view);
+            }
+            em.getTransaction().commit();
+        } finally {
+            if (em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            em.clear();
+        }
+    }
+
+    @Benchmark
+    public void flushUnchangedViews() {
+        em.getTransaction().begin();
+        try {
+            for (int i = 0; i < views.size(); i++) {
+                evm.save(em, views.get(i));
+            }
+            em.getTransaction().commit();
+        } finally {
+            if (em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            em.clear();
+        }
+    }
+}
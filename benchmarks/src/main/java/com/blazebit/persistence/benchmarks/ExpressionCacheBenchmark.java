@@ -0,0 +1,98 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.blazebit.persistence.benchmarks;
+
+import com.blazebit.persistence.parser.expression.BoundedExpressionCache;
+import com.blazebit.persistence.parser.expression.ConcurrentHashMapExpressionCache;
+import com.blazebit.persistence.parser.expression.Expression;
+import com.blazebit.persistence.parser.expression.ExpressionCache;
+import com.blazebit.persistence.parser.expression.ExpressionFactory;
+import com.blazebit.persistence.parser.expression.ExpressionFactoryImpl;
+import com.blazebit.persistence.parser.expression.SimpleCachingExpressionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the unbounded {@link ConcurrentHashMapExpressionCache} with the {@link BoundedExpressionCache} for a skewed
+ * distribution of expressions where a few expressions are very hot and the long tail is rarely reused.
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class ExpressionCacheBenchmark {
+
+    private static final int DISTINCT_EXPRESSIONS = 100_000;
+    private static final String CASE_EXPRESSION;
+
+    static {
+        StringBuilder sb = new StringBuilder("CASE");
+        for (int i = 0; i < 20; i++) {
+            sb.append(" WHEN entity.status = ").append(i).append(" THEN 'Status ").append(i).append('\'');
+        }
+        sb.append(" ELSE 'Unknown' END");
+        CASE_EXPRESSION = sb.toString();
+    }
+
+    @Param({ "unbounded", "bounded" })
+    private String cache;
+    private ExpressionFactory expressionFactory;
+
+    @Setup
+    public void setup() {
+        ExpressionCache<?> expressionCache;
+        if ("bounded".equals(cache)) {
+            expressionCache = new BoundedExpressionCache<>(1024, Long.MAX_VALUE);
+        } else {
+            expressionCache = new ConcurrentHashMapExpressionCache<>();
+        }
+        expressionFactory = new SimpleCachingExpressionFactory(new ExpressionFactoryImpl(new HashMap<String, Boolean>(), true, true), expressionCache);
+    }
+
+    @Benchmark
+    public Expression skewedLookup() {
+        // Cubing a uniform value in [0, 1) favors small indexes, which approximates a power law distribution
+        double uniform = ThreadLocalRandom.current().nextDouble();
+        int index = (int) (uniform * uniform * uniform * DISTINCT_EXPRESSIONS);
+        return expressionFactory.createSimpleExpression("SIZE(entity.collection" + index + ") + entity.value", false, true, false);
+    }
+
+    @Benchmark
+    public Expression caseExpressionLookup() {
+        // A large mapping expression that is resolved on every query, which mostly consists of literals
+        return expressionFactory.createSimpleExpression(CASE_EXPRESSION, false, true, false);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.blazebit.persistence.benchmarks;
+
+import com.blazebit.persistence.parser.expression.Expression;
+import com.blazebit.persistence.parser.expression.ExpressionFactory;
+import com.blazebit.persistence.parser.expression.ExpressionFactoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing expressions with the uncached {@link ExpressionFactoryImpl}.
+ * Simple paths, parameters and literals can be recognized without ANTLR, which is compared by the <code>recognizeSimpleExpressions</code> parameter.
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpressionParsingBenchmark {
+
+    @Param({
+        "d.owner.name",
+        ":id",
+        "'abc'",
+        "SIZE(d.owner.ownedDocuments) + d.age * 2",
+        "CASE WHEN d.age > 10 AND d.name LIKE 'A%' THEN d.owner.name ELSE COALESCE(d.name, 'None') END"
+    })
+    private String expression;
+    @Param({ "true", "false" })
+    private boolean recognizeSimpleExpressions;
+    private ExpressionFactory expressionFactory;
+
+    @Setup
+    public void setup() {
+        expressionFactory = new ExpressionFactoryImpl(
+                new HashMap<String, Boolean>(),
+                Collections.<String, Class<?>>emptyMap(),
+                Collections.<String, Class<Enum<?>>>emptyMap(),
+                Collections.<String, Class<Enum<?>>>emptyMap(),
+                true,
+                true,
+                recognizeSimpleExpressions
+        );
+    }
+
+    @Benchmark
+    public Expression parseSimpleExpression() {
+        return expressionFactory.createSimpleExpression(expression, false, true, false);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.blazebit.persistence.benchmarks;
+package com.blazebit.persistence.benchmarks;
+
+import com.blazebit.persistence.CriteriaBuilderFactory;
+import com.blazebit.persistence.benchmarks.model.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.persistence.EntityManager;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the implicit join resolution of paths, which is dominated by metamodel lookups.
+ * Compare runs against different revisions to see the effect of changes to the metamodel lookup structures.
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ImplicitJoinBenchmark {
+
+    private CriteriaBuilderFactory cbf;
+    private EntityManager em;
+
+    @Setup
+    public void setup(BenchmarkDatabase database) {
+        cbf = database.getCriteriaBuilderFactory();
+        em = database.getEntityManagerFactory().createEntityManager();
+    }
+
+    @TearDown
+    public void tearDown() {
+        em.close();
+    }
+
+    @Benchmark
+    public String implicitJoinSingleValuedAssociations() {
+        return cbf.create(em, Document.class, "d")
+            .select("d.owner.id")
+            .select("d.owner.name")
+            .where("d.owner.name").like().value("Person%").noEscape()
+            .where("d.owner.id").gt(1L)
+            .orderByAsc("d.owner.name")
+            .orderByAsc("d.id")
+            .getQueryString();
+    }
+
+    @Benchmark
+    public String implicitJoinCollections() {
+        return cbf.create(em, Document.class, "d")
+            .select("d.owner.ownedDocuments.name")
+            .where("d.owner.ownedDocuments.age").ge(1L)
+            .where("d.owner.ownedDocuments.owner.id").notEq(1L)
+            .orderByAsc("d.id")
+            .getQueryString();
+    }
+}
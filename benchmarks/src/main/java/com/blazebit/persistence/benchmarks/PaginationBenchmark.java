@@ -0,0 +1,95 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.blazebit.persistence.benchmarks;
+
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.CriteriaBuilderFactory;
+import com.blazebit.persistence.KeysetPage;
+import com.blazebit.persistence.PagedList;
+import com.blazebit.persistence.benchmarks.model.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.persistence.EntityManager;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures fetching the second page of documents via offset pagination and via keyset pagination.
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaginationBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({ "true", "false" })
+    private boolean countQuery;
+    private CriteriaBuilderFactory cbf;
+    private EntityManager em;
+    private KeysetPage firstPage;
+
+    @Setup
+    public void setup(BenchmarkDatabase database) {
+        cbf = database.getCriteriaBuilderFactory();
+        em = database.getEntityManagerFactory().createEntityManager();
+        firstPage = createCriteriaBuilder().page(0, PAGE_SIZE).withKeysetExtraction(true).getResultList().getKeysetPage();
+    }
+
+    @TearDown
+    public void tearDown() {
+        em.close();
+    }
+
+    @Benchmark
+    public PagedList<Document> offsetPage() {
+        em.clear();
+        return createCriteriaBuilder().page(PAGE_SIZE, PAGE_SIZE)
+            .withCountQuery(countQuery)
+            .getResultList();
+    }
+
+    @Benchmark
+    public PagedList<Document> keysetPage() {
+        em.clear();
+        return createCriteriaBuilder().page(firstPage, PAGE_SIZE, PAGE_SIZE)
+            .withCountQuery(countQuery)
+            .withKeysetExtraction(true)
+            .getResultList();
+    }
+
+    private CriteriaBuilder<Document> createCriteriaBuilder() {
+        return cbf.create(em, Document.class, "d")
+            .orderByAsc("d.name")
+            .orderByAsc("d.id");
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.benchmarks;
+
+import com.blazebit.persistence.CriteriaBuilderFactory;
+import com.blazebit.persistence.benchmarks.model.Document;
+import com.blazebit.persistence.benchmarks.model.Person;
+import com.blazebit.persistence.querydsl.BlazeJPAQuery;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.PathBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.persistence.EntityManager;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures rendering a QueryDSL query to JPQL compared to building the equivalent criteria builder directly.
+ * The difference is the upper bound of what a cache of rendered QueryDSL queries could save.
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryDslRenderingBenchmark {
+
+    private static final PathBuilder<Document> DOCUMENT = new PathBuilder<>(Document.class, "d");
+    private static final PathBuilder<Person> OWNER = new PathBuilder<>(Person.class, "owner");
+
+    private CriteriaBuilderFactory cbf;
+    private EntityManager em;
+
+    @Setup
+    public void setup(BenchmarkDatabase database) {
+        cbf = database.getCriteriaBuilderFactory();
+        em = database.getEntityManagerFactory().createEntityManager();
+    }
+
+    @TearDown
+    public void tearDown() {
+        em.close();
+    }
+
+    @Benchmark
+    public String renderBlazeJPAQuery() {
+        return new BlazeJPAQuery<Tuple>(em, cbf)
+            .from(DOCUMENT)
+            .innerJoin(DOCUMENT.get("owner", Person.class), OWNER)
+            .select(DOCUMENT.getNumber("id", Long.class), DOCUMENT.getString("name"), OWNER.getString("name"))
+            .where(DOCUMENT.getNumber("age", Long.class).gt(1L), OWNER.getString("name").like("Person%"))
+            .orderBy(DOCUMENT.getString("name").asc(), DOCUMENT.getNumber("id", Long.class).asc())
+            .getQueryString();
+    }
+
+    @Benchmark
+    public String renderCriteriaBuilder() {
+        return cbf.create(em, Document.class, "d")
+            .select("d.id")
+            .select("d.name")
+            .select("owner.name")
+            .innerJoin("d.owner", "owner")
+            .where("d.age").gt(1L)
+            .where("owner.name").like().value("Person%").noEscape()
+            .orderByAsc("d.name")
+            .orderByAsc("d.id")
+            .getQueryString();
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.blazebit.persistence.benchmarks;
+
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.CriteriaBuilderFactory;
+import com.blazebit.persistence.JoinType;
+import com.blazebit.persistence.benchmarks.model.Document;
+import com.blazebit.persistence.benchmarks.model.Person;
+import com.blazebit.persistence.benchmarks.view.PersonMultisetView;
+import com.blazebit.persistence.view.EntityViewManager;
+import com.blazebit.persistence.view.EntityViewSetting;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.persistence.EntityManager;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building criteria builders and rendering them to JPQL without executing them.
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryRenderingBenchmark {
+
+    private CriteriaBuilderFactory cbf;
+    private EntityViewManager evm;
+    private EntityManager em;
+
+    @Setup
+    public void setup(BenchmarkDatabase database) {
+        cbf = database.getCriteriaBuilderFactory();
+        evm = database.getEntityViewManager();
+        em = database.getEntityManagerFactory().createEntityManager();
+    }
+
+    @TearDown
+    public void tearDown() {
+        em.close();
+    }
+
+    @Benchmark
+    public String renderCriteriaBuilder() {
+        return cbf.create(em, Document.class, "d")
+            .select("d.id")
+            .select("d.name")
+            .select("owner.name")
+            .innerJoin("d.owner", "owner")
+            .where("d.age").gt(1L)
+            .where("owner.name").like().value("Person%").noEscape()
+            .whereExists()
+                .from(Document.class, "sub")
+                .where("sub.owner").eqExpression("owner")
+                .where("sub.age").gtExpression("d.age")
+            .end()
+            .orderByAsc("d.name")
+            .orderByAsc("d.id")
+            .getQueryString();
+    }
+
+    @Benchmark
+    public String renderPaginatedCriteriaBuilder() {
+        return cbf.create(em, Person.class, "p")
+            .leftJoinDefault("p.ownedDocuments", "doc")
+            .where("doc.age").ge(1L)
+            .orderByAsc("p.name")
+            .orderByAsc("p.id")
+            .page(0, 10)
+            .getQueryString();
+    }
+
+    @Benchmark
+    public String renderEntityView() {
+        CriteriaBuilder<Person> cb = cbf.create(em, Person.class).orderByAsc("id");
+        return evm.applySetting(EntityViewSetting.create(PersonMultisetView.class), cb).getQueryString();
+    }
+}
@@ -108,6 +108,48 @@ public final class ConfigurationProperties {
      */
     public static final String EXPRESSION_CACHE_CLASS = "com.blazebit.persistence.expression.cache_class";
 
+    /**
+     * The maximum number of cached expressions per cache region when using a bounded expression cache
+     * like <code>com.blazebit.persistence.parser.expression.BoundedExpressionCache</code>.
+     * Default is <code>4096</code>
+     *
+     * @since 1.5.0
+     */
+    public static final String EXPRESSION_CACHE_MAX_SIZE = "com.blazebit.persistence.expression.cache_max_size";
+
+    /**
+     * The maximum estimated weight of cached expressions per cache region when using a bounded expression cache
+     * like <code>com.blazebit.persistence.parser.expression.BoundedExpressionCache</code>.
+     * The weight of an expression is estimated by the length of its expression string.
+     * Default is <code>524288</code>
+     *
+     * @since 1.5.0
+     */
+    public static final String EXPRESSION_CACHE_MAX_WEIGHT = "com.blazebit.persistence.expression.cache_max_weight";
+
+    /**
+     * The maximum number of rendered query strings to cache by the structural shape of a criteria builder.
+     * Builders with the same joins, clauses and keyset structure share the rendered JPQL query string and only differ in parameter values.
+     * A value of <code>0</code> disables the cache.
+     * Valid values are non-negative integers.
+     * Default is <code>0</code>
+     *
+     * @since 1.5.0
+     */
+    public static final String QUERY_TEMPLATE_CACHE_SIZE = "com.blazebit.persistence.query_template_cache_size";
+
+    /**
+     * The maximum number of compiled SQL templates to cache. A SQL template is the result of rewriting the SQL of the JPA provider
+     * for CTEs, entity functions and VALUES clauses, compiled into literal segments and slots once per query shape.
+     * Later executions of the same query shape only fill the slots instead of searching and rewriting the SQL again.
+     * A value of <code>0</code> disables the cache.
+     * Valid values are non-negative integers.
+     * Default is <code>0</code>
+     *
+     * @since 1.5.0
+     */
+    public static final String SQL_TEMPLATE_CACHE_SIZE = "com.blazebit.persistence.sql_template_cache_size";
+
     /**
      * If set to false, tuples of a VALUES clause with all null values won't be filtered out.
      * Valid values for this property are <code>true</code> or <code>false</code>.
@@ -179,6 +221,74 @@ public final class ConfigurationProperties {
      * @see CTEBuilder#with(Class, CriteriaBuilder, boolean)
      */
     public static final String INLINE_CTES = "com.blazebit.persistence.inline_ctes";
+
+    /**
+     * If set to true, the count query of a {@link PaginatedCriteriaBuilder} is executed concurrently to the id and object queries
+     * on a secondary entity manager. This requires that an executor is configured via
+     * {@link com.blazebit.persistence.spi.CriteriaBuilderConfiguration#withParallelQueryExecution(java.util.concurrent.Executor, com.blazebit.persistence.spi.SecondaryEntityManagerProvider)}.
+     * Since the count query runs on a different entity manager, it won't see changes that weren't flushed to the database yet.
+     * The count query is only executed concurrently if it isn't inlined, doesn't require CTEs or entity functions and no reference entity id is used.
+     * Default is <code>false</code>
+     *
+     * The property can be changed for a criteria builder before generating the query.
+     *
+     * @since 1.5.0
+     */
+    public static final String PARALLEL_COUNT_QUERY = "com.blazebit.persistence.parallel_count_query";
+
+    /**
+     * The maximum number of count query results of a {@link PaginatedCriteriaBuilder} to cache.
+     * Results are cached by the count query string and the bound parameter values, so paginating through the same filter
+     * doesn't re-execute the count query on every page request.
+     * The cache is shared by all entity managers, so context that influences query results but isn't part of the query string,
+     * like Hibernate filters or session based multi-tenancy, is not considered. Don't enable the cache if such context is used.
+     * A value of <code>0</code> disables the cache.
+     * Valid values are non-negative integers.
+     * Default is <code>0</code>
+     *
+     * @since 1.5.0
+     */
+    public static final String PAGINATION_COUNT_CACHE_SIZE = "com.blazebit.persistence.pagination_count_cache_size";
+
+    /**
+     * The time to live in milliseconds of cached count query results.
+     * Valid values are non-negative integers.
+     * Default is <code>60000</code>
+     *
+     * @since 1.5.0
+     * @see #PAGINATION_COUNT_CACHE_SIZE
+     */
+    public static final String PAGINATION_COUNT_CACHE_TTL = "com.blazebit.persistence.pagination_count_cache_ttl";
+
+    /**
+     * If set to true, collection valued parameters are padded to the next power of two when bound to a query
+     * by repeating the last element of the collection. This limits the number of distinct SQL strings that result from
+     * varying collection sizes which improves the hit rate of the query plan caches of the JPA provider and the database.
+     * Padding never exceeds the maximum number of bind parameters of the DBMS.
+     * Default is <code>false</code>
+     *
+     * The property can be changed for a criteria builder before constructing a query.
+     *
+     * @since 1.5.0
+     */
+    public static final String IN_LIST_PADDING = "com.blazebit.persistence.in_list_padding";
+
+    /**
+     * The maximum number of values of a single IN predicate created via {@link RestrictionBuilder#in(java.util.Collection)}
+     * or {@link RestrictionBuilder#notIn(java.util.Collection)}. Collections with more values are split into multiple IN predicates
+     * that are connected via <code>OR</code> or <code>AND</code> respectively, which helps to stay below limits for the number of elements
+     * of an IN list like the 1000 elements of Oracle. Note that all values are still bound as parameters of the same statement,
+     * so this doesn't help with limits for the number of bind parameters of a statement like the 2100 parameters of SQL Server.
+     * When combined with {@link #IN_LIST_PADDING}, padding never exceeds the chunk size.
+     * A value of <code>0</code> disables chunking.
+     * Valid values are non-negative integers.
+     * Default is <code>0</code>
+     *
+     * The property can be changed for a criteria builder before constructing a query.
+     *
+     * @since 1.5.0
+     */
+    public static final String IN_LIST_CHUNK_SIZE = "com.blazebit.persistence.in_list_chunk_size";
     
     private ConfigurationProperties() {
     }
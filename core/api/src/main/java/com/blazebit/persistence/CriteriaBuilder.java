@@ -17,6 +17,9 @@
 package com.blazebit.persistence;
 
 import javax.persistence.TypedQuery;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Future;
 
 /**
  * A builder for criteria queries. This is the entry point for building queries.
@@ -61,6 +64,35 @@ public interface CriteriaBuilder<T> extends FullQueryBuilder<T, CriteriaBuilder<
      */
     public String getQueryRootCountQueryString(long maximumCount);
 
+    /**
+     * Execute the query and return an iterator over the results that fetches the results in chunks of the given size.
+     * Every chunk is fetched with a separate keyset paginated query, so object builders and tuple transformers only ever see one chunk.
+     * This allows to iterate over large result sets without keeping all results in memory at once.
+     *
+     * The query must have a unique ordering, just like for {@link #page(int, int)}.
+     * Note that this builder is turned into a paginated builder by this method, so it must not be modified afterwards.
+     *
+     * @param chunkSize The maximum number of results to fetch per query
+     * @return An iterator over the results
+     * @since 1.5.0
+     */
+    public Iterator<T> getResultIterator(int chunkSize);
+
+    /**
+     * Execute the query asynchronously on the executor configured via
+     * {@link com.blazebit.persistence.spi.CriteriaBuilderConfiguration#withParallelQueryExecution(java.util.concurrent.Executor, com.blazebit.persistence.spi.SecondaryEntityManagerProvider)}
+     * and return a future for the result list.
+     *
+     * The query is executed with an entity manager of the configured {@link com.blazebit.persistence.spi.SecondaryEntityManagerProvider},
+     * so the entity manager of this builder is never used by another thread. Consequently, entities in the result are not managed by the entity manager of this builder.
+     * An object builder, like the one of an entity view, is applied by the thread that retrieves the result from the future.
+     *
+     * @return The future for the list of the results
+     * @throws IllegalStateException If no executor was configured or the query requires SQL rewriting e.g. because of CTEs, entity functions or VALUES clauses
+     * @since 1.5.0
+     */
+    public Future<List<T>> getResultListAsync();
+
     @Override
     public <Y> CriteriaBuilder<Y> copy(Class<Y> resultClass);
 
@@ -0,0 +1,630 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.Serializable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * A compact binary codec for keyset tuples that can be used for opaque cursors of web integrations.
+ * Values are written with a one byte type tag followed by a variable length encoding of the value,
+ * so that e.g. a cursor for a single <code>Long</code> only needs a few bytes.
+ * Supported are the Java primitive wrapper types, <code>String</code>, <code>BigInteger</code>, <code>BigDecimal</code>,
+ * <code>UUID</code>, the <code>java.util</code> and <code>java.sql</code> date types and the <code>java.time</code> types
+ * <code>Instant</code>, <code>LocalDate</code>, <code>LocalTime</code>, <code>LocalDateTime</code>, <code>OffsetDateTime</code>,
+ * <code>OffsetTime</code> and <code>ZonedDateTime</code>.
+ *
+ * When a signing key is given, an HMAC is appended to the encoded form and verified during decoding,
+ * so that clients can't tamper with the keyset values.
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public final class KeysetCodec {
+
+    /**
+     * A codec that doesn't sign the encoded keysets.
+     */
+    public static final KeysetCodec DEFAULT = new KeysetCodec(null);
+
+    private static final byte FORMAT = 'K';
+    private static final int FLAG_CURSOR = 1;
+    private static final int FLAG_SIGNED = 2;
+    private static final int SIGNATURE_LENGTH = 16;
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final char[] BASE64_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray();
+    private static final int[] BASE64_VALUES = new int[128];
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_FALSE = 1;
+    private static final byte TAG_TRUE = 2;
+    private static final byte TAG_BYTE = 3;
+    private static final byte TAG_SHORT = 4;
+    private static final byte TAG_INTEGER = 5;
+    private static final byte TAG_LONG = 6;
+    private static final byte TAG_FLOAT = 7;
+    private static final byte TAG_DOUBLE = 8;
+    private static final byte TAG_CHARACTER = 9;
+    private static final byte TAG_STRING = 10;
+    private static final byte TAG_BIG_INTEGER = 11;
+    private static final byte TAG_BIG_DECIMAL = 12;
+    private static final byte TAG_UUID = 13;
+    private static final byte TAG_DATE = 14;
+    private static final byte TAG_SQL_DATE = 15;
+    private static final byte TAG_SQL_TIME = 16;
+    private static final byte TAG_SQL_TIMESTAMP = 17;
+    private static final byte TAG_TEMPORAL = 18;
+
+    // The java.time types are referenced by name since this module still targets Java 7
+    private static final String[] TEMPORAL_TYPES = {
+        "java.time.Instant",
+        "java.time.LocalDate",
+        "java.time.LocalTime",
+        "java.time.LocalDateTime",
+        "java.time.OffsetDateTime",
+        "java.time.OffsetTime",
+        "java.time.ZonedDateTime"
+    };
+    private static final Method[] TEMPORAL_PARSE_METHODS = new Method[TEMPORAL_TYPES.length];
+
+    static {
+        Arrays.fill(BASE64_VALUES, -1);
+        for (int i = 0; i < BASE64_ALPHABET.length; i++) {
+            BASE64_VALUES[BASE64_ALPHABET[i]] = i;
+        }
+    }
+
+    private final SecretKeySpec signingKey;
+
+    /**
+     * Creates a new codec that signs the encoded keysets with the given key or doesn't sign if the key is <code>null</code>.
+     *
+     * @param signingKey The key for the HMAC or <code>null</code>
+     */
+    public KeysetCodec(byte[] signingKey) {
+        if (signingKey == null) {
+            this.signingKey = null;
+        } else {
+            if (signingKey.length == 0) {
+                throw new IllegalArgumentException("Empty signing key!");
+            }
+            this.signingKey = new SecretKeySpec(signingKey.clone(), HMAC_ALGORITHM);
+        }
+    }
+
+    /**
+     * Returns whether the encoded keysets are signed.
+     *
+     * @return whether the encoded keysets are signed
+     */
+    public boolean isSigned() {
+        return signingKey != null;
+    }
+
+    /**
+     * Returns whether the given data starts like an encoded keyset of this codec.
+     * This can be used to distinguish the encoded form from other cursor formats.
+     *
+     * @param data The data to check
+     * @return whether the data is in the format of this codec
+     */
+    public static boolean isEncodedKeyset(byte[] data) {
+        return data.length > 1 && data[0] == FORMAT;
+    }
+
+    /**
+     * Encodes the given keyset tuple.
+     *
+     * @param tuple The keyset tuple
+     * @return the encoded form
+     * @throws IllegalArgumentException If the tuple contains a value of an unsupported type
+     */
+    public byte[] encode(Serializable[] tuple) {
+        Writer writer = new Writer();
+        writer.writeByte(FORMAT);
+        writer.writeByte(signingKey == null ? 0 : FLAG_SIGNED);
+        writeTuple(writer, tuple);
+        return finish(writer);
+    }
+
+    /**
+     * Encodes the given keyset tuple along with the offset and page size for which it was created.
+     *
+     * @param offset The offset
+     * @param pageSize The page size
+     * @param tuple The keyset tuple
+     * @return the encoded form
+     * @throws IllegalArgumentException If the tuple contains a value of an unsupported type
+     */
+    public byte[] encode(int offset, int pageSize, Serializable[] tuple) {
+        Writer writer = new Writer();
+        writer.writeByte(FORMAT);
+        writer.writeByte(signingKey == null ? FLAG_CURSOR : FLAG_CURSOR | FLAG_SIGNED);
+        writer.writeVarLong(offset);
+        writer.writeVarLong(pageSize);
+        writeTuple(writer, tuple);
+        return finish(writer);
+    }
+
+    /**
+     * Decodes the given data that was encoded by {@link #encode(Serializable[])} or {@link #encode(int, int, Serializable[])}.
+     * If the data was not encoded with an offset and page size, the offset and page size of the result are <code>-1</code>.
+     *
+     * @param data The encoded form
+     * @return the decoded cursor
+     * @throws IllegalArgumentException If the data is malformed or the signature is invalid
+     */
+    public Cursor decode(byte[] data) {
+        if (!isEncodedKeyset(data)) {
+            throw new IllegalArgumentException("Invalid keyset format!");
+        }
+        int flags = data[1];
+        int length = data.length;
+        if ((flags & FLAG_SIGNED) != 0) {
+            length -= SIGNATURE_LENGTH;
+            if (length < 2) {
+                throw new IllegalArgumentException("Invalid keyset format!");
+            }
+            if (signingKey != null && !MessageDigest.isEqual(sign(data, length), Arrays.copyOfRange(data, length, data.length))) {
+                throw new IllegalArgumentException("Invalid keyset signature!");
+            }
+        } else if (signingKey != null) {
+            throw new IllegalArgumentException("Unsigned keyset!");
+        }
+
+        Reader reader = new Reader(data, 2, length);
+        int offset = -1;
+        int pageSize = -1;
+        if ((flags & FLAG_CURSOR) != 0) {
+            offset = toInt(reader.readVarLong());
+            pageSize = toInt(reader.readVarLong());
+        }
+        int size = toInt(reader.readVarLong());
+        if (size > length) {
+            throw new IllegalArgumentException("Invalid keyset format!");
+        }
+        Serializable[] tuple = new Serializable[size];
+        for (int i = 0; i < size; i++) {
+            tuple[i] = readValue(reader);
+        }
+        if (reader.position != length) {
+            throw new IllegalArgumentException("Invalid keyset format!");
+        }
+        return new Cursor(offset, pageSize, tuple);
+    }
+
+    /**
+     * Encodes the given keyset tuple like {@link #encode(Serializable[])} and returns the URL safe Base64 form without padding.
+     *
+     * @param tuple The keyset tuple
+     * @return the URL safe Base64 encoded form
+     * @throws IllegalArgumentException If the tuple contains a value of an unsupported type
+     */
+    public String encodeToString(Serializable[] tuple) {
+        return toUrlSafeBase64(encode(tuple));
+    }
+
+    /**
+     * Decodes the given URL safe Base64 encoded data that was encoded by {@link #encodeToString(Serializable[])}.
+     * The Base64 padding is optional.
+     *
+     * @param data The URL safe Base64 encoded form
+     * @return the decoded cursor
+     * @throws IllegalArgumentException If the data is malformed or the signature is invalid
+     */
+    public Cursor decode(String data) {
+        return decode(fromUrlSafeBase64(data));
+    }
+
+    private byte[] finish(Writer writer) {
+        if (signingKey == null) {
+            return writer.toByteArray();
+        }
+        byte[] signature = sign(writer.buffer, writer.size);
+        writer.writeBytes(signature, 0, SIGNATURE_LENGTH);
+        return writer.toByteArray();
+    }
+
+    private byte[] sign(byte[] data, int length) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(signingKey);
+            mac.update(data, 0, length);
+            return Arrays.copyOf(mac.doFinal(), SIGNATURE_LENGTH);
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Couldn't sign keyset", ex);
+        }
+    }
+
+    private static String toUrlSafeBase64(byte[] data) {
+        StringBuilder sb = new StringBuilder((data.length * 4 + 2) / 3);
+        int i = 0;
+        for (; i + 2 < data.length; i += 3) {
+            int bits = (data[i] & 0xFF) << 16 | (data[i + 1] & 0xFF) << 8 | (data[i + 2] & 0xFF);
+            sb.append(BASE64_ALPHABET[bits >>> 18]);
+            sb.append(BASE64_ALPHABET[(bits >>> 12) & 0x3F]);
+            sb.append(BASE64_ALPHABET[(bits >>> 6) & 0x3F]);
+            sb.append(BASE64_ALPHABET[bits & 0x3F]);
+        }
+        int remaining = data.length - i;
+        if (remaining > 0) {
+            int bits = (data[i] & 0xFF) << 16;
+            if (remaining == 2) {
+                bits |= (data[i + 1] & 0xFF) << 8;
+            }
+            sb.append(BASE64_ALPHABET[bits >>> 18]);
+            sb.append(BASE64_ALPHABET[(bits >>> 12) & 0x3F]);
+            if (remaining == 2) {
+                sb.append(BASE64_ALPHABET[(bits >>> 6) & 0x3F]);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static byte[] fromUrlSafeBase64(String data) {
+        int length = data.length();
+        while (length > 0 && data.charAt(length - 1) == '=') {
+            length--;
+        }
+        if (length % 4 == 1 || data.length() - length > 2) {
+            throw new IllegalArgumentException("Invalid Base64 encoding!");
+        }
+        byte[] result = new byte[length * 3 / 4];
+        int bits = 0;
+        int bitCount = 0;
+        int position = 0;
+        for (int i = 0; i < length; i++) {
+            char c = data.charAt(i);
+            int value = c < BASE64_VALUES.length ? BASE64_VALUES[c] : -1;
+            if (value == -1) {
+                throw new IllegalArgumentException("Invalid Base64 character: " + c);
+            }
+            bits = bits << 6 | value;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                result[position++] = (byte) (bits >>> bitCount);
+            }
+        }
+        return result;
+    }
+
+    private static int toInt(long value) {
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid keyset format!");
+        }
+        return (int) value;
+    }
+
+    private static void writeTuple(Writer writer, Serializable[] tuple) {
+        writer.writeVarLong(tuple.length);
+        for (int i = 0; i < tuple.length; i++) {
+            writeValue(writer, tuple[i]);
+        }
+    }
+
+    private static void writeValue(Writer writer, Serializable value) {
+        if (value == null) {
+            writer.writeByte(TAG_NULL);
+            return;
+        }
+        Class<?> type = value.getClass();
+        if (type == Long.class) {
+            writer.writeByte(TAG_LONG);
+            writer.writeZigZag((Long) value);
+        } else if (type == Integer.class) {
+            writer.writeByte(TAG_INTEGER);
+            writer.writeZigZag((Integer) value);
+        } else if (type == String.class) {
+            byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+            writer.writeByte(TAG_STRING);
+            writer.writeVarLong(bytes.length);
+            writer.writeBytes(bytes, 0, bytes.length);
+        } else if (type == Boolean.class) {
+            writer.writeByte((Boolean) value ? TAG_TRUE : TAG_FALSE);
+        } else if (type == Short.class) {
+            writer.writeByte(TAG_SHORT);
+            writer.writeZigZag((Short) value);
+        } else if (type == Byte.class) {
+            writer.writeByte(TAG_BYTE);
+            writer.writeByte((Byte) value);
+        } else if (type == Character.class) {
+            writer.writeByte(TAG_CHARACTER);
+            writer.writeVarLong((Character) value);
+        } else if (type == Float.class) {
+            writer.writeByte(TAG_FLOAT);
+            writer.writeFixed(Float.floatToIntBits((Float) value), 4);
+        } else if (type == Double.class) {
+            writer.writeByte(TAG_DOUBLE);
+            writer.writeFixed(Double.doubleToLongBits((Double) value), 8);
+        } else if (type == BigInteger.class) {
+            writer.writeByte(TAG_BIG_INTEGER);
+            writeBigInteger(writer, (BigInteger) value);
+        } else if (type == BigDecimal.class) {
+            BigDecimal bigDecimal = (BigDecimal) value;
+            writer.writeByte(TAG_BIG_DECIMAL);
+            writer.writeZigZag(bigDecimal.scale());
+            writeBigInteger(writer, bigDecimal.unscaledValue());
+        } else if (type == UUID.class) {
+            UUID uuid = (UUID) value;
+            writer.writeByte(TAG_UUID);
+            writer.writeFixed(uuid.getMostSignificantBits(), 8);
+            writer.writeFixed(uuid.getLeastSignificantBits(), 8);
+        } else if (type == Date.class) {
+            writer.writeByte(TAG_DATE);
+            writer.writeZigZag(((Date) value).getTime());
+        } else if (type == java.sql.Date.class) {
+            writer.writeByte(TAG_SQL_DATE);
+            writer.writeZigZag(((Date) value).getTime());
+        } else if (type == java.sql.Time.class) {
+            writer.writeByte(TAG_SQL_TIME);
+            writer.writeZigZag(((Date) value).getTime());
+        } else if (type == java.sql.Timestamp.class) {
+            java.sql.Timestamp timestamp = (java.sql.Timestamp) value;
+            writer.writeByte(TAG_SQL_TIMESTAMP);
+            writer.writeZigZag(timestamp.getTime());
+            writer.writeVarLong(timestamp.getNanos());
+        } else {
+            int temporalIndex = Arrays.asList(TEMPORAL_TYPES).indexOf(type.getName());
+            if (temporalIndex == -1) {
+                throw new IllegalArgumentException("Unsupported keyset value type: " + type.getName());
+            }
+            byte[] bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+            writer.writeByte(TAG_TEMPORAL);
+            writer.writeByte(temporalIndex);
+            writer.writeVarLong(bytes.length);
+            writer.writeBytes(bytes, 0, bytes.length);
+        }
+    }
+
+    private static Serializable readValue(Reader reader) {
+        byte tag = reader.readByte();
+        switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_FALSE:
+                return Boolean.FALSE;
+            case TAG_TRUE:
+                return Boolean.TRUE;
+            case TAG_BYTE:
+                return reader.readByte();
+            case TAG_SHORT:
+                return (short) reader.readZigZag();
+            case TAG_INTEGER:
+                return (int) reader.readZigZag();
+            case TAG_LONG:
+                return reader.readZigZag();
+            case TAG_FLOAT:
+                return Float.intBitsToFloat((int) reader.readFixed(4));
+            case TAG_DOUBLE:
+                return Double.longBitsToDouble(reader.readFixed(8));
+            case TAG_CHARACTER:
+                return (char) reader.readVarLong();
+            case TAG_STRING:
+                return reader.readString();
+            case TAG_BIG_INTEGER:
+                return readBigInteger(reader);
+            case TAG_BIG_DECIMAL:
+                int scale = (int) reader.readZigZag();
+                return new BigDecimal(readBigInteger(reader), scale);
+            case TAG_UUID:
+                return new UUID(reader.readFixed(8), reader.readFixed(8));
+            case TAG_DATE:
+                return new Date(reader.readZigZag());
+            case TAG_SQL_DATE:
+                return new java.sql.Date(reader.readZigZag());
+            case TAG_SQL_TIME:
+                return new java.sql.Time(reader.readZigZag());
+            case TAG_SQL_TIMESTAMP:
+                java.sql.Timestamp timestamp = new java.sql.Timestamp(reader.readZigZag());
+                timestamp.setNanos(toInt(reader.readVarLong()));
+                return timestamp;
+            case TAG_TEMPORAL:
+                int temporalIndex = reader.readByte();
+                if (temporalIndex < 0 || temporalIndex >= TEMPORAL_TYPES.length) {
+                    throw new IllegalArgumentException("Invalid keyset format!");
+                }
+                return parseTemporal(temporalIndex, reader.readString());
+            default:
+                throw new IllegalArgumentException("Invalid keyset value tag: " + tag);
+        }
+    }
+
+    private static void writeBigInteger(Writer writer, BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        writer.writeVarLong(bytes.length);
+        writer.writeBytes(bytes, 0, bytes.length);
+    }
+
+    private static BigInteger readBigInteger(Reader reader) {
+        int length = toInt(reader.readVarLong());
+        if (length == 0) {
+            throw new IllegalArgumentException("Invalid keyset format!");
+        }
+        return new BigInteger(reader.readBytes(length));
+    }
+
+    private static Serializable parseTemporal(int temporalIndex, String text) {
+        Method parseMethod = TEMPORAL_PARSE_METHODS[temporalIndex];
+        try {
+            if (parseMethod == null) {
+                parseMethod = Class.forName(TEMPORAL_TYPES[temporalIndex]).getMethod("parse", CharSequence.class);
+                TEMPORAL_PARSE_METHODS[temporalIndex] = parseMethod;
+            }
+            return (Serializable) parseMethod.invoke(null, text);
+        } catch (InvocationTargetException ex) {
+            throw new IllegalArgumentException("Invalid keyset value: " + text, ex.getCause());
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Couldn't parse " + TEMPORAL_TYPES[temporalIndex], ex);
+        }
+    }
+
+    /**
+     * A decoded keyset along with the offset and page size for which it was encoded.
+     *
+     * @author Christian Beikov
+     * @since 1.5.0
+     */
+    public static final class Cursor extends DefaultKeyset {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int offset;
+        private final int pageSize;
+
+        private Cursor(int offset, int pageSize, Serializable[] tuple) {
+            super(tuple);
+            this.offset = offset;
+            this.pageSize = pageSize;
+        }
+
+        /**
+         * Returns the offset or <code>-1</code> if none was encoded.
+         *
+         * @return the offset
+         */
+        public int getOffset() {
+            return offset;
+        }
+
+        /**
+         * Returns the page size or <code>-1</code> if none was encoded.
+         *
+         * @return the page size
+         */
+        public int getPageSize() {
+            return pageSize;
+        }
+    }
+
+    private static final class Writer {
+
+        private byte[] buffer = new byte[32];
+        private int size;
+
+        private void ensureCapacity(int additional) {
+            if (size + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, size + additional));
+            }
+        }
+
+        private void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[size++] = (byte) value;
+        }
+
+        private void writeBytes(byte[] bytes, int offset, int length) {
+            ensureCapacity(length);
+            System.arraycopy(bytes, offset, buffer, size, length);
+            size += length;
+        }
+
+        private void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        private void writeZigZag(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        private void writeFixed(long value, int bytes) {
+            ensureCapacity(bytes);
+            for (int i = bytes - 1; i >= 0; i--) {
+                buffer[size++] = (byte) (value >>> (i << 3));
+            }
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] data;
+        private final int limit;
+        private int position;
+
+        private Reader(byte[] data, int position, int limit) {
+            this.data = data;
+            this.position = position;
+            this.limit = limit;
+        }
+
+        private byte readByte() {
+            if (position >= limit) {
+                throw new IllegalArgumentException("Invalid keyset format!");
+            }
+            return data[position++];
+        }
+
+        private byte[] readBytes(int length) {
+            if (length > limit - position) {
+                throw new IllegalArgumentException("Invalid keyset format!");
+            }
+            byte[] bytes = Arrays.copyOfRange(data, position, position + length);
+            position += length;
+            return bytes;
+        }
+
+        private String readString() {
+            int length = toInt(readVarLong());
+            return new String(readBytes(length), StandardCharsets.UTF_8);
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Invalid keyset format!");
+        }
+
+        private long readZigZag() {
+            long value = readVarLong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        private long readFixed(int bytes) {
+            long value = 0;
+            for (int i = 0; i < bytes; i++) {
+                value = (value << 8) | (readByte() & 0xFF);
+            }
+            return value;
+        }
+    }
+}
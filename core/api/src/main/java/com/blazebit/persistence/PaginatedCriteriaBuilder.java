@@ -17,6 +17,7 @@
 package com.blazebit.persistence;
 
 import javax.persistence.TypedQuery;
+import java.util.concurrent.Future;
 
 /**
  * A builder for paginated criteria queries.
@@ -135,6 +136,25 @@ public interface PaginatedCriteriaBuilder<T> extends FullQueryBuilder<T, Paginat
      */
     public long getBoundedCount();
 
+    /**
+     * Sets the threshold from which on the row count estimate of the DBMS query planner is used as total size instead of executing the count query.
+     * The estimate is only used if the DBMS dialect supports count estimation, otherwise the count query is executed as usual.
+     * By default, the threshold is {@link Long#MAX_VALUE} which disables the count estimation.
+     *
+     * @param threshold the estimated count from which on the estimate should be used as total size
+     * @return The query builder for chaining calls
+     * @since 1.5.0
+     */
+    public PaginatedCriteriaBuilder<T> withCountEstimation(long threshold);
+
+    /**
+     * Returns the threshold from which on the row count estimate of the DBMS query planner is used as total size.
+     *
+     * @return the threshold from which on the estimate is used as total size
+     * @since 1.5.0
+     */
+    public long getCountEstimationThreshold();
+
     /**
      * Forces the use of an id query even if the pagination would not need it.
      *
@@ -220,6 +240,21 @@ public interface PaginatedCriteriaBuilder<T> extends FullQueryBuilder<T, Paginat
     @Override
     public PagedList<T> getResultList();
 
+    /**
+     * Execute the query asynchronously on the executor configured via
+     * {@link com.blazebit.persistence.spi.CriteriaBuilderConfiguration#withParallelQueryExecution(java.util.concurrent.Executor, com.blazebit.persistence.spi.SecondaryEntityManagerProvider)}
+     * and return a future for the paged list.
+     *
+     * The count, id and object queries are executed one after another with an entity manager of the configured {@link com.blazebit.persistence.spi.SecondaryEntityManagerProvider},
+     * so the entity manager of this builder is never used by another thread. Consequently, entities in the result are not managed by the entity manager of this builder.
+     * An object builder, like the one of an entity view, is applied by the thread that retrieves the result from the future.
+     *
+     * @return The future for the paged list of the results
+     * @throws IllegalStateException If no executor was configured, the count estimation is used or the query requires SQL rewriting e.g. because of CTEs, entity functions, VALUES clauses or a bounded count
+     * @since 1.5.0
+     */
+    public Future<PagedList<T>> getResultListAsync();
+
     @Override
     public <Y> PaginatedCriteriaBuilder<Y> copy(Class<Y> resultClass);
 
@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 /**
  * A configuration for a {@link CriteriaBuilderFactory} which is mostly used in non Java EE environments.
@@ -41,6 +42,18 @@ public interface CriteriaBuilderConfiguration {
      */
     public CriteriaBuilderConfiguration withPackageOpener(PackageOpener packageOpener);
 
+    /**
+     * Sets the executor and the secondary entity manager provider to use for running queries concurrently.
+     * Concurrent execution of the count query of a paginated query has to be enabled via the property
+     * {@link com.blazebit.persistence.ConfigurationProperties#PARALLEL_COUNT_QUERY}.
+     *
+     * @param executor The executor that runs the concurrent queries
+     * @param secondaryEntityManagerProvider The provider for the entity managers used by the concurrent queries
+     * @return this for method chaining
+     * @since 1.5.0
+     */
+    public CriteriaBuilderConfiguration withParallelQueryExecution(Executor executor, SecondaryEntityManagerProvider secondaryEntityManagerProvider);
+
     /**
      * Registers the given type under the given name. This makes the type usable for the <code>VALUES</code> clause.
      *
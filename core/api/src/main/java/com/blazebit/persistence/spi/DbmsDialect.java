@@ -327,6 +327,35 @@ public interface DbmsDialect {
      */
     public boolean supportsArbitraryLengthMultiset();
 
+    /**
+     * Returns the SQL that selects the version number of the dbms server as single value
+     * or <code>null</code> if retrieving planner estimates doesn't depend on the server version.
+     *
+     * @return The SQL selecting the server version number or null
+     * @since 1.5.0
+     */
+    public String getServerVersionSql();
+
+    /**
+     * Returns the SQL that retrieves the query plan including the row estimates of the planner for the given count query SQL
+     * or <code>null</code> if the dbms, or the given server version of it, doesn't support retrieving planner estimates for the query.
+     *
+     * @param countSql The SQL of a count query
+     * @param serverVersion The server version number as selected by {@link #getServerVersionSql()} or -1 if unknown
+     * @return The SQL returning the query plan or null
+     * @since 1.5.0
+     */
+    public String getCountEstimationSql(String countSql, long serverVersion);
+
+    /**
+     * Extracts the estimated number of rows that are counted by a count query from the result of the SQL as returned by {@link #getCountEstimationSql(String, long)}.
+     *
+     * @param queryPlan The result rows of the count estimation SQL
+     * @return The estimated count or -1 if no estimate could be extracted
+     * @since 1.5.0
+     */
+    public long extractCountEstimate(List<?> queryPlan);
+
     /**
      * Returns the sql type for the java class type for usage in cast expressions.
      *
@@ -344,6 +373,14 @@ public interface DbmsDialect {
      */
     public ValuesStrategy getValuesStrategy();
 
+    /**
+     * Returns the maximum number of bind parameters that a single statement may contain.
+     *
+     * @return The maximum number of bind parameters
+     * @since 1.5.0
+     */
+    public int getMaxBindParameters();
+
     /**
      * Returns whether parameters need to be casted if occurring in an untyped context like e.g. VALUES clause.
      *
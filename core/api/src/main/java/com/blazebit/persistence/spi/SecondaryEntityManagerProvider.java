@@ -0,0 +1,62 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.spi;
+
+import javax.persistence.EntityManager;
+
+/**
+ * A provider for entity managers that are used to run queries concurrently to the queries of a primary entity manager.
+ * The methods are invoked on the thread that executes the concurrent query, so implementations can bind the
+ * entity manager to the transaction scoping mechanism of the environment like e.g. Spring or CDI.
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public interface SecondaryEntityManagerProvider {
+
+    /**
+     * A provider that creates a new entity manager from the entity manager factory of the primary entity manager
+     * and closes it after use.
+     */
+    public static final SecondaryEntityManagerProvider DEFAULT = new SecondaryEntityManagerProvider() {
+        @Override
+        public EntityManager getEntityManager(EntityManager primaryEntityManager) {
+            return primaryEntityManager.getEntityManagerFactory().createEntityManager();
+        }
+
+        @Override
+        public void releaseEntityManager(EntityManager primaryEntityManager, EntityManager secondaryEntityManager) {
+            secondaryEntityManager.close();
+        }
+    };
+
+    /**
+     * Returns an entity manager that can be used concurrently to the given primary entity manager.
+     *
+     * @param primaryEntityManager The entity manager of the query builder
+     * @return The secondary entity manager
+     */
+    public EntityManager getEntityManager(EntityManager primaryEntityManager);
+
+    /**
+     * Releases the secondary entity manager after the query execution finished.
+     *
+     * @param primaryEntityManager The entity manager of the query builder
+     * @param secondaryEntityManager The entity manager as returned by {@link #getEntityManager(EntityManager)}
+     */
+    public void releaseEntityManager(EntityManager primaryEntityManager, EntityManager secondaryEntityManager);
+}
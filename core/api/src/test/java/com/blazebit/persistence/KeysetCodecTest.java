@@ -0,0 +1,182 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence;
+
+import org.junit.Test;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public class KeysetCodecTest {
+
+    private static final KeysetCodec SIGNED = new KeysetCodec("secret".getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    public void roundTripUnsigned() {
+        Serializable[] tuple = tuple();
+        Keyset keyset = KeysetCodec.DEFAULT.decode(KeysetCodec.DEFAULT.encode(tuple));
+
+        assertArrayEquals(tuple, keyset.getTuple());
+    }
+
+    @Test
+    public void roundTripSigned() {
+        Serializable[] tuple = tuple();
+        KeysetCodec.Cursor cursor = SIGNED.decode(SIGNED.encode(tuple));
+
+        assertTrue(SIGNED.isSigned());
+        assertFalse(KeysetCodec.DEFAULT.isSigned());
+        assertArrayEquals(tuple, cursor.getTuple());
+        assertEquals(-1, cursor.getOffset());
+        assertEquals(-1, cursor.getPageSize());
+    }
+
+    @Test
+    public void roundTripCursor() {
+        Serializable[] tuple = tuple();
+        KeysetCodec.Cursor cursor = SIGNED.decode(SIGNED.encode(40, 20, tuple));
+
+        assertArrayEquals(tuple, cursor.getTuple());
+        assertEquals(40, cursor.getOffset());
+        assertEquals(20, cursor.getPageSize());
+    }
+
+    @Test
+    public void tamperedValueIsRejected() {
+        byte[] data = SIGNED.encode(new Serializable[] { 1L });
+        // The last byte before the signature is the zig-zag encoded value
+        data[data.length - 17] = 4;
+
+        assertRejected(SIGNED, data, "Invalid keyset signature!");
+    }
+
+    @Test
+    public void tamperedSignatureIsRejected() {
+        byte[] data = SIGNED.encode(new Serializable[] { 1L });
+        data[data.length - 1] ^= 1;
+
+        assertRejected(SIGNED, data, "Invalid keyset signature!");
+    }
+
+    @Test
+    public void signatureOfOtherKeyIsRejected() {
+        KeysetCodec otherCodec = new KeysetCodec("other".getBytes(StandardCharsets.UTF_8));
+
+        assertRejected(SIGNED, otherCodec.encode(new Serializable[] { 1L }), "Invalid keyset signature!");
+    }
+
+    @Test
+    public void unsignedKeysetIsRejectedBySigningCodec() {
+        assertRejected(SIGNED, KeysetCodec.DEFAULT.encode(new Serializable[] { 1L }), "Unsigned keyset!");
+    }
+
+    @Test
+    public void truncatedInputIsRejected() {
+        byte[] unsigned = KeysetCodec.DEFAULT.encode(tuple());
+        byte[] signed = SIGNED.encode(tuple());
+
+        for (int i = 0; i < unsigned.length; i++) {
+            assertRejected(KeysetCodec.DEFAULT, Arrays.copyOf(unsigned, i), null);
+        }
+        for (int i = 0; i < signed.length; i++) {
+            assertRejected(SIGNED, Arrays.copyOf(signed, i), null);
+        }
+    }
+
+    @Test
+    public void roundTripString() {
+        for (int i = 0; i < 3; i++) {
+            // Strings of different length cover all Base64 remainders
+            Serializable[] tuple = new Serializable[] { "abc".substring(i) };
+            String encoded = SIGNED.encodeToString(tuple);
+
+            assertFalse(encoded.contains("="));
+            assertArrayEquals(tuple, SIGNED.decode(encoded).getTuple());
+        }
+    }
+
+    @Test
+    public void decodeUrlSafeBase64() {
+        // 'K', no flags, one value, TAG_LONG, zig-zag encoded 1
+        assertEquals("SwABBgI", KeysetCodec.DEFAULT.encodeToString(new Serializable[] { 1L }));
+        assertArrayEquals(new Serializable[] { 1L }, KeysetCodec.DEFAULT.decode("SwABBgI").getTuple());
+        assertArrayEquals(new Serializable[] { 1L }, KeysetCodec.DEFAULT.decode("SwABBgI=").getTuple());
+    }
+
+    @Test
+    public void invalidBase64IsRejected() {
+        assertRejected("SwABBg+I");
+        assertRejected("SwABBg/I");
+        assertRejected("SwABB");
+        assertRejected("SwABBgI===");
+    }
+
+    private static Serializable[] tuple() {
+        Timestamp timestamp = new Timestamp(1577836800123L);
+        timestamp.setNanos(123456789);
+        return new Serializable[] {
+            1L,
+            -5,
+            "\u00e4\u00f6\u00fc",
+            null,
+            Boolean.TRUE,
+            new BigDecimal("-12.345"),
+            new BigInteger("123456789012345678901234567890"),
+            UUID.fromString("123e4567-e89b-12d3-a456-426655440000"),
+            new Date(1577836800000L),
+            timestamp,
+            2.5d
+        };
+    }
+
+    private static void assertRejected(String data) {
+        try {
+            KeysetCodec.DEFAULT.decode(data);
+            fail("Expected decoding of " + data + " to fail");
+        } catch (IllegalArgumentException ex) {
+            // Expected
+        }
+    }
+
+    private static void assertRejected(KeysetCodec codec, byte[] data, String message) {
+        try {
+            codec.decode(data);
+            fail("Expected decoding of " + Arrays.toString(data) + " to fail");
+        } catch (IllegalArgumentException ex) {
+            if (message != null) {
+                assertEquals(message, ex.getMessage());
+            }
+        }
+    }
+}
@@ -30,6 +30,7 @@ import com.blazebit.persistence.spi.SetOperationType;
 
 import javax.persistence.Query;
 import javax.persistence.metamodel.EntityType;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -127,6 +128,7 @@ public abstract class AbstractCTECriteriaBuilder<Y, X extends BaseCTECriteriaBui
 
             List<String> keyRestrictedLeftJoinAliases = getKeyRestrictedLeftJoinAliases(query, keyRestrictedLeftJoins, Collections.<ClauseType>emptySet());
             List<EntityFunctionNode> entityFunctionNodes = getEntityFunctionNodes(query);
+            QueryShapeKey queryShapeKey = cbf.getSqlTemplateCache() != null ? createSqlTemplateShapeKey() : null;
 
             QuerySpecification querySpecification = new CTEQuerySpecification(
                     this,
@@ -136,7 +138,8 @@ public abstract class AbstractCTECriteriaBuilder<Y, X extends BaseCTECriteriaBui
                     limit,
                     offset,
                     keyRestrictedLeftJoinAliases,
-                    entityFunctionNodes
+                    entityFunctionNodes,
+                    queryShapeKey
             );
 
             query = new CustomSQLQuery(
@@ -154,6 +157,21 @@ public abstract class AbstractCTECriteriaBuilder<Y, X extends BaseCTECriteriaBui
         return query;
     }
 
+    @Override
+    protected boolean supportsSqlTemplateCache() {
+        // The SQL of the CTE is rewritten on its own, so its template only depends on the shape of this builder
+        return true;
+    }
+
+    @Override
+    protected void appendBuilderShape(QueryShapeKeyBuilder shapeKeyBuilder) {
+        shapeKeyBuilder.add(cteType.getJavaType());
+        shapeKeyBuilder.add(inline);
+        shapeKeyBuilder.add(joinManager.isEmulateJoins());
+        shapeKeyBuilder.add(new ArrayList<>(bindingMap.keySet()));
+        shapeKeyBuilder.add(new ArrayList<>(bindingMap.values()));
+    }
+
     public SelectBuilder<X> bind(String cteAttribute) {
         ExtendedAttribute attributeEntry = attributeEntries.get(cteAttribute);
         
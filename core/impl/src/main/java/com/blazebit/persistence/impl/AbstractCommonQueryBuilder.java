@@ -128,6 +128,8 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
 /**
  *
@@ -184,6 +186,7 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
 
     // Cache
     protected String cachedQueryString;
+    protected QueryTemplateCache.QueryTemplate cachedQueryTemplate;
     protected String cachedExternalQueryString;
     protected ResolvedExpression[] cachedGroupByIdentifierExpressions;
     protected Set<JoinNode> keyRestrictedLeftJoins;
@@ -1175,6 +1178,28 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
         return mainQuery.metamodel;
     }
 
+    public QueryConfiguration getQueryConfiguration() {
+        return mainQuery.getQueryConfiguration();
+    }
+
+    protected Future<List<QueryResultType>> getResultListAsyncWithSecondaryEntityManager() {
+        Executor executor = cbf.getParallelQueryExecutor();
+        if (executor == null) {
+            throw new IllegalStateException("The asynchronous query execution requires an executor to be configured via CriteriaBuilderConfiguration.withParallelQueryExecution!");
+        }
+        String baseQueryString = getBaseQueryStringWithCheck(null, null);
+        // Only plain JPQL queries can be recreated on the secondary entity manager
+        if (finalSetOperationBuilder != null || mainQuery.cteManager.hasCtes() || joinManager.hasEntityFunctions() || !getKeyRestrictedLeftJoins().isEmpty()) {
+            throw new IllegalStateException("The asynchronous query execution is not supported for queries that require SQL rewriting e.g. because of CTEs, entity functions or VALUES clauses!");
+        }
+        Class<?> queryResultType = selectManager.getExpectedQueryResultType();
+        TypedQuery<?> query = em.createQuery(baseQueryString, queryResultType);
+        parameterizeQuery(query, baseQueryString);
+        AsyncQuery<QueryResultType> asyncQuery = new AsyncQuery<>(executor, cbf.getSecondaryEntityManagerProvider(), em, mainQuery.jpaProvider, baseQueryString, queryResultType,
+                firstResult, maxResults, isCacheable(), selectManager.getSelectObjectBuilder());
+        return asyncQuery.submit(query);
+    }
+
     @SuppressWarnings("unchecked")
     public BuilderType setParameter(String name, Object value) {
         parameterManager.satisfyParameter(name, value);
@@ -1263,18 +1288,22 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
 
     @SuppressWarnings("unchecked")
     public BuilderType select(String expression, String selectAlias) {
-        Expression expr = expressionFactory.createSimpleExpression(expression, false);
+        selectExpression(expressionFactory.createSimpleExpression(expression, false), selectAlias);
+        return (BuilderType) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void selectExpression(Expression expression, String selectAlias) {
         if (selectAlias != null && selectAlias.isEmpty()) {
             throw new IllegalArgumentException("selectAlias");
         }
         verifyBuilderEnded();
         prepareForModification(ClauseType.SELECT);
-        selectManager.select(expr, selectAlias);
+        selectManager.select(expression, selectAlias);
         if (selectManager.getSelectInfos().size() > 1) {
             // TODO: don't know if we should override this here
             resultType = (Class<QueryResultType>) Tuple.class;
         }
-        return (BuilderType) this;
     }
 
     public SubqueryInitiator<BuilderType> selectSubquery() {
@@ -1470,10 +1499,13 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
 
     @SuppressWarnings("unchecked")
     public BuilderType setWhereExpression(String expression) {
+        setWherePredicate(expressionFactory.createBooleanExpression(expression, false));
+        return (BuilderType) this;
+    }
+
+    public void setWherePredicate(Predicate predicate) {
         prepareForModification(ClauseType.WHERE);
-        Predicate predicate = expressionFactory.createBooleanExpression(expression, false);
         whereManager.restrictSetExpression(predicate);
-        return (BuilderType) this;
     }
 
     @SuppressWarnings("unchecked")
@@ -1496,18 +1528,22 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
 
     @SuppressWarnings("unchecked")
     public BuilderType groupBy(String expression) {
-        prepareForModification(ClauseType.GROUP_BY);
         Expression expr;
         if (mainQuery.getQueryConfiguration().isCompatibleModeEnabled()) {
             expr = expressionFactory.createPathExpression(expression);
         } else {
             expr = expressionFactory.createSimpleExpression(expression, false);
         }
-        verifyBuilderEnded();
-        groupByManager.groupBy(expr);
+        groupByExpression(expr);
         return (BuilderType) this;
     }
 
+    public void groupByExpression(Expression expression) {
+        prepareForModification(ClauseType.GROUP_BY);
+        verifyBuilderEnded();
+        groupByManager.groupBy(expression);
+    }
+
     /*
      * Having methods
      */
@@ -1637,13 +1673,16 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
     
     @SuppressWarnings("unchecked")
     public BuilderType setHavingExpression(String expression) {
+        setHavingPredicate(expressionFactory.createBooleanExpression(expression, false));
+        return (BuilderType) this;
+    }
+
+    public void setHavingPredicate(Predicate predicate) {
         prepareForModification(ClauseType.HAVING);
         if (groupByManager.isEmpty()) {
             throw new IllegalStateException("Having without group by");
         }
-        Predicate predicate = expressionFactory.createBooleanExpression(expression, false);
         havingManager.restrictSetExpression(predicate);
-        return (BuilderType) this;
     }
     
     @SuppressWarnings("unchecked")
@@ -1687,11 +1726,11 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
         } else {
             expr = expressionFactory.createSimpleExpression(expression, false);
         }
-        orderBy(expr, ascending, nullFirst);
+        orderByExpression(expr, ascending, nullFirst);
         return (BuilderType) this;
     }
 
-    private void orderBy(Expression expression, boolean ascending, boolean nullFirst) {
+    public void orderByExpression(Expression expression, boolean ascending, boolean nullFirst) {
         prepareForModification(ClauseType.ORDER_BY);
         verifyBuilderEnded();
         orderByManager.orderBy(expression, ascending, nullFirst);
@@ -2657,7 +2696,7 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
         final boolean needsSqlReplacement = isMainQuery && mainQuery.cteManager.hasCtes() || joinManager.hasEntityFunctions() || !keyRestrictedLeftJoins.isEmpty() || !isMainQuery && hasLimit();
         if (!needsSqlReplacement) {
             TypedQuery<QueryResultType> baseQuery = createTypedQuery(baseQueryString);
-            parameterManager.parameterizeQuery(baseQuery);
+            parameterizeQuery(baseQuery, baseQueryString);
             return baseQuery;
         }
 
@@ -2679,8 +2718,11 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
         List<EntityFunctionNode> entityFunctionNodes = getEntityFunctionNodes(baseQuery);
         boolean shouldRenderCteNodes = lateralSb == null && renderCteNodes(false);
         List<CTENode> ctes = shouldRenderCteNodes ? getCteNodes(false) : Collections.<CTENode>emptyList();
+        // Lateral query strings don't correspond to the shape of the builder
+        QueryShapeKey queryShapeKey = lateralSb == null && cbf.getSqlTemplateCache() != null ? createSqlTemplateShapeKey() : null;
         QuerySpecification querySpecification = new CustomQuerySpecification(
-                this, baseQuery, parameterManager.getParameters(), parameterListNames, limit, offset, keyRestrictedLeftJoinAliases, entityFunctionNodes, mainQuery.cteManager.isRecursive(), ctes, shouldRenderCteNodes
+                this, baseQuery, parameterManager.getParameters(), parameterListNames, limit, offset, keyRestrictedLeftJoinAliases, entityFunctionNodes, mainQuery.cteManager.isRecursive(), ctes, shouldRenderCteNodes,
+                queryShapeKey
         );
 
         TypedQuery<QueryResultType> query = new CustomSQLTypedQuery<QueryResultType>(
@@ -3324,12 +3366,145 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
             return buildLateralBaseQueryString(lateralSb, lateralJoinNode);
         }
         if (cachedQueryString == null) {
-            cachedQueryString = buildBaseQueryString(false);
+            cachedQueryString = buildBaseQueryStringWithTemplateCache();
         }
 
         return cachedQueryString;
     }
 
+    private String buildBaseQueryStringWithTemplateCache() {
+        QueryTemplateCache queryTemplateCache = cbf.getQueryTemplateCache();
+        QueryShapeKey shapeKey;
+        if (queryTemplateCache == null || (shapeKey = createQueryShapeKey()) == null) {
+            return buildBaseQueryString(false);
+        }
+
+        QueryTemplateCache.QueryTemplate queryTemplate = queryTemplateCache.get(shapeKey);
+        if (queryTemplate == null) {
+            queryGenerator.setParameterStateModified(false);
+            String queryString = buildBaseQueryString(false);
+            // Rendering side effects on parameters can't be replayed from the cache
+            if (queryGenerator.isParameterStateModified()) {
+                queryTemplateCache.putNotCacheable(shapeKey);
+                return queryString;
+            }
+            queryTemplate = queryTemplateCache.put(shapeKey, queryString);
+        } else if (QueryTemplateCache.isNotCacheable(queryTemplate)) {
+            return buildBaseQueryString(false);
+        }
+
+        cachedQueryTemplate = queryTemplate;
+        return queryTemplate.getQueryString();
+    }
+
+    private void parameterizeQuery(Query query, String baseQueryString) {
+        QueryTemplateCache.QueryTemplate queryTemplate = cachedQueryTemplate;
+        // Lateral query strings are not built from the template
+        if (queryTemplate == null || queryTemplate.getQueryString() != baseQueryString) {
+            parameterManager.parameterizeQuery(query);
+            return;
+        }
+
+        // The parameter layout is the same for all builders of a shape, so only the first query has to be asked for its parameters
+        String[] parameterNames = queryTemplate.getParameterNames();
+        if (parameterNames == null) {
+            parameterNames = parameterManager.getParameterNames(query, null);
+            queryTemplate.setParameterNames(parameterNames);
+        }
+        parameterManager.parameterizeQuery(query, parameterNames);
+    }
+
+    protected boolean supportsQueryTemplateCache() {
+        return false;
+    }
+
+    protected QueryShapeKey createQueryShapeKey() {
+        if (needsCheck || !isMainQuery || !supportsQueryTemplateCache() || finalSetOperationBuilder != null || mainQuery.cteManager.hasCtes() || joinManager.hasEntityFunctions()
+                || !windowManager.getWindows().isEmpty() || !explicitVersionEntities.isEmpty() || !getKeyRestrictedLeftJoins().isEmpty()) {
+            return null;
+        }
+
+        return buildQueryShapeKey();
+    }
+
+    /**
+     * Returns whether the SQL rewrites of the query of this builder may be compiled into SQL templates.
+     * Paginated criteria builders don't support this, so the SQL of their count, id and object queries is always rewritten.
+     *
+     * @return Whether SQL templates may be used
+     */
+    protected boolean supportsSqlTemplateCache() {
+        return isMainQuery && supportsQueryTemplateCache();
+    }
+
+    /**
+     * Returns the shape key of the base query for keying the SQL templates of the query or <code>null</code> if the shape can't be represented.
+     * Unlike for {@link #createQueryShapeKey()}, CTEs, VALUES clauses and key restricted left joins are allowed,
+     * because they are applied to the SQL of the JPA provider and their rewrite descriptors are part of the SQL template key.
+     *
+     * @return The shape key or <code>null</code>
+     */
+    protected QueryShapeKey createSqlTemplateShapeKey() {
+        if (needsCheck || !supportsSqlTemplateCache() || finalSetOperationBuilder != null
+                || !windowManager.getWindows().isEmpty() || !explicitVersionEntities.isEmpty()) {
+            return null;
+        }
+
+        return buildQueryShapeKey();
+    }
+
+    /**
+     * Appends the state of this builder that influences the rendered query but is not covered by the clauses to the shape key.
+     *
+     * @param shapeKeyBuilder The shape key builder
+     */
+    protected void appendBuilderShape(QueryShapeKeyBuilder shapeKeyBuilder) {
+    }
+
+    private QueryShapeKey buildQueryShapeKey() {
+        QueryConfiguration queryConfiguration = mainQuery.getQueryConfiguration();
+        QueryShapeKeyBuilder shapeKeyBuilder = new QueryShapeKeyBuilder(parameterManager, nodesToFetch);
+        shapeKeyBuilder.add(getClass());
+        shapeKeyBuilder.add(statementType);
+        appendBuilderShape(shapeKeyBuilder);
+        shapeKeyBuilder.add(queryConfiguration.isOptimizedKeysetPredicateRenderingEnabled());
+        joinManager.acceptVisitor((JoinNodeVisitor) shapeKeyBuilder);
+        if (!shapeKeyBuilder.isCacheable()) {
+            return null;
+        }
+
+        shapeKeyBuilder.add(ClauseType.SELECT);
+        selectManager.appendShape(shapeKeyBuilder, queryConfiguration.isParameterAsLiteralRenderingEnabled());
+        shapeKeyBuilder.add(ClauseType.WHERE);
+        whereManager.acceptVisitor(shapeKeyBuilder);
+        shapeKeyBuilder.add(ClauseType.GROUP_BY);
+        shapeKeyBuilder.add(hasGroupBy);
+        if (hasGroupBy) {
+            groupByManager.appendShape(shapeKeyBuilder);
+            shapeKeyBuilder.add(ClauseType.HAVING);
+            havingManager.acceptVisitor(shapeKeyBuilder);
+        }
+        shapeKeyBuilder.add(ClauseType.ORDER_BY);
+        orderByManager.appendShape(shapeKeyBuilder);
+
+        KeysetLink keysetLink = keysetManager.getKeysetLink();
+        if (keysetLink == null || keysetLink.getKeysetMode() == KeysetMode.NONE || keysetLink.getKeyset().getTuple() == null) {
+            shapeKeyBuilder.add(KeysetMode.NONE);
+        } else {
+            Serializable[] tuple = keysetLink.getKeyset().getTuple();
+            shapeKeyBuilder.add(keysetLink.getKeysetMode());
+            shapeKeyBuilder.add(parameterManager.getPositionalOffset());
+            shapeKeyBuilder.add(tuple.length);
+            // Null elements are rendered as IS NULL predicates instead of parameters
+            for (int i = 0; i < tuple.length; i++) {
+                shapeKeyBuilder.add(tuple[i] == null);
+            }
+        }
+        shapeKeyBuilder.add(firstResult);
+        shapeKeyBuilder.add(maxResults);
+        return shapeKeyBuilder.build();
+    }
+
     protected String getExternalQueryString() {
         if (cachedExternalQueryString == null) {
             cachedExternalQueryString = buildExternalQueryString();
@@ -3354,6 +3529,7 @@ public abstract class AbstractCommonQueryBuilder<QueryResultType, BuilderType, S
         }
         needsCheck = true;
         cachedQueryString = null;
+        cachedQueryTemplate = null;
         cachedExternalQueryString = null;
         cachedGroupByIdentifierExpressions = null;
         keyRestrictedLeftJoins = null;
@@ -47,6 +47,7 @@ import com.blazebit.persistence.impl.query.QuerySpecification;
 import com.blazebit.persistence.parser.expression.Expression;
 import com.blazebit.persistence.parser.expression.ExpressionCopyContext;
 import com.blazebit.persistence.parser.expression.PathExpression;
+import com.blazebit.persistence.parser.predicate.Predicate;
 import com.blazebit.persistence.parser.util.JpaMetamodelUtils;
 import com.blazebit.persistence.parser.util.TypeUtils;
 import com.blazebit.persistence.spi.AttributeAccessor;
@@ -1144,11 +1145,11 @@ public abstract class AbstractFullQueryBuilder<T, X extends FullQueryBuilder<T,
     }
 
     @Override
-    public X setHavingExpression(String expression) {
+    public void setHavingPredicate(Predicate predicate) {
         if (createdPaginatedBuilder) {
             throw new IllegalStateException("Calling having() on a PaginatedCriteriaBuilder is not allowed.");
         }
-        return super.setHavingExpression(expression);
+        super.setHavingPredicate(predicate);
     }
 
     @Override
@@ -1168,10 +1169,10 @@ public abstract class AbstractFullQueryBuilder<T, X extends FullQueryBuilder<T,
     }
 
     @Override
-    public X groupBy(String expression) {
+    public void groupByExpression(Expression expression) {
         if (explicitPaginatedIdentifier) {
             throw new IllegalStateException("Cannot add a GROUP BY clause when paginating by the expressions [" + expressionString(getIdentifierExpressions()) + "]");
         }
-        return super.groupBy(expression);
+        super.groupByExpression(expression);
     }
 }
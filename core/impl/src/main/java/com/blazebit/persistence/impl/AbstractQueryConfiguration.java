@@ -44,6 +44,9 @@ public abstract class AbstractQueryConfiguration implements QueryConfiguration {
             case ConfigurationProperties.INLINE_ID_QUERY: return getInlineIdQueryEnabled() == null ? "auto" : Boolean.toString(getInlineIdQueryEnabled());
             case ConfigurationProperties.INLINE_COUNT_QUERY: return getInlineCountQueryEnabled() == null ? "auto" : Boolean.toString(getInlineCountQueryEnabled());
             case ConfigurationProperties.INLINE_CTES: return getInlineCtesEnabled() == null ? "auto" : Boolean.toString(getInlineCtesEnabled());
+            case ConfigurationProperties.PARALLEL_COUNT_QUERY: return Boolean.toString(isParallelCountQueryEnabled());
+            case ConfigurationProperties.IN_LIST_PADDING: return Boolean.toString(isInListPaddingEnabled());
+            case ConfigurationProperties.IN_LIST_CHUNK_SIZE: return Integer.toString(getInListChunkSize());
             default: return null;
         }
     }
@@ -64,6 +67,9 @@ public abstract class AbstractQueryConfiguration implements QueryConfiguration {
         properties.put(ConfigurationProperties.INLINE_ID_QUERY, getInlineIdQueryEnabled() == null ? "auto" : Boolean.toString(getInlineIdQueryEnabled()));
         properties.put(ConfigurationProperties.INLINE_COUNT_QUERY, getInlineCountQueryEnabled() == null ? "auto" : Boolean.toString(getInlineCountQueryEnabled()));
         properties.put(ConfigurationProperties.INLINE_CTES, getInlineCtesEnabled() == null ? "auto" : Boolean.toString(getInlineCtesEnabled()));
+        properties.put(ConfigurationProperties.PARALLEL_COUNT_QUERY, Boolean.toString(isParallelCountQueryEnabled()));
+        properties.put(ConfigurationProperties.IN_LIST_PADDING, Boolean.toString(isInListPaddingEnabled()));
+        properties.put(ConfigurationProperties.IN_LIST_CHUNK_SIZE, Integer.toString(getInListChunkSize()));
         return properties;
     }
 
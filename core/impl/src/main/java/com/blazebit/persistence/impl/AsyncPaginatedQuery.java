@@ -0,0 +1,115 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.impl;
+
+import com.blazebit.persistence.ObjectBuilder;
+import com.blazebit.persistence.PagedList;
+import com.blazebit.persistence.impl.query.ObjectBuilderTypedQuery;
+import com.blazebit.persistence.spi.JpaProvider;
+import com.blazebit.persistence.spi.SecondaryEntityManagerProvider;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Executes the count, id and object queries of a paginated query on a secondary entity manager,
+ * so that the entity manager of the query builder is never used by another thread.
+ * The parameter values are copied from the queries of the primary entity manager at submission time.
+ * The object builder of the query builder is applied by the thread that retrieves the result from the future,
+ * because object builders may execute further queries with the entity manager of the query builder.
+ *
+ * @param <T> The result type
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public final class AsyncPaginatedQuery<T> {
+
+    private final Executor executor;
+    private final SecondaryEntityManagerProvider secondaryEntityManagerProvider;
+    private final EntityManager primaryEntityManager;
+    private final JpaProvider jpaProvider;
+    private final boolean cacheable;
+    private final String countQueryString;
+    private final Class<?> countQueryResultType;
+    private final String idQueryString;
+    private final String objectQueryString;
+    private final Class<?> objectQueryResultType;
+    private final ObjectBuilder<Object> queryObjectBuilder;
+    private final ObjectBuilder<Object> extractionObjectBuilder;
+    private final ObjectBuilder<T> objectBuilder;
+
+    @SuppressWarnings("unchecked")
+    public AsyncPaginatedQuery(Executor executor, SecondaryEntityManagerProvider secondaryEntityManagerProvider, EntityManager primaryEntityManager, JpaProvider jpaProvider, boolean cacheable,
+                               String countQueryString, Class<?> countQueryResultType, String idQueryString, String objectQueryString, Class<?> objectQueryResultType,
+                               ObjectBuilder<?> queryObjectBuilder, ObjectBuilder<?> extractionObjectBuilder, ObjectBuilder<T> objectBuilder) {
+        this.executor = executor;
+        this.secondaryEntityManagerProvider = secondaryEntityManagerProvider;
+        this.primaryEntityManager = primaryEntityManager;
+        this.jpaProvider = jpaProvider;
+        this.cacheable = cacheable;
+        this.countQueryString = countQueryString;
+        this.countQueryResultType = countQueryResultType;
+        this.idQueryString = idQueryString;
+        this.objectQueryString = objectQueryString;
+        this.objectQueryResultType = objectQueryResultType;
+        this.queryObjectBuilder = (ObjectBuilder<Object>) queryObjectBuilder;
+        this.extractionObjectBuilder = (ObjectBuilder<Object>) extractionObjectBuilder;
+        this.objectBuilder = objectBuilder;
+    }
+
+    public Future<PagedList<T>> submit(final PaginatedTypedQueryImpl<?> primaryQuery) {
+        final BoundQueryParameters countParameters = BoundQueryParameters.of(primaryQuery.getCountTypedQuery());
+        final BoundQueryParameters idParameters = idQueryString == null ? null : BoundQueryParameters.of(primaryQuery.getIdTypedQuery());
+        final BoundQueryParameters objectParameters = BoundQueryParameters.of(primaryQuery.getObjectTypedQuery());
+        FutureTask<PagedList<Object>> task = new FutureTask<>(new Callable<PagedList<Object>>() {
+            @Override
+            public PagedList<Object> call() {
+                EntityManager entityManager = secondaryEntityManagerProvider.getEntityManager(primaryEntityManager);
+                try {
+                    TypedQuery<?> countQuery = createQuery(entityManager, countQueryString, countQueryResultType, countParameters);
+                    TypedQuery<?> idQuery = null;
+                    if (idQueryString != null) {
+                        idQuery = createQuery(entityManager, idQueryString, Object[].class, idParameters);
+                    }
+                    TypedQuery<Object> objectQuery = createQuery(entityManager, objectQueryString, objectQueryResultType, objectParameters);
+                    if (queryObjectBuilder != null) {
+                        objectQuery = new ObjectBuilderTypedQuery<>(objectQuery, queryObjectBuilder);
+                    }
+                    return primaryQuery.withQueries(countQuery, idQuery, objectQuery, extractionObjectBuilder).getResultList();
+                } finally {
+                    secondaryEntityManagerProvider.releaseEntityManager(primaryEntityManager, entityManager);
+                }
+            }
+        });
+        executor.execute(task);
+        return new AsyncQuery.ObjectBuilderFuture<T, PagedList<T>>(task, objectBuilder);
+    }
+
+    @SuppressWarnings("unchecked")
+    private TypedQuery<Object> createQuery(EntityManager entityManager, String queryString, Class<?> resultType, BoundQueryParameters parameters) {
+        TypedQuery<Object> query = (TypedQuery<Object>) entityManager.createQuery(queryString, resultType);
+        if (cacheable) {
+            jpaProvider.setCacheable(query);
+        }
+        parameters.bind(query);
+        return query;
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.impl;
+
+import com.blazebit.persistence.ObjectBuilder;
+import com.blazebit.persistence.PagedArrayList;
+import com.blazebit.persistence.PagedList;
+import com.blazebit.persistence.impl.query.ObjectBuilderTypedQuery;
+import com.blazebit.persistence.spi.JpaProvider;
+import com.blazebit.persistence.spi.SecondaryEntityManagerProvider;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Executes a query on a secondary entity manager so that the entity manager of the query builder is never used by another thread.
+ * The parameter values are copied from the query of the primary entity manager at submission time.
+ * An object builder is applied by the thread that retrieves the result from the future,
+ * because object builders may execute further queries with the entity manager of the query builder.
+ *
+ * @param <T> The result type
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public final class AsyncQuery<T> {
+
+    private final Executor executor;
+    private final SecondaryEntityManagerProvider secondaryEntityManagerProvider;
+    private final EntityManager primaryEntityManager;
+    private final JpaProvider jpaProvider;
+    private final String queryString;
+    private final Class<?> queryResultType;
+    private final int firstResult;
+    private final int maxResults;
+    private final boolean cacheable;
+    private final ObjectBuilder<T> objectBuilder;
+
+    public AsyncQuery(Executor executor, SecondaryEntityManagerProvider secondaryEntityManagerProvider, EntityManager primaryEntityManager, JpaProvider jpaProvider, String queryString, Class<?> queryResultType,
+                      int firstResult, int maxResults, boolean cacheable, ObjectBuilder<T> objectBuilder) {
+        this.executor = executor;
+        this.secondaryEntityManagerProvider = secondaryEntityManagerProvider;
+        this.primaryEntityManager = primaryEntityManager;
+        this.jpaProvider = jpaProvider;
+        this.queryString = queryString;
+        this.queryResultType = queryResultType;
+        this.firstResult = firstResult;
+        this.maxResults = maxResults;
+        this.cacheable = cacheable;
+        this.objectBuilder = objectBuilder;
+    }
+
+    public Future<List<T>> submit(TypedQuery<?> primaryQuery) {
+        final BoundQueryParameters parameters = BoundQueryParameters.of(primaryQuery);
+        FutureTask<List<Object>> task = new FutureTask<>(new Callable<List<Object>>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public List<Object> call() {
+                EntityManager entityManager = secondaryEntityManagerProvider.getEntityManager(primaryEntityManager);
+                try {
+                    TypedQuery<Object> query = (TypedQuery<Object>) entityManager.createQuery(queryString, queryResultType);
+                    if (firstResult != 0) {
+                        query.setFirstResult(firstResult);
+                    }
+                    if (maxResults != Integer.MAX_VALUE) {
+                        query.setMaxResults(maxResults);
+                    }
+                    if (cacheable) {
+                        jpaProvider.setCacheable(query);
+                    }
+                    parameters.bind(query);
+                    return query.getResultList();
+                } finally {
+                    secondaryEntityManagerProvider.releaseEntityManager(primaryEntityManager, entityManager);
+                }
+            }
+        });
+        executor.execute(task);
+        return new ObjectBuilderFuture<T, List<T>>(task, objectBuilder);
+    }
+
+    /**
+     * A future that applies the object builder to the raw result list on the first retrieval.
+     * The page information of a {@link PagedList} is retained.
+     *
+     * @param <T> The result type
+     * @param <L> The list type of the result
+     * @author Christian Beikov
+     * @since 1.5.0
+     */
+    static final class ObjectBuilderFuture<T, L extends List<T>> implements Future<L> {
+
+        private final Future<? extends List<Object>> delegate;
+        private final ObjectBuilder<T> objectBuilder;
+        private L result;
+
+        public ObjectBuilderFuture(Future<? extends List<Object>> delegate, ObjectBuilder<T> objectBuilder) {
+            this.delegate = delegate;
+            this.objectBuilder = objectBuilder;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return delegate.cancel(mayInterruptIfRunning);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return delegate.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return delegate.isDone();
+        }
+
+        @Override
+        public L get() throws InterruptedException, ExecutionException {
+            return build(delegate.get());
+        }
+
+        @Override
+        public L get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            return build(delegate.get(timeout, unit));
+        }
+
+        @SuppressWarnings("unchecked")
+        private synchronized L build(List<Object> list) {
+            if (result == null) {
+                if (objectBuilder == null) {
+                    result = (L) list;
+                } else {
+                    List<T> resultList = ObjectBuilderTypedQuery.build(objectBuilder, list);
+                    if (list instanceof PagedList<?>) {
+                        PagedList<?> pagedList = (PagedList<?>) list;
+                        resultList = new PagedArrayList<>(resultList, pagedList.getKeysetPage(), pagedList.getTotalSize(), pagedList.getFirstResult(), pagedList.getMaxResults());
+                    }
+                    result = (L) resultList;
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.impl;
+
+import javax.persistence.Parameter;
+import javax.persistence.Query;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A snapshot of the bound parameter values of a query that was created on a primary entity manager,
+ * so that the values can be bound to an equivalent query of a secondary entity manager on another thread.
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public final class BoundQueryParameters {
+
+    private final List<Parameter<?>> parameters;
+    private final List<Object> values;
+
+    private BoundQueryParameters(List<Parameter<?>> parameters, List<Object> values) {
+        this.parameters = parameters;
+        this.values = values;
+    }
+
+    public static BoundQueryParameters of(Query query) {
+        List<Parameter<?>> parameters = new ArrayList<>(query.getParameters().size());
+        List<Object> values = new ArrayList<>(query.getParameters().size());
+        for (Parameter<?> parameter : query.getParameters()) {
+            if (query.isBound(parameter)) {
+                parameters.add(parameter);
+                values.add(query.getParameterValue(parameter));
+            }
+        }
+        return new BoundQueryParameters(parameters, values);
+    }
+
+    public void bind(Query query) {
+        for (int i = 0; i < parameters.size(); i++) {
+            Parameter<?> parameter = parameters.get(i);
+            if (parameter.getName() == null) {
+                query.setParameter(parameter.getPosition(), values.get(i));
+            } else {
+                query.setParameter(parameter.getName(), values.get(i));
+            }
+        }
+    }
+}
@@ -56,30 +56,30 @@ public final class CachingJpaProvider implements JpaProvider {
 
     @Override
     public boolean isForeignJoinColumn(EntityType<?> ownerType, String attributeName) {
-        ExtendedAttribute attribute = (ExtendedAttribute) entityMetamodel.getManagedType(ExtendedManagedType.class, ownerType.getName()).getAttributes().get(attributeName);
+        ExtendedAttribute attribute = (ExtendedAttribute) entityMetamodel.getExtendedManagedType(ownerType).getAttributes().get(attributeName);
         return attribute != null && attribute.isForeignJoinColumn();
     }
 
     @Override
     public boolean isColumnShared(EntityType<?> ownerType, String attributeName) {
-        ExtendedAttribute attribute = (ExtendedAttribute) entityMetamodel.getManagedType(ExtendedManagedType.class, ownerType.getName()).getAttributes().get(attributeName);
+        ExtendedAttribute attribute = (ExtendedAttribute) entityMetamodel.getExtendedManagedType(ownerType).getAttributes().get(attributeName);
         return attribute != null && attribute.isColumnShared();
     }
 
     @Override
     public ConstraintType requiresTreatFilter(EntityType<?> ownerType, String attributeName, JoinType joinType) {
-        ExtendedAttribute attribute = (ExtendedAttribute) entityMetamodel.getManagedType(ExtendedManagedType.class, ownerType.getName()).getAttributes().get(attributeName);
+        ExtendedAttribute attribute = (ExtendedAttribute) entityMetamodel.getExtendedManagedType(ownerType).getAttributes().get(attributeName);
         return attribute == null ? ConstraintType.NONE : attribute.getJoinTypeIndexedRequiresTreatFilter(joinType);
     }
 
     @Override
     public String getMappedBy(EntityType<?> ownerType, String attributeName) {
-        return entityMetamodel.getManagedType(ExtendedManagedType.class, ownerType.getName()).getAttribute(attributeName).getMappedBy();
+        return entityMetamodel.getExtendedManagedType(ownerType).getAttribute(attributeName).getMappedBy();
     }
 
     @Override
     public String[] getColumnNames(EntityType<?> ownerType, String attributeName) {
-        return entityMetamodel.getManagedType(ExtendedManagedType.class, ownerType.getName()).getAttribute(attributeName).getColumnNames();
+        return entityMetamodel.getExtendedManagedType(ownerType).getAttribute(attributeName).getColumnNames();
     }
 
     @Override
@@ -89,7 +89,7 @@ public final class CachingJpaProvider implements JpaProvider {
 
     @Override
     public String[] getColumnTypes(EntityType<?> ownerType, String attributeName) {
-        return entityMetamodel.getManagedType(ExtendedManagedType.class, ownerType.getName()).getAttribute(attributeName).getColumnTypes();
+        return entityMetamodel.getExtendedManagedType(ownerType).getAttribute(attributeName).getColumnTypes();
     }
 
     @Override
@@ -108,12 +108,12 @@ public final class CachingJpaProvider implements JpaProvider {
 
     @Override
     public JoinTable getJoinTable(EntityType<?> ownerType, String attributeName) {
-        return entityMetamodel.getManagedType(ExtendedManagedType.class, ownerType.getName()).getAttribute(attributeName).getJoinTable();
+        return entityMetamodel.getExtendedManagedType(ownerType).getAttribute(attributeName).getJoinTable();
     }
 
     @Override
     public boolean isBag(EntityType<?> ownerType, String attributeName) {
-        ExtendedAttribute attribute = (ExtendedAttribute) entityMetamodel.getManagedType(ExtendedManagedType.class, ownerType.getName()).getAttributes().get(attributeName);
+        ExtendedAttribute attribute = (ExtendedAttribute) entityMetamodel.getExtendedManagedType(ownerType).getAttributes().get(attributeName);
         return attribute != null && attribute.isBag();
     }
 
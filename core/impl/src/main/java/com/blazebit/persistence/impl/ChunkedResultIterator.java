@@ -0,0 +1,82 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.impl;
+
+import com.blazebit.persistence.PagedList;
+import com.blazebit.persistence.PaginatedCriteriaBuilder;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An iterator that fetches the results of a paginated criteria builder chunk by chunk via keyset pagination.
+ * Only the current chunk is referenced, so the object builder of the query transforms at most one chunk at a time.
+ *
+ * @param <T> The result type
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public class ChunkedResultIterator<T> implements Iterator<T> {
+
+    private final PaginatedCriteriaBuilder<T> builder;
+    private final int chunkSize;
+    private Iterator<T> chunkIterator;
+    private boolean lastChunk;
+
+    public ChunkedResultIterator(PaginatedCriteriaBuilder<T> builder, int chunkSize) {
+        this.builder = builder;
+        this.chunkSize = chunkSize;
+        builder.withKeysetExtraction(true);
+        builder.withCountQuery(false);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (chunkIterator == null || !chunkIterator.hasNext()) {
+            if (lastChunk) {
+                return false;
+            }
+            fetchNextChunk();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return chunkIterator.next();
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Removing results is not supported");
+    }
+
+    private void fetchNextChunk() {
+        // Release the previous chunk before executing the next query
+        chunkIterator = null;
+        PagedList<T> chunk = builder.getResultList();
+        chunkIterator = chunk.iterator();
+        if (chunk.size() < chunkSize || chunk.getKeysetPage() == null) {
+            lastChunk = true;
+        } else {
+            builder.afterKeyset(chunk.getKeysetPage().getHighest());
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.impl;
+
+import com.blazebit.persistence.spi.DbmsDialect;
+import com.blazebit.persistence.spi.ExtendedQuerySupport;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceException;
+import javax.persistence.Query;
+import javax.persistence.TransactionRequiredException;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Asks the query planner of the DBMS for the estimated row count of a count query.
+ * The estimate is only used if it reaches a threshold, because the exact count is cheap for small results.
+ * Within a transaction, the planner is asked under a savepoint so that a failure doesn't abort the transaction
+ * and the exact count query can be used instead.
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public final class CountEstimator {
+
+    private static final Logger LOG = Logger.getLogger(CountEstimator.class.getName());
+    private static final String SAVEPOINT_NAME = "blaze_count_estimation";
+
+    private final EntityManager em;
+    private final ExtendedQuerySupport extendedQuerySupport;
+    private final DbmsDialect dbmsDialect;
+    private final long serverVersion;
+    private final long threshold;
+
+    public CountEstimator(EntityManager em, ExtendedQuerySupport extendedQuerySupport, DbmsDialect dbmsDialect, long serverVersion, long threshold) {
+        this.em = em;
+        this.extendedQuerySupport = extendedQuerySupport;
+        this.dbmsDialect = dbmsDialect;
+        this.serverVersion = serverVersion;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Returns the estimated count of the given count query if it reaches the threshold, otherwise <code>null</code>.
+     *
+     * @param countQuery The count query
+     * @return The estimated count or <code>null</code>
+     */
+    public Long estimate(Query countQuery) {
+        String estimationSql = dbmsDialect.getCountEstimationSql(extendedQuerySupport.getSql(em, countQuery), serverVersion);
+        if (estimationSql == null) {
+            return null;
+        }
+
+        List<?> queryPlan = getQueryPlan(estimationSql);
+        if (queryPlan == null) {
+            return null;
+        }
+        long estimate = dbmsDialect.extractCountEstimate(queryPlan);
+        if (estimate < threshold) {
+            return null;
+        }
+        return estimate;
+    }
+
+    private List<?> getQueryPlan(String estimationSql) {
+        boolean savepoint = createSavepoint();
+        try {
+            List<?> queryPlan = em.createNativeQuery(estimationSql).getResultList();
+            if (savepoint) {
+                em.createNativeQuery("RELEASE SAVEPOINT " + SAVEPOINT_NAME).executeUpdate();
+            }
+            return queryPlan;
+        } catch (PersistenceException ex) {
+            if (savepoint) {
+                em.createNativeQuery("ROLLBACK TO SAVEPOINT " + SAVEPOINT_NAME).executeUpdate();
+            }
+            LOG.log(Level.FINE, "Count estimation failed, falling back to the exact count", ex);
+            return null;
+        }
+    }
+
+    private boolean createSavepoint() {
+        try {
+            em.createNativeQuery("SAVEPOINT " + SAVEPOINT_NAME).executeUpdate();
+            return true;
+        } catch (TransactionRequiredException ex) {
+            // Without a transaction, the statement runs in a transaction of its own, so a failure can't abort other statements
+            return false;
+        }
+    }
+}
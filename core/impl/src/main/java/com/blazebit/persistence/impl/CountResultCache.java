@@ -0,0 +1,127 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.impl;
+
+import javax.persistence.Parameter;
+import javax.persistence.Query;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A bounded LRU cache for count query results keyed by the count query string and the bound parameter values.
+ * Entries expire after a configurable time to live.
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public final class CountResultCache {
+
+    private final Map<Key, Entry> cache;
+    private final long timeToLiveNanos;
+
+    public CountResultCache(final int maxSize, long timeToLiveMillis) {
+        this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(timeToLiveMillis);
+        this.cache = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public Key createKey(String countQueryString, Query countQuery) {
+        Map<Object, Object> parameterValues = new HashMap<>(countQuery.getParameters().size());
+        for (Parameter<?> parameter : countQuery.getParameters()) {
+            if (countQuery.isBound(parameter)) {
+                parameterValues.put(parameter.getName() == null ? parameter.getPosition() : parameter.getName(), countQuery.getParameterValue(parameter));
+            }
+        }
+        return new Key(countQueryString, parameterValues);
+    }
+
+    public synchronized Object get(Key key) {
+        Entry entry = cache.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.created > timeToLiveNanos) {
+            cache.remove(key);
+            return null;
+        }
+        return entry.result;
+    }
+
+    public synchronized void put(Key key, Object result) {
+        cache.put(key, new Entry(result, System.nanoTime()));
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    /**
+     * @author Christian Beikov
+     * @since 1.5.0
+     */
+    public static final class Key {
+
+        private final String countQueryString;
+        private final Map<Object, Object> parameterValues;
+        private final int hash;
+
+        private Key(String countQueryString, Map<Object, Object> parameterValues) {
+            this.countQueryString = countQueryString;
+            this.parameterValues = parameterValues;
+            this.hash = 31 * countQueryString.hashCode() + parameterValues.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+
+            Key key = (Key) o;
+            return hash == key.hash && countQueryString.equals(key.countQueryString) && parameterValues.equals(key.parameterValues);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * @author Christian Beikov
+     * @since 1.5.0
+     */
+    private static final class Entry {
+
+        private final Object result;
+        private final long created;
+
+        private Entry(Object result, long created) {
+            this.result = result;
+            this.created = created;
+        }
+    }
+}
@@ -492,6 +492,7 @@ import com.blazebit.persistence.spi.JpqlFunctionGroup;
 import com.blazebit.persistence.spi.JpqlMacro;
 import com.blazebit.persistence.spi.LateralStyle;
 import com.blazebit.persistence.spi.PackageOpener;
+import com.blazebit.persistence.spi.SecondaryEntityManagerProvider;
 import com.blazebit.persistence.spi.SetOperationType;
 
 import javax.persistence.EntityManagerFactory;
@@ -510,6 +511,7 @@ import java.util.Properties;
 import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.Executor;
 
 /**
  *
@@ -527,6 +529,8 @@ public class CriteriaBuilderConfigurationImpl implements CriteriaBuilderConfigur
     private PackageOpener packageOpener;
     private Properties properties = new Properties();
     private ExtendedQuerySupport extendedQuerySupport;
+    private Executor parallelQueryExecutor;
+    private SecondaryEntityManagerProvider secondaryEntityManagerProvider;
 
     public CriteriaBuilderConfigurationImpl(PackageOpener packageOpener) {
         this.packageOpener = packageOpener;
@@ -1819,6 +1823,21 @@ public class CriteriaBuilderConfigurationImpl implements CriteriaBuilderConfigur
         return packageOpener;
     }
 
+    @Override
+    public CriteriaBuilderConfiguration withParallelQueryExecution(Executor executor, SecondaryEntityManagerProvider secondaryEntityManagerProvider) {
+        this.parallelQueryExecutor = executor;
+        this.secondaryEntityManagerProvider = secondaryEntityManagerProvider;
+        return this;
+    }
+
+    Executor getParallelQueryExecutor() {
+        return parallelQueryExecutor;
+    }
+
+    SecondaryEntityManagerProvider getSecondaryEntityManagerProvider() {
+        return secondaryEntityManagerProvider;
+    }
+
     @Override
     public CriteriaBuilderConfiguration registerFunction(JpqlFunctionGroup jpqlFunctionGroup) {
         String functionName = jpqlFunctionGroup.getName().toLowerCase();
@@ -16,6 +16,7 @@
 
 package com.blazebit.persistence.impl;
 
+import com.blazebit.persistence.ConfigurationProperties;
 import com.blazebit.persistence.CriteriaBuilder;
 import com.blazebit.persistence.CriteriaBuilderFactory;
 import com.blazebit.persistence.DeleteCriteriaBuilder;
@@ -23,6 +24,8 @@ import com.blazebit.persistence.InsertCriteriaBuilder;
 import com.blazebit.persistence.LeafOngoingFinalSetOperationCriteriaBuilder;
 import com.blazebit.persistence.StartOngoingSetOperationCriteriaBuilder;
 import com.blazebit.persistence.UpdateCriteriaBuilder;
+import com.blazebit.persistence.impl.query.SqlTemplateCache;
+import com.blazebit.persistence.parser.expression.BoundedExpressionCache;
 import com.blazebit.persistence.parser.expression.ExpressionCache;
 import com.blazebit.persistence.parser.expression.ExpressionFactory;
 import com.blazebit.persistence.parser.expression.ExpressionFactoryImpl;
@@ -38,6 +41,7 @@ import com.blazebit.persistence.spi.JpaProviderFactory;
 import com.blazebit.persistence.spi.JpqlFunction;
 import com.blazebit.persistence.spi.JpqlFunctionGroup;
 import com.blazebit.persistence.spi.PackageOpener;
+import com.blazebit.persistence.spi.SecondaryEntityManagerProvider;
 
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
@@ -46,6 +50,10 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  *
@@ -54,7 +62,12 @@ import java.util.Map;
  */
 public class CriteriaBuilderFactoryImpl implements CriteriaBuilderFactory {
 
+    private static final Logger LOG = Logger.getLogger(CriteriaBuilderFactoryImpl.class.getName());
+    private static final long UNRESOLVED_SERVER_VERSION = -2L;
+
     private final PackageOpener packageOpener;
+    private final Executor parallelQueryExecutor;
+    private final SecondaryEntityManagerProvider secondaryEntityManagerProvider;
     private final EntityManagerFactory entityManagerFactory;
     private final EntityMetamodelImpl metamodel;
     private final AssociationParameterTransformerFactory transientEntityParameterTransformerFactory;
@@ -62,6 +75,10 @@ public class CriteriaBuilderFactoryImpl implements CriteriaBuilderFactory {
     private final Map<String, Boolean> functions;
     private final Map<Class<?>, String> namedTypes;
     private final ExpressionCache expressionCache;
+    private final QueryTemplateCache queryTemplateCache;
+    private final SqlTemplateCache sqlTemplateCache;
+    private final CountResultCache countResultCache;
+    private volatile long dbmsServerVersion = UNRESOLVED_SERVER_VERSION;
     private final ExpressionFactory expressionFactory;
     private final ExpressionFactory subqueryExpressionFactory;
     private final QueryConfiguration queryConfiguration;
@@ -94,6 +111,8 @@ public class CriteriaBuilderFactoryImpl implements CriteriaBuilderFactory {
         }
 
         this.packageOpener = config.getPackageOpener();
+        this.parallelQueryExecutor = config.getParallelQueryExecutor();
+        this.secondaryEntityManagerProvider = config.getSecondaryEntityManagerProvider() == null ? SecondaryEntityManagerProvider.DEFAULT : config.getSecondaryEntityManagerProvider();
         this.configuredDbms = dbms;
         this.configuredDbmsDialect = dialect;
         this.configuredRegisteredFunctions = registeredFunctions;
@@ -113,7 +132,10 @@ public class CriteriaBuilderFactoryImpl implements CriteriaBuilderFactory {
         this.namedTypes = resolveNamedTypes(config.getNamedTypes());
 
         ExpressionFactory originalExpressionFactory = new ExpressionFactoryImpl(functions, metamodel.getEntityTypes(), metamodel.getEnumTypes(), metamodel.getEnumTypesForLiterals(), !compatibleMode, optimize);
-        this.expressionCache = createCache(queryConfiguration.getExpressionCacheClass());
+        this.expressionCache = createCache(queryConfiguration.getExpressionCacheClass(), config.getProperties());
+        this.queryTemplateCache = createQueryTemplateCache(config.getProperty(ConfigurationProperties.QUERY_TEMPLATE_CACHE_SIZE));
+        this.sqlTemplateCache = createSqlTemplateCache(config.getProperty(ConfigurationProperties.SQL_TEMPLATE_CACHE_SIZE));
+        this.countResultCache = createCountResultCache(config.getProperty(ConfigurationProperties.PAGINATION_COUNT_CACHE_SIZE), config.getProperty(ConfigurationProperties.PAGINATION_COUNT_CACHE_TTL));
         ExpressionFactory cachingExpressionFactory = new SimpleCachingExpressionFactory(originalExpressionFactory, expressionCache);
         ExpressionFactory cachingSubqueryExpressionFactory = new SimpleCachingExpressionFactory(new SubqueryExpressionFactory(functions, metamodel.getEntityTypes(), metamodel.getEnumTypes(), metamodel.getEnumTypesForLiterals(), !compatibleMode, optimize, originalExpressionFactory));
         this.macroConfiguration = MacroConfiguration.of(JpqlMacroAdapter.createMacros(config.getMacros(), cachingExpressionFactory));
@@ -122,7 +144,44 @@ public class CriteriaBuilderFactoryImpl implements CriteriaBuilderFactory {
         this.subqueryExpressionFactory = new JpqlMacroAwareExpressionFactory(cachingSubqueryExpressionFactory, macroStorage);
     }
 
-    private ExpressionCache createCache(String className) {
+    private static QueryTemplateCache createQueryTemplateCache(String size) {
+        long maxSize = parseNonNegativeLong(ConfigurationProperties.QUERY_TEMPLATE_CACHE_SIZE, size, 0L);
+        return maxSize == 0 ? null : new QueryTemplateCache((int) Math.min(maxSize, Integer.MAX_VALUE));
+    }
+
+    private static SqlTemplateCache createSqlTemplateCache(String size) {
+        long maxSize = parseNonNegativeLong(ConfigurationProperties.SQL_TEMPLATE_CACHE_SIZE, size, 0L);
+        return maxSize == 0 ? null : new SqlTemplateCache((int) Math.min(maxSize, Integer.MAX_VALUE));
+    }
+
+    private static CountResultCache createCountResultCache(String size, String timeToLive) {
+        long maxSize = parseNonNegativeLong(ConfigurationProperties.PAGINATION_COUNT_CACHE_SIZE, size, 0L);
+        long timeToLiveMillis = parseNonNegativeLong(ConfigurationProperties.PAGINATION_COUNT_CACHE_TTL, timeToLive, 60000L);
+        return maxSize == 0 ? null : new CountResultCache((int) Math.min(maxSize, Integer.MAX_VALUE), timeToLiveMillis);
+    }
+
+    private static long parseNonNegativeLong(String propertyName, String value, long defaultValue) {
+        if (value == null || value.isEmpty()) {
+            return defaultValue;
+        }
+        long longValue;
+        try {
+            longValue = Long.parseLong(value);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid non-integer value '" + value + "' for the property " + propertyName, ex);
+        }
+        if (longValue < 0) {
+            throw new IllegalArgumentException("Invalid negative value '" + value + "' for the property " + propertyName);
+        }
+        return longValue;
+    }
+
+    private static ExpressionCache createCache(String className, Properties properties) {
+        if (BoundedExpressionCache.class.getName().equals(className)) {
+            long maxSize = parseNonNegativeLong(ConfigurationProperties.EXPRESSION_CACHE_MAX_SIZE, properties.getProperty(ConfigurationProperties.EXPRESSION_CACHE_MAX_SIZE), BoundedExpressionCache.DEFAULT_MAX_SIZE);
+            long maxWeight = parseNonNegativeLong(ConfigurationProperties.EXPRESSION_CACHE_MAX_WEIGHT, properties.getProperty(ConfigurationProperties.EXPRESSION_CACHE_MAX_WEIGHT), BoundedExpressionCache.DEFAULT_MAX_WEIGHT);
+            return new BoundedExpressionCache<>((int) Math.min(maxSize, Integer.MAX_VALUE), maxWeight);
+        }
         try {
             return (ExpressionCache) Class.forName(className).newInstance();
         } catch (Exception ex) {
@@ -195,6 +254,53 @@ public class CriteriaBuilderFactoryImpl implements CriteriaBuilderFactory {
         return expressionCache;
     }
 
+    public Executor getParallelQueryExecutor() {
+        return parallelQueryExecutor;
+    }
+
+    public SecondaryEntityManagerProvider getSecondaryEntityManagerProvider() {
+        return secondaryEntityManagerProvider;
+    }
+
+    public QueryTemplateCache getQueryTemplateCache() {
+        return queryTemplateCache;
+    }
+
+    public SqlTemplateCache getSqlTemplateCache() {
+        return sqlTemplateCache;
+    }
+
+    public CountResultCache getCountResultCache() {
+        return countResultCache;
+    }
+
+    /**
+     * Returns the server version number of the DBMS as selected via {@link DbmsDialect#getServerVersionSql()} on first use or -1 if it is unknown.
+     *
+     * @param em The entity manager to use for selecting the server version
+     * @return The server version number or -1
+     */
+    public long getDbmsServerVersion(EntityManager em) {
+        long serverVersion = dbmsServerVersion;
+        if (serverVersion == UNRESOLVED_SERVER_VERSION) {
+            String serverVersionSql = configuredDbmsDialect.getServerVersionSql();
+            if (serverVersionSql == null) {
+                serverVersion = -1L;
+            } else {
+                String serverVersionString = String.valueOf(em.createNativeQuery(serverVersionSql).getSingleResult()).trim();
+                try {
+                    serverVersion = Long.parseLong(serverVersionString);
+                } catch (NumberFormatException ex) {
+                    // Without a known server version, features that depend on it like the count estimation are not used
+                    LOG.log(Level.WARNING, "Could not parse the DBMS server version '" + serverVersionString + "'", ex);
+                    serverVersion = -1L;
+                }
+            }
+            dbmsServerVersion = serverVersion;
+        }
+        return serverVersion;
+    }
+
     public ExpressionFactory getExpressionFactory() {
         return expressionFactory;
     }
@@ -337,6 +443,14 @@ public class CriteriaBuilderFactoryImpl implements CriteriaBuilderFactory {
             return (T) jpaProvider;
         } else if (ExpressionCache.class.equals(serviceClass)) {
             return (T) expressionCache;
+        } else if (QueryTemplateCache.class.equals(serviceClass)) {
+            return (T) queryTemplateCache;
+        } else if (SqlTemplateCache.class.equals(serviceClass)) {
+            return (T) sqlTemplateCache;
+        } else if (Executor.class.equals(serviceClass)) {
+            return (T) parallelQueryExecutor;
+        } else if (SecondaryEntityManagerProvider.class.equals(serviceClass)) {
+            return (T) secondaryEntityManagerProvider;
         } else if (Metamodel.class.isAssignableFrom(serviceClass)) {
             return (T) metamodel;
         } else if (EntityManagerFactory.class.equals(serviceClass)) {
@@ -22,9 +22,13 @@ import com.blazebit.persistence.LeafOngoingSetOperationCriteriaBuilder;
 import com.blazebit.persistence.ObjectBuilder;
 import com.blazebit.persistence.SelectObjectBuilder;
 import com.blazebit.persistence.StartOngoingSetOperationCriteriaBuilder;
+import com.blazebit.persistence.parser.expression.ExpressionClauseBuilder;
 import com.blazebit.persistence.spi.SetOperationType;
 
 import javax.persistence.TypedQuery;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Future;
 
 /**
  *
@@ -33,7 +37,7 @@ import javax.persistence.TypedQuery;
  * @author Moritz Becker
  * @since 1.0.0
  */
-public class CriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T, CriteriaBuilder<T>, LeafOngoingSetOperationCriteriaBuilder<T>, StartOngoingSetOperationCriteriaBuilder<T, LeafOngoingFinalSetOperationCriteriaBuilder<T>>, BaseFinalSetOperationCriteriaBuilderImpl<T, ?>> implements CriteriaBuilder<T> {
+public class CriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T, CriteriaBuilder<T>, LeafOngoingSetOperationCriteriaBuilder<T>, StartOngoingSetOperationCriteriaBuilder<T, LeafOngoingFinalSetOperationCriteriaBuilder<T>>, BaseFinalSetOperationCriteriaBuilderImpl<T, ?>> implements CriteriaBuilder<T>, ExpressionClauseBuilder {
 
     protected long cachedQueryRootMaximumCount;
     protected String cachedQueryRootCountQueryString;
@@ -51,6 +55,11 @@ public class CriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T, Criteria
         cachedExternalQueryRootCountQueryString = null;
     }
 
+    @Override
+    protected boolean supportsQueryTemplateCache() {
+        return true;
+    }
+
     @Override
     public TypedQuery<Long> getQueryRootCountQuery() {
         if (!havingManager.isEmpty()) {
@@ -107,6 +116,19 @@ public class CriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T, Criteria
         return cachedExternalQueryRootCountQueryString;
     }
 
+    @Override
+    public Iterator<T> getResultIterator(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize may not be zero or negative");
+        }
+        return new ChunkedResultIterator<T>(page(0, chunkSize), chunkSize);
+    }
+
+    @Override
+    public Future<List<T>> getResultListAsync() {
+        return getResultListAsyncWithSecondaryEntityManager();
+    }
+
     @Override
     public <Y> CriteriaBuilder<Y> copy(Class<Y> resultClass) {
         return (CriteriaBuilder<Y>) super.copy(resultClass);
@@ -17,6 +17,7 @@
 package com.blazebit.persistence.impl;
 
 import com.blazebit.persistence.DeleteCriteriaBuilder;
+import com.blazebit.persistence.parser.expression.ExpressionClauseBuilder;
 import com.blazebit.persistence.parser.expression.ExpressionCopyContext;
 
 import java.util.Map;
@@ -27,7 +28,7 @@ import java.util.Map;
  * @author Christian Beikov
  * @since 1.1.0
  */
-public class DeleteCriteriaBuilderImpl<T> extends BaseDeleteCriteriaBuilderImpl<T, DeleteCriteriaBuilder<T>, Void> implements DeleteCriteriaBuilder<T> {
+public class DeleteCriteriaBuilderImpl<T> extends BaseDeleteCriteriaBuilderImpl<T, DeleteCriteriaBuilder<T>, Void> implements DeleteCriteriaBuilder<T>, ExpressionClauseBuilder {
 
     public DeleteCriteriaBuilderImpl(MainQuery mainQuery, Class<T> clazz, String alias) {
         super(mainQuery, null, true, clazz, alias, null, null, null, null);
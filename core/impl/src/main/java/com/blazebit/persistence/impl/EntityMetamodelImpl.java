@@ -51,6 +51,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -80,6 +81,7 @@ public class EntityMetamodelImpl implements EntityMetamodel {
     private final ConcurrentMap<Class<?>, Type<?>> basicTypeMap = new ConcurrentHashMap<>();
     private final Map<Class<?>, ManagedType<?>> cteMap;
     private final Map<Object, ExtendedManagedTypeImpl<?>> extendedManagedTypes;
+    private final Map<ManagedType<?>, ExtendedManagedTypeImpl<?>> extendedManagedTypesByIdentity;
     private final Map<Class<?>, AttributeExample> exampleAttributes;
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
@@ -172,9 +174,11 @@ public class EntityMetamodelImpl implements EntityMetamodel {
         }
 
         Map<Object, ExtendedManagedTypeImpl<?>> extendedManagedTypes = new HashMap<>(temporaryExtendedManagedTypes.size());
+        Map<ManagedType<?>, ExtendedManagedTypeImpl<?>> extendedManagedTypesByIdentity = new IdentityHashMap<>(temporaryExtendedManagedTypes.size());
         for (TemporaryExtendedManagedType value : new HashSet<>(temporaryExtendedManagedTypes.values())) {
             ExtendedManagedTypeImpl<?> extendedManagedType = new ExtendedManagedTypeImpl(value.managedType, value.singularOwnerType, value.pluralOwnerType, value.cascadingDeleteCycle, initAttributes(value.attributes));
             extendedManagedTypes.put(JpaMetamodelUtils.getTypeName(value.managedType), extendedManagedType);
+            extendedManagedTypesByIdentity.put(value.managedType, extendedManagedType);
             if (value.managedType.getJavaType() != null) {
                 extendedManagedTypes.put(value.managedType.getJavaType(), extendedManagedType);
             }
@@ -188,6 +192,7 @@ public class EntityMetamodelImpl implements EntityMetamodel {
         this.classMap = Collections.unmodifiableMap(classToType);
         this.cteMap = Collections.unmodifiableMap(cteToType);
         this.extendedManagedTypes = Collections.unmodifiableMap(extendedManagedTypes);
+        this.extendedManagedTypesByIdentity = extendedManagedTypesByIdentity;
         Map<Class<?>, AttributeExample> exampleAttributes = new HashMap<>();
         for (ExtendedManagedTypeImpl<?> extendedManagedType : extendedManagedTypes.values()) {
             for (AttributeEntry<?, ?> attributeEntry : extendedManagedType.ownedSingularAttributes.values()) {
@@ -657,6 +662,10 @@ public class EntityMetamodelImpl implements EntityMetamodel {
     @Override
     @SuppressWarnings("unchecked")
     public <T> T getManagedType(Class<T> cls, ManagedType<?> managedType) {
+        ExtendedManagedType<?> extendedManagedType = extendedManagedTypesByIdentity.get(managedType);
+        if (extendedManagedType != null) {
+            return cls == ExtendedManagedType.class ? (T) extendedManagedType : null;
+        }
         if (managedType.getJavaType() == null) {
             return getManagedType(cls, JpaMetamodelUtils.getTypeName(managedType));
         } else {
@@ -684,6 +693,23 @@ public class EntityMetamodelImpl implements EntityMetamodel {
         return null;
     }
 
+    /**
+     * Returns the extended managed type for the given managed type. Managed types of this metamodel are resolved by identity,
+     * other managed type instances are resolved by their type name.
+     *
+     * @param managedType The managed type
+     * @param <X> The java type of the managed type
+     * @return The extended managed type
+     */
+    @SuppressWarnings("unchecked")
+    public <X> ExtendedManagedType<X> getExtendedManagedType(ManagedType<X> managedType) {
+        ExtendedManagedType<?> extendedManagedType = extendedManagedTypesByIdentity.get(managedType);
+        if (extendedManagedType == null) {
+            extendedManagedType = getEntry(JpaMetamodelUtils.getTypeName(managedType));
+        }
+        return (ExtendedManagedType<X>) extendedManagedType;
+    }
+
     private ExtendedManagedType<?> getEntry(Class<?> ownerType) {
         ExtendedManagedType<?> extendedManagedType = extendedManagedTypes.get(ownerType);
         if (extendedManagedType == null) {
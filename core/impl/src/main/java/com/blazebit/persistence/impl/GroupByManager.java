@@ -26,6 +26,7 @@ import com.blazebit.persistence.spi.JpaProvider;
 
 import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -194,6 +195,14 @@ public class GroupByManager extends AbstractManager<ExpressionModifier> {
         }
     }
 
+    void appendShape(QueryShapeKeyBuilder shapeKeyBuilder) {
+        shapeKeyBuilder.add(groupByClauses.size());
+        for (Map.Entry<ResolvedExpression, Set<ClauseType>> entry : groupByClauses.entrySet()) {
+            shapeKeyBuilder.add(new HashSet<>(entry.getValue()));
+            shapeKeyBuilder.add(entry.getKey().getExpression());
+        }
+    }
+
     public boolean hasGroupBys() {
         return groupByInfos.size() > 0;
     }
@@ -44,6 +44,9 @@ public class ImmutableQueryConfiguration extends AbstractQueryConfiguration {
     private final Boolean inlineIdQuery;
     private final Boolean inlineCountQuery;
     private final Boolean inlineCtes;
+    private final boolean parallelCountQueryEnabled;
+    private final boolean inListPaddingEnabled;
+    private final int inListChunkSize;
 
     public ImmutableQueryConfiguration(Map<String, String> properties) {
         this.compatibleModeEnabled = PropertyUtils.getAsBooleanProperty(properties, ConfigurationProperties.COMPATIBLE_MODE, false);
@@ -58,6 +61,9 @@ public class ImmutableQueryConfiguration extends AbstractQueryConfiguration {
         this.valuesClauseFilterNullsEnabled =               getBooleanProperty(properties, ConfigurationProperties.VALUES_CLAUSE_FILTER_NULLS,          "true");
         this.parameterAsLiteralRenderingEnabled =           getBooleanProperty(properties, ConfigurationProperties.PARAMETER_AS_LITERAL_RENDERING,      "true");
         this.optimizedKeysetPredicateRenderingEnabled =     getBooleanProperty(properties, ConfigurationProperties.OPTIMIZED_KEYSET_PREDICATE_RENDERING,"true");
+        this.parallelCountQueryEnabled =                    getBooleanProperty(properties, ConfigurationProperties.PARALLEL_COUNT_QUERY,                "false");
+        this.inListPaddingEnabled =                         getBooleanProperty(properties, ConfigurationProperties.IN_LIST_PADDING,                     "false");
+        this.inListChunkSize =                              getNonNegativeIntProperty(properties, ConfigurationProperties.IN_LIST_CHUNK_SIZE,           "0");
         String inlineIdQuery =                              getProperty(properties, ConfigurationProperties.INLINE_ID_QUERY,                            "auto");
         String inlineCountQuery =                           getProperty(properties, ConfigurationProperties.INLINE_COUNT_QUERY,                         "auto");
         String inlineCtes =                                 getProperty(properties, ConfigurationProperties.INLINE_CTES,                                "auto");
@@ -136,6 +142,21 @@ public class ImmutableQueryConfiguration extends AbstractQueryConfiguration {
         return inlineCtes;
     }
 
+    @Override
+    public boolean isParallelCountQueryEnabled() {
+        return parallelCountQueryEnabled;
+    }
+
+    @Override
+    public boolean isInListPaddingEnabled() {
+        return inListPaddingEnabled;
+    }
+
+    @Override
+    public int getInListChunkSize() {
+        return inListChunkSize;
+    }
+
     @Override
     public void setCacheable(boolean cacheable) {
         throw new UnsupportedOperationException("Can't set cacheable on immutable query configuration!");
@@ -163,6 +184,9 @@ public class ImmutableQueryConfiguration extends AbstractQueryConfiguration {
             case ConfigurationProperties.INLINE_ID_QUERY: return inlineIdQuery == null ? "auto" : Boolean.toString(inlineIdQuery);
             case ConfigurationProperties.INLINE_COUNT_QUERY: return inlineIdQuery == null ? "auto" : Boolean.toString(inlineIdQuery);
             case ConfigurationProperties.INLINE_CTES: return inlineCtes == null ? "auto" : Boolean.toString(inlineCtes);
+            case ConfigurationProperties.PARALLEL_COUNT_QUERY: return Boolean.toString(parallelCountQueryEnabled);
+            case ConfigurationProperties.IN_LIST_PADDING: return Boolean.toString(inListPaddingEnabled);
+            case ConfigurationProperties.IN_LIST_CHUNK_SIZE: return Integer.toString(inListChunkSize);
             default: return null;
         }
     }
@@ -184,6 +208,9 @@ public class ImmutableQueryConfiguration extends AbstractQueryConfiguration {
         properties.put(ConfigurationProperties.INLINE_ID_QUERY, getInlineIdQueryEnabled() == null ? "auto" : Boolean.toString(getInlineIdQueryEnabled()));
         properties.put(ConfigurationProperties.INLINE_COUNT_QUERY, getInlineCountQueryEnabled() == null ? "auto" : Boolean.toString(getInlineCountQueryEnabled()));
         properties.put(ConfigurationProperties.INLINE_CTES, getInlineCtesEnabled() == null ? "auto" : Boolean.toString(getInlineCtesEnabled()));
+        properties.put(ConfigurationProperties.PARALLEL_COUNT_QUERY, Boolean.toString(parallelCountQueryEnabled));
+        properties.put(ConfigurationProperties.IN_LIST_PADDING, Boolean.toString(inListPaddingEnabled));
+        properties.put(ConfigurationProperties.IN_LIST_CHUNK_SIZE, Integer.toString(inListChunkSize));
         return properties;
     }
 
@@ -203,6 +230,20 @@ public class ImmutableQueryConfiguration extends AbstractQueryConfiguration {
         return Boolean.parseBoolean(getProperty(properties, propertyName, defaultValue));
     }
 
+    private int getNonNegativeIntProperty(Map<String, String> properties, String propertyName, String defaultValue) {
+        String value = getProperty(properties, propertyName, defaultValue);
+        int intValue;
+        try {
+            intValue = Integer.parseInt(value);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Illegal value '" + value + "' for integer property '" + propertyName + "'", ex);
+        }
+        if (intValue < 0) {
+            throw new IllegalArgumentException("Illegal negative value '" + value + "' for property '" + propertyName + "'");
+        }
+        return intValue;
+    }
+
     private String getProperty(Map<String, String> properties, String propertyName, String defaultValue) {
         String value = properties.get(propertyName);
         if (value == null) {
@@ -914,7 +914,7 @@ public class JoinManager extends AbstractManager<ExpressionModifier> {
             }
             if (associationAttribute == null) {
                 return false;
-            } else if (current.getValueType() == null && mainQuery.jpaProvider.isForeignJoinColumn((EntityType<?>) current.getManagedType(), new PathExpression(pathElements.subList(0, singleValuedAssociationNameEndIndex + 1)).toString())
+            } else if (current.getValueType() == null && associationAttribute.isForeignJoinColumn()
                     || current.getValueType() != null && mainQuery.jpaProvider.isForeignJoinColumn(current.getValueType(), current.getValuesLikeAttribute() + "." + new PathExpression(pathElements.subList(0, singleValuedAssociationNameEndIndex + 1)).toString())) {
                 // If the column is "foreign", we can't do any optimizations
                 return false;
@@ -1623,6 +1623,10 @@ public class JoinManager extends AbstractManager<ExpressionModifier> {
         return false;
     }
 
+    boolean isEmulateJoins() {
+        return emulateJoins;
+    }
+
     void setEmulateJoins(boolean emulateJoins) {
         this.emulateJoins = emulateJoins;
     }
@@ -3217,7 +3221,7 @@ public class JoinManager extends AbstractManager<ExpressionModifier> {
                             if (singleValuedAssociationNameEndIndex == -1) {
                                 // The expression ends at an association, so this can't be a single valued association id expression
                                 singleValuedAssociationNameStartIndex = -1;
-                            } else if (current.getValueType() == null && mainQuery.jpaProvider.isForeignJoinColumn((EntityType<?>) current.getManagedType(), new PathExpression(pathElements.subList(singleValuedAssociationNameStartIndex, singleValuedAssociationNameEndIndex + 1)).toString())
+                            } else if (current.getValueType() == null && associationAttribute.isForeignJoinColumn()
                                 || current.getValueType() != null && mainQuery.jpaProvider.isForeignJoinColumn(current.getValueType(), current.getValuesLikeAttribute() + "." + new PathExpression(pathElements.subList(singleValuedAssociationNameStartIndex, singleValuedAssociationNameEndIndex + 1)).toString())) {
                                 // If the column is "foreign", we can't do any optimizations
                                 singleValuedAssociationNameStartIndex = -1;
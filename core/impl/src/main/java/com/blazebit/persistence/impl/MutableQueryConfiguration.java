@@ -43,6 +43,9 @@ public class MutableQueryConfiguration extends AbstractQueryConfiguration {
     private Boolean inlineIdQuery;
     private Boolean inlineCountQuery;
     private Boolean inlineCtes;
+    private boolean parallelCountQueryEnabled;
+    private boolean inListPaddingEnabled;
+    private int inListChunkSize;
 
     public MutableQueryConfiguration(QueryConfiguration queryConfiguration) {
         this.compatibleModeEnabled = queryConfiguration.isCompatibleModeEnabled();
@@ -60,6 +63,9 @@ public class MutableQueryConfiguration extends AbstractQueryConfiguration {
         this.inlineIdQuery = queryConfiguration.getInlineIdQueryEnabled();
         this.inlineCountQuery = queryConfiguration.getInlineCountQueryEnabled();
         this.inlineCtes = queryConfiguration.getInlineCtesEnabled();
+        this.parallelCountQueryEnabled = queryConfiguration.isParallelCountQueryEnabled();
+        this.inListPaddingEnabled = queryConfiguration.isInListPaddingEnabled();
+        this.inListChunkSize = queryConfiguration.getInListChunkSize();
     }
 
     @Override
@@ -132,6 +138,21 @@ public class MutableQueryConfiguration extends AbstractQueryConfiguration {
         return inlineCtes;
     }
 
+    @Override
+    public boolean isParallelCountQueryEnabled() {
+        return parallelCountQueryEnabled;
+    }
+
+    @Override
+    public boolean isInListPaddingEnabled() {
+        return inListPaddingEnabled;
+    }
+
+    @Override
+    public int getInListChunkSize() {
+        return inListChunkSize;
+    }
+
     @Override
     public void setCacheable(boolean cacheable) {
         this.cacheable = cacheable;
@@ -161,12 +182,21 @@ public class MutableQueryConfiguration extends AbstractQueryConfiguration {
             case ConfigurationProperties.IMPLICIT_GROUP_BY_FROM_ORDER_BY:       implicitGroupByFromOrderByEnabled = booleanOrFail(propertyName, propertyValue); break;
             case ConfigurationProperties.EXPRESSION_OPTIMIZATION:               throw propertySetNotAllowed(propertyName);
             case ConfigurationProperties.EXPRESSION_CACHE_CLASS:                throw propertySetNotAllowed(propertyName);
+            case ConfigurationProperties.EXPRESSION_CACHE_MAX_SIZE:             throw propertySetNotAllowed(propertyName);
+            case ConfigurationProperties.EXPRESSION_CACHE_MAX_WEIGHT:           throw propertySetNotAllowed(propertyName);
+            case ConfigurationProperties.QUERY_TEMPLATE_CACHE_SIZE:             throw propertySetNotAllowed(propertyName);
+            case ConfigurationProperties.SQL_TEMPLATE_CACHE_SIZE:               throw propertySetNotAllowed(propertyName);
+            case ConfigurationProperties.PAGINATION_COUNT_CACHE_SIZE:           throw propertySetNotAllowed(propertyName);
+            case ConfigurationProperties.PAGINATION_COUNT_CACHE_TTL:            throw propertySetNotAllowed(propertyName);
             case ConfigurationProperties.VALUES_CLAUSE_FILTER_NULLS:            valuesClauseFilterNullsEnabled = booleanOrFail(propertyName, propertyValue); break;
             case ConfigurationProperties.PARAMETER_AS_LITERAL_RENDERING:        parameterAsLiteralRenderingEnabled = booleanOrFail(propertyName, propertyValue); break;
             case ConfigurationProperties.OPTIMIZED_KEYSET_PREDICATE_RENDERING:  optimizedKeysetPredicateRenderingEnabled = booleanOrFail(propertyName, propertyValue); break;
             case ConfigurationProperties.INLINE_ID_QUERY:                       inlineIdQuery = "auto".equalsIgnoreCase(propertyValue) ? null : booleanOrFail(propertyName, propertyValue); break;
             case ConfigurationProperties.INLINE_COUNT_QUERY:                    inlineCountQuery = "auto".equalsIgnoreCase(propertyValue) ? null : booleanOrFail(propertyName, propertyValue); break;
             case ConfigurationProperties.INLINE_CTES:                           inlineCtes = "auto".equalsIgnoreCase(propertyValue) ? null : booleanOrFail(propertyName, propertyValue); break;
+            case ConfigurationProperties.PARALLEL_COUNT_QUERY:                  parallelCountQueryEnabled = booleanOrFail(propertyName, propertyValue); break;
+            case ConfigurationProperties.IN_LIST_PADDING:                       inListPaddingEnabled = booleanOrFail(propertyName, propertyValue); break;
+            case ConfigurationProperties.IN_LIST_CHUNK_SIZE:                    inListChunkSize = nonNegativeIntOrFail(propertyName, propertyValue); break;
             default: break;
         }
         // CHECKSTYLE:ON: OneStatementPerLine
@@ -185,4 +215,17 @@ public class MutableQueryConfiguration extends AbstractQueryConfiguration {
 
         throw new IllegalArgumentException("Illegal value '" + propertyValue + "' for boolean property '" + propertyName + "'");
     }
+
+    private int nonNegativeIntOrFail(String propertyName, String propertyValue) {
+        int value;
+        try {
+            value = Integer.parseInt(propertyValue);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Illegal value '" + propertyValue + "' for integer property '" + propertyName + "'", ex);
+        }
+        if (value < 0) {
+            throw new IllegalArgumentException("Illegal negative value '" + propertyValue + "' for property '" + propertyName + "'");
+        }
+        return value;
+    }
 }
@@ -267,6 +267,18 @@ public class OrderByManager extends AbstractManager<ExpressionModifier> {
         }
     }
 
+    void appendShape(QueryShapeKeyBuilder shapeKeyBuilder) {
+        List<OrderByInfo> infos = orderByInfos;
+        int size = infos.size();
+        shapeKeyBuilder.add(size);
+        for (int i = 0; i < size; i++) {
+            final OrderByInfo orderByInfo = infos.get(i);
+            shapeKeyBuilder.add(orderByInfo.ascending);
+            shapeKeyBuilder.add(orderByInfo.nullFirst);
+            shapeKeyBuilder.add(orderByInfo.getExpression());
+        }
+    }
+
     <X> X acceptVisitor(Expression.ResultVisitor<X> v, X stopValue) {
         List<OrderByInfo> infos = orderByInfos;
         int size = infos.size();
@@ -33,6 +33,7 @@ import com.blazebit.persistence.SimpleCaseWhenStarterBuilder;
 import com.blazebit.persistence.SubqueryBuilder;
 import com.blazebit.persistence.SubqueryInitiator;
 import com.blazebit.persistence.impl.builder.object.CountExtractionObjectBuilder;
+import com.blazebit.persistence.impl.builder.object.DeferredObjectBuilder;
 import com.blazebit.persistence.impl.builder.object.DelegatingKeysetExtractionObjectBuilder;
 import com.blazebit.persistence.impl.builder.object.KeysetExtractionObjectBuilder;
 import com.blazebit.persistence.impl.function.alias.AliasFunction;
@@ -52,6 +53,7 @@ import com.blazebit.persistence.impl.query.EntityFunctionNode;
 import com.blazebit.persistence.impl.query.ObjectBuilderTypedQuery;
 import com.blazebit.persistence.impl.query.QuerySpecification;
 import com.blazebit.persistence.parser.expression.PathExpression;
+import com.blazebit.persistence.parser.predicate.Predicate;
 import com.blazebit.persistence.spi.AttributeAccessor;
 
 import javax.persistence.Parameter;
@@ -66,6 +68,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
 /**
  *
@@ -86,6 +90,7 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
     private Boolean withInlineIdQuery;
     private boolean withInlineCountQuery;
     private long maximumCount = Long.MAX_VALUE;
+    private long countEstimationThreshold = Long.MAX_VALUE;
     private int highestOffset = 0;
     private final KeysetPage keysetPage;
     private final ResolvedExpression[] identifierExpressions;
@@ -159,6 +164,7 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
         builder.withCountQuery(withCountQuery);
         builder.withForceIdQuery(withForceIdQuery);
         builder.withHighestKeysetOffset(highestOffset);
+        builder.withCountEstimation(countEstimationThreshold);
         return builder;
     }
 
@@ -261,6 +267,17 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
         return maximumCount;
     }
 
+    @Override
+    public PaginatedCriteriaBuilder<T> withCountEstimation(long threshold) {
+        this.countEstimationThreshold = threshold;
+        return this;
+    }
+
+    @Override
+    public long getCountEstimationThreshold() {
+        return countEstimationThreshold;
+    }
+
     @Override
     public PaginatedCriteriaBuilder<T> withForceIdQuery(boolean withForceIdQuery) {
         this.withForceIdQuery = withForceIdQuery;
@@ -494,6 +511,19 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
         ObjectBuilder<T> objectBuilder;
         boolean inlinedIdQuery;
         boolean inlinedCountQuery = firstResult < maximumCount && withCountQuery && withInlineCountQuery;
+        boolean plainCountQuery = !inlinedCountQuery && entityId == null && maximumCount == Long.MAX_VALUE && normalQueryMode && isEmpty(keyRestrictedLeftJoins, COUNT_QUERY_CLAUSE_EXCLUSIONS);
+        CountEstimator countEstimator = null;
+        if (countEstimationThreshold != Long.MAX_VALUE && plainCountQuery && cbf.getExtendedQuerySupport() != null && cbf.getExtendedQuerySupport().supportsAdvancedSql()) {
+            countEstimator = new CountEstimator(em, cbf.getExtendedQuerySupport(), mainQuery.dbmsDialect, cbf.getDbmsServerVersion(em), countEstimationThreshold);
+        }
+        ParallelCountQuery parallelCountQuery = null;
+        // The count estimation is cheap, so the parallel count query is only used for the exact count
+        if (mainQuery.getQueryConfiguration().isParallelCountQueryEnabled() && plainCountQuery && countEstimator == null) {
+            if (cbf.getParallelQueryExecutor() == null) {
+                throw new IllegalStateException("The parallel count query execution is enabled but no executor was configured via CriteriaBuilderConfiguration.withParallelQueryExecution!");
+            }
+            parallelCountQuery = new ParallelCountQuery(cbf.getParallelQueryExecutor(), cbf.getSecondaryEntityManagerProvider(), em, mainQuery.jpaProvider, countQueryString, isCacheable());
+        }
         if (!isWithInlineIdQuery() && (hasCollections || withForceIdQuery)) {
             String idQueryString = getPageIdQueryStringWithoutCheck();
             if (normalQueryMode) {
@@ -541,7 +571,11 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
                 keysetPage,
                 forceFirstResult,
                 inlinedIdQuery,
-                inlinedCountQuery
+                inlinedCountQuery,
+                parallelCountQuery,
+                cbf.getCountResultCache(),
+                countQueryString,
+                countEstimator
         );
         return query;
     }
@@ -551,6 +585,44 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
         return getQuery().getResultList();
     }
 
+    @Override
+    public Future<PagedList<T>> getResultListAsync() {
+        Executor executor = cbf.getParallelQueryExecutor();
+        if (executor == null) {
+            throw new IllegalStateException("The asynchronous query execution requires an executor to be configured via CriteriaBuilderConfiguration.withParallelQueryExecution!");
+        }
+        PaginatedTypedQueryImpl<T> query = getQuery();
+        // Only plain JPQL queries can be recreated on the secondary entity manager
+        if (mainQuery.cteManager.hasCtes() || joinManager.hasEntityFunctions() || !getKeyRestrictedLeftJoins().isEmpty() || maximumCount != Long.MAX_VALUE) {
+            throw new IllegalStateException("The asynchronous query execution is not supported for queries that require SQL rewriting e.g. because of CTEs, entity functions, VALUES clauses or a bounded count!");
+        }
+        if (countEstimationThreshold != Long.MAX_VALUE) {
+            throw new IllegalStateException("The asynchronous query execution is not supported in combination with the count estimation!");
+        }
+
+        // The object builder is applied by the retrieving thread, so the executor thread only copies the tuples
+        ObjectBuilder<T> selectObjectBuilder = selectManager.getSelectObjectBuilder();
+        ObjectBuilder<T> deferredObjectBuilder = selectObjectBuilder == null ? null : new DeferredObjectBuilder<T>();
+        String idQueryString = null;
+        Class<?> objectQueryResultType;
+        ObjectBuilder<T> objectBuilder;
+        ObjectBuilder<T> queryObjectBuilder;
+        if (!isWithInlineIdQuery() && (hasCollections || withForceIdQuery)) {
+            idQueryString = getPageIdQueryStringWithoutCheck();
+            objectQueryResultType = selectManager.getExpectedQueryResultType();
+            objectBuilder = null;
+            queryObjectBuilder = deferredObjectBuilder;
+        } else {
+            objectQueryResultType = getObjectQueryResultType();
+            objectBuilder = createObjectBuilder(deferredObjectBuilder);
+            queryObjectBuilder = objectBuilder == null ? deferredObjectBuilder : objectBuilder;
+        }
+        AsyncPaginatedQuery<T> asyncQuery = new AsyncPaginatedQuery<>(executor, cbf.getSecondaryEntityManagerProvider(), em, mainQuery.jpaProvider, isCacheable(),
+                getPageCountQueryStringWithoutCheck(), entityId == null ? Long.class : Object[].class, idQueryString, getBaseQueryString(null, null), objectQueryResultType,
+                queryObjectBuilder, objectBuilder, selectObjectBuilder);
+        return asyncQuery.submit(query);
+    }
+
     @Override
     public String getCountQueryString() {
         return getPageCountQueryString();
@@ -830,14 +902,7 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
     @SuppressWarnings("unchecked")
     private Map.Entry<TypedQuery<T>, ObjectBuilder<T>> getObjectQuery(boolean normalQueryMode, Set<JoinNode> keyRestrictedLeftJoins, List<JoinNode> entityFunctions) {
         String queryString = getBaseQueryString(null, null);
-        Class<?> expectedResultType;
-
-        // When the keyset is included the query obviously produces an array
-        if (keysetExtraction || firstResult < maximumCount && withCountQuery && withInlineCountQuery) {
-            expectedResultType = Object[].class;
-        } else {
-            expectedResultType = selectManager.getExpectedQueryResultType();
-        }
+        Class<?> expectedResultType = getObjectQueryResultType();
 
         Set<ClauseType> clauseExclusions;
         if (isWithInlineIdQuery() && (hasCollections || withForceIdQuery)) {
@@ -908,20 +973,10 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
             }
         }
 
-        ObjectBuilder<T> objectBuilder = null;
         ObjectBuilder<T> transformerObjectBuilder = selectManager.getSelectObjectBuilder();
-        boolean inlinedCountQuery = firstResult < maximumCount && withCountQuery && withInlineCountQuery;
-
-        if (keysetExtraction) {
-            if (transformerObjectBuilder == null) {
-                objectBuilder = new KeysetExtractionObjectBuilder<T>(keysetToSelectIndexMapping, keysetMode, maxResults, highestOffset, selectManager.getExpectedQueryResultType() != Object[].class, withExtractAllKeysets, inlinedCountQuery);
-            } else {
-                objectBuilder = new DelegatingKeysetExtractionObjectBuilder<T>(transformerObjectBuilder, keysetToSelectIndexMapping, keysetMode, maxResults, highestOffset, withExtractAllKeysets, inlinedCountQuery);
-            }
-
+        ObjectBuilder<T> objectBuilder = createObjectBuilder(transformerObjectBuilder);
+        if (objectBuilder != null) {
             transformerObjectBuilder = objectBuilder;
-        } else if (inlinedCountQuery && transformerObjectBuilder != null) {
-            transformerObjectBuilder = objectBuilder = new CountExtractionObjectBuilder<>(transformerObjectBuilder);
         }
 
         if (transformerObjectBuilder != null) {
@@ -931,6 +986,29 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
         return new AbstractMap.SimpleEntry<TypedQuery<T>, ObjectBuilder<T>>(query, objectBuilder);
     }
 
+    private Class<?> getObjectQueryResultType() {
+        // When the keyset is included the query obviously produces an array
+        if (keysetExtraction || firstResult < maximumCount && withCountQuery && withInlineCountQuery) {
+            return Object[].class;
+        } else {
+            return selectManager.getExpectedQueryResultType();
+        }
+    }
+
+    private ObjectBuilder<T> createObjectBuilder(ObjectBuilder<T> transformerObjectBuilder) {
+        boolean inlinedCountQuery = firstResult < maximumCount && withCountQuery && withInlineCountQuery;
+        if (keysetExtraction) {
+            if (transformerObjectBuilder == null) {
+                return new KeysetExtractionObjectBuilder<T>(keysetToSelectIndexMapping, keysetMode, maxResults, highestOffset, selectManager.getExpectedQueryResultType() != Object[].class, withExtractAllKeysets, inlinedCountQuery);
+            } else {
+                return new DelegatingKeysetExtractionObjectBuilder<T>(transformerObjectBuilder, keysetToSelectIndexMapping, keysetMode, maxResults, highestOffset, withExtractAllKeysets, inlinedCountQuery);
+            }
+        } else if (inlinedCountQuery && transformerObjectBuilder != null) {
+            return new CountExtractionObjectBuilder<>(transformerObjectBuilder);
+        }
+        return null;
+    }
+
     private TypedQuery<Object[]> getIdQuery(String idQueryString, boolean normalQueryMode, Set<JoinNode> keyRestrictedLeftJoins, List<JoinNode> entityFunctions) {
         if (normalQueryMode && isEmpty(keyRestrictedLeftJoins, ID_QUERY_CLAUSE_EXCLUSIONS)) {
             TypedQuery<Object[]> idQuery = em.createQuery(idQueryString, Object[].class);
@@ -1525,6 +1603,11 @@ public class PaginatedCriteriaBuilderImpl<T> extends AbstractFullQueryBuilder<T,
         throw new IllegalStateException("Calling having() on a PaginatedCriteriaBuilder is not allowed.");
     }
 
+    @Override
+    public void setHavingPredicate(Predicate predicate) {
+        throw new IllegalStateException("Calling having() on a PaginatedCriteriaBuilder is not allowed.");
+    }
+
     @Override
     public MultipleSubqueryInitiator<PaginatedCriteriaBuilder<T>> setHavingExpressionSubqueries(String expression) {
         throw new IllegalStateException("Calling having() on a PaginatedCriteriaBuilder is not allowed.");
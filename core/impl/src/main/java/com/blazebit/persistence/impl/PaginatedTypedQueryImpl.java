@@ -48,6 +48,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Future;
 
 /**
  * @author Christian Beikov
@@ -78,9 +79,14 @@ public class PaginatedTypedQueryImpl<X> implements PaginatedTypedQuery<X> {
     private final boolean forceFirstResult;
     private final boolean inlinedIdQuery;
     private final boolean inlinedCountQuery;
+    private final ParallelCountQuery parallelCountQuery;
+    private final CountResultCache countResultCache;
+    private final String countQueryString;
+    private final CountEstimator countEstimator;
 
     public PaginatedTypedQueryImpl(boolean withExtractAllKeysets, boolean withCount, boolean boundedCount, int highestOffset, TypedQuery<?> countQuery, TypedQuery<?> idQuery, TypedQuery<X> objectQuery, ObjectBuilder<X> objectBuilder, Set<Parameter<?>> parameters,
-                                   Object entityId, int firstResult, int pageSize, int identifierCount, boolean needsNewIdList, int[] keysetToSelectIndexMapping, KeysetMode keysetMode, KeysetPage keysetPage, boolean forceFirstResult, boolean inlinedIdQuery, boolean inlinedCountQuery) {
+                                   Object entityId, int firstResult, int pageSize, int identifierCount, boolean needsNewIdList, int[] keysetToSelectIndexMapping, KeysetMode keysetMode, KeysetPage keysetPage, boolean forceFirstResult, boolean inlinedIdQuery, boolean inlinedCountQuery,
+                                   ParallelCountQuery parallelCountQuery, CountResultCache countResultCache, String countQueryString, CountEstimator countEstimator) {
         this.withExtractAllKeysets = withExtractAllKeysets;
         this.withCount = withCount;
         this.boundedCount = boundedCount;
@@ -101,6 +107,10 @@ public class PaginatedTypedQueryImpl<X> implements PaginatedTypedQuery<X> {
         this.forceFirstResult = forceFirstResult;
         this.inlinedIdQuery = inlinedIdQuery;
         this.inlinedCountQuery = inlinedCountQuery;
+        this.parallelCountQuery = parallelCountQuery;
+        this.countResultCache = countResultCache;
+        this.countQueryString = countQueryString;
+        this.countEstimator = countEstimator;
 
         Map<String, Parameter<?>> params = new HashMap<>(parameters.size());
         for (Parameter<?> parameter : parameters) {
@@ -151,6 +161,28 @@ public class PaginatedTypedQueryImpl<X> implements PaginatedTypedQuery<X> {
         this.keysetSuffix = suffix;
     }
 
+    /**
+     * Returns a paginated query with the same configuration that executes the given equivalent queries e.g. of a different entity manager.
+     * The parallel count query and the count estimation are bound to the entity manager of this query and thus not used.
+     */
+    <Y> PaginatedTypedQueryImpl<Y> withQueries(TypedQuery<?> countQuery, TypedQuery<?> idQuery, TypedQuery<Y> objectQuery, ObjectBuilder<Y> objectBuilder) {
+        return new PaginatedTypedQueryImpl<>(withExtractAllKeysets, withCount, boundedCount, highestOffset, countQuery, idQuery, objectQuery, objectBuilder, new HashSet<>(parameters.values()),
+                entityId, firstResult, pageSize, identifierCount, needsNewIdList, keysetToSelectIndexMapping, keysetMode, keysetPage, forceFirstResult, inlinedIdQuery, inlinedCountQuery,
+                null, countResultCache, countQueryString, null);
+    }
+
+    TypedQuery<?> getCountTypedQuery() {
+        return countQuery;
+    }
+
+    TypedQuery<?> getIdTypedQuery() {
+        return idQuery;
+    }
+
+    TypedQuery<X> getObjectTypedQuery() {
+        return objectQuery;
+    }
+
     private String getParameterName(Parameter<?> parameter) {
         String name = parameter.getName();
         if (name == null) {
@@ -161,14 +193,49 @@ public class PaginatedTypedQueryImpl<X> implements PaginatedTypedQuery<X> {
 
     @Override
     public long getTotalCount() {
-        return ((Number) countQuery.getSingleResult()).longValue();
+        return ((Number) getCountQueryResult(createCountResultKey())).longValue();
+    }
+
+    private CountResultCache.Key createCountResultKey() {
+        if (countResultCache == null) {
+            return null;
+        }
+        return countResultCache.createKey(countQueryString, countQuery);
+    }
+
+    private Object getCountQueryResult(CountResultCache.Key countResultKey) {
+        Object result = null;
+        if (countResultKey != null) {
+            result = countResultCache.get(countResultKey);
+            if (result != null) {
+                return result;
+            }
+        }
+        if (countEstimator != null) {
+            result = countEstimator.estimate(countQuery);
+        }
+        if (result == null) {
+            result = countQuery.getSingleResult();
+        }
+        if (countResultKey != null) {
+            countResultCache.put(countResultKey, result);
+        }
+        return result;
+    }
+
+    private long awaitTotalSize(Future<Long> totalSizeFuture, CountResultCache.Key countResultKey) {
+        long totalSize = ParallelCountQuery.getTotalCount(totalSizeFuture);
+        if (countResultKey != null) {
+            countResultCache.put(countResultKey, totalSize);
+        }
+        return totalSize;
     }
 
     @Override
     public List<X> getPageResultList() {
         int queryFirstResult = firstResult;
         int firstRow = firstResult;
-        return getResultList(queryFirstResult, firstRow, -1L);
+        return getResultList(queryFirstResult, firstRow, -1L, null, null);
     }
 
     @Override
@@ -178,10 +245,20 @@ public class PaginatedTypedQueryImpl<X> implements PaginatedTypedQuery<X> {
         int firstRow = firstResult;
         long totalSize = -1L;
         if (withCount && !inlinedCountQuery) {
+            CountResultCache.Key countResultKey = createCountResultKey();
             if (entityId == null) {
-                totalSize = ((Number) countQuery.getSingleResult()).longValue();
+                if (parallelCountQuery != null && (countResultKey == null || countResultCache.get(countResultKey) == null)) {
+                    Future<Long> totalSizeFuture = parallelCountQuery.submit(countQuery);
+                    try {
+                        return getResultList(queryFirstResult, firstRow, totalSize, totalSizeFuture, countResultKey);
+                    } finally {
+                        // Stops the count query if the id or object query failed, a no-op otherwise
+                        totalSizeFuture.cancel(true);
+                    }
+                }
+                totalSize = ((Number) getCountQueryResult(countResultKey)).longValue();
             } else {
-                Object[] result = (Object[]) countQuery.getSingleResult();
+                Object[] result = (Object[]) getCountQueryResult(countResultKey);
                 totalSize = ((Number) result[0]).longValue();
 
                 if (result[1] == null) {
@@ -200,10 +277,10 @@ public class PaginatedTypedQueryImpl<X> implements PaginatedTypedQuery<X> {
             return new PagedArrayList<X>(null, totalSize, queryFirstResult, pageSize);
         }
 
-        return getResultList(queryFirstResult, firstRow, totalSize);
+        return getResultList(queryFirstResult, firstRow, totalSize, null, null);
     }
 
-    private PagedList<X> getResultList(int queryFirstResult, int firstRow, long totalSize) {
+    private PagedList<X> getResultList(int queryFirstResult, int firstRow, long totalSize, Future<Long> totalSizeFuture, CountResultCache.Key countResultKey) {
         if (idQuery != null) {
             idQuery.setMaxResults(pageSize);
 
@@ -216,6 +293,9 @@ public class PaginatedTypedQueryImpl<X> implements PaginatedTypedQuery<X> {
             List<?> ids = idQuery.getResultList();
 
             if (ids.isEmpty()) {
+                if (totalSizeFuture != null) {
+                    totalSize = awaitTotalSize(totalSizeFuture, countResultKey);
+                }
                 KeysetPage newKeysetPage = null;
                 if (keysetMode == KeysetMode.NEXT) {
                     // When we scroll over the last page to a non existing one, we reuse the current keyset
@@ -369,8 +449,11 @@ public class PaginatedTypedQueryImpl<X> implements PaginatedTypedQuery<X> {
                 newKeyset = new DefaultKeysetPage(firstRow, pageSize, lowest, highest, keysets);
             }
 
-            totalSize = Math.max(totalSize, firstRow + ids.size());
             List<X> queryResultList = objectQuery.getResultList();
+            if (totalSizeFuture != null) {
+                totalSize = awaitTotalSize(totalSizeFuture, countResultKey);
+            }
+            totalSize = Math.max(totalSize, firstRow + ids.size());
 
             PagedList<X> pagedResultList = new PagedArrayList<X>(queryResultList, newKeyset, totalSize, queryFirstResult, pageSize);
             return pagedResultList;
@@ -386,6 +469,9 @@ public class PaginatedTypedQueryImpl<X> implements PaginatedTypedQuery<X> {
             }
 
             List<X> result = objectQuery.getResultList();
+            if (totalSizeFuture != null) {
+                totalSize = awaitTotalSize(totalSizeFuture, countResultKey);
+            }
 
             if (result.isEmpty()) {
                 KeysetPage newKeysetPage = null;
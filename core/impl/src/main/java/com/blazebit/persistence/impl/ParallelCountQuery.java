@@ -0,0 +1,91 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.impl;
+
+import com.blazebit.persistence.spi.JpaProvider;
+import com.blazebit.persistence.spi.SecondaryEntityManagerProvider;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceException;
+import javax.persistence.TypedQuery;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Executes a count query on a secondary entity manager so that it can run concurrently to the id and object queries.
+ * The parameter values are copied from the count query of the primary entity manager at submission time.
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public final class ParallelCountQuery {
+
+    private final Executor executor;
+    private final SecondaryEntityManagerProvider secondaryEntityManagerProvider;
+    private final EntityManager primaryEntityManager;
+    private final JpaProvider jpaProvider;
+    private final String countQueryString;
+    private final boolean cacheable;
+
+    public ParallelCountQuery(Executor executor, SecondaryEntityManagerProvider secondaryEntityManagerProvider, EntityManager primaryEntityManager, JpaProvider jpaProvider, String countQueryString, boolean cacheable) {
+        this.executor = executor;
+        this.secondaryEntityManagerProvider = secondaryEntityManagerProvider;
+        this.primaryEntityManager = primaryEntityManager;
+        this.jpaProvider = jpaProvider;
+        this.countQueryString = countQueryString;
+        this.cacheable = cacheable;
+    }
+
+    public Future<Long> submit(TypedQuery<?> countQuery) {
+        final BoundQueryParameters parameters = BoundQueryParameters.of(countQuery);
+        FutureTask<Long> task = new FutureTask<>(new Callable<Long>() {
+            @Override
+            public Long call() {
+                EntityManager entityManager = secondaryEntityManagerProvider.getEntityManager(primaryEntityManager);
+                try {
+                    TypedQuery<Long> query = entityManager.createQuery(countQueryString, Long.class);
+                    if (cacheable) {
+                        jpaProvider.setCacheable(query);
+                    }
+                    parameters.bind(query);
+                    return query.getSingleResult();
+                } finally {
+                    secondaryEntityManagerProvider.releaseEntityManager(primaryEntityManager, entityManager);
+                }
+            }
+        });
+        executor.execute(task);
+        return task;
+    }
+
+    public static long getTotalCount(Future<Long> totalCountFuture) {
+        try {
+            return totalCountFuture.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new PersistenceException("Interrupted while waiting for the count query", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new PersistenceException("The count query failed", ex.getCause());
+        }
+    }
+}
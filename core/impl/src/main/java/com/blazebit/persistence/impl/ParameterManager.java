@@ -52,12 +52,17 @@ public class ParameterManager {
     private final ParameterRegistrationVisitor parameterRegistrationVisitor;
     private final ParameterUnregistrationVisitor parameterUnregistrationVisitor;
     private int positionalOffset = -1; // Records the last positional parameter index that was used
+    private MainQuery mainQuery;
 
     public ParameterManager() {
         this.parameterRegistrationVisitor = new ParameterRegistrationVisitor(this);
         this.parameterUnregistrationVisitor = new ParameterUnregistrationVisitor(this);
     }
 
+    void setMainQuery(MainQuery mainQuery) {
+        this.mainQuery = mainQuery;
+    }
+
     public ParameterRegistrationVisitor getParameterRegistrationVisitor() {
         return parameterRegistrationVisitor;
     }
@@ -188,8 +193,20 @@ public class ParameterManager {
     }
 
     void parameterizeQuery(Query q, String skippedParameterPrefix) {
-        Set<String> requestedValueParameters = new HashSet<String>();
-        for (Parameter<?> p : q.getParameters()) {
+        parameterizeQuery(q, getParameterNames(q, skippedParameterPrefix));
+    }
+
+    /**
+     * Returns the names of the parameters the query reports, positional parameters are represented by their position as string.
+     *
+     * @param q The query
+     * @param skippedParameterPrefix The prefix of parameter names to skip or <code>null</code>
+     * @return The parameter names
+     */
+    String[] getParameterNames(Query q, String skippedParameterPrefix) {
+        Set<Parameter<?>> queryParameters = q.getParameters();
+        List<String> parameterNames = new ArrayList<>(queryParameters.size());
+        for (Parameter<?> p : queryParameters) {
             String parameterName = p.getName();
             // In case of positional parameters, we convert the position to a string and look it up instead
             if (parameterName == null) {
@@ -197,6 +214,21 @@ public class ParameterManager {
             } else if (skippedParameterPrefix != null && parameterName.startsWith(skippedParameterPrefix)) {
                 continue;
             }
+            parameterNames.add(parameterName);
+        }
+        return parameterNames.toArray(new String[parameterNames.size()]);
+    }
+
+    /**
+     * Binds the parameters with the given names to the query, usually the names were determined via {@link #getParameterNames(Query, String)}.
+     *
+     * @param q The query
+     * @param parameterNames The names of the parameters to bind
+     */
+    void parameterizeQuery(Query q, String[] parameterNames) {
+        Set<String> requestedValueParameters = new HashSet<String>();
+        int inListPaddingLimit = getInListPaddingLimit();
+        for (String parameterName : parameterNames) {
             ParameterImpl<?> parameter = parameters.get(parameterName);
             if (parameter == null) {
                 String valuesParameter = valuesParameters.get(parameterName);
@@ -215,7 +247,7 @@ public class ParameterManager {
                     q.setParameter(parameterName, parameter.getValue());
                 }
             } else {
-                parameter.bind(q);
+                parameter.bind(q, inListPaddingLimit);
             }
         }
 
@@ -225,6 +257,49 @@ public class ParameterManager {
         }
     }
 
+    private int getInListPaddingLimit() {
+        if (mainQuery == null) {
+            return 0;
+        }
+        QueryConfiguration queryConfiguration = mainQuery.getQueryConfiguration();
+        if (!queryConfiguration.isInListPaddingEnabled()) {
+            return 0;
+        }
+        // Padding must not exceed the bind parameter limit of the DBMS even if chunking is disabled
+        int limit = mainQuery.dbmsDialect.getMaxBindParameters();
+        int chunkSize = queryConfiguration.getInListChunkSize();
+        return chunkSize == 0 ? limit : Math.min(chunkSize, limit);
+    }
+
+    /**
+     * Pads the given collection to the next power of two by repeating the last element, but never beyond the given limit.
+     * Collections that are already bigger than the limit are returned as is.
+     *
+     * @param values The collection to pad
+     * @param limit The maximum size of the padded collection
+     * @return The padded collection
+     */
+    static Collection<?> padCollection(Collection<?> values, int limit) {
+        int size = values.size();
+        if (size < 3) {
+            return values;
+        }
+        int paddedSize = Integer.highestOneBit(size - 1) << 1;
+        if (paddedSize <= 0 || paddedSize > limit) {
+            paddedSize = Math.max(size, limit);
+        }
+        if (paddedSize == size) {
+            return values;
+        }
+        List<Object> paddedValues = new ArrayList<>(paddedSize);
+        paddedValues.addAll(values);
+        Object lastValue = paddedValues.get(size - 1);
+        for (int i = size; i < paddedSize; i++) {
+            paddedValues.add(lastValue);
+        }
+        return paddedValues;
+    }
+
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public ParameterImpl<?> getParameter(String parameterName) {
         if (parameterName == null) {
@@ -613,6 +688,10 @@ public class ParameterManager {
         }
 
         public void bind(Query q) {
+            bind(q, 0);
+        }
+
+        void bind(Query q, int inListPaddingLimit) {
             if (valueSet) {
                 if (value instanceof ParameterValue) {
                     if (name == null) {
@@ -621,10 +700,14 @@ public class ParameterManager {
                         ((ParameterValue) value).bind(q, name);
                     }
                 } else {
+                    Object boundValue = value;
+                    if (inListPaddingLimit > 0 && collectionValued && value instanceof Collection<?>) {
+                        boundValue = padCollection((Collection<?>) value, inListPaddingLimit);
+                    }
                     if (name == null) {
-                        q.setParameter(position, value);
+                        q.setParameter(position, boundValue);
                     } else {
-                        q.setParameter(name, value);
+                        q.setParameter(name, boundValue);
                     }
                 }
             }
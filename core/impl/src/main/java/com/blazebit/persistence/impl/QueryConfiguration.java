@@ -53,6 +53,12 @@ public interface QueryConfiguration {
 
     public Boolean getInlineCtesEnabled();
 
+    public boolean isParallelCountQueryEnabled();
+
+    public boolean isInListPaddingEnabled();
+
+    public int getInListChunkSize();
+
     public String getProperty(String name);
 
     public Map<String, String> getProperties();
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.impl;
+
+import java.util.Arrays;
+
+/**
+ * A structural fingerprint of a prepared query builder. Two builders with equal keys render the same base query string.
+ * The key is a flat pre-order serialization of the join tree and the clause expressions where parameter values are abstracted.
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public final class QueryShapeKey {
+
+    private final Object[] tokens;
+    private final int hash;
+
+    QueryShapeKey(Object[] tokens) {
+        this.tokens = tokens;
+        this.hash = Arrays.hashCode(tokens);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof QueryShapeKey)) {
+            return false;
+        }
+
+        QueryShapeKey that = (QueryShapeKey) o;
+        return hash == that.hash && Arrays.equals(tokens, that.tokens);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "QueryShapeKey" + Arrays.toString(tokens);
+    }
+}
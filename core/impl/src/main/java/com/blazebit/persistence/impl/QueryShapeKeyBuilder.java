@@ -0,0 +1,459 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.impl;
+
+import com.blazebit.persistence.parser.expression.AggregateExpression;
+import com.blazebit.persistence.parser.expression.ArithmeticExpression;
+import com.blazebit.persistence.parser.expression.ArithmeticFactor;
+import com.blazebit.persistence.parser.expression.ArrayExpression;
+import com.blazebit.persistence.parser.expression.DateLiteral;
+import com.blazebit.persistence.parser.expression.EntityLiteral;
+import com.blazebit.persistence.parser.expression.EnumLiteral;
+import com.blazebit.persistence.parser.expression.Expression;
+import com.blazebit.persistence.parser.expression.FunctionExpression;
+import com.blazebit.persistence.parser.expression.GeneralCaseExpression;
+import com.blazebit.persistence.parser.expression.ListIndexExpression;
+import com.blazebit.persistence.parser.expression.MapEntryExpression;
+import com.blazebit.persistence.parser.expression.MapKeyExpression;
+import com.blazebit.persistence.parser.expression.MapValueExpression;
+import com.blazebit.persistence.parser.expression.NullExpression;
+import com.blazebit.persistence.parser.expression.NumericLiteral;
+import com.blazebit.persistence.parser.expression.ParameterExpression;
+import com.blazebit.persistence.parser.expression.PathExpression;
+import com.blazebit.persistence.parser.expression.PathReference;
+import com.blazebit.persistence.parser.expression.PropertyExpression;
+import com.blazebit.persistence.parser.expression.SimpleCaseExpression;
+import com.blazebit.persistence.parser.expression.StringLiteral;
+import com.blazebit.persistence.parser.expression.SubqueryExpression;
+import com.blazebit.persistence.parser.expression.TimeLiteral;
+import com.blazebit.persistence.parser.expression.TimestampLiteral;
+import com.blazebit.persistence.parser.expression.TreatExpression;
+import com.blazebit.persistence.parser.expression.TrimExpression;
+import com.blazebit.persistence.parser.expression.TypeFunctionExpression;
+import com.blazebit.persistence.parser.expression.VisitorAdapter;
+import com.blazebit.persistence.parser.expression.WhenClauseExpression;
+import com.blazebit.persistence.parser.predicate.BetweenPredicate;
+import com.blazebit.persistence.parser.predicate.BooleanLiteral;
+import com.blazebit.persistence.parser.predicate.CompoundPredicate;
+import com.blazebit.persistence.parser.predicate.EqPredicate;
+import com.blazebit.persistence.parser.predicate.ExistsPredicate;
+import com.blazebit.persistence.parser.predicate.GePredicate;
+import com.blazebit.persistence.parser.predicate.GtPredicate;
+import com.blazebit.persistence.parser.predicate.InPredicate;
+import com.blazebit.persistence.parser.predicate.IsEmptyPredicate;
+import com.blazebit.persistence.parser.predicate.IsNullPredicate;
+import com.blazebit.persistence.parser.predicate.LePredicate;
+import com.blazebit.persistence.parser.predicate.LikePredicate;
+import com.blazebit.persistence.parser.predicate.LtPredicate;
+import com.blazebit.persistence.parser.predicate.MemberOfPredicate;
+import com.blazebit.persistence.parser.predicate.QuantifiableBinaryExpressionPredicate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Serializes the structure of a prepared query builder into a {@link QueryShapeKey}.
+ * Every node contributes a marker, its rendering relevant attributes and the number of its children, which makes the serialization unambiguous.
+ * Parameters only contribute their name, except for the SELECT clause where the value might be rendered as literal.
+ * Anything that can't be represented like subqueries, inline CTEs or lateral joins makes the builder uncacheable.
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public class QueryShapeKeyBuilder extends VisitorAdapter implements JoinNodeVisitor {
+
+    private final ParameterManager parameterManager;
+    private final Set<JoinNode> nodesToFetch;
+    private final List<Object> tokens = new ArrayList<>();
+    private boolean cacheable = true;
+    private boolean parameterValueRelevant;
+
+    public QueryShapeKeyBuilder(ParameterManager parameterManager, Set<JoinNode> nodesToFetch) {
+        this.parameterManager = parameterManager;
+        this.nodesToFetch = nodesToFetch;
+    }
+
+    public QueryShapeKey build() {
+        if (!cacheable) {
+            return null;
+        }
+        return new QueryShapeKey(tokens.toArray());
+    }
+
+    public boolean isCacheable() {
+        return cacheable;
+    }
+
+    public void markNotCacheable() {
+        cacheable = false;
+    }
+
+    public void add(Object token) {
+        tokens.add(token);
+    }
+
+    public void add(Expression expression) {
+        if (expression == null) {
+            tokens.add(null);
+        } else {
+            expression.accept(this);
+        }
+    }
+
+    public void setParameterValueRelevant(boolean parameterValueRelevant) {
+        this.parameterValueRelevant = parameterValueRelevant;
+    }
+
+    @Override
+    public void visit(JoinNode node) {
+        if (node.isInlineCte() || node.isLateral()) {
+            cacheable = false;
+            return;
+        }
+        tokens.add(JoinNode.class);
+        tokens.add(node.getAlias());
+        tokens.add(node.getAliasInfo().isImplicit());
+        tokens.add(node.getParent() == null ? null : node.getParent().getAlias());
+        tokens.add(node.getParentTreeNode() == null ? null : node.getParentTreeNode().getRelationName());
+        tokens.add(node.getCorrelationParent() == null ? null : node.getCorrelationParent().getAlias());
+        tokens.add(node.getCorrelationPath());
+        tokens.add(node.getJavaType());
+        tokens.add(node.getTreatType() == null ? null : node.getTreatType().getJavaType());
+        tokens.add(node.getJoinType());
+        tokens.add(node.isFetch());
+        tokens.add(nodesToFetch != null && nodesToFetch.contains(node));
+        tokens.add(node.isDefaultJoinNode());
+        tokens.add(node.isCardinalityMandatory());
+        tokens.add(node.getQualificationExpression());
+        tokens.add(node.getDeReferenceFunction());
+        tokens.add(EnumSet.copyOf(node.getClauseDependencies()));
+        tokens.add(node.getValueCount());
+        if (node.getValueCount() > 0) {
+            // A VALUES clause is rendered as predicate over the values parameters of every value
+            tokens.add(node.getValuesTypeName());
+            tokens.add(node.getValuesAttributes() == null ? null : Arrays.asList(node.getValuesAttributes()));
+            tokens.add(node.getValuesLikeAttribute());
+            tokens.add(node.isValueClazzAttributeSingular());
+            tokens.add(node.isValueClazzSimpleValue());
+            tokens.add(node.getInternalEntityType().getJavaType());
+        }
+        add(node.getOnPredicate());
+    }
+
+    @Override
+    public void visit(PathExpression expression) {
+        tokens.add(PathExpression.class);
+        tokens.add(expression.isUsedInCollectionFunction());
+        tokens.add(expression.isCollectionQualifiedPath());
+        PathReference pathReference = expression.getPathReference();
+        if (pathReference == null) {
+            tokens.add(expression.getExpressions().size());
+            super.visit(expression);
+        } else {
+            tokens.add(((JoinNode) pathReference.getBaseNode()).getAlias());
+            tokens.add(pathReference.getField());
+        }
+    }
+
+    @Override
+    public void visit(PropertyExpression expression) {
+        tokens.add(PropertyExpression.class);
+        tokens.add(expression.getProperty());
+    }
+
+    @Override
+    public void visit(ParameterExpression expression) {
+        tokens.add(ParameterExpression.class);
+        tokens.add(expression.getName());
+        tokens.add(expression.isCollectionValued());
+        if (parameterValueRelevant) {
+            Object value = expression.getValue();
+            if (value == null) {
+                ParameterManager.ParameterImpl<?> parameter = parameterManager.getParameter(expression.getName());
+                value = parameter == null ? null : parameter.getValue();
+            }
+            // Only immutable values with a proper equals implementation can be part of the key
+            if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean || value instanceof Character || value instanceof Enum<?>) {
+                tokens.add(value);
+            } else {
+                cacheable = false;
+            }
+        }
+    }
+
+    @Override
+    public void visit(ArrayExpression expression) {
+        tokens.add(ArrayExpression.class);
+        super.visit(expression);
+    }
+
+    @Override
+    public void visit(TreatExpression expression) {
+        tokens.add(TreatExpression.class);
+        tokens.add(expression.getType());
+        super.visit(expression);
+    }
+
+    @Override
+    public void visit(ListIndexExpression expression) {
+        tokens.add(ListIndexExpression.class);
+        super.visit(expression);
+    }
+
+    @Override
+    public void visit(MapEntryExpression expression) {
+        tokens.add(MapEntryExpression.class);
+        super.visit(expression);
+    }
+
+    @Override
+    public void visit(MapKeyExpression expression) {
+        tokens.add(MapKeyExpression.class);
+        super.visit(expression);
+    }
+
+    @Override
+    public void visit(MapValueExpression expression) {
+        tokens.add(MapValueExpression.class);
+        super.visit(expression);
+    }
+
+    @Override
+    public void visit(NullExpression expression) {
+        tokens.add(NullExpression.class);
+    }
+
+    @Override
+    public void visit(SubqueryExpression expression) {
+        // Subqueries have their own builder state which we don't fingerprint
+        cacheable = false;
+    }
+
+    @Override
+    public void visit(FunctionExpression expression) {
+        if (expression.getWindowDefinition() != null || expression.getResolvedWindowDefinition() != null) {
+            cacheable = false;
+            return;
+        }
+        tokens.add(expression.getClass());
+        tokens.add(expression.getFunctionName());
+        if (expression instanceof AggregateExpression) {
+            tokens.add(((AggregateExpression) expression).isDistinct());
+        }
+        tokens.add(expression.getExpressions().size());
+        super.visit(expression);
+    }
+
+    @Override
+    public void visit(TypeFunctionExpression expression) {
+        visit((FunctionExpression) expression);
+    }
+
+    @Override
+    public void visit(TrimExpression expression) {
+        tokens.add(TrimExpression.class);
+        tokens.add(expression.getTrimspec());
+        tokens.add(expression.getTrimCharacter() != null);
+        super.visit(expression);
+    }
+
+    @Override
+    public void visit(GeneralCaseExpression expression) {
+        tokens.add(GeneralCaseExpression.class);
+        tokens.add(expression.getWhenClauses().size());
+        tokens.add(expression.getDefaultExpr() != null);
+        super.visit(expression);
+    }
+
+    @Override
+    public void visit(SimpleCaseExpression expression) {
+        tokens.add(SimpleCaseExpression.class);
+        super.visit(expression);
+    }
+
+    @Override
+    public void visit(WhenClauseExpression expression) {
+        tokens.add(WhenClauseExpression.class);
+        super.visit(expression);
+    }
+
+    @Override
+    public void visit(ArithmeticExpression expression) {
+        tokens.add(ArithmeticExpression.class);
+        tokens.add(expression.getOp());
+        super.visit(expression);
+    }
+
+    @Override
+    public void visit(ArithmeticFactor expression) {
+        tokens.add(ArithmeticFactor.class);
+        tokens.add(expression.isInvertSignum());
+        super.visit(expression);
+    }
+
+    @Override
+    public void visit(NumericLiteral expression) {
+        tokens.add(NumericLiteral.class);
+        tokens.add(expression.getValue());
+        tokens.add(expression.getNumericType());
+    }
+
+    @Override
+    public void visit(BooleanLiteral expression) {
+        tokens.add(BooleanLiteral.class);
+        tokens.add(expression.getValue());
+        tokens.add(expression.isNegated());
+    }
+
+    @Override
+    public void visit(StringLiteral expression) {
+        tokens.add(StringLiteral.class);
+        tokens.add(expression.getValue());
+    }
+
+    @Override
+    public void visit(DateLiteral expression) {
+        tokens.add(DateLiteral.class);
+        tokens.add(expression.getValue().getTime());
+    }
+
+    @Override
+    public void visit(TimeLiteral expression) {
+        tokens.add(TimeLiteral.class);
+        tokens.add(expression.getValue().getTime());
+    }
+
+    @Override
+    public void visit(TimestampLiteral expression) {
+        tokens.add(TimestampLiteral.class);
+        tokens.add(expression.getValue().getTime());
+    }
+
+    @Override
+    public void visit(EnumLiteral expression) {
+        tokens.add(EnumLiteral.class);
+        tokens.add(expression.getValue());
+        tokens.add(expression.getOriginalExpression());
+    }
+
+    @Override
+    public void visit(EntityLiteral expression) {
+        tokens.add(EntityLiteral.class);
+        tokens.add(expression.getValue());
+        tokens.add(expression.getOriginalExpression());
+    }
+
+    @Override
+    public void visit(CompoundPredicate predicate) {
+        tokens.add(CompoundPredicate.class);
+        tokens.add(predicate.getOperator());
+        tokens.add(predicate.isNegated());
+        tokens.add(predicate.getChildren().size());
+        super.visit(predicate);
+    }
+
+    @Override
+    public void visit(EqPredicate predicate) {
+        addQuantifiable(predicate);
+        super.visit(predicate);
+    }
+
+    @Override
+    public void visit(IsNullPredicate predicate) {
+        tokens.add(IsNullPredicate.class);
+        tokens.add(predicate.isNegated());
+        super.visit(predicate);
+    }
+
+    @Override
+    public void visit(IsEmptyPredicate predicate) {
+        tokens.add(IsEmptyPredicate.class);
+        tokens.add(predicate.isNegated());
+        super.visit(predicate);
+    }
+
+    @Override
+    public void visit(MemberOfPredicate predicate) {
+        tokens.add(MemberOfPredicate.class);
+        tokens.add(predicate.isNegated());
+        super.visit(predicate);
+    }
+
+    @Override
+    public void visit(LikePredicate predicate) {
+        tokens.add(LikePredicate.class);
+        tokens.add(predicate.isNegated());
+        tokens.add(predicate.isCaseSensitive());
+        tokens.add(predicate.getEscapeCharacter());
+        super.visit(predicate);
+    }
+
+    @Override
+    public void visit(BetweenPredicate predicate) {
+        tokens.add(BetweenPredicate.class);
+        tokens.add(predicate.isNegated());
+        super.visit(predicate);
+    }
+
+    @Override
+    public void visit(InPredicate predicate) {
+        tokens.add(InPredicate.class);
+        tokens.add(predicate.isNegated());
+        tokens.add(predicate.getRight().size());
+        super.visit(predicate);
+    }
+
+    @Override
+    public void visit(GtPredicate predicate) {
+        addQuantifiable(predicate);
+        super.visit(predicate);
+    }
+
+    @Override
+    public void visit(GePredicate predicate) {
+        addQuantifiable(predicate);
+        super.visit(predicate);
+    }
+
+    @Override
+    public void visit(LtPredicate predicate) {
+        addQuantifiable(predicate);
+        super.visit(predicate);
+    }
+
+    @Override
+    public void visit(LePredicate predicate) {
+        addQuantifiable(predicate);
+        super.visit(predicate);
+    }
+
+    @Override
+    public void visit(ExistsPredicate predicate) {
+        tokens.add(ExistsPredicate.class);
+        tokens.add(predicate.isNegated());
+        super.visit(predicate);
+    }
+
+    private void addQuantifiable(QuantifiableBinaryExpressionPredicate predicate) {
+        tokens.add(predicate.getClass());
+        tokens.add(predicate.isNegated());
+        tokens.add(predicate.getQuantifier());
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.impl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded LRU cache for rendered base query strings keyed by the {@link QueryShapeKey} of a builder.
+ * Next to the query string, a {@link QueryTemplate} remembers the parameter names the JPA provider reported for the query,
+ * so that builders of the same shape can bind their parameters without asking the query for its parameters again.
+ * Shapes for which rendering has side effects on the parameter state are remembered as uncacheable.
+ *
+ * The cache is split into independently locked segments, so that concurrent builders of different shapes don't contend on a single lock.
+ * Eviction is LRU per segment.
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public final class QueryTemplateCache {
+
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_SIZE = 64;
+    private static final QueryTemplate NOT_CACHEABLE = new QueryTemplate(null);
+
+    private final Segment[] segments;
+    private final int segmentMask;
+
+    public QueryTemplateCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Invalid max size for query template cache: " + maxSize);
+        }
+        int segmentCount = 1;
+        while (segmentCount < MAX_SEGMENTS && (segmentCount << 1) * MIN_SEGMENT_SIZE <= maxSize) {
+            segmentCount <<= 1;
+        }
+        this.segments = new Segment[segmentCount];
+        this.segmentMask = segmentCount - 1;
+        // Distribute the remainder so that the total capacity is exactly the max size
+        int segmentMaxSize = maxSize / segmentCount;
+        int remainder = maxSize % segmentCount;
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(i < remainder ? segmentMaxSize + 1 : segmentMaxSize);
+        }
+    }
+
+    private Segment segmentFor(QueryShapeKey key) {
+        int h = key.hashCode();
+        // Spread the higher bits as the segment count is small
+        h ^= (h >>> 16);
+        return segments[h & segmentMask];
+    }
+
+    /**
+     * Returns the cached query template, <code>null</code> if the shape is unknown or a template for which {@link #isNotCacheable(QueryTemplate)} is true
+     * if the shape can't be cached.
+     *
+     * @param key The shape key
+     * @return The cached query template
+     */
+    public QueryTemplate get(QueryShapeKey key) {
+        return segmentFor(key).get(key);
+    }
+
+    /**
+     * Caches the given query string for the shape and returns the template that is cached for the shape.
+     * If another thread cached a template for the shape concurrently, that template is returned.
+     *
+     * @param key The shape key
+     * @param queryString The rendered query string
+     * @return The cached query template
+     */
+    public QueryTemplate put(QueryShapeKey key, String queryString) {
+        return segmentFor(key).putIfAbsent(key, new QueryTemplate(queryString));
+    }
+
+    public void putNotCacheable(QueryShapeKey key) {
+        segmentFor(key).putIfAbsent(key, NOT_CACHEABLE);
+    }
+
+    public static boolean isNotCacheable(QueryTemplate queryTemplate) {
+        return queryTemplate == NOT_CACHEABLE;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.entries.size();
+            }
+        }
+        return size;
+    }
+
+    public long getHitCount() {
+        long hitCount = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                hitCount += segment.hitCount;
+            }
+        }
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        long missCount = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                missCount += segment.missCount;
+            }
+        }
+        return missCount;
+    }
+
+    public long getEvictionCount() {
+        long evictionCount = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                evictionCount += segment.evictionCount;
+            }
+        }
+        return evictionCount;
+    }
+
+    /**
+     * A rendered query string along with the parameter layout of the query that was created from it.
+     *
+     * @author Christian Beikov
+     * @since 1.5.0
+     */
+    public static final class QueryTemplate {
+
+        private final String queryString;
+        // Set once by the first builder that creates a query, every builder of the shape would determine the same names
+        private volatile String[] parameterNames;
+
+        QueryTemplate(String queryString) {
+            this.queryString = queryString;
+        }
+
+        public String getQueryString() {
+            return queryString;
+        }
+
+        /**
+         * Returns the names of the parameters that the JPA provider reported for the query or <code>null</code> if no query was created yet.
+         * Positional parameters are represented by their position as string.
+         *
+         * @return The parameter names
+         */
+        public String[] getParameterNames() {
+            return parameterNames;
+        }
+
+        void setParameterNames(String[] parameterNames) {
+            this.parameterNames = parameterNames;
+        }
+    }
+
+    /**
+     * An access ordered map that evicts the least recently used entry when it exceeds its max size.
+     *
+     * @author Christian Beikov
+     * @since 1.5.0
+     */
+    private static final class Segment {
+
+        private final int maxSize;
+        private final LinkedHashMap<QueryShapeKey, QueryTemplate> entries;
+        private long hitCount;
+        private long missCount;
+        private long evictionCount;
+
+        public Segment(final int maxSize) {
+            this.maxSize = maxSize;
+            this.entries = new LinkedHashMap<QueryShapeKey, QueryTemplate>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<QueryShapeKey, QueryTemplate> eldest) {
+                    if (size() > Segment.this.maxSize) {
+                        evictionCount++;
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        public synchronized QueryTemplate get(QueryShapeKey key) {
+            QueryTemplate queryTemplate = entries.get(key);
+            if (queryTemplate == null) {
+                missCount++;
+            } else {
+                hitCount++;
+            }
+            return queryTemplate;
+        }
+
+        public synchronized QueryTemplate putIfAbsent(QueryShapeKey key, QueryTemplate queryTemplate) {
+            QueryTemplate oldQueryTemplate = entries.get(key);
+            if (oldQueryTemplate != null) {
+                return oldQueryTemplate;
+            }
+            entries.put(key, queryTemplate);
+            return queryTemplate;
+        }
+    }
+}
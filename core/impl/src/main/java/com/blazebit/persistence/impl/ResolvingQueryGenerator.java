@@ -92,6 +92,8 @@ public class ResolvingQueryGenerator extends SimpleQueryGenerator {
     private Set<JoinNode> renderedJoinNodes;
     private ClauseType clauseType;
     private Map<JoinNode, Boolean> treatedJoinNodesForConstraints;
+    // Tracks whether rendering changed the parameter state, which makes the rendered query string not reusable for other builders
+    private boolean parameterStateModified;
     private final EntityMetamodel entityMetamodel;
     private final Set<String> currentlyResolvingAliases;
     private final AliasManager aliasManager;
@@ -700,6 +702,14 @@ public class ResolvingQueryGenerator extends SimpleQueryGenerator {
         this.clauseType = clauseType;
     }
 
+    public boolean isParameterStateModified() {
+        return parameterStateModified;
+    }
+
+    public void setParameterStateModified(boolean parameterStateModified) {
+        this.parameterStateModified = parameterStateModified;
+    }
+
     public boolean isExternalRepresentation() {
         return externalRepresentation;
     }
@@ -806,6 +816,7 @@ public class ResolvingQueryGenerator extends SimpleQueryGenerator {
                 String parameterName = parameterExpression.getName();
                 Map<String, List<String>> parameterAccessPaths = new HashMap<>();
                 ParameterManager.ParameterImpl<?> parameter = parameterManager.getParameter(parameterName);
+                parameterStateModified = true;
                 sb.append('(');
                 for (Attribute<?, ?> attribute : embeddableType.getAttributes()) {
                     ((JoinNode) pathReference.getBaseNode()).appendDeReference(sb, pathReference.getField() + "." + attribute.getName(), externalRepresentation);
@@ -891,6 +902,7 @@ public class ResolvingQueryGenerator extends SimpleQueryGenerator {
         ParameterExpression parameterExpression = (ParameterExpression) expression;
         ParameterManager.ParameterImpl<Object> param = (ParameterManager.ParameterImpl<Object>) parameterManager.getParameter(parameterExpression.getName());
         param.setTranformer(parameterTransformerFactory.getToIdTransformer());
+        parameterStateModified = true;
     }
 
     @Override
@@ -198,6 +198,19 @@ public class SelectManager<T> extends AbstractManager<SelectInfo> {
         }
     }
 
+    void appendShape(QueryShapeKeyBuilder shapeKeyBuilder, boolean parameterAsLiteralRendering) {
+        shapeKeyBuilder.add(distinct);
+        shapeKeyBuilder.add(selectInfos.size());
+        // Parameters in the SELECT clause are rendered as literals if possible, so the value is part of the shape
+        shapeKeyBuilder.setParameterValueRelevant(parameterAsLiteralRendering);
+        for (int i = 0; i < selectInfos.size(); i++) {
+            final SelectInfo selectInfo = selectInfos.get(i);
+            shapeKeyBuilder.add(selectInfo.alias);
+            shapeKeyBuilder.add(selectInfo.getExpression());
+        }
+        shapeKeyBuilder.setParameterValueRelevant(false);
+    }
+
     void acceptVisitor(SelectInfoVisitor v) {
         for (int i = 0; i < selectInfos.size(); i++) {
             final SelectInfo selectInfo = selectInfos.get(i);
@@ -37,12 +37,14 @@ import com.blazebit.persistence.impl.builder.expression.ExpressionBuilderEndedLi
 import com.blazebit.persistence.impl.builder.expression.SuperExpressionSubqueryBuilderListener;
 import com.blazebit.persistence.internal.RestrictionBuilderExperimental;
 import com.blazebit.persistence.parser.expression.Expression;
+import com.blazebit.persistence.parser.expression.ExpressionCopyContext;
 import com.blazebit.persistence.parser.expression.ExpressionFactory;
 import com.blazebit.persistence.parser.expression.ParameterExpression;
 import com.blazebit.persistence.parser.expression.PathExpression;
 import com.blazebit.persistence.parser.expression.SubqueryExpression;
 import com.blazebit.persistence.parser.expression.SyntaxErrorException;
 import com.blazebit.persistence.parser.predicate.BinaryExpressionPredicate;
+import com.blazebit.persistence.parser.predicate.CompoundPredicate;
 import com.blazebit.persistence.parser.predicate.EqPredicate;
 import com.blazebit.persistence.parser.predicate.GePredicate;
 import com.blazebit.persistence.parser.predicate.GtPredicate;
@@ -60,6 +62,7 @@ import com.blazebit.persistence.parser.util.TypeUtils;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 
 /**
  *
@@ -618,7 +621,30 @@ public class RestrictionBuilderImpl<T> extends PredicateAndSubqueryBuilderEndedL
         if (values == null) {
             throw new NullPointerException("values");
         }
-        return chain(new InPredicate(leftExpression, parameterManager.addParameterExpression(values, clause, subqueryInitFactory.getQueryBuilder())));
+        return chain(createInPredicate(values, false));
+    }
+
+    private Predicate createInPredicate(Collection<?> values, boolean negated) {
+        int chunkSize = subqueryInitFactory.getQueryBuilder().getQueryConfiguration().getInListChunkSize();
+        // Subqueries on the left hand side aren't chunked as that would execute the subquery multiple times
+        if (chunkSize == 0 || values.size() <= chunkSize || leftExpression instanceof SubqueryExpression) {
+            InPredicate inPredicate = new InPredicate(leftExpression, parameterManager.addParameterExpression(values, clause, subqueryInitFactory.getQueryBuilder()));
+            inPredicate.setNegated(negated);
+            return inPredicate;
+        }
+
+        // Split the values into multiple IN predicates to stay below the bind parameter limits of the DBMS
+        List<?> valueList = values instanceof List<?> ? (List<?>) values : new ArrayList<>(values);
+        int size = valueList.size();
+        List<Predicate> chunkPredicates = new ArrayList<>((size + chunkSize - 1) / chunkSize);
+        for (int i = 0; i < size; i += chunkSize) {
+            List<?> chunk = new ArrayList<>(valueList.subList(i, Math.min(i + chunkSize, size)));
+            Expression chunkLeftExpression = i == 0 ? leftExpression : leftExpression.copy(ExpressionCopyContext.EMPTY);
+            InPredicate inPredicate = new InPredicate(chunkLeftExpression, parameterManager.addParameterExpression(chunk, clause, subqueryInitFactory.getQueryBuilder()));
+            inPredicate.setNegated(negated);
+            chunkPredicates.add(inPredicate);
+        }
+        return new CompoundPredicate(negated ? CompoundPredicate.BooleanOperator.AND : CompoundPredicate.BooleanOperator.OR, chunkPredicates);
     }
 
     @Override
@@ -677,9 +703,7 @@ public class RestrictionBuilderImpl<T> extends PredicateAndSubqueryBuilderEndedL
         if (values == null) {
             throw new NullPointerException("values");
         }
-        InPredicate inPredicate = new InPredicate(leftExpression, parameterManager.addParameterExpression(values, clause, subqueryInitFactory.getQueryBuilder()));
-        inPredicate.setNegated(true);
-        return chain(inPredicate);
+        return chain(createInPredicate(values, true));
     }
 
     @Override
@@ -175,6 +175,21 @@ public class DefaultDbmsDialect implements DbmsDialect {
         return false;
     }
 
+    @Override
+    public String getServerVersionSql() {
+        return null;
+    }
+
+    @Override
+    public String getCountEstimationSql(String countSql, long serverVersion) {
+        return null;
+    }
+
+    @Override
+    public long extractCountEstimate(List<?> queryPlan) {
+        return -1L;
+    }
+
     @Override
     public String getSqlType(Class<?> castType) {
         return sqlTypes.get(castType);
@@ -512,6 +527,11 @@ public class DefaultDbmsDialect implements DbmsDialect {
         return ValuesStrategy.VALUES;
     }
 
+    @Override
+    public int getMaxBindParameters() {
+        return Short.MAX_VALUE;
+    }
+
     @Override
     public boolean needsCastParameters() {
         return true;
@@ -66,6 +66,11 @@ public class MSSQLDbmsDialect extends DefaultDbmsDialect {
         return LateralStyle.APPLY;
     }
 
+    @Override
+    public int getMaxBindParameters() {
+        return 2100;
+    }
+
     @Override
     public boolean supportsArbitraryLengthMultiset() {
         return true;
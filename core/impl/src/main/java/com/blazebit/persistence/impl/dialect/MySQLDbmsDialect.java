@@ -149,6 +149,11 @@ public class MySQLDbmsDialect extends DefaultDbmsDialect {
         return ValuesStrategy.SELECT_UNION;
     }
 
+    @Override
+    public int getMaxBindParameters() {
+        return 65535;
+    }
+
     @Override
     public boolean needsCastParameters() {
         return false;
@@ -229,6 +229,11 @@ public class OracleDbmsDialect extends DefaultDbmsDialect {
         return ValuesStrategy.SELECT_UNION;
     }
 
+    @Override
+    public int getMaxBindParameters() {
+        return 65535;
+    }
+
     @Override
     public String getDummyTable() {
         return "dual";
@@ -33,6 +33,12 @@ import com.blazebit.persistence.spi.SetOperationType;
  */
 public class PostgreSQLDbmsDialect extends DefaultDbmsDialect {
 
+    /**
+     * The server version since which <code>EXPLAIN (GENERIC_PLAN)</code> is supported.
+     */
+    private static final long GENERIC_PLAN_SERVER_VERSION = 160000L;
+    private static final String WORKERS_PLANNED = "Workers Planned: ";
+
     public PostgreSQLDbmsDialect() {
     }
 
@@ -275,4 +281,196 @@ public class PostgreSQLDbmsDialect extends DefaultDbmsDialect {
     public boolean supportsArbitraryLengthMultiset() {
         return true;
     }
+
+    @Override
+    public String getServerVersionSql() {
+        return "select current_setting('server_version_num')";
+    }
+
+    @Override
+    public String getCountEstimationSql(String countSql, long serverVersion) {
+        StringBuilder sb = new StringBuilder(countSql.length() + 32);
+        int parameterCount = replaceParameterMarkers(countSql, sb);
+        if (parameterCount == 0) {
+            sb.insert(0, "EXPLAIN ");
+        } else if (serverVersion >= GENERIC_PLAN_SERVER_VERSION) {
+            sb.insert(0, "EXPLAIN (GENERIC_PLAN) ");
+        } else {
+            // Before PostgreSQL 16 a plan can't be created for unbound parameters
+            return null;
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Copies the SQL to the string builder while replacing JDBC parameter markers with positional parameters.
+     * Markers within string literals, quoted identifiers and comments are retained as well as the JDBC escaped question mark operators.
+     *
+     * @param sql The SQL with JDBC parameter markers
+     * @param sb The string builder to append to
+     * @return The number of replaced parameter markers
+     */
+    static int replaceParameterMarkers(String sql, StringBuilder sb) {
+        int parameterCount = 0;
+        int length = sql.length();
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            int end;
+            switch (c) {
+                case '\'':
+                    end = skipQuoted(sql, i, '\'', isEscapeStringPrefix(sql, i));
+                    break;
+                case '"':
+                    end = skipQuoted(sql, i, '"', false);
+                    break;
+                case '$':
+                    end = skipDollarQuoted(sql, i);
+                    break;
+                case '-':
+                    end = i + 1 < length && sql.charAt(i + 1) == '-' ? skipLineComment(sql, i) : i + 1;
+                    break;
+                case '/':
+                    end = i + 1 < length && sql.charAt(i + 1) == '*' ? skipBlockComment(sql, i) : i + 1;
+                    break;
+                case '?':
+                    if (i + 1 < length && sql.charAt(i + 1) == '?') {
+                        // A JDBC escaped question mark operator like ?? or ??| stays as it is
+                        end = i + 2;
+                    } else if (i + 1 < length && (sql.charAt(i + 1) == '&' || sql.charAt(i + 1) == '|' && (i + 2 == length || sql.charAt(i + 2) != '|'))) {
+                        // The jsonb operators ?& and ?| but not a parameter followed by the concatenation operator
+                        end = i + 2;
+                    } else {
+                        sb.append('$').append(++parameterCount);
+                        i++;
+                        continue;
+                    }
+                    break;
+                default:
+                    end = i + 1;
+                    break;
+            }
+            sb.append(sql, i, end);
+            i = end;
+        }
+        return parameterCount;
+    }
+
+    private static boolean isEscapeStringPrefix(String sql, int quoteIndex) {
+        if (quoteIndex == 0) {
+            return false;
+        }
+        char prefix = sql.charAt(quoteIndex - 1);
+        return (prefix == 'E' || prefix == 'e') && (quoteIndex == 1 || !isIdentifierPart(sql.charAt(quoteIndex - 2)));
+    }
+
+    private static int skipQuoted(String sql, int start, char quote, boolean backslashEscapes) {
+        int length = sql.length();
+        int i = start + 1;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (backslashEscapes && c == '\\') {
+                i += 2;
+            } else if (c == quote) {
+                // A doubled quote is an escaped quote
+                if (i + 1 < length && sql.charAt(i + 1) == quote) {
+                    i += 2;
+                } else {
+                    return i + 1;
+                }
+            } else {
+                i++;
+            }
+        }
+        return length;
+    }
+
+    private static int skipDollarQuoted(String sql, int start) {
+        int length = sql.length();
+        // A dollar sign within an identifier or a positional parameter doesn't start a dollar quoted string
+        if (start > 0 && isIdentifierPart(sql.charAt(start - 1)) || start + 1 < length && Character.isDigit(sql.charAt(start + 1))) {
+            return start + 1;
+        }
+        int tagEnd = start + 1;
+        while (tagEnd < length && isIdentifierPart(sql.charAt(tagEnd)) && sql.charAt(tagEnd) != '$') {
+            tagEnd++;
+        }
+        if (tagEnd == length || sql.charAt(tagEnd) != '$') {
+            return start + 1;
+        }
+        String tag = sql.substring(start, tagEnd + 1);
+        int end = sql.indexOf(tag, tagEnd + 1);
+        return end == -1 ? length : end + tag.length();
+    }
+
+    private static int skipLineComment(String sql, int start) {
+        int end = sql.indexOf('\n', start);
+        return end == -1 ? sql.length() : end + 1;
+    }
+
+    private static int skipBlockComment(String sql, int start) {
+        int length = sql.length();
+        int depth = 0;
+        int i = start;
+        while (i + 1 < length) {
+            char c = sql.charAt(i);
+            char next = sql.charAt(i + 1);
+            if (c == '/' && next == '*') {
+                depth++;
+                i += 2;
+            } else if (c == '*' && next == '/') {
+                i += 2;
+                // Block comments can be nested
+                if (--depth == 0) {
+                    return i;
+                }
+            } else {
+                i++;
+            }
+        }
+        return length;
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+
+    @Override
+    public long extractCountEstimate(List<?> queryPlan) {
+        // The root node is the aggregate node of the count query, so we use the estimate of the node that produces its input.
+        // In a parallel plan, the input of the aggregate is gathered from the workers which partially aggregate a parallel scan
+        // whose estimate is per process, so we skip the gather and partial aggregate nodes and scale the estimate
+        int nodeIndex = 0;
+        long workers = 0L;
+        for (Object row : queryPlan) {
+            String line = row.toString().trim();
+            if (line.startsWith(WORKERS_PLANNED)) {
+                workers = parseLong(line, WORKERS_PLANNED.length());
+                continue;
+            }
+            int rowsIndex = line.indexOf(" rows=");
+            if (rowsIndex == -1 || nodeIndex++ == 0) {
+                continue;
+            }
+            String node = line.startsWith("->") ? line.substring(2).trim() : line;
+            if (node.startsWith("Gather") || node.startsWith("Partial ")) {
+                continue;
+            }
+            long rows = parseLong(line, rowsIndex + " rows=".length());
+            if (node.startsWith("Parallel ")) {
+                // The leader participates in the execution as well
+                return rows * (workers + 1);
+            }
+            return rows;
+        }
+        return -1L;
+    }
+
+    private static long parseLong(String line, int start) {
+        int end = start;
+        while (end < line.length() && Character.isDigit(line.charAt(end))) {
+            end++;
+        }
+        return Long.parseLong(line.substring(start, end));
+    }
 }
@@ -17,6 +17,7 @@
 package com.blazebit.persistence.impl.query;
 
 import com.blazebit.persistence.impl.AbstractCommonQueryBuilder;
+import com.blazebit.persistence.impl.QueryShapeKey;
 import com.blazebit.persistence.impl.plan.SelectQueryPlan;
 
 import javax.persistence.Parameter;
@@ -36,8 +37,8 @@ import java.util.Set;
 public class CTEQuerySpecification extends CustomQuerySpecification<Object> {
 
     public CTEQuerySpecification(AbstractCommonQueryBuilder<?, ?, ?, ?, ?> commonQueryBuilder, Query baseQuery, Set<Parameter<?>> parameters, Set<String> parameterListNames, String limit, String offset,
-                                 List<String> keyRestrictedLeftJoinAliases, List<EntityFunctionNode> entityFunctionNodes) {
-        super(commonQueryBuilder, baseQuery, parameters, parameterListNames, limit, offset, keyRestrictedLeftJoinAliases, entityFunctionNodes, false, Collections.EMPTY_LIST, false);
+                                 List<String> keyRestrictedLeftJoinAliases, List<EntityFunctionNode> entityFunctionNodes, QueryShapeKey queryShapeKey) {
+        super(commonQueryBuilder, baseQuery, parameters, parameterListNames, limit, offset, keyRestrictedLeftJoinAliases, entityFunctionNodes, false, Collections.EMPTY_LIST, false, queryShapeKey);
     }
 
     @Override
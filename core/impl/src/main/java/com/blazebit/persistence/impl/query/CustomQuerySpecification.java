@@ -17,6 +17,7 @@
 package com.blazebit.persistence.impl.query;
 
 import com.blazebit.persistence.impl.AbstractCommonQueryBuilder;
+import com.blazebit.persistence.impl.QueryShapeKey;
 import com.blazebit.persistence.impl.function.entity.EntityFunction;
 import com.blazebit.persistence.impl.plan.CustomSelectQueryPlan;
 import com.blazebit.persistence.impl.plan.ModificationQueryPlan;
@@ -33,6 +34,7 @@ import javax.persistence.EntityManager;
 import javax.persistence.Parameter;
 import javax.persistence.Query;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -40,6 +42,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 /**
  *
@@ -52,6 +55,7 @@ public class CustomQuerySpecification<T> implements QuerySpecification<T> {
     protected final DbmsDialect dbmsDialect;
     protected final ServiceProvider serviceProvider;
     protected final ExtendedQuerySupport extendedQuerySupport;
+    protected final SqlTemplateCache sqlTemplateCache;
 
     protected final DbmsStatementType statementType;
     protected final Query baseQuery;
@@ -65,6 +69,7 @@ public class CustomQuerySpecification<T> implements QuerySpecification<T> {
     protected final boolean recursive;
     protected final List<CTENode> ctes;
     protected final boolean shouldRenderCtes;
+    protected final QueryShapeKey queryShapeKey;
 
     protected boolean dirty;
     protected String sql;
@@ -73,10 +78,17 @@ public class CustomQuerySpecification<T> implements QuerySpecification<T> {
 
     public CustomQuerySpecification(AbstractCommonQueryBuilder<?, ?, ?, ?, ?> commonQueryBuilder, Query baseQuery, Set<Parameter<?>> parameters, Set<String> listParameters, String limit, String offset,
                                     List<String> keyRestrictedLeftJoinAliases, List<EntityFunctionNode> entityFunctionNodes, boolean recursive, List<CTENode> ctes, boolean shouldRenderCtes) {
+        this(commonQueryBuilder, baseQuery, parameters, listParameters, limit, offset, keyRestrictedLeftJoinAliases, entityFunctionNodes, recursive, ctes, shouldRenderCtes, null);
+    }
+
+    public CustomQuerySpecification(AbstractCommonQueryBuilder<?, ?, ?, ?, ?> commonQueryBuilder, Query baseQuery, Set<Parameter<?>> parameters, Set<String> listParameters, String limit, String offset,
+                                    List<String> keyRestrictedLeftJoinAliases, List<EntityFunctionNode> entityFunctionNodes, boolean recursive, List<CTENode> ctes, boolean shouldRenderCtes,
+                                    QueryShapeKey queryShapeKey) {
         this.em = commonQueryBuilder.getEntityManager();
         this.dbmsDialect = commonQueryBuilder.getService(DbmsDialect.class);
         this.serviceProvider = commonQueryBuilder;
         this.extendedQuerySupport = commonQueryBuilder.getService(ExtendedQuerySupport.class);
+        this.sqlTemplateCache = commonQueryBuilder.getService(SqlTemplateCache.class);
         this.statementType = commonQueryBuilder.getStatementType();
         this.baseQuery = baseQuery;
         this.parameters = parameters;
@@ -93,6 +105,7 @@ public class CustomQuerySpecification<T> implements QuerySpecification<T> {
         this.recursive = recursive;
         this.ctes = ctes;
         this.shouldRenderCtes = shouldRenderCtes;
+        this.queryShapeKey = queryShapeKey;
         this.dirty = true;
     }
 
@@ -280,25 +293,70 @@ public class CustomQuerySpecification<T> implements QuerySpecification<T> {
             return null;
         }
 
+        replaceCteSubselects(sb);
+        sb.append(" ");
+
+        applyCteNames(sqlSb, baseQuery, tableNameRemapping);
+        return sb;
+    }
+
+    private void applyCteNames(StringBuilder sqlSb, Query baseQuery, Map<String, String> tableNameRemapping) {
+        String[] sqlAliases = new String[tableNameRemapping.size()];
+        String[] newCteNames = new String[sqlAliases.length];
+        int i = 0;
+        for (Map.Entry<String, String> tableNameRemappingEntry : tableNameRemapping.entrySet()) {
+            sqlAliases[i] = extendedQuerySupport.getSqlAlias(em, baseQuery, tableNameRemappingEntry.getKey());
+            newCteNames[i] = tableNameRemappingEntry.getValue();
+            i++;
+        }
+
+        Object baseQueryKey = getBaseQueryKey();
+        if (baseQueryKey == null) {
+            applyCteNames(sqlSb, sqlAliases, newCteNames);
+            return;
+        }
+
+        // The new CTE names are slots of the template, everything else that influences the rewrite is part of the key
+        // The SQL at this point already contains the VALUES clauses, so the rewrites that inserted them are part of the key as well
+        List<String> cteNames = new ArrayList<>(ctes.size());
+        for (CTENode cteInfo : ctes) {
+            cteNames.add(cteInfo.getEntityName());
+        }
+        List<String> valuesClauses = new ArrayList<>(entityFunctionNodes.size());
+        for (EntityFunctionNode node : entityFunctionNodes) {
+            valuesClauses.add(node.getSubquery());
+        }
+        List<Object> key = Arrays.<Object>asList(baseQueryKey, getSqlTransformationKey(), valuesClauses, cteNames, Arrays.asList(sqlAliases));
+        SqlTemplate template = sqlTemplateCache.get(key);
+        if (template == null) {
+            String[] slots = new String[newCteNames.length];
+            for (int j = 0; j < slots.length; j++) {
+                slots[j] = SqlTemplate.slot(j);
+            }
+            applyCteNames(sqlSb, sqlAliases, slots);
+            template = SqlTemplate.compile(sqlSb);
+            sqlTemplateCache.put(key, template);
+        }
+
+        sqlSb.setLength(0);
+        template.appendTo(sqlSb, newCteNames);
+    }
+
+    private void applyCteNames(StringBuilder sqlSb, String[] sqlAliases, String[] newCteNames) {
+        replaceCteSubselects(sqlSb);
+        for (int i = 0; i < sqlAliases.length; i++) {
+            SqlUtils.applyTableNameRemapping(sqlSb, sqlAliases[i], newCteNames[i], null, null, false);
+        }
+    }
+
+    private void replaceCteSubselects(StringBuilder sqlSb) {
         for (CTENode cteInfo : ctes) {
             String cteName = cteInfo.getEntityName();
             // TODO: this is a hibernate specific integration detail
             // Replace the subview subselect that is generated for this cte
             final String subselect = "( select * from " + cteName + " )";
-            replaceWithCteName(sb, subselect, cteName);
             replaceWithCteName(sqlSb, subselect, cteName);
         }
-
-        sb.append(" ");
-
-        for (Map.Entry<String, String> tableNameRemappingEntry : tableNameRemapping.entrySet()) {
-            String sqlAlias = extendedQuerySupport.getSqlAlias(em, baseQuery, tableNameRemappingEntry.getKey());
-            String newCteName = tableNameRemappingEntry.getValue();
-
-            SqlUtils.applyTableNameRemapping(sqlSb, sqlAlias, newCteName, null, null, false);
-        }
-
-        return sb;
     }
 
     private void replaceWithCteName(StringBuilder sqlSb, String mainSubselect, String cteName) {
@@ -371,6 +429,58 @@ public class CustomQuerySpecification<T> implements QuerySpecification<T> {
             return new StringBuilder(sqlQuery);
         }
 
+        String[] valuesClauses = new String[entityFunctionNodes.size()];
+        for (int i = 0; i < valuesClauses.length; i++) {
+            valuesClauses[i] = entityFunctionNodes.get(i).getSubquery();
+        }
+
+        Object baseQueryKey = getBaseQueryKey();
+        if (baseQueryKey == null) {
+            return applySqlTransformations(sqlQuery, valuesClauses);
+        }
+
+        // The values clauses are slots of the template, everything else that influences the rewrite is part of the key
+        List<Object> key = Arrays.<Object>asList(baseQueryKey, getSqlTransformationKey());
+        SqlTemplate template = sqlTemplateCache.get(key);
+        if (template == null) {
+            String[] slots = new String[valuesClauses.length];
+            for (int i = 0; i < slots.length; i++) {
+                slots[i] = SqlTemplate.slot(i);
+            }
+            template = SqlTemplate.compile(applySqlTransformations(sqlQuery, slots));
+            sqlTemplateCache.put(key, template);
+        }
+
+        return template.render(valuesClauses);
+    }
+
+    /**
+     * Returns the key of the SQL that the JPA provider generates for the base query or <code>null</code> if SQL templates can't be used.
+     * Apart from the shape of the query, the SQL only depends on the sizes of the list parameters which are expanded to one parameter per element.
+     *
+     * @return The key of the base query SQL or <code>null</code>
+     */
+    private Object getBaseQueryKey() {
+        if (sqlTemplateCache == null || queryShapeKey == null) {
+            return null;
+        }
+        Map<String, Integer> listParameterSizes = new TreeMap<>();
+        for (Map.Entry<String, Collection<?>> entry : listParameters.entrySet()) {
+            listParameterSizes.put(entry.getKey(), entry.getValue().size());
+        }
+        return Arrays.<Object>asList(queryShapeKey, listParameterSizes);
+    }
+
+    private List<Object> getSqlTransformationKey() {
+        List<Object> entityFunctionKeys = new ArrayList<>(entityFunctionNodes.size());
+        for (EntityFunctionNode node : entityFunctionNodes) {
+            entityFunctionKeys.add(Arrays.<Object>asList(node.getTableAlias(), node.getAliases(), node.getEntityName(), node.getSyntheticPredicate(), node.isLateral(),
+                    node.getPluralTableJoin(), node.getPluralTableAlias(), node.getPluralCollectionTableAlias()));
+        }
+        return Arrays.<Object>asList(new ArrayList<>(keyRestrictedLeftJoinAliases), entityFunctionKeys);
+    }
+
+    private StringBuilder applySqlTransformations(String sqlQuery, String[] valuesClauses) {
         // TODO: find a better size estimate
         StringBuilder sb = new StringBuilder(sqlQuery.length() +
                 // Just a stupid estimate
@@ -388,9 +498,10 @@ public class CustomQuerySpecification<T> implements QuerySpecification<T> {
 
         LateralStyle lateralStyle = dbmsDialect.getLateralStyle();
         final String andSeparator = " and ";
-        for (EntityFunctionNode node : entityFunctionNodes) {
+        for (int i = 0; i < entityFunctionNodes.size(); i++) {
+            EntityFunctionNode node = entityFunctionNodes.get(i);
             String valuesTableSqlAlias = node.getTableAlias();
-            String valuesClause = node.getSubquery();
+            String valuesClause = valuesClauses[i];
             String valuesAliases = node.getAliases();
             String syntheticPredicate = node.getSyntheticPredicate();
             boolean useApply = node.isLateral() && lateralStyle == LateralStyle.APPLY;
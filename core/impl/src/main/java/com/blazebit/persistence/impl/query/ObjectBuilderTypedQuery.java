@@ -56,7 +56,19 @@ public class ObjectBuilderTypedQuery<X> extends TypedQueryWrapper<X> {
 
     @Override
     public List<X> getResultList() {
-        List<X> list = super.getResultList();
+        return build(builder, super.getResultList());
+    }
+
+    /**
+     * Builds the objects for the given tuples or single objects with the given object builder.
+     *
+     * @param builder The object builder
+     * @param list The tuples or single objects as returned by the JPA query
+     * @param <X> The object type
+     * @return The list of built objects
+     * @since 1.5.0
+     */
+    public static <X> List<X> build(ObjectBuilder<X> builder, List<?> list) {
         int size = list.size();
         List<X> newList = new ArrayList<X>(size);
 
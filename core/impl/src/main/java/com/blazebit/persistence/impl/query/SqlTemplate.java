@@ -0,0 +1,121 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.impl.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A SQL string compiled into literal segments and slots. Rewrites of the SQL generated by the JPA provider are
+ * run once with slot markers in place of the inserted values, so later executions only have to fill the slots.
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public final class SqlTemplate {
+
+    private static final char SLOT_MARKER = '\u0000';
+
+    private final String[] segments;
+    private final int[] slots;
+    private final int literalLength;
+
+    private SqlTemplate(String[] segments, int[] slots) {
+        this.segments = segments;
+        this.slots = slots;
+        int literalLength = 0;
+        for (String segment : segments) {
+            literalLength += segment.length();
+        }
+        this.literalLength = literalLength;
+    }
+
+    /**
+     * Returns the marker for the slot with the given index that can be used in place of a value before compiling a template.
+     *
+     * @param index The slot index
+     * @return The slot marker
+     */
+    public static String slot(int index) {
+        return SLOT_MARKER + Integer.toString(index) + SLOT_MARKER;
+    }
+
+    /**
+     * Compiles the given SQL that contains slot markers into a template.
+     *
+     * @param sql The SQL with slot markers
+     * @return The compiled template
+     */
+    public static SqlTemplate compile(CharSequence sql) {
+        List<String> segments = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        int segmentStart = 0;
+        int length = sql.length();
+        for (int i = 0; i < length; i++) {
+            if (sql.charAt(i) == SLOT_MARKER) {
+                int end = i + 1;
+                while (end < length && sql.charAt(end) != SLOT_MARKER) {
+                    end++;
+                }
+                if (end == length) {
+                    throw new IllegalArgumentException("Unterminated slot marker at index " + i + " in SQL: " + sql);
+                }
+                segments.add(sql.subSequence(segmentStart, i).toString());
+                slots.add(Integer.parseInt(sql.subSequence(i + 1, end).toString()));
+                segmentStart = end + 1;
+                i = end;
+            }
+        }
+        segments.add(sql.subSequence(segmentStart, length).toString());
+
+        int[] slotArray = new int[slots.size()];
+        for (int i = 0; i < slotArray.length; i++) {
+            slotArray[i] = slots.get(i);
+        }
+        return new SqlTemplate(segments.toArray(new String[segments.size()]), slotArray);
+    }
+
+    /**
+     * Renders the template by filling the slots with the given values.
+     *
+     * @param slotValues The slot values indexed by slot index
+     * @return The rendered SQL
+     */
+    public StringBuilder render(String[] slotValues) {
+        int length = literalLength;
+        for (int i = 0; i < slots.length; i++) {
+            length += slotValues[slots[i]].length();
+        }
+        StringBuilder sb = new StringBuilder(length);
+        appendTo(sb, slotValues);
+        return sb;
+    }
+
+    /**
+     * Appends the template to the given string builder by filling the slots with the given values.
+     *
+     * @param sb The string builder to append to
+     * @param slotValues The slot values indexed by slot index
+     */
+    public void appendTo(StringBuilder sb, String[] slotValues) {
+        sb.append(segments[0]);
+        for (int i = 0; i < slots.length; i++) {
+            sb.append(slotValues[slots[i]]);
+            sb.append(segments[i + 1]);
+        }
+    }
+}
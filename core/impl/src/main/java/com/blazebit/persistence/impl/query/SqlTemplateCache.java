@@ -0,0 +1,52 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.impl.query;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded LRU cache for {@link SqlTemplate}s keyed by the {@link com.blazebit.persistence.impl.QueryShapeKey} of the query and the shape of the rewrites applied to its SQL.
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public final class SqlTemplateCache {
+
+    private final Map<Object, SqlTemplate> cache;
+
+    public SqlTemplateCache(final int maxSize) {
+        this.cache = new LinkedHashMap<Object, SqlTemplate>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, SqlTemplate> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public synchronized SqlTemplate get(Object key) {
+        return cache.get(key);
+    }
+
+    public synchronized void put(Object key, SqlTemplate template) {
+        cache.put(key, template);
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+}
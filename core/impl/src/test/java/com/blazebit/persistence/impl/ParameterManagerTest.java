@@ -0,0 +1,107 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.impl;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public class ParameterManagerTest {
+
+    @Test
+    public void emptyCollectionIsNotPadded() {
+        List<Long> values = Collections.emptyList();
+
+        Assert.assertSame(values, ParameterManager.padCollection(values, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void smallCollectionsAreNotPadded() {
+        List<Long> one = values(1);
+        List<Long> two = values(2);
+
+        Assert.assertSame(one, ParameterManager.padCollection(one, Integer.MAX_VALUE));
+        Assert.assertSame(two, ParameterManager.padCollection(two, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void powerOfTwoSizesAreNotPadded() {
+        for (int size = 4; size <= 1024; size <<= 1) {
+            List<Long> values = values(size);
+            Assert.assertSame(values, ParameterManager.padCollection(values, Integer.MAX_VALUE));
+        }
+    }
+
+    @Test
+    public void sizesAfterPowerOfTwoArePaddedToNextPowerOfTwo() {
+        assertPadded(3, 4, Integer.MAX_VALUE);
+        for (int size = 4; size <= 1024; size <<= 1) {
+            assertPadded(size + 1, size << 1, Integer.MAX_VALUE);
+            assertPadded((size << 1) - 1, size << 1, Integer.MAX_VALUE);
+        }
+    }
+
+    @Test
+    public void paddingDoesNotExceedLimit() {
+        assertPadded(5, 6, 6);
+        assertPadded(5, 8, 8);
+
+        List<Long> values = values(10);
+        Assert.assertSame(values, ParameterManager.padCollection(values, 4));
+    }
+
+    @Test
+    public void paddingDoesNotExceedBindParameterLimit() {
+        // SQL Server allows 2100 bind parameters per statement
+        assertPadded(1500, 2048, 2100);
+        assertPadded(2050, 2100, 2100);
+
+        List<Long> values = values(70000);
+        Assert.assertSame(values, ParameterManager.padCollection(values, Short.MAX_VALUE));
+    }
+
+    private static void assertPadded(int size, int expectedSize, int limit) {
+        List<Long> values = values(size);
+        Collection<?> padded = ParameterManager.padCollection(values, limit);
+
+        Assert.assertEquals(expectedSize, padded.size());
+        List<Object> paddedValues = new ArrayList<Object>(padded);
+        Assert.assertEquals(values, paddedValues.subList(0, size));
+        // The padding repeats the last element so that the IN predicate matches the same rows
+        for (int i = size; i < expectedSize; i++) {
+            Assert.assertEquals(values.get(size - 1), paddedValues.get(i));
+        }
+    }
+
+    private static List<Long> values(int size) {
+        Long[] values = new Long[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = (long) i;
+        }
+        return Arrays.asList(values);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.impl;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public class QueryTemplateCacheTest {
+
+    @Test
+    public void leastRecentlyUsedShapeIsEvicted() {
+        QueryTemplateCache cache = new QueryTemplateCache(2);
+        cache.put(key(1), "q1");
+        cache.put(key(2), "q2");
+        // Access the first shape so that the second one is the least recently used
+        cache.get(key(1));
+        cache.put(key(3), "q3");
+
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals(1, cache.getEvictionCount());
+        Assert.assertEquals("q1", cache.get(key(1)).getQueryString());
+        Assert.assertNull(cache.get(key(2)));
+        Assert.assertEquals("q3", cache.get(key(3)).getQueryString());
+    }
+
+    @Test
+    public void segmentedCacheIsBoundedByMaxSize() {
+        QueryTemplateCache cache = new QueryTemplateCache(1000);
+        for (int i = 0; i < 5000; i++) {
+            cache.put(key(i), "q" + i);
+        }
+
+        Assert.assertEquals(1000, cache.size());
+        Assert.assertEquals(4000, cache.getEvictionCount());
+    }
+
+    @Test
+    public void differentShapesHaveDifferentTemplates() {
+        QueryTemplateCache cache = new QueryTemplateCache(16);
+        cache.put(key(1), "q1");
+        cache.put(key(2), "q2");
+
+        Assert.assertEquals("q1", cache.get(key(1)).getQueryString());
+        Assert.assertEquals("q2", cache.get(key(2)).getQueryString());
+        Assert.assertEquals(2, cache.getHitCount());
+        Assert.assertNull(cache.get(key(3)));
+        Assert.assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void firstTemplateOfShapeWins() {
+        QueryTemplateCache cache = new QueryTemplateCache(16);
+        QueryTemplateCache.QueryTemplate template = cache.put(key(1), "q1");
+        template.setParameterNames(new String[] { "param_0" });
+
+        Assert.assertSame(template, cache.put(key(1), "q1"));
+        Assert.assertArrayEquals(new String[] { "param_0" }, cache.get(key(1)).getParameterNames());
+    }
+
+    @Test
+    public void notCacheableShapeIsRemembered() {
+        QueryTemplateCache cache = new QueryTemplateCache(16);
+        cache.putNotCacheable(key(1));
+
+        Assert.assertTrue(QueryTemplateCache.isNotCacheable(cache.get(key(1))));
+        Assert.assertFalse(QueryTemplateCache.isNotCacheable(cache.put(key(2), "q2")));
+    }
+
+    private static QueryShapeKey key(int shape) {
+        return new QueryShapeKey(new Object[] { QueryTemplateCacheTest.class, shape });
+    }
+}
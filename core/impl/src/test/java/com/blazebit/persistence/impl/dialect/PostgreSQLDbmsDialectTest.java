@@ -0,0 +1,113 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.impl.dialect;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public class PostgreSQLDbmsDialectTest {
+
+    private final PostgreSQLDbmsDialect dialect = new PostgreSQLDbmsDialect();
+
+    @Test
+    public void countEstimationSqlWithoutParameters() {
+        Assert.assertEquals("EXPLAIN select count(*) from cat c", dialect.getCountEstimationSql("select count(*) from cat c", 150000L));
+    }
+
+    @Test
+    public void countEstimationSqlReplacesParameterMarkers() {
+        Assert.assertEquals(
+                "EXPLAIN (GENERIC_PLAN) select count(*) from cat c where c.name = $1 and c.tag <> '?' and c.age > $2",
+                dialect.getCountEstimationSql("select count(*) from cat c where c.name = ? and c.tag <> '?' and c.age > ?", 160000L)
+        );
+    }
+
+    @Test
+    public void countEstimationSqlWithParametersRequiresGenericPlanSupport() {
+        Assert.assertNull(dialect.getCountEstimationSql("select count(*) from cat c where c.name = ?", 150004L));
+        Assert.assertNull(dialect.getCountEstimationSql("select count(*) from cat c where c.name = ?", -1L));
+    }
+
+    @Test
+    public void parameterMarkersInQuotesAndCommentsAreRetained() {
+        assertParameterMarkers(
+                "select 'it''s ?', E'\\' ?', \"col?\"\"?\", $$ ? $$, $tag$ '?' $$ ? $tag$ -- ?\n/* ? /* ? */ ? */ $1",
+                "select 'it''s ?', E'\\' ?', \"col?\"\"?\", $$ ? $$, $tag$ '?' $$ ? $tag$ -- ?\n/* ? /* ? */ ? */ ?"
+        );
+    }
+
+    @Test
+    public void questionMarkOperatorsAreRetained() {
+        assertParameterMarkers(
+                "select c.data ?? $1, c.data ?| $2, c.data ?& $3, c.data ??| $4, $5||$6 from cat c",
+                "select c.data ?? ?, c.data ?| ?, c.data ?& ?, c.data ??| ?, ?||? from cat c"
+        );
+    }
+
+    private void assertParameterMarkers(String expected, String sql) {
+        StringBuilder sb = new StringBuilder();
+        PostgreSQLDbmsDialect.replaceParameterMarkers(sql, sb);
+        Assert.assertEquals(expected, sb.toString());
+    }
+
+    @Test
+    public void extractCountEstimateFromChildNode() {
+        long estimate = dialect.extractCountEstimate(Arrays.asList(
+                "Aggregate  (cost=20.20..20.21 rows=1 width=8)",
+                "  ->  Seq Scan on cat c  (cost=0.00..18.50 rows=680 width=0)",
+                "        Filter: (age > $2)"
+        ));
+        Assert.assertEquals(680L, estimate);
+    }
+
+    @Test
+    public void extractCountEstimateFromParallelPlan() {
+        long estimate = dialect.extractCountEstimate(Arrays.asList(
+                "Finalize Aggregate  (cost=10633.55..10633.56 rows=1 width=8)",
+                "  ->  Gather  (cost=10633.33..10633.54 rows=2 width=8)",
+                "        Workers Planned: 2",
+                "        ->  Partial Aggregate  (cost=9633.33..9633.34 rows=1 width=8)",
+                "              ->  Parallel Seq Scan on cat c  (cost=0.00..8591.67 rows=416667 width=0)",
+                "                    Filter: (age > $2)"
+        ));
+        Assert.assertEquals(1250001L, estimate);
+    }
+
+    @Test
+    public void extractCountEstimateFromGatherMergePlan() {
+        long estimate = dialect.extractCountEstimate(Arrays.asList(
+                "Aggregate  (cost=25000.00..25000.01 rows=1 width=8)",
+                "  ->  Gather Merge  (cost=20000.00..24000.00 rows=4 width=4)",
+                "        Workers Planned: 4",
+                "        ->  Parallel Index Only Scan using cat_pkey on cat c  (cost=0.42..15000.00 rows=200000 width=4)"
+        ));
+        Assert.assertEquals(1000000L, estimate);
+    }
+
+    @Test
+    public void extractCountEstimateWithoutPlan() {
+        Assert.assertEquals(-1L, dialect.extractCountEstimate(Collections.emptyList()));
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.impl.query;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public class SqlTemplateTest {
+
+    @Test
+    public void templateWithoutSlotsRendersLiteral() {
+        SqlTemplate template = SqlTemplate.compile("select e.id from entity e");
+
+        Assert.assertEquals("select e.id from entity e", template.render(new String[0]).toString());
+    }
+
+    @Test
+    public void slotsAreFilledInOrder() {
+        SqlTemplate template = SqlTemplate.compile("select * from " + SqlTemplate.slot(0) + " t join " + SqlTemplate.slot(1) + " u on t.id = u.id");
+
+        Assert.assertEquals("select * from cte1 t join cte2 u on t.id = u.id", template.render(new String[] { "cte1", "cte2" }).toString());
+    }
+
+    @Test
+    public void slotsCanBeReusedAndReordered() {
+        SqlTemplate template = SqlTemplate.compile(SqlTemplate.slot(1) + "," + SqlTemplate.slot(0) + "," + SqlTemplate.slot(1));
+
+        Assert.assertEquals("b,a,b", template.render(new String[] { "a", "b" }).toString());
+    }
+
+    @Test
+    public void slotsAtBoundariesAndAdjacentSlots() {
+        SqlTemplate template = SqlTemplate.compile(SqlTemplate.slot(0) + SqlTemplate.slot(1));
+
+        Assert.assertEquals("(values (?))x", template.render(new String[] { "(values (?))", "x" }).toString());
+        Assert.assertEquals("", template.render(new String[] { "", "" }).toString());
+    }
+
+    @Test
+    public void multiDigitSlotIndex() {
+        String[] values = new String[12];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = "v" + i;
+        }
+        SqlTemplate template = SqlTemplate.compile("x " + SqlTemplate.slot(11) + " y");
+
+        Assert.assertEquals("x v11 y", template.render(values).toString());
+    }
+
+    @Test
+    public void appendToAppendsToExistingContent() {
+        SqlTemplate template = SqlTemplate.compile("from " + SqlTemplate.slot(0));
+        StringBuilder sb = new StringBuilder("select 1 ");
+        template.appendTo(sb, new String[] { "cte" });
+
+        Assert.assertEquals("select 1 from cte", sb.toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unterminatedSlotIsRejected() {
+        SqlTemplate.compile("select " + SqlTemplate.slot(0).substring(0, 2));
+    }
+}
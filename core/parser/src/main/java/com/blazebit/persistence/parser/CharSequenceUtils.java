@@ -44,7 +44,12 @@ public final class CharSequenceUtils {
             }
             return idx;
         } else {
-            return lastIndexOf(charSequence.toString(), c, fromIndex, endIndex);
+            for (int i = endIndex; i >= fromIndex; i--) {
+                if (charSequence.charAt(i) == c) {
+                    return i;
+                }
+            }
+            return -1;
         }
     }
 
@@ -70,7 +75,12 @@ public final class CharSequenceUtils {
             }
             return idx;
         } else {
-            return indexOf(charSequence.toString(), c, fromIndex, endIndex);
+            for (int i = fromIndex; i <= endIndex; i++) {
+                if (charSequence.charAt(i) == c) {
+                    return i;
+                }
+            }
+            return -1;
         }
     }
 
@@ -92,8 +102,97 @@ public final class CharSequenceUtils {
             }
             return idx;
         } else {
-            return indexOf(charSequence.toString(), target, fromIndex, endIndex);
+            int lastStart = endIndex - target.length() + 1;
+            for (int i = fromIndex; i <= lastStart; i++) {
+                if (regionMatches(charSequence, i, target)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Returns whether the given target occurs in the char sequence at the given offset.
+     *
+     * @param charSequence The char sequence
+     * @param offset The offset into the char sequence
+     * @param target The string to compare
+     * @return whether the char sequence contains the target at the given offset
+     */
+    public static boolean regionMatches(CharSequence charSequence, int offset, String target) {
+        int length = target.length();
+        if (offset < 0 || offset + length > charSequence.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (charSequence.charAt(offset + i) != target.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses the char sequence as signed decimal int without creating an intermediate string.
+     *
+     * @param charSequence The char sequence to parse
+     * @return the parsed int
+     * @throws NumberFormatException if the char sequence is not a parsable int
+     */
+    public static int parseInt(CharSequence charSequence) {
+        long value = parseLong(charSequence);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw numberFormatException(charSequence);
         }
+        return (int) value;
+    }
+
+    /**
+     * Parses the char sequence as signed decimal long without creating an intermediate string.
+     *
+     * @param charSequence The char sequence to parse
+     * @return the parsed long
+     * @throws NumberFormatException if the char sequence is not a parsable long
+     */
+    public static long parseLong(CharSequence charSequence) {
+        int length = charSequence.length();
+        if (length == 0) {
+            throw numberFormatException(charSequence);
+        }
+        int i = 0;
+        boolean negative = false;
+        // Accumulate negatively to be able to represent Long.MIN_VALUE
+        long limit = -Long.MAX_VALUE;
+        char first = charSequence.charAt(0);
+        if (first == '-' || first == '+') {
+            if (length == 1) {
+                throw numberFormatException(charSequence);
+            }
+            if (first == '-') {
+                negative = true;
+                limit = Long.MIN_VALUE;
+            }
+            i++;
+        }
+        long multiplyLimit = limit / 10;
+        long result = 0;
+        for (; i < length; i++) {
+            int digit = charSequence.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || result < multiplyLimit) {
+                throw numberFormatException(charSequence);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw numberFormatException(charSequence);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    private static NumberFormatException numberFormatException(CharSequence charSequence) {
+        return new NumberFormatException("For input string: \"" + charSequence + "\"");
     }
 
 }
@@ -17,14 +17,15 @@
 package com.blazebit.persistence.parser;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * This is a specialized parser for the JSON structure that will be produced by the JSON functions in Blaze-Persistence.
  * The parser can only parse valid JSON that conforms to that structure. Other JSON may run into problems.
  *
+ * The JSON is parsed in a single pass. String values that contain no escape sequences are returned as {@link SubSequence}
+ * of the input, so that the consumer can decode the value directly from the input without an intermediate string.
+ *
  * @author Christian Beikov
  * @since 1.5.0
  */
@@ -35,105 +36,150 @@ public final class JsonParser {
 
     public static List<Object[]> parseStringOnly(CharSequence json, String... fields) {
         List<Object[]> list = new ArrayList<>();
-        StringBuilder sb = new StringBuilder();
-        if (json != null && json.length() != 0) {
-            Map<String, Integer> fieldMap = new HashMap<>(fields.length);
-            for (int i = 0; i < fields.length; i++) {
-                fieldMap.put(fields[i], i);
+        if (json == null || json.length() == 0) {
+            return list;
+        }
+        StringBuilder sb = null;
+        int end = json.length();
+        int i = 0;
+        while (i < end && json.charAt(i) != '[') {
+            i++;
+        }
+        i++;
+        while (i < end) {
+            char c = json.charAt(i);
+            if (c == ']') {
+                break;
+            } else if (c != '{') {
+                i++;
+                continue;
             }
-
-            int start = CharSequenceUtils.indexOf(json, '[') + 1;
-            int end = CharSequenceUtils.lastIndexOf(json, ']');
-            for (int i = start; i < end; i++) {
-                Object[] object = new Object[fields.length];
-                boolean quoteMode = false;
-                int fieldIndex = -1;
-                boolean escapes = false;
-                i = CharSequenceUtils.indexOf(json, '{', i) + 1;
-                for (; i < end; i++) {
-                    char c = json.charAt(i);
-                    if (!quoteMode) {
-                        if (c == '"') {
-                            quoteMode = true;
-                        } else if (c == '}') {
-                            break;
-                        } else if (c != ':' && c != ',' && !Character.isWhitespace(c)) {
-                            // non-string value
-                            switch (c) {
-                                case 'n':
-                                    object[fieldIndex] = null;
-                                    i += 3;
-                                    fieldIndex = -1;
-                                    escapes = false;
-                                    break;
-                                case '[':
-                                    // Nested object handling
-                                    int nestedEnd = findEnd(json, i);
-                                    object[fieldIndex] = new SubSequence(json, i, nestedEnd);
-                                    fieldIndex = -1;
-                                    i = nestedEnd - 1;
-                                    break;
-                                default:
-                                    throw new IllegalArgumentException("Non-String value unsupported! Found at: " + i);
-                            }
+            Object[] object = new Object[fields.length];
+            int fieldIndex = -1;
+            int nextFieldIndex = 0;
+            for (i++; i < end; i++) {
+                c = json.charAt(i);
+                if (c == '}') {
+                    i++;
+                    break;
+                } else if (c == '"') {
+                    int start = i + 1;
+                    if (fieldIndex == -1) {
+                        // Field names are generated and never contain escape sequences
+                        i = start;
+                        while (json.charAt(i) != '"') {
+                            i++;
                         }
+                        fieldIndex = fieldIndex(json, start, i, fields, nextFieldIndex);
+                        nextFieldIndex = fieldIndex + 1;
                     } else {
-                        if (c == '\\') {
-                            escapes = true;
-                            c = json.charAt(++i);
-                            switch (c) {
-                                case 'b':
-                                    c = '\b';
-                                    break;
-                                case 'f':
-                                    c = '\f';
-                                    break;
-                                case 'r':
-                                    c = '\r';
-                                    break;
-                                case 'n':
-                                    c = '\n';
-                                    break;
-                                case 't':
-                                    c = '\t';
-                                    break;
-                                case 'u':
-                                    c = (char) Integer.parseInt(json.subSequence(i + 1, i + 5).toString(), 16);
-                                    i += 4;
-                                    break;
-                                case '"':
-                                case '\\':
-                                case '/':
-                                    break;
-                                default:
-                                    throw new IllegalStateException("Unexpected escape sequence at position: " + i);
-                            }
-                            sb.append(c);
-                        } else if (c == '"') {
-                            if (fieldIndex == -1) {
-                                fieldIndex = fieldMap.get(sb.toString());
-                            } else {
-                                if (escapes) {
-                                    object[fieldIndex] = sb.toString();
-                                } else {
-                                    object[fieldIndex] = new SubSequence(json, i - sb.length(), i);
+                        int segmentStart = start;
+                        boolean escapes = false;
+                        for (i = start; (c = json.charAt(i)) != '"'; i++) {
+                            if (c == '\\') {
+                                if (!escapes) {
+                                    escapes = true;
+                                    if (sb == null) {
+                                        sb = new StringBuilder();
+                                    } else {
+                                        sb.setLength(0);
+                                    }
                                 }
-                                fieldIndex = -1;
-                                escapes = false;
+                                sb.append(json, segmentStart, i);
+                                i = unescape(json, i + 1, sb);
+                                segmentStart = i + 1;
                             }
-                            sb.setLength(0);
-                            quoteMode = false;
+                        }
+                        if (escapes) {
+                            sb.append(json, segmentStart, i);
+                            object[fieldIndex] = sb.toString();
                         } else {
-                            sb.append(c);
+                            object[fieldIndex] = new SubSequence(json, start, i);
                         }
+                        fieldIndex = -1;
+                    }
+                } else if (fieldIndex != -1 && c != ':' && !Character.isWhitespace(c)) {
+                    // non-string value
+                    switch (c) {
+                        case 'n':
+                            object[fieldIndex] = null;
+                            i += 3;
+                            break;
+                        case '[':
+                            // Nested object handling
+                            int nestedEnd = findEnd(json, i);
+                            object[fieldIndex] = new SubSequence(json, i, nestedEnd);
+                            i = nestedEnd - 1;
+                            break;
+                        default:
+                            throw new IllegalArgumentException("Non-String value unsupported! Found at: " + i);
                     }
+                    fieldIndex = -1;
                 }
-                list.add(object);
             }
+            list.add(object);
         }
         return list;
     }
 
+    private static int fieldIndex(CharSequence json, int start, int end, String[] fields, int expectedIndex) {
+        // Fields are usually rendered in the requested order, so try the expected field first
+        if (expectedIndex < fields.length && matches(json, start, end, fields[expectedIndex])) {
+            return expectedIndex;
+        }
+        for (int i = 0; i < fields.length; i++) {
+            if (matches(json, start, end, fields[i])) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unexpected field at position: " + start);
+    }
+
+    private static boolean matches(CharSequence json, int start, int end, String field) {
+        return field.length() == end - start && CharSequenceUtils.regionMatches(json, start, field);
+    }
+
+    private static int unescape(CharSequence json, int i, StringBuilder sb) {
+        char c = json.charAt(i);
+        switch (c) {
+            case 'b':
+                c = '\b';
+                break;
+            case 'f':
+                c = '\f';
+                break;
+            case 'r':
+                c = '\r';
+                break;
+            case 'n':
+                c = '\n';
+                break;
+            case 't':
+                c = '\t';
+                break;
+            case 'u':
+                int codePoint = 0;
+                for (int j = 1; j < 5; j++) {
+                    int digit = Character.digit(json.charAt(i + j), 16);
+                    if (digit == -1) {
+                        throw new IllegalStateException("Unexpected escape sequence at position: " + i);
+                    }
+                    codePoint = (codePoint << 4) | digit;
+                }
+                c = (char) codePoint;
+                i += 4;
+                break;
+            case '"':
+            case '\\':
+            case '/':
+                break;
+            default:
+                throw new IllegalStateException("Unexpected escape sequence at position: " + i);
+        }
+        sb.append(c);
+        return i;
+    }
+
     private static int findEnd(CharSequence json, int i) {
         int arrayLevel = 1;
         int end = json.length();
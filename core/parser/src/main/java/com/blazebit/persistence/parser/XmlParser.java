@@ -17,14 +17,15 @@
 package com.blazebit.persistence.parser;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * This is a specialized parser for the XML structure that will be produced by the XML functions in Blaze-Persistence.
  * The parser can only parse valid XML that conforms to that structure. Other XML may run into problems.
  *
+ * The XML is parsed in a single pass. Element contents that contain no entity references are returned as {@link SubSequence}
+ * of the input, so that the consumer can decode the value directly from the input without an intermediate string.
+ *
  * @author Christian Beikov
  * @since 1.5.0
  */
@@ -35,76 +36,92 @@ public final class XmlParser {
 
     public static List<Object[]> parse(CharSequence xml, String... fields) {
         List<Object[]> list = new ArrayList<>();
-        StringBuilder sb = new StringBuilder();
-        if (xml != null && xml.length() != 0) {
-            Map<String, Integer> fieldMap = new HashMap<>(fields.length);
-            for (int i = 0; i < fields.length; i++) {
-                fieldMap.put(fields[i], i);
-            }
-
-            for (int i = 0; i < xml.length(); i++) {
-                Object[] object = new Object[fields.length];
-                boolean key = true;
-                boolean escape = false;
-                int fieldIndex = -1;
-                i = CharSequenceUtils.indexOf(xml, "<e>", i) + 3;
-                LOOP: for (; i < xml.length(); i++) {
-                    char c = xml.charAt(i);
-                    switch (c) {
-                        case '<':
-                            int endIndex = CharSequenceUtils.indexOf(xml, '>', i);
-                            if (key) {
-                                if (xml.charAt(i + 1) == '/') {
-                                    i = endIndex;
-                                    break LOOP;
-                                }
-                                String tag = xml.subSequence(i + 1, endIndex).toString();
-                                fieldIndex = fieldMap.get(tag);
-                                i = endIndex;
-                                key = false;
+        if (xml == null || xml.length() == 0) {
+            return list;
+        }
+        StringBuilder sb = null;
+        int end = xml.length();
+        int i = 0;
+        while ((i = CharSequenceUtils.indexOf(xml, "<e>", i)) != -1) {
+            Object[] object = new Object[fields.length];
+            int nextFieldIndex = 0;
+            i += 3;
+            while (i < end) {
+                if (xml.charAt(i) != '<') {
+                    throw new IllegalStateException("Unexpected content at position: " + i);
+                }
+                int tagEnd = CharSequenceUtils.indexOf(xml, '>', i);
+                if (xml.charAt(i + 1) == '/') {
+                    i = tagEnd + 1;
+                    break;
+                }
+                int fieldIndex = fieldIndex(xml, i + 1, tagEnd, fields, nextFieldIndex);
+                nextFieldIndex = fieldIndex + 1;
+                int start = tagEnd + 1;
+                int segmentStart = start;
+                boolean escapes = false;
+                char c;
+                for (i = start; (c = xml.charAt(i)) != '<'; i++) {
+                    if (c == '&') {
+                        if (!escapes) {
+                            escapes = true;
+                            if (sb == null) {
+                                sb = new StringBuilder();
                             } else {
-                                String tag = xml.subSequence(i + 2, endIndex).toString();
-                                if (xml.charAt(i + 1) != '/' || !tag.equals(fields[fieldIndex])) {
-                                    throw new IllegalStateException("Unexpected tag at position: " + i);
-                                }
-                                if (escape) {
-                                    object[fieldIndex] = sb.toString();
-                                } else {
-                                    object[fieldIndex] = new SubSequence(xml, i - sb.length(), i);
-                                }
-                                key = true;
-                                fieldIndex = -1;
-                                i = endIndex;
+                                sb.setLength(0);
                             }
-                            sb.setLength(0);
-                            break;
-                        case '&':
-                            escape = true;
-                            switch (xml.charAt(i + 1)) {
-                                case 'a':
-                                    sb.append('&');
-                                    i += 4;
-                                    break;
-                                case 'l':
-                                    sb.append('<');
-                                    i += 3;
-                                    break;
-                                case 'g':
-                                    sb.append('>');
-                                    i += 3;
-                                    break;
-                                default:
-                                    throw new IllegalStateException("Unexpected escape sequence at position: " + i);
-                            }
-                            break;
-                        default:
-                            sb.append(c);
-                            break;
+                        }
+                        sb.append(xml, segmentStart, i);
+                        switch (xml.charAt(i + 1)) {
+                            case 'a':
+                                sb.append('&');
+                                i += 4;
+                                break;
+                            case 'l':
+                                sb.append('<');
+                                i += 3;
+                                break;
+                            case 'g':
+                                sb.append('>');
+                                i += 3;
+                                break;
+                            default:
+                                throw new IllegalStateException("Unexpected escape sequence at position: " + i);
+                        }
+                        segmentStart = i + 1;
                     }
                 }
-                list.add(object);
+                String field = fields[fieldIndex];
+                if (xml.charAt(i + 1) != '/' || !CharSequenceUtils.regionMatches(xml, i + 2, field) || xml.charAt(i + 2 + field.length()) != '>') {
+                    throw new IllegalStateException("Unexpected tag at position: " + i);
+                }
+                if (escapes) {
+                    sb.append(xml, segmentStart, i);
+                    object[fieldIndex] = sb.toString();
+                } else {
+                    object[fieldIndex] = new SubSequence(xml, start, i);
+                }
+                i += 3 + field.length();
             }
+            list.add(object);
         }
         return list;
     }
+
+    private static int fieldIndex(CharSequence xml, int start, int end, String[] fields, int expectedIndex) {
+        // Fields are usually rendered in the requested order, so try the expected field first
+        if (expectedIndex < fields.length && matches(xml, start, end, fields[expectedIndex])) {
+            return expectedIndex;
+        }
+        for (int i = 0; i < fields.length; i++) {
+            if (matches(xml, start, end, fields[i])) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unexpected tag at position: " + start);
+    }
+
+    private static boolean matches(CharSequence xml, int start, int end, String field) {
+        return field.length() == end - start && CharSequenceUtils.regionMatches(xml, start, field);
+    }
 }
@@ -197,6 +197,8 @@ public abstract class AbstractCachingExpressionFactory extends AbstractExpressio
             }
         }
 
+        // The cached expression must not be handed out as consumers modify expressions in-place
+        // Every node is copied except for literals, properties and null expressions which are immutable
         return (E) expr.copy(ExpressionCopyContext.EMPTY);
     }
 
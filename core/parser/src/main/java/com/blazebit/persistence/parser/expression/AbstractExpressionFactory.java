@@ -110,8 +110,25 @@ public abstract class AbstractExpressionFactory extends AbstractExpressionFactor
     private final int minEnumSegmentCount;
     private final int minEntitySegmentCount;
     private final ExpressionOptimizer optimizer = new ExpressionOptimizer();
+    private final SimpleExpressionRecognizer simpleExpressionRecognizer;
 
     protected AbstractExpressionFactory(Map<String, Boolean> functions, Map<String, Class<?>> entityTypes, Map<String, Class<Enum<?>>> enumTypes, Map<String, Class<Enum<?>>> enumTypesForLiterals, boolean optimize) {
+        this(functions, entityTypes, enumTypes, enumTypesForLiterals, optimize, true);
+    }
+
+    /**
+     * Creates an expression factory that optionally recognizes simple paths, parameters and literals without invoking the ANTLR parser.
+     * The rule returned by {@link #getSimpleExpressionRuleInvoker()} must be the <code>parseExpression</code> rule if the recognition is enabled.
+     *
+     * @param functions The registered functions
+     * @param entityTypes The entity types by name
+     * @param enumTypes The enum types by name
+     * @param enumTypesForLiterals The enum types by name for which literals should be rendered
+     * @param optimize Whether to optimize parsed expressions
+     * @param recognizeSimpleExpressions Whether to recognize simple paths, parameters and literals without ANTLR
+     * @since 1.5.0
+     */
+    protected AbstractExpressionFactory(Map<String, Boolean> functions, Map<String, Class<?>> entityTypes, Map<String, Class<Enum<?>>> enumTypes, Map<String, Class<Enum<?>>> enumTypesForLiterals, boolean optimize, boolean recognizeSimpleExpressions) {
         this.functions = functions;
         this.entityTypes = entityTypes;
         this.enumTypes = enumTypes;
@@ -151,6 +168,11 @@ public abstract class AbstractExpressionFactory extends AbstractExpressionFactor
             }
         }
         this.minEntitySegmentCount = minSegmentCount;
+        if (recognizeSimpleExpressions) {
+            this.simpleExpressionRecognizer = new SimpleExpressionRecognizer(entityTypes, enumTypes, enumTypesForLiterals, minEnumSegmentCount, minEntitySegmentCount);
+        } else {
+            this.simpleExpressionRecognizer = null;
+        }
     }
 
     private Expression createExpression(RuleInvoker ruleInvoker, String expression, boolean allowOuter, boolean allowQuantifiedPredicates, boolean allowObjectExpression, MacroConfiguration macroConfiguration, Set<String> usedMacros) {
@@ -187,9 +209,12 @@ public abstract class AbstractExpressionFactory extends AbstractExpressionFactor
         }
 
         JPQLNextExpressionVisitorImpl visitor = new JPQLNextExpressionVisitorImpl(functions, enumTypes, enumTypesForLiterals, entityTypes, minEnumSegmentCount, minEntitySegmentCount, macroConfiguration == null ? Collections.EMPTY_MAP : macroConfiguration.macros, usedMacros, allowOuter, allowQuantifiedPredicates, allowObjectExpression, inputCharStream);
-        Expression parsedExpression = visitor.visit(ctx);
+        return optimize(visitor.visit(ctx));
+    }
+
+    private Expression optimize(Expression parsedExpression) {
         if (optimize) {
-            parsedExpression = parsedExpression.accept(optimizer);
+            return parsedExpression.accept(optimizer);
         }
         return parsedExpression;
     }
@@ -198,7 +223,12 @@ public abstract class AbstractExpressionFactory extends AbstractExpressionFactor
 
     @Override
     public Expression createPathExpression(String expression, MacroConfiguration macroConfiguration, Set<String> usedMacros) {
-        Expression expr = createExpression(PATH_RULE_INVOKER, expression, false, false, false, macroConfiguration, usedMacros);
+        Expression expr = simpleExpressionRecognizer == null ? null : simpleExpressionRecognizer.recognizePath(expression);
+        if (expr == null) {
+            expr = createExpression(PATH_RULE_INVOKER, expression, false, false, false, macroConfiguration, usedMacros);
+        } else {
+            expr = optimize(expr);
+        }
         if (expr instanceof PathExpression) {
             return expr;
         } else if (expr instanceof PathElementExpression) {
@@ -214,6 +244,10 @@ public abstract class AbstractExpressionFactory extends AbstractExpressionFactor
 
     @Override
     public Expression createSimpleExpression(String expression, boolean allowOuter, boolean allowQuantifiedPredicates, boolean allowObjectExpression, MacroConfiguration macroConfiguration, Set<String> usedMacros) {
+        Expression expr = simpleExpressionRecognizer == null ? null : simpleExpressionRecognizer.recognizeExpression(expression);
+        if (expr != null) {
+            return optimize(expr);
+        }
         return createExpression(getSimpleExpressionRuleInvoker(), expression, allowOuter, allowQuantifiedPredicates, allowObjectExpression, macroConfiguration, usedMacros);
     }
 
@@ -246,11 +280,19 @@ public abstract class AbstractExpressionFactory extends AbstractExpressionFactor
 
     @Override
     public Expression createInItemExpression(String expression, MacroConfiguration macroConfiguration, Set<String> usedMacros) {
+        Expression expr = simpleExpressionRecognizer == null ? null : simpleExpressionRecognizer.recognizeInItem(expression);
+        if (expr != null) {
+            return optimize(expr);
+        }
         return createExpression(IN_ITEM_EXPRESSION_RULE_INVOKER, expression, false, false, false, macroConfiguration, usedMacros);
     }
 
     @Override
     public Expression createInItemOrPathExpression(String expression, MacroConfiguration macroConfiguration, Set<String> usedMacros) {
+        Expression expr = simpleExpressionRecognizer == null ? null : simpleExpressionRecognizer.recognizeInItemOrPath(expression);
+        if (expr != null) {
+            return optimize(expr);
+        }
         return createExpression(IN_ITEM_OR_PATH_EXPRESSION_RULE_INVOKER, expression, false, false, false, macroConfiguration, usedMacros);
     }
 
@@ -0,0 +1,312 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.parser.expression;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An expression cache that bounds every cache region by the number of entries and by the estimated size of the cached trees.
+ * Eviction follows a segmented LRU policy, so entries that were hit at least once survive a scan of one-off expressions.
+ *
+ * The tree size of an entry is estimated by the length of the expression string it was parsed from.
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public class BoundedExpressionCache<T> implements ExpressionCache<T> {
+
+    public static final int DEFAULT_MAX_SIZE = 4096;
+    public static final long DEFAULT_MAX_WEIGHT = DEFAULT_MAX_SIZE * 128L;
+
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_SIZE = 64;
+    private static final int PROTECTED_PERCENTAGE = 80;
+
+    private final int maxSize;
+    private final long maxWeight;
+    private final ConcurrentMap<String, Region<T>> regions;
+
+    public BoundedExpressionCache() {
+        this(DEFAULT_MAX_SIZE, DEFAULT_MAX_WEIGHT);
+    }
+
+    public BoundedExpressionCache(int maxSize, long maxWeight) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Invalid max size for expression cache: " + maxSize);
+        }
+        if (maxWeight < 1) {
+            throw new IllegalArgumentException("Invalid max weight for expression cache: " + maxWeight);
+        }
+        this.maxSize = maxSize;
+        this.maxWeight = maxWeight;
+        this.regions = new ConcurrentHashMap<>();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    @Override
+    public T get(String cacheName, Key key) {
+        Region<T> region = regions.get(cacheName);
+        if (region == null) {
+            return null;
+        }
+        return region.segmentFor(key).get(key);
+    }
+
+    @Override
+    public T putIfAbsent(String cacheName, Key key, T value) {
+        Region<T> region = regions.get(cacheName);
+
+        if (region == null) {
+            region = new Region<>(maxSize, maxWeight);
+            Region<T> oldRegion = regions.putIfAbsent(cacheName, region);
+
+            if (oldRegion != null) {
+                region = oldRegion;
+            }
+        }
+
+        return region.segmentFor(key).putIfAbsent(key, value);
+    }
+
+    /**
+     * Returns the statistics of the cache region with the given name or <code>null</code> if the region does not exist.
+     *
+     * @param cacheName The name of the cache region
+     * @return The statistics of the cache region
+     */
+    public Statistics getStatistics(String cacheName) {
+        Region<T> region = regions.get(cacheName);
+        return region == null ? null : region.getStatistics();
+    }
+
+    /**
+     * Returns the statistics of all cache regions by cache name.
+     *
+     * @return The statistics of all cache regions
+     */
+    public Map<String, Statistics> getStatistics() {
+        Map<String, Statistics> statistics = new LinkedHashMap<>(regions.size());
+        for (Map.Entry<String, Region<T>> entry : regions.entrySet()) {
+            statistics.put(entry.getKey(), entry.getValue().getStatistics());
+        }
+        return statistics;
+    }
+
+    private static long weigh(Key key) {
+        // The parse tree size is roughly proportional to the length of the expression
+        return Math.max(1, key.getExpression().length());
+    }
+
+    /**
+     * A snapshot of the counters of a cache region.
+     *
+     * @author Christian Beikov
+     * @since 1.5.0
+     */
+    public static final class Statistics {
+
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final int size;
+        private final long weight;
+
+        public Statistics(long hitCount, long missCount, long evictionCount, int size, long weight) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+            this.size = size;
+            this.weight = weight;
+        }
+
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        public long getMissCount() {
+            return missCount;
+        }
+
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public long getWeight() {
+            return weight;
+        }
+
+        @Override
+        public String toString() {
+            return "Statistics{" +
+                    "hitCount=" + hitCount +
+                    ", missCount=" + missCount +
+                    ", evictionCount=" + evictionCount +
+                    ", size=" + size +
+                    ", weight=" + weight +
+                    '}';
+        }
+    }
+
+    /**
+     * A cache region that is split into independently locked segments to reduce contention.
+     *
+     * @author Christian Beikov
+     * @since 1.5.0
+     */
+    private static final class Region<T> {
+
+        private final Segment<T>[] segments;
+        private final int segmentMask;
+
+        @SuppressWarnings("unchecked")
+        public Region(int maxSize, long maxWeight) {
+            int segmentCount = 1;
+            while (segmentCount < MAX_SEGMENTS && (segmentCount << 1) * MIN_SEGMENT_SIZE <= maxSize) {
+                segmentCount <<= 1;
+            }
+            this.segments = new Segment[segmentCount];
+            this.segmentMask = segmentCount - 1;
+            int segmentMaxSize = maxSize / segmentCount;
+            long segmentMaxWeight = Math.max(1L, maxWeight / segmentCount);
+            for (int i = 0; i < segmentCount; i++) {
+                segments[i] = new Segment<>(segmentMaxSize, segmentMaxWeight);
+            }
+        }
+
+        public Segment<T> segmentFor(Key key) {
+            int h = key.hashCode();
+            // Spread the higher bits as the segment count is small
+            h ^= (h >>> 16);
+            return segments[h & segmentMask];
+        }
+
+        public Statistics getStatistics() {
+            long hitCount = 0;
+            long missCount = 0;
+            long evictionCount = 0;
+            int size = 0;
+            long weight = 0;
+            for (Segment<T> segment : segments) {
+                synchronized (segment) {
+                    hitCount += segment.hitCount;
+                    missCount += segment.missCount;
+                    evictionCount += segment.evictionCount;
+                    size += segment.probation.size() + segment.protectedEntries.size();
+                    weight += segment.weight;
+                }
+            }
+            return new Statistics(hitCount, missCount, evictionCount, size, weight);
+        }
+    }
+
+    /**
+     * A segmented LRU. New entries enter the probation space and are promoted to the protected space when they are hit.
+     * The eldest protected entries are demoted back to probation when the protected space is full,
+     * and eviction always takes the eldest probation entry first.
+     *
+     * @author Christian Beikov
+     * @since 1.5.0
+     */
+    private static final class Segment<T> {
+
+        private final int maxSize;
+        private final long maxWeight;
+        private final int maxProtectedSize;
+        // Both maps are used in access order, so the eldest entry is the least recently used one
+        private final LinkedHashMap<Key, T> probation;
+        private final LinkedHashMap<Key, T> protectedEntries;
+        private long weight;
+        private long hitCount;
+        private long missCount;
+        private long evictionCount;
+
+        public Segment(int maxSize, long maxWeight) {
+            this.maxSize = maxSize;
+            this.maxWeight = maxWeight;
+            this.maxProtectedSize = Math.max(1, maxSize * PROTECTED_PERCENTAGE / 100);
+            this.probation = new LinkedHashMap<>(16, 0.75f, true);
+            this.protectedEntries = new LinkedHashMap<>(16, 0.75f, true);
+        }
+
+        public synchronized T get(Key key) {
+            T value = protectedEntries.get(key);
+            if (value != null) {
+                hitCount++;
+                return value;
+            }
+            value = probation.remove(key);
+            if (value == null) {
+                missCount++;
+                return null;
+            }
+
+            hitCount++;
+            protectedEntries.put(key, value);
+            if (protectedEntries.size() > maxProtectedSize) {
+                Iterator<Map.Entry<Key, T>> iterator = protectedEntries.entrySet().iterator();
+                Map.Entry<Key, T> eldest = iterator.next();
+                iterator.remove();
+                probation.put(eldest.getKey(), eldest.getValue());
+            }
+            return value;
+        }
+
+        public synchronized T putIfAbsent(Key key, T value) {
+            T oldValue = protectedEntries.get(key);
+            if (oldValue == null) {
+                oldValue = probation.get(key);
+            }
+            if (oldValue != null) {
+                return oldValue;
+            }
+
+            probation.put(key, value);
+            weight += weigh(key);
+            evict();
+            return value;
+        }
+
+        private void evict() {
+            while (probation.size() + protectedEntries.size() > maxSize || weight > maxWeight) {
+                LinkedHashMap<Key, T> victimSpace = probation.isEmpty() ? protectedEntries : probation;
+                Iterator<Key> iterator = victimSpace.keySet().iterator();
+                if (!iterator.hasNext()) {
+                    return;
+                }
+                Key victim = iterator.next();
+                iterator.remove();
+                weight -= weigh(victim);
+                evictionCount++;
+            }
+        }
+    }
+}
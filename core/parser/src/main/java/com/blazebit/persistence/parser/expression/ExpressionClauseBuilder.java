@@ -0,0 +1,71 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.blazebit.persistence.parser.expression;
+
+import com.blazebit.persistence.parser.predicate.Predicate;
+
+/**
+ * An internal interface implemented by query builders that accept already constructed expressions for their clauses.
+ * This allows integrations that build expressions from their own object model, like the JPA Criteria API implementation,
+ * to skip rendering an expression string that is then parsed again by the {@link ExpressionFactory}.
+ * The expressions must have the same structure as the ones the {@link ExpressionFactory} produces for the respective expression strings
+ * and must not be passed multiple times as query builders modify expressions in-place.
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public interface ExpressionClauseBuilder {
+
+    /**
+     * Like <code>select(String, String)</code> but with an already constructed expression.
+     *
+     * @param expression The select expression
+     * @param selectAlias The select alias or <code>null</code>
+     */
+    public void selectExpression(Expression expression, String selectAlias);
+
+    /**
+     * Like <code>setWhereExpression(String)</code> but with an already constructed predicate.
+     *
+     * @param predicate The where predicate
+     */
+    public void setWherePredicate(Predicate predicate);
+
+    /**
+     * Like <code>groupBy(String)</code> but with an already constructed expression.
+     *
+     * @param expression The group by expression
+     */
+    public void groupByExpression(Expression expression);
+
+    /**
+     * Like <code>setHavingExpression(String)</code> but with an already constructed predicate.
+     *
+     * @param predicate The having predicate
+     */
+    public void setHavingPredicate(Predicate predicate);
+
+    /**
+     * Like <code>orderBy(String, boolean, boolean)</code> but with an already constructed expression.
+     *
+     * @param expression The order by expression
+     * @param ascending Whether to sort ascending
+     * @param nullFirst Whether nulls should be sorted first
+     */
+    public void orderByExpression(Expression expression, boolean ascending, boolean nullFirst);
+}
@@ -43,7 +43,11 @@ public final class ExpressionFactoryImpl extends AbstractExpressionFactory {
     }
 
     public ExpressionFactoryImpl(Map<String, Boolean> functions, Map<String, Class<?>> entityTypes, Map<String, Class<Enum<?>>> enumTypes, Map<String, Class<Enum<?>>> enumTypesForLiterals, boolean allowTreatJoinExtension, boolean optimize) {
-        super(functions, entityTypes, enumTypes, enumTypesForLiterals, optimize);
+        this(functions, entityTypes, enumTypes, enumTypesForLiterals, allowTreatJoinExtension, optimize, true);
+    }
+
+    public ExpressionFactoryImpl(Map<String, Boolean> functions, Map<String, Class<?>> entityTypes, Map<String, Class<Enum<?>>> enumTypes, Map<String, Class<Enum<?>>> enumTypesForLiterals, boolean allowTreatJoinExtension, boolean optimize, boolean recognizeSimpleExpressions) {
+        super(functions, entityTypes, enumTypes, enumTypesForLiterals, optimize, recognizeSimpleExpressions);
     }
 
     @Override
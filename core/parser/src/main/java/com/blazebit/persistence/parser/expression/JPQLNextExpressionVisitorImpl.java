@@ -796,7 +796,7 @@ public class JPQLNextExpressionVisitorImpl extends JPQLNextParserBaseVisitor<Exp
     public Expression visitOrPredicate(JPQLNextParser.OrPredicateContext ctx) {
         List<JPQLNextParser.PredicateContext> predicate = ctx.predicate();
         Predicate left = (Predicate) predicate.get(0).accept(this);
-        if (left instanceof CompoundPredicate && ((CompoundPredicate) left).getOperator() == CompoundPredicate.BooleanOperator.OR) {
+        if (left instanceof CompoundPredicate && !left.isNegated() && ((CompoundPredicate) left).getOperator() == CompoundPredicate.BooleanOperator.OR) {
             ((CompoundPredicate) left).getChildren().add((Predicate) predicate.get(1).accept(this));
             return left;
         } else {
@@ -811,7 +811,7 @@ public class JPQLNextExpressionVisitorImpl extends JPQLNextParserBaseVisitor<Exp
     public Expression visitAndPredicate(JPQLNextParser.AndPredicateContext ctx) {
         List<JPQLNextParser.PredicateContext> predicate = ctx.predicate();
         Predicate left = (Predicate) predicate.get(0).accept(this);
-        if (left instanceof CompoundPredicate && ((CompoundPredicate) left).getOperator() == CompoundPredicate.BooleanOperator.AND) {
+        if (left instanceof CompoundPredicate && !left.isNegated() && ((CompoundPredicate) left).getOperator() == CompoundPredicate.BooleanOperator.AND) {
             ((CompoundPredicate) left).getChildren().add((Predicate) predicate.get(1).accept(this));
             return left;
         } else {
@@ -1027,32 +1027,12 @@ public class JPQLNextExpressionVisitorImpl extends JPQLNextParserBaseVisitor<Exp
         }
     }
 
-    @SuppressWarnings({ "rawtypes", "unchecked" })
     private Expression createEnumLiteral(String enumStr) {
-        int lastDotIdx = enumStr.lastIndexOf('.');
-        if (lastDotIdx == -1) {
-            return null;
-        }
-        String enumTypeStr = enumStr.substring(0, lastDotIdx);
-        String enumValueStr = enumStr.substring(lastDotIdx + 1);
-        Class<Enum<?>> enumType = enums.get(enumTypeStr);
-        if (enumType == null) {
-            return null;
-        }
-        Enum enumValue = Enum.valueOf((Class) enumType, enumValueStr);
-        if (enumsForLiterals.containsKey(enumTypeStr)) {
-            return new EnumLiteral(enumValue, enumStr);
-        } else {
-            return new ParameterExpression(enumStr.replace('.', '_'), enumValue);
-        }
+        return SimpleExpressionRecognizer.createEnumLiteral(enums, enumsForLiterals, enumStr);
     }
 
     private Expression createEntityTypeLiteral(String entityLiteralStr) {
-        Class<?> entityType = entities.get(entityLiteralStr);
-        if (entityType == null) {
-            return null;
-        }
-        return new EntityLiteral(entityType, entityLiteralStr);
+        return SimpleExpressionRecognizer.createEntityTypeLiteral(entities, entityLiteralStr);
     }
 
     private String getInputText(ParserRuleContext ctx) {
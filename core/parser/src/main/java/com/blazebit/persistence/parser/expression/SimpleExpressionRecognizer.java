@@ -0,0 +1,287 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.parser.expression;
+
+import com.blazebit.persistence.parser.predicate.BooleanLiteral;
+
+import java.util.ArrayList;
+import java.util.Map;
+
+/**
+ * A single pass recognizer for the expressions that make up the majority of the parsed expressions i.e. simple paths like <code>owner.name</code>,
+ * named and positional parameters as well as string, integer, long, boolean and null literals.
+ * The recognized expressions are equal to the ones that {@link JPQLNextExpressionVisitorImpl} produces for the respective parser rules,
+ * which allows to skip the ANTLR lexer and parser. If an expression is not recognized, <code>null</code> is returned and the expression has to be parsed with ANTLR.
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+final class SimpleExpressionRecognizer {
+
+    /**
+     * The keywords that are not allowed as identifier by the grammar.
+     */
+    private static final String[] NON_IDENTIFIER_KEYWORDS = {
+        "NULL", "TRUE", "FALSE", "OLD", "CURRENT_DATE", "CURRENT_TIME", "CURRENT_TIMESTAMP", "CURRENT_INSTANT"
+    };
+
+    private final Map<String, Class<?>> entities;
+    private final Map<String, Class<Enum<?>>> enums;
+    private final Map<String, Class<Enum<?>>> enumsForLiterals;
+    private final int minEnumSegmentCount;
+    private final int minEntitySegmentCount;
+
+    public SimpleExpressionRecognizer(Map<String, Class<?>> entities, Map<String, Class<Enum<?>>> enums, Map<String, Class<Enum<?>>> enumsForLiterals, int minEnumSegmentCount, int minEntitySegmentCount) {
+        this.entities = entities;
+        this.enums = enums;
+        this.enumsForLiterals = enumsForLiterals;
+        this.minEnumSegmentCount = minEnumSegmentCount;
+        this.minEntitySegmentCount = minEntitySegmentCount;
+    }
+
+    /**
+     * Recognizes simple paths as accepted by the <code>parsePathExpression</code> rule.
+     *
+     * @param expression The expression string
+     * @return The expression or <code>null</code> if the expression must be parsed with ANTLR
+     */
+    public Expression recognizePath(String expression) {
+        return recognize(expression, true, false);
+    }
+
+    /**
+     * Recognizes simple paths, parameters and literals as accepted by the <code>parseExpression</code> rule.
+     *
+     * @param expression The expression string
+     * @return The expression or <code>null</code> if the expression must be parsed with ANTLR
+     */
+    public Expression recognizeExpression(String expression) {
+        return recognize(expression, true, true);
+    }
+
+    /**
+     * Recognizes parameters and literals as accepted by the <code>parseInItemExpression</code> rule.
+     *
+     * @param expression The expression string
+     * @return The expression or <code>null</code> if the expression must be parsed with ANTLR
+     */
+    public Expression recognizeInItem(String expression) {
+        return recognize(expression, false, true);
+    }
+
+    /**
+     * Recognizes simple paths, parameters and literals as accepted by the <code>parseInItemOrPathExpression</code> rule.
+     *
+     * @param expression The expression string
+     * @return The expression or <code>null</code> if the expression must be parsed with ANTLR
+     */
+    public Expression recognizeInItemOrPath(String expression) {
+        return recognize(expression, true, true);
+    }
+
+    private Expression recognize(String expression, boolean allowPath, boolean allowParameterOrLiteral) {
+        if (expression == null) {
+            return null;
+        }
+        int start = 0;
+        int end = expression.length();
+        while (start < end && isWhitespace(expression.charAt(start))) {
+            start++;
+        }
+        while (end > start && isWhitespace(expression.charAt(end - 1))) {
+            end--;
+        }
+        if (start == end) {
+            return null;
+        }
+
+        char c = expression.charAt(start);
+        if (isIdentifierStart(c)) {
+            if (allowParameterOrLiteral) {
+                int length = end - start;
+                if (matchesKeyword(expression, start, length, "NULL")) {
+                    return NullExpression.INSTANCE;
+                } else if (matchesKeyword(expression, start, length, "TRUE")) {
+                    return new BooleanLiteral(true);
+                } else if (matchesKeyword(expression, start, length, "FALSE")) {
+                    return new BooleanLiteral(false);
+                }
+            }
+            return allowPath ? recognizePath(expression, start, end) : null;
+        } else if (!allowParameterOrLiteral) {
+            return null;
+        }
+
+        switch (c) {
+            case ':':
+                if (isIdentifier(expression, start + 1, end)) {
+                    return new ParameterExpression(expression.substring(start + 1, end));
+                }
+                return null;
+            case '?':
+                if (start + 1 < end && integerLiteralEnd(expression, start + 1, end) == end) {
+                    return new ParameterExpression(expression.substring(start + 1, end));
+                }
+                return null;
+            case '\'':
+                return recognizeStringLiteral(expression, start, end);
+            default:
+                if (c >= '0' && c <= '9') {
+                    return recognizeNumericLiteral(expression, start, end);
+                }
+                return null;
+        }
+    }
+
+    private Expression recognizePath(String expression, int start, int end) {
+        ArrayList<PathElementExpression> pathElementExpressions = new ArrayList<>(4);
+        int segmentStart = start;
+        for (int i = start; i <= end; i++) {
+            if (i == end || expression.charAt(i) == '.') {
+                if (!isIdentifier(expression, segmentStart, i)) {
+                    return null;
+                }
+                pathElementExpressions.add(new PropertyExpression(expression.substring(segmentStart, i)));
+                segmentStart = i + 1;
+            }
+        }
+
+        // Same handling of entity and enum literals as in JPQLNextExpressionVisitorImpl.visitGeneralSubpath
+        int size = pathElementExpressions.size();
+        if (size >= minEnumSegmentCount) {
+            Expression literalExpression = createEnumLiteral(enums, enumsForLiterals, expression.substring(start, end));
+            if (literalExpression != null) {
+                return literalExpression;
+            }
+        } else if (size >= minEntitySegmentCount || size == 1) {
+            Expression literalExpression = createEntityTypeLiteral(entities, expression.substring(start, end));
+            if (literalExpression != null) {
+                return literalExpression;
+            }
+        }
+
+        return new PathExpression(pathElementExpressions);
+    }
+
+    private static Expression recognizeStringLiteral(String expression, int start, int end) {
+        // Only quote delimited string literals without escape sequences, consecutive quotes represent a single quote
+        int i = start;
+        while (i < end) {
+            if (expression.charAt(i) != '\'') {
+                return null;
+            }
+            i++;
+            while (i < end && expression.charAt(i) != '\'') {
+                if (expression.charAt(i) == '\\') {
+                    return null;
+                }
+                i++;
+            }
+            if (i == end) {
+                return null;
+            }
+            i++;
+        }
+        return new StringLiteral(expression.substring(start + 1, end - 1).replace("''", "'"));
+    }
+
+    private static Expression recognizeNumericLiteral(String expression, int start, int end) {
+        int integerEnd = integerLiteralEnd(expression, start, end);
+        if (integerEnd == end) {
+            return new NumericLiteral(expression.substring(start, end), NumericType.INTEGER);
+        }
+        if (integerEnd == end - 1) {
+            char suffix = expression.charAt(integerEnd);
+            if (suffix == 'l' || suffix == 'L') {
+                return new NumericLiteral(expression.substring(start, end), NumericType.LONG);
+            }
+        }
+        return null;
+    }
+
+    private static int integerLiteralEnd(String expression, int start, int end) {
+        char c = expression.charAt(start);
+        if (c == '0') {
+            return start + 1;
+        }
+        int i = start;
+        while (i < end && (c = expression.charAt(i)) >= '0' && c <= '9') {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isIdentifier(String expression, int start, int end) {
+        if (start >= end || !isIdentifierStart(expression.charAt(start))) {
+            return false;
+        }
+        for (int i = start + 1; i < end; i++) {
+            char c = expression.charAt(i);
+            if (!isIdentifierStart(c) && c != '$' && (c < '0' || c > '9')) {
+                return false;
+            }
+        }
+        int length = end - start;
+        for (String keyword : NON_IDENTIFIER_KEYWORDS) {
+            if (matchesKeyword(expression, start, length, keyword)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isIdentifierStart(char c) {
+        // Non-ASCII characters and a leading dollar are left to the lexer
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c == '_';
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\f' || c == '\r' || c == '\n';
+    }
+
+    private static boolean matchesKeyword(String expression, int start, int length, String keyword) {
+        return length == keyword.length() && expression.regionMatches(true, start, keyword, 0, length);
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    static Expression createEnumLiteral(Map<String, Class<Enum<?>>> enums, Map<String, Class<Enum<?>>> enumsForLiterals, String enumStr) {
+        int lastDotIdx = enumStr.lastIndexOf('.');
+        if (lastDotIdx == -1) {
+            return null;
+        }
+        String enumTypeStr = enumStr.substring(0, lastDotIdx);
+        String enumValueStr = enumStr.substring(lastDotIdx + 1);
+        Class<Enum<?>> enumType = enums.get(enumTypeStr);
+        if (enumType == null) {
+            return null;
+        }
+        Enum enumValue = Enum.valueOf((Class) enumType, enumValueStr);
+        if (enumsForLiterals.containsKey(enumTypeStr)) {
+            return new EnumLiteral(enumValue, enumStr);
+        } else {
+            return new ParameterExpression(enumStr.replace('.', '_'), enumValue);
+        }
+    }
+
+    static Expression createEntityTypeLiteral(Map<String, Class<?>> entities, String entityLiteralStr) {
+        Class<?> entityType = entities.get(entityLiteralStr);
+        if (entityType == null) {
+            return null;
+        }
+        return new EntityLiteral(entityType, entityLiteralStr);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.parser;
+
+import com.blazebit.persistence.parser.expression.BoundedExpressionCache;
+import com.blazebit.persistence.parser.expression.ConcurrentHashMapExpressionCache;
+import com.blazebit.persistence.parser.expression.ExpressionCache;
+import com.blazebit.persistence.parser.expression.ExpressionFactory;
+import com.blazebit.persistence.parser.expression.ExpressionFactoryImpl;
+import com.blazebit.persistence.parser.expression.SimpleCachingExpressionFactory;
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.BenchmarkRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import java.util.HashMap;
+import java.util.Random;
+
+/**
+ * Compares the caches with a skewed distribution of expressions where a few expressions are very hot
+ * and the long tail consists of expressions that are rarely reused.
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public class BoundedExpressionCachePerformanceTest {
+
+    private static final int DISTINCT_EXPRESSIONS = 100_000;
+    private static final int LOOKUPS_PER_ROUND = 1_000;
+
+    @Rule
+    public TestRule benchmarkRun = new BenchmarkRule();
+    private final ExpressionFactory unboundedExpressionFactory = createExpressionFactory(new ConcurrentHashMapExpressionCache());
+    private final ExpressionFactory boundedExpressionFactory = createExpressionFactory(new BoundedExpressionCache(1024, Long.MAX_VALUE));
+    private final Random random = new Random(42L);
+
+    private static ExpressionFactory createExpressionFactory(ExpressionCache expressionCache) {
+        return new SimpleCachingExpressionFactory(new ExpressionFactoryImpl(new HashMap<String, Boolean>(), true, true), expressionCache);
+    }
+
+    @BenchmarkOptions(benchmarkRounds = 100, warmupRounds = 50, concurrency = 4)
+    @Test
+    public void testSkewedLookupsUnbounded() {
+        testSkewedLookups(unboundedExpressionFactory);
+    }
+
+    @BenchmarkOptions(benchmarkRounds = 100, warmupRounds = 50, concurrency = 4)
+    @Test
+    public void testSkewedLookupsBounded() {
+        testSkewedLookups(boundedExpressionFactory);
+    }
+
+    private void testSkewedLookups(ExpressionFactory ef) {
+        for (int i = 0; i < LOOKUPS_PER_ROUND; i++) {
+            ef.createSimpleExpression("SIZE(entity.collection" + nextSkewedIndex() + ") + entity.value", false, true, false, null, null);
+        }
+    }
+
+    private int nextSkewedIndex() {
+        // Cubing a uniform value in [0, 1) favors small indexes, which approximates a power law distribution
+        double uniform;
+        synchronized (random) {
+            uniform = random.nextDouble();
+        }
+        return (int) (uniform * uniform * uniform * DISTINCT_EXPRESSIONS);
+    }
+}
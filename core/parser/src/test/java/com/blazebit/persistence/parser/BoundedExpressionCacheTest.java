@@ -0,0 +1,134 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.parser;
+
+import com.blazebit.persistence.parser.expression.BoundedExpressionCache;
+import com.blazebit.persistence.parser.expression.Expression;
+import com.blazebit.persistence.parser.expression.ExpressionCache;
+import com.blazebit.persistence.parser.expression.ExpressionFactory;
+import com.blazebit.persistence.parser.expression.ExpressionFactoryImpl;
+import com.blazebit.persistence.parser.expression.SimpleCachingExpressionFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public class BoundedExpressionCacheTest {
+
+    private static final String CACHE_NAME = "test";
+
+    @Test
+    public void testEvictsBySize() {
+        BoundedExpressionCache<String> cache = new BoundedExpressionCache<>(3, Long.MAX_VALUE);
+        for (int i = 0; i < 5; i++) {
+            cache.putIfAbsent(CACHE_NAME, key("a" + i), "a" + i);
+        }
+
+        BoundedExpressionCache.Statistics statistics = cache.getStatistics(CACHE_NAME);
+        Assert.assertEquals(3, statistics.getSize());
+        Assert.assertEquals(2, statistics.getEvictionCount());
+        Assert.assertNull(cache.get(CACHE_NAME, key("a0")));
+        Assert.assertNull(cache.get(CACHE_NAME, key("a1")));
+        Assert.assertEquals("a4", cache.get(CACHE_NAME, key("a4")));
+    }
+
+    @Test
+    public void testEvictsByWeight() {
+        BoundedExpressionCache<String> cache = new BoundedExpressionCache<>(100, 10);
+        cache.putIfAbsent(CACHE_NAME, key("abcd"), "1");
+        cache.putIfAbsent(CACHE_NAME, key("efgh"), "2");
+        cache.putIfAbsent(CACHE_NAME, key("ijkl"), "3");
+
+        BoundedExpressionCache.Statistics statistics = cache.getStatistics(CACHE_NAME);
+        Assert.assertEquals(2, statistics.getSize());
+        Assert.assertEquals(8, statistics.getWeight());
+        Assert.assertNull(cache.get(CACHE_NAME, key("abcd")));
+    }
+
+    @Test
+    public void testHitEntriesSurviveScan() {
+        BoundedExpressionCache<String> cache = new BoundedExpressionCache<>(10, Long.MAX_VALUE);
+        cache.putIfAbsent(CACHE_NAME, key("hot"), "hot");
+        Assert.assertEquals("hot", cache.get(CACHE_NAME, key("hot")));
+
+        for (int i = 0; i < 100; i++) {
+            cache.putIfAbsent(CACHE_NAME, key("cold" + i), "cold" + i);
+        }
+
+        Assert.assertEquals("hot", cache.get(CACHE_NAME, key("hot")));
+    }
+
+    @Test
+    public void testCountsHitsAndMisses() {
+        BoundedExpressionCache<String> cache = new BoundedExpressionCache<>();
+        cache.putIfAbsent(CACHE_NAME, key("a"), "a");
+        cache.get(CACHE_NAME, key("a"));
+        cache.get(CACHE_NAME, key("a"));
+        cache.get(CACHE_NAME, key("b"));
+
+        BoundedExpressionCache.Statistics statistics = cache.getStatistics(CACHE_NAME);
+        Assert.assertEquals(2, statistics.getHitCount());
+        Assert.assertEquals(1, statistics.getMissCount());
+        Assert.assertEquals(0, statistics.getEvictionCount());
+        Assert.assertNull(cache.getStatistics("unknown"));
+    }
+
+    @Test
+    public void testPutIfAbsentReturnsExistingValue() {
+        BoundedExpressionCache<String> cache = new BoundedExpressionCache<>();
+        Assert.assertEquals("a", cache.putIfAbsent(CACHE_NAME, key("a"), "a"));
+        Assert.assertEquals("a", cache.putIfAbsent(CACHE_NAME, key("a"), "b"));
+    }
+
+    @Test
+    public void testLimits() {
+        BoundedExpressionCache<String> cache = new BoundedExpressionCache<>(10, BoundedExpressionCache.DEFAULT_MAX_WEIGHT);
+        Assert.assertEquals(10, cache.getMaxSize());
+        Assert.assertEquals(BoundedExpressionCache.DEFAULT_MAX_WEIGHT, cache.getMaxWeight());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMaxSize() {
+        new BoundedExpressionCache<String>(0, BoundedExpressionCache.DEFAULT_MAX_WEIGHT);
+    }
+
+    @Test
+    public void testCachingExpressionFactory() {
+        BoundedExpressionCache<Object> cache = new BoundedExpressionCache<>(2, Long.MAX_VALUE);
+        ExpressionFactory ef = new SimpleCachingExpressionFactory(new ExpressionFactoryImpl(new HashMap<String, Boolean>(), true, true), cache);
+
+        Expression expr1 = ef.createSimpleExpression("a.b + c.d", false, true, false, null, null);
+        Expression expr2 = ef.createSimpleExpression("a.b + c.d", false, true, false, null, null);
+        ef.createSimpleExpression("e.f", false, true, false, null, null);
+        ef.createSimpleExpression("g.h", false, true, false, null, null);
+        Expression expr3 = ef.createSimpleExpression("a.b + c.d", false, true, false, null, null);
+
+        Assert.assertFalse(expr1 == expr2);
+        Assert.assertEquals(expr1, expr2);
+        Assert.assertEquals(expr1, expr3);
+        Assert.assertTrue(cache.getStatistics().values().iterator().next().getEvictionCount() > 0);
+    }
+
+    private static ExpressionCache.Key key(String expression) {
+        return new ExpressionCache.Key(expression, false, false, false);
+    }
+}
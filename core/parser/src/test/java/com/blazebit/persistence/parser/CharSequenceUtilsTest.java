@@ -34,4 +34,22 @@ public class CharSequenceUtilsTest {
         assertEquals(6, CharSequenceUtils.lastIndexOf(new SubSequence(new SubSequence("[{x:[{y:[{z:0}]}]}]", 4, 17), 4, 11), ']'));
     }
 
+    @Test
+    public void testParseNumbers() {
+        assertEquals(42, CharSequenceUtils.parseInt(new SubSequence("[42]", 1, 3)));
+        assertEquals(-17, CharSequenceUtils.parseInt("-17"));
+        assertEquals(Long.MIN_VALUE, CharSequenceUtils.parseLong("-9223372036854775808"));
+        assertEquals(Long.MAX_VALUE, CharSequenceUtils.parseLong("+9223372036854775807"));
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testParseIntOverflow() {
+        CharSequenceUtils.parseInt("2147483648");
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testParseLongInvalid() {
+        CharSequenceUtils.parseLong("1a");
+    }
+
 }
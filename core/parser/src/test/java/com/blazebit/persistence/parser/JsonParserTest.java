@@ -19,6 +19,8 @@ package com.blazebit.persistence.parser;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.List;
+
 import static org.junit.Assert.assertArrayEquals;
 
 /**
@@ -55,6 +57,25 @@ public class JsonParserTest {
         assertEquals(new Object[]{ "1", "test" }, JsonParser.parseStringOnly("[{\"age\": \"1\", \"name\": \"test\"}, {\"age\": \"1\", \"name\": \"test\"}]", "age", "name").get(1));
     }
 
+    @Test
+    public void testStringOnlyNullAndNested() {
+        List<Object[]> objects = JsonParser.parseStringOnly("[{\"f0\":\"Doc1\",\"f1\":null,\"f2\":[{\"f0\":\"a]\"},{\"f0\":\"b\"}]}, {\"f0\":\"\",\"f2\":[]}]", "f0", "f1", "f2");
+        Assert.assertEquals(2, objects.size());
+        assertEquals(new Object[]{ "Doc1", null, "[{\"f0\":\"a]\"},{\"f0\":\"b\"}]" }, objects.get(0));
+        assertEquals(new Object[]{ "", null, "[]" }, objects.get(1));
+        assertEquals(new Object[]{ "a]" }, JsonParser.parseStringOnly((CharSequence) objects.get(0)[2], "f0").get(0));
+        assertEquals(new Object[]{ "b" }, JsonParser.parseStringOnly((CharSequence) objects.get(0)[2], "f0").get(1));
+        Assert.assertTrue(JsonParser.parseStringOnly((CharSequence) objects.get(1)[2], "f0").isEmpty());
+    }
+
+    @Test
+    public void testStringOnlyWithoutEscapesIsNotCopied() {
+        Object[] object = JsonParser.parseStringOnly(new StringBuilder("[{\"f0\":\"abc\",\"f1\":\"a\\u0062c\"}]"), "f0", "f1").get(0);
+        Assert.assertTrue(object[0] instanceof SubSequence);
+        Assert.assertEquals("abc", object[0].toString());
+        Assert.assertEquals("abc", object[1]);
+    }
+
     private static void assertEquals(Object[] array1, Object[] array2) {
         Assert.assertEquals(array1.length, array2.length);
         for (int i = 0; i < array1.length; i++) {
@@ -20,6 +20,7 @@ import com.blazebit.persistence.parser.expression.Expression;
 import com.blazebit.persistence.parser.expression.GeneralCaseExpression;
 import com.blazebit.persistence.parser.expression.WhenClauseExpression;
 import com.blazebit.persistence.parser.predicate.CompoundPredicate;
+import com.blazebit.persistence.parser.predicate.EqPredicate;
 import com.blazebit.persistence.parser.predicate.GtPredicate;
 import com.blazebit.persistence.parser.predicate.LtPredicate;
 import com.blazebit.persistence.parser.predicate.Predicate;
@@ -68,6 +69,28 @@ public class LogicOptimizationTest extends AbstractParserTest {
         assertEquals(expected, result);
     }
 
+    @Test
+    public void testNegatedCompoundIsNotMergedWithFollowingPredicate() {
+        Predicate result = parsePredicateOptimized("NOT(a > b AND a < x) AND a = y", false);
+        Predicate expected = new CompoundPredicate(CompoundPredicate.BooleanOperator.AND,
+                new CompoundPredicate(CompoundPredicate.BooleanOperator.OR,
+                        new GtPredicate(path("a"), path("b"), true),
+                        new LtPredicate(path("a"), path("x"), true)),
+                new EqPredicate(path("a"), path("y")));
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public void testNegatedDisjunctionIsNotMergedWithFollowingPredicate() {
+        Predicate result = parsePredicateOptimized("NOT(a > b OR a < x) OR a = y", false);
+        Predicate expected = new CompoundPredicate(CompoundPredicate.BooleanOperator.OR,
+                new CompoundPredicate(CompoundPredicate.BooleanOperator.AND,
+                        new GtPredicate(path("a"), path("b"), true),
+                        new LtPredicate(path("a"), path("x"), true)),
+                new EqPredicate(path("a"), path("y")));
+        assertEquals(expected, result);
+    }
+
     @Test
     public void testOptimizeNegationStructure4() {
         Expression result = parseOptimized("CASE WHEN NOT(NOT(a > b)) THEN 1 ELSE 0 END");
@@ -20,12 +20,14 @@ import com.blazebit.persistence.parser.expression.ArrayExpression;
 import com.blazebit.persistence.parser.expression.Expression;
 import com.blazebit.persistence.parser.expression.ExpressionFactory;
 import com.blazebit.persistence.parser.expression.ExpressionFactoryImpl;
+import com.blazebit.persistence.parser.expression.GeneralCaseExpression;
 import com.blazebit.persistence.parser.expression.MacroConfiguration;
 import com.blazebit.persistence.parser.expression.MacroFunction;
 import com.blazebit.persistence.parser.expression.PathElementExpression;
 import com.blazebit.persistence.parser.expression.PathExpression;
 import com.blazebit.persistence.parser.expression.PropertyExpression;
 import com.blazebit.persistence.parser.expression.SimpleCachingExpressionFactory;
+import com.blazebit.persistence.parser.expression.WhenClauseExpression;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -104,4 +106,27 @@ public class SimpleCachingExpressionFactoryTest {
         Assert.assertFalse(expr1 == expr2);
         Assert.assertEquals(expr1, expr2);
     }
+
+    @Test
+    public void testCachedCaseExpressionSharesOnlyImmutableNodes() {
+        ExpressionFactory ef = new SimpleCachingExpressionFactory(new ExpressionFactoryImpl(new HashMap<String, Boolean>(), true, true));
+        String expressionString = "CASE WHEN a.b = 1 THEN 'x' WHEN a.c = 2 THEN 'y' END";
+
+        GeneralCaseExpression expr1 = (GeneralCaseExpression) ef.createSimpleExpression(expressionString, false, true, false, null, null);
+        GeneralCaseExpression expr2 = (GeneralCaseExpression) ef.createSimpleExpression(expressionString, false, true, false, null, null);
+
+        Assert.assertEquals(expr1, expr2);
+        Assert.assertNotSame(expr1.getWhenClauses(), expr2.getWhenClauses());
+        WhenClauseExpression whenClause1 = expr1.getWhenClauses().get(0);
+        WhenClauseExpression whenClause2 = expr2.getWhenClauses().get(0);
+        Assert.assertNotSame(whenClause1, whenClause2);
+        Assert.assertNotSame(whenClause1.getCondition(), whenClause2.getCondition());
+        // Literals are immutable and thus shared between the copies
+        Assert.assertSame(whenClause1.getResult(), whenClause2.getResult());
+
+        // Modifying a copy must not affect the cached expression
+        expr1.getWhenClauses().set(1, new WhenClauseExpression(whenClause1.getCondition(), new PathExpression(Arrays.<PathElementExpression>asList(new PropertyExpression("z")))));
+        GeneralCaseExpression expr3 = (GeneralCaseExpression) ef.createSimpleExpression(expressionString, false, true, false, null, null);
+        Assert.assertEquals(expr2, expr3);
+    }
 }
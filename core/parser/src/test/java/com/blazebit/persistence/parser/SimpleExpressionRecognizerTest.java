@@ -0,0 +1,159 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.parser;
+
+import com.blazebit.persistence.parser.expression.Expression;
+import com.blazebit.persistence.parser.expression.ExpressionFactory;
+import com.blazebit.persistence.parser.expression.ExpressionFactoryImpl;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Asserts that the expressions recognized without ANTLR are equal to the ones parsed with ANTLR.
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public class SimpleExpressionRecognizerTest {
+
+    private static final List<String> FRAGMENTS = Arrays.asList(
+            "d", "owner", "name", "_x", "a$b", "$a", "key", "VALUE", "type", "order", "select", "Index", "treat", "outer",
+            "null", "NULL", "true", "False", "old", "current_date", "CURRENT_TIMESTAMP", "nulls", "Document", "TestEnum", "ABC", "com",
+            "blazebit", "persistence", "parser", "SimpleExpressionRecognizerTest$TestEnum", "ä",
+            ".", ".", ".", ":", ":", "?", "?", "'", "''", "'abc'", "'it''s'", "\\", "\"", "0", "1", "01", "12", "L", "l", "BI", "D", "F", "e", "1.5",
+            " ", " ", "\t", "\n", "(", ")", "[", "]", "+", "-", "*", "=", ","
+    );
+
+    private final ExpressionFactory recognizingExpressionFactory;
+    private final ExpressionFactory parsingExpressionFactory;
+
+    public SimpleExpressionRecognizerTest() {
+        Map<String, Class<?>> entityTypes = new HashMap<>();
+        entityTypes.put("Document", Object.class);
+        Map<String, Class<Enum<?>>> enumTypes = new HashMap<>();
+        enumTypes.put(TestEnum.class.getName(), (Class<Enum<?>>) (Class<?>) TestEnum.class);
+        Map<String, Boolean> functions = Collections.emptyMap();
+        this.recognizingExpressionFactory = new ExpressionFactoryImpl(functions, entityTypes, enumTypes, enumTypes, true, true, true);
+        this.parsingExpressionFactory = new ExpressionFactoryImpl(functions, entityTypes, enumTypes, enumTypes, true, true, false);
+    }
+
+    @Test
+    public void testSimpleExpressions() {
+        List<String> expressions = Arrays.asList(
+                "d.owner.name", " d.name\t", "key", "d.value", "d.ORDER", "a$b", TestEnum.class.getName() + ".ABC", TestEnum.class.getName() + ".DEF", "Document",
+                ":id", ":select", "?1", "?0", "'abc'", "'it''s'", "''", "'a'", "0", "12", "12L", "0l", "NULL", "true", "FALSE"
+        );
+        for (String expression : expressions) {
+            assertEqualExpressions(expression);
+        }
+    }
+
+    @Test
+    public void testFallbackExpressions() {
+        List<String> expressions = Arrays.asList(
+                "a..b", "a.", ".a", "a.null", "current_date", "a.old", "$a", ": id", ":null", "?01", "?", "'''", "'a\\n'", "'a' 'b'",
+                "01", "01L", "1.5", "1BI", "-1", "ä", "a b", "a[1]", TestEnum.class.getName() + ".GHI"
+        );
+        for (String expression : expressions) {
+            assertEqualExpressions(expression);
+        }
+    }
+
+    @Test
+    public void testRandomExpressions() {
+        Random random = new Random(1337L);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            sb.setLength(0);
+            int fragments = 1 + random.nextInt(5);
+            for (int j = 0; j < fragments; j++) {
+                sb.append(FRAGMENTS.get(random.nextInt(FRAGMENTS.size())));
+            }
+            assertEqualExpressions(sb.toString());
+        }
+    }
+
+    private void assertEqualExpressions(String expression) {
+        assertEqualResults(expression, new ExpressionCreator() {
+            @Override
+            public Expression create(ExpressionFactory expressionFactory, String expression) {
+                return expressionFactory.createSimpleExpression(expression, false, false, false);
+            }
+        });
+        assertEqualResults(expression, new ExpressionCreator() {
+            @Override
+            public Expression create(ExpressionFactory expressionFactory, String expression) {
+                return expressionFactory.createPathExpression(expression);
+            }
+        });
+        assertEqualResults(expression, new ExpressionCreator() {
+            @Override
+            public Expression create(ExpressionFactory expressionFactory, String expression) {
+                return expressionFactory.createInItemExpression(expression);
+            }
+        });
+        assertEqualResults(expression, new ExpressionCreator() {
+            @Override
+            public Expression create(ExpressionFactory expressionFactory, String expression) {
+                return expressionFactory.createInItemOrPathExpression(expression);
+            }
+        });
+    }
+
+    private void assertEqualResults(String expression, ExpressionCreator creator) {
+        Object expected;
+        Object actual;
+        try {
+            expected = creator.create(parsingExpressionFactory, expression);
+        } catch (RuntimeException ex) {
+            expected = ex.getClass();
+        }
+        try {
+            actual = creator.create(recognizingExpressionFactory, expression);
+        } catch (RuntimeException ex) {
+            actual = ex.getClass();
+        }
+        Assert.assertEquals("Different results for expression: " + expression, expected, actual);
+        if (expected instanceof Expression) {
+            Assert.assertEquals("Different result types for expression: " + expression, expected.getClass(), actual.getClass());
+        }
+    }
+
+    /**
+     * @author Christian Beikov
+     * @since 1.5.0
+     */
+    private interface ExpressionCreator {
+        Expression create(ExpressionFactory expressionFactory, String expression);
+    }
+
+    /**
+     * @author Christian Beikov
+     * @since 1.5.0
+     */
+    public enum TestEnum {
+        ABC,
+        DEF
+    }
+}
@@ -19,6 +19,8 @@ package com.blazebit.persistence.parser;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.List;
+
 /**
  *
  * @author Christian Beikov
@@ -53,6 +55,15 @@ public class XmlParserTest {
         assertEquals(new Object[]{ "1", "test" }, XmlParser.parse("<e><age>1</age><name>test</name></e><e><age>1</age><name>test</name></e>", "age", "name").get(1));
     }
 
+    @Test
+    public void testMissingAndEmpty() {
+        List<Object[]> objects = XmlParser.parse(new StringBuilder("<e><f0>a</f0><f1></f1></e><e><f1>1</f1></e>"), "f0", "f1");
+        Assert.assertEquals(2, objects.size());
+        Assert.assertTrue(objects.get(0)[0] instanceof SubSequence);
+        assertEquals(new Object[]{ "a", "" }, objects.get(0));
+        assertEquals(new Object[]{ null, "1" }, objects.get(1));
+    }
+
     private static void assertEquals(Object[] array1, Object[] array2) {
         Assert.assertEquals(array1.length, array2.length);
         for (int i = 0; i < array1.length; i++) {
@@ -215,6 +215,21 @@ public class DelegatingDbmsDialect implements DbmsDialect {
         return delegate.supportsArbitraryLengthMultiset();
     }
 
+    @Override
+    public String getServerVersionSql() {
+        return delegate.getServerVersionSql();
+    }
+
+    @Override
+    public String getCountEstimationSql(String countSql, long serverVersion) {
+        return delegate.getCountEstimationSql(countSql, serverVersion);
+    }
+
+    @Override
+    public long extractCountEstimate(List<?> queryPlan) {
+        return delegate.extractCountEstimate(queryPlan);
+    }
+
     @Override
     public boolean supportsFullRowValueComparison() {
         return delegate.supportsFullRowValueComparison();
@@ -230,6 +245,11 @@ public class DelegatingDbmsDialect implements DbmsDialect {
         return delegate.getValuesStrategy();
     }
 
+    @Override
+    public int getMaxBindParameters() {
+        return delegate.getMaxBindParameters();
+    }
+
     @Override
     public boolean needsCastParameters() {
         return delegate.needsCastParameters();
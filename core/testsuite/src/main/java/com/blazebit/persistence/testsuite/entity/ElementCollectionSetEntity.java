@@ -0,0 +1,76 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.testsuite.entity;
+
+import javax.persistence.CollectionTable;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Table;
+import java.io.Serializable;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * An entity with non-indexed basic and embeddable element collections.
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+@Entity
+@Table(name = "element_collection_set_entity")
+public class ElementCollectionSetEntity extends LongSequenceEntity implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private String name;
+    private Set<String> strings = new HashSet<>();
+    private Set<NameObject> names = new HashSet<>();
+
+    public ElementCollectionSetEntity() {
+    }
+
+    public ElementCollectionSetEntity(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    @ElementCollection
+    @CollectionTable(name = "element_collection_set_strings")
+    public Set<String> getStrings() {
+        return strings;
+    }
+
+    public void setStrings(Set<String> strings) {
+        this.strings = strings;
+    }
+
+    @ElementCollection
+    @CollectionTable(name = "element_collection_set_names")
+    public Set<NameObject> getNames() {
+        return names;
+    }
+
+    public void setNames(Set<NameObject> names) {
+        this.names = names;
+    }
+}
@@ -0,0 +1,638 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.testsuite.entity;
+
+import javax.persistence.Entity;
+import javax.persistence.Table;
+import java.io.Serializable;
+
+/**
+ * An entity with more basic attributes than fit into a single dirty tracking word of an entity view.
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+@Entity
+@Table(name = "wide_entity")
+public class WideEntity extends LongSequenceEntity implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    public static final int ATTRIBUTE_COUNT = 65;
+
+    private Long version;
+    private String attribute00;
+    private String attribute01;
+    private String attribute02;
+    private String attribute03;
+    private String attribute04;
+    private String attribute05;
+    private String attribute06;
+    private String attribute07;
+    private String attribute08;
+    private String attribute09;
+    private String attribute10;
+    private String attribute11;
+    private String attribute12;
+    private String attribute13;
+    private String attribute14;
+    private String attribute15;
+    private String attribute16;
+    private String attribute17;
+    private String attribute18;
+    private String attribute19;
+    private String attribute20;
+    private String attribute21;
+    private String attribute22;
+    private String attribute23;
+    private String attribute24;
+    private String attribute25;
+    private String attribute26;
+    private String attribute27;
+    private String attribute28;
+    private String attribute29;
+    private String attribute30;
+    private String attribute31;
+    private String attribute32;
+    private String attribute33;
+    private String attribute34;
+    private String attribute35;
+    private String attribute36;
+    private String attribute37;
+    private String attribute38;
+    private String attribute39;
+    private String attribute40;
+    private String attribute41;
+    private String attribute42;
+    private String attribute43;
+    private String attribute44;
+    private String attribute45;
+    private String attribute46;
+    private String attribute47;
+    private String attribute48;
+    private String attribute49;
+    private String attribute50;
+    private String attribute51;
+    private String attribute52;
+    private String attribute53;
+    private String attribute54;
+    private String attribute55;
+    private String attribute56;
+    private String attribute57;
+    private String attribute58;
+    private String attribute59;
+    private String attribute60;
+    private String attribute61;
+    private String attribute62;
+    private String attribute63;
+    private String attribute64;
+
+    public WideEntity() {
+    }
+
+    public WideEntity(Long id) {
+        super(id);
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public String getAttribute00() {
+        return attribute00;
+    }
+
+    public void setAttribute00(String attribute00) {
+        this.attribute00 = attribute00;
+    }
+
+    public String getAttribute01() {
+        return attribute01;
+    }
+
+    public void setAttribute01(String attribute01) {
+        this.attribute01 = attribute01;
+    }
+
+    public String getAttribute02() {
+        return attribute02;
+    }
+
+    public void setAttribute02(String attribute02) {
+        this.attribute02 = attribute02;
+    }
+
+    public String getAttribute03() {
+        return attribute03;
+    }
+
+    public void setAttribute03(String attribute03) {
+        this.attribute03 = attribute03;
+    }
+
+    public String getAttribute04() {
+        return attribute04;
+    }
+
+    public void setAttribute04(String attribute04) {
+        this.attribute04 = attribute04;
+    }
+
+    public String getAttribute05() {
+        return attribute05;
+    }
+
+    public void setAttribute05(String attribute05) {
+        this.attribute05 = attribute05;
+    }
+
+    public String getAttribute06() {
+        return attribute06;
+    }
+
+    public void setAttribute06(String attribute06) {
+        this.attribute06 = attribute06;
+    }
+
+    public String getAttribute07() {
+        return attribute07;
+    }
+
+    public void setAttribute07(String attribute07) {
+        this.attribute07 = attribute07;
+    }
+
+    public String getAttribute08() {
+        return attribute08;
+    }
+
+    public void setAttribute08(String attribute08) {
+        this.attribute08 = attribute08;
+    }
+
+    public String getAttribute09() {
+        return attribute09;
+    }
+
+    public void setAttribute09(String attribute09) {
+        this.attribute09 = attribute09;
+    }
+
+    public String getAttribute10() {
+        return attribute10;
+    }
+
+    public void setAttribute10(String attribute10) {
+        this.attribute10 = attribute10;
+    }
+
+    public String getAttribute11() {
+        return attribute11;
+    }
+
+    public void setAttribute11(String attribute11) {
+        this.attribute11 = attribute11;
+    }
+
+    public String getAttribute12() {
+        return attribute12;
+    }
+
+    public void setAttribute12(String attribute12) {
+        this.attribute12 = attribute12;
+    }
+
+    public String getAttribute13() {
+        return attribute13;
+    }
+
+    public void setAttribute13(String attribute13) {
+        this.attribute13 = attribute13;
+    }
+
+    public String getAttribute14() {
+        return attribute14;
+    }
+
+    public void setAttribute14(String attribute14) {
+        this.attribute14 = attribute14;
+    }
+
+    public String getAttribute15() {
+        return attribute15;
+    }
+
+    public void setAttribute15(String attribute15) {
+        this.attribute15 = attribute15;
+    }
+
+    public String getAttribute16() {
+        return attribute16;
+    }
+
+    public void setAttribute16(String attribute16) {
+        this.attribute16 = attribute16;
+    }
+
+    public String getAttribute17() {
+        return attribute17;
+    }
+
+    public void setAttribute17(String attribute17) {
+        this.attribute17 = attribute17;
+    }
+
+    public String getAttribute18() {
+        return attribute18;
+    }
+
+    public void setAttribute18(String attribute18) {
+        this.attribute18 = attribute18;
+    }
+
+    public String getAttribute19() {
+        return attribute19;
+    }
+
+    public void setAttribute19(String attribute19) {
+        this.attribute19 = attribute19;
+    }
+
+    public String getAttribute20() {
+        return attribute20;
+    }
+
+    public void setAttribute20(String attribute20) {
+        this.attribute20 = attribute20;
+    }
+
+    public String getAttribute21() {
+        return attribute21;
+    }
+
+    public void setAttribute21(String attribute21) {
+        this.attribute21 = attribute21;
+    }
+
+    public String getAttribute22() {
+        return attribute22;
+    }
+
+    public void setAttribute22(String attribute22) {
+        this.attribute22 = attribute22;
+    }
+
+    public String getAttribute23() {
+        return attribute23;
+    }
+
+    public void setAttribute23(String attribute23) {
+        this.attribute23 = attribute23;
+    }
+
+    public String getAttribute24() {
+        return attribute24;
+    }
+
+    public void setAttribute24(String attribute24) {
+        this.attribute24 = attribute24;
+    }
+
+    public String getAttribute25() {
+        return attribute25;
+    }
+
+    public void setAttribute25(String attribute25) {
+        this.attribute25 = attribute25;
+    }
+
+    public String getAttribute26() {
+        return attribute26;
+    }
+
+    public void setAttribute26(String attribute26) {
+        this.attribute26 = attribute26;
+    }
+
+    public String getAttribute27() {
+        return attribute27;
+    }
+
+    public void setAttribute27(String attribute27) {
+        this.attribute27 = attribute27;
+    }
+
+    public String getAttribute28() {
+        return attribute28;
+    }
+
+    public void setAttribute28(String attribute28) {
+        this.attribute28 = attribute28;
+    }
+
+    public String getAttribute29() {
+        return attribute29;
+    }
+
+    public void setAttribute29(String attribute29) {
+        this.attribute29 = attribute29;
+    }
+
+    public String getAttribute30() {
+        return attribute30;
+    }
+
+    public void setAttribute30(String attribute30) {
+        this.attribute30 = attribute30;
+    }
+
+    public String getAttribute31() {
+        return attribute31;
+    }
+
+    public void setAttribute31(String attribute31) {
+        this.attribute31 = attribute31;
+    }
+
+    public String getAttribute32() {
+        return attribute32;
+    }
+
+    public void setAttribute32(String attribute32) {
+        this.attribute32 = attribute32;
+    }
+
+    public String getAttribute33() {
+        return attribute33;
+    }
+
+    public void setAttribute33(String attribute33) {
+        this.attribute33 = attribute33;
+    }
+
+    public String getAttribute34() {
+        return attribute34;
+    }
+
+    public void setAttribute34(String attribute34) {
+        this.attribute34 = attribute34;
+    }
+
+    public String getAttribute35() {
+        return attribute35;
+    }
+
+    public void setAttribute35(String attribute35) {
+        this.attribute35 = attribute35;
+    }
+
+    public String getAttribute36() {
+        return attribute36;
+    }
+
+    public void setAttribute36(String attribute36) {
+        this.attribute36 = attribute36;
+    }
+
+    public String getAttribute37() {
+        return attribute37;
+    }
+
+    public void setAttribute37(String attribute37) {
+        this.attribute37 = attribute37;
+    }
+
+    public String getAttribute38() {
+        return attribute38;
+    }
+
+    public void setAttribute38(String attribute38) {
+        this.attribute38 = attribute38;
+    }
+
+    public String getAttribute39() {
+        return attribute39;
+    }
+
+    public void setAttribute39(String attribute39) {
+        this.attribute39 = attribute39;
+    }
+
+    public String getAttribute40() {
+        return attribute40;
+    }
+
+    public void setAttribute40(String attribute40) {
+        this.attribute40 = attribute40;
+    }
+
+    public String getAttribute41() {
+        return attribute41;
+    }
+
+    public void setAttribute41(String attribute41) {
+        this.attribute41 = attribute41;
+    }
+
+    public String getAttribute42() {
+        return attribute42;
+    }
+
+    public void setAttribute42(String attribute42) {
+        this.attribute42 = attribute42;
+    }
+
+    public String getAttribute43() {
+        return attribute43;
+    }
+
+    public void setAttribute43(String attribute43) {
+        this.attribute43 = attribute43;
+    }
+
+    public String getAttribute44() {
+        return attribute44;
+    }
+
+    public void setAttribute44(String attribute44) {
+        this.attribute44 = attribute44;
+    }
+
+    public String getAttribute45() {
+        return attribute45;
+    }
+
+    public void setAttribute45(String attribute45) {
+        this.attribute45 = attribute45;
+    }
+
+    public String getAttribute46() {
+        return attribute46;
+    }
+
+    public void setAttribute46(String attribute46) {
+        this.attribute46 = attribute46;
+    }
+
+    public String getAttribute47() {
+        return attribute47;
+    }
+
+    public void setAttribute47(String attribute47) {
+        this.attribute47 = attribute47;
+    }
+
+    public String getAttribute48() {
+        return attribute48;
+    }
+
+    public void setAttribute48(String attribute48) {
+        this.attribute48 = attribute48;
+    }
+
+    public String getAttribute49() {
+        return attribute49;
+    }
+
+    public void setAttribute49(String attribute49) {
+        this.attribute49 = attribute49;
+    }
+
+    public String getAttribute50() {
+        return attribute50;
+    }
+
+    public void setAttribute50(String attribute50) {
+        this.attribute50 = attribute50;
+    }
+
+    public String getAttribute51() {
+        return attribute51;
+    }
+
+    public void setAttribute51(String attribute51) {
+        this.attribute51 = attribute51;
+    }
+
+    public String getAttribute52() {
+        return attribute52;
+    }
+
+    public void setAttribute52(String attribute52) {
+        this.attribute52 = attribute52;
+    }
+
+    public String getAttribute53() {
+        return attribute53;
+    }
+
+    public void setAttribute53(String attribute53) {
+        this.attribute53 = attribute53;
+    }
+
+    public String getAttribute54() {
+        return attribute54;
+    }
+
+    public void setAttribute54(String attribute54) {
+        this.attribute54 = attribute54;
+    }
+
+    public String getAttribute55() {
+        return attribute55;
+    }
+
+    public void setAttribute55(String attribute55) {
+        this.attribute55 = attribute55;
+    }
+
+    public String getAttribute56() {
+        return attribute56;
+    }
+
+    public void setAttribute56(String attribute56) {
+        this.attribute56 = attribute56;
+    }
+
+    public String getAttribute57() {
+        return attribute57;
+    }
+
+    public void setAttribute57(String attribute57) {
+        this.attribute57 = attribute57;
+    }
+
+    public String getAttribute58() {
+        return attribute58;
+    }
+
+    public void setAttribute58(String attribute58) {
+        this.attribute58 = attribute58;
+    }
+
+    public String getAttribute59() {
+        return attribute59;
+    }
+
+    public void setAttribute59(String attribute59) {
+        this.attribute59 = attribute59;
+    }
+
+    public String getAttribute60() {
+        return attribute60;
+    }
+
+    public void setAttribute60(String attribute60) {
+        this.attribute60 = attribute60;
+    }
+
+    public String getAttribute61() {
+        return attribute61;
+    }
+
+    public void setAttribute61(String attribute61) {
+        this.attribute61 = attribute61;
+    }
+
+    public String getAttribute62() {
+        return attribute62;
+    }
+
+    public void setAttribute62(String attribute62) {
+        this.attribute62 = attribute62;
+    }
+
+    public String getAttribute63() {
+        return attribute63;
+    }
+
+    public void setAttribute63(String attribute63) {
+        this.attribute63 = attribute63;
+    }
+
+    public String getAttribute64() {
+        return attribute64;
+    }
+
+    public void setAttribute64(String attribute64) {
+        this.attribute64 = attribute64;
+    }
+
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.testsuite;
+
+import com.blazebit.persistence.ObjectBuilder;
+import com.blazebit.persistence.PagedList;
+import com.blazebit.persistence.SelectBuilder;
+import com.blazebit.persistence.spi.CriteriaBuilderConfiguration;
+import com.blazebit.persistence.spi.SecondaryEntityManagerProvider;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoEclipselink;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoOpenJPA;
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.testsuite.entity.Person;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import javax.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public class AsyncQueryTest extends AbstractCoreTest {
+
+    private static final AtomicInteger EXECUTIONS = new AtomicInteger();
+    private static final AtomicInteger ACQUIRED_ENTITY_MANAGERS = new AtomicInteger();
+    private static final AtomicInteger RELEASED_ENTITY_MANAGERS = new AtomicInteger();
+
+    @Override
+    protected CriteriaBuilderConfiguration configure(CriteriaBuilderConfiguration config) {
+        config = super.configure(config);
+        config.withParallelQueryExecution(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                EXECUTIONS.incrementAndGet();
+                new Thread(command).start();
+            }
+        }, new SecondaryEntityManagerProvider() {
+            @Override
+            public EntityManager getEntityManager(EntityManager primaryEntityManager) {
+                ACQUIRED_ENTITY_MANAGERS.incrementAndGet();
+                return SecondaryEntityManagerProvider.DEFAULT.getEntityManager(primaryEntityManager);
+            }
+
+            @Override
+            public void releaseEntityManager(EntityManager primaryEntityManager, EntityManager secondaryEntityManager) {
+                RELEASED_ENTITY_MANAGERS.incrementAndGet();
+                SecondaryEntityManagerProvider.DEFAULT.releaseEntityManager(primaryEntityManager, secondaryEntityManager);
+            }
+        });
+        return config;
+    }
+
+    @Override
+    public void setUpOnce() {
+        cleanDatabase();
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                Person owner = new Person("Karl1");
+                em.persist(owner);
+                for (int i = 0; i < 5; i++) {
+                    Document document = new Document("doc" + i);
+                    document.setOwner(owner);
+                    em.persist(document);
+                }
+            }
+        });
+    }
+
+    @Test
+    public void resultListAsyncRunsOnSecondaryEntityManager() throws Exception {
+        int executions = EXECUTIONS.get();
+        int acquired = ACQUIRED_ENTITY_MANAGERS.get();
+        int released = RELEASED_ENTITY_MANAGERS.get();
+        Future<List<String>> future = cbf.create(em, String.class)
+                .from(Document.class, "d")
+                .select("d.name")
+                .where("d.name").inExpressions(":names")
+                .orderByAsc("d.name")
+                .setParameter("names", Arrays.asList("doc1", "doc3"))
+                .setMaxResults(1)
+                .getResultListAsync();
+
+        List<String> result = future.get();
+        Assert.assertEquals(executions + 1, EXECUTIONS.get());
+        Assert.assertEquals(acquired + 1, ACQUIRED_ENTITY_MANAGERS.get());
+        Assert.assertEquals(released + 1, RELEASED_ENTITY_MANAGERS.get());
+        Assert.assertEquals(Collections.singletonList("doc1"), result);
+    }
+
+    @Test
+    public void entitiesOfAsyncResultAreNotManagedByPrimaryEntityManager() throws Exception {
+        List<Document> result = cbf.create(em, Document.class, "d")
+                .orderByAsc("d.id")
+                .getResultListAsync()
+                .get();
+
+        Assert.assertEquals(5, result.size());
+        Assert.assertFalse(em.contains(result.get(0)));
+    }
+
+    @Test
+    public void objectBuilderOfAsyncResultRunsOnRetrievingThread() throws Exception {
+        List<String> result = cbf.create(em, Document.class, "d")
+                .orderByAsc("d.name")
+                .selectNew(new UpperCaseNameObjectBuilder(Thread.currentThread()))
+                .getResultListAsync()
+                .get();
+
+        Assert.assertEquals(Arrays.asList("DOC0", "DOC1", "DOC2", "DOC3", "DOC4"), result);
+    }
+
+    @Test
+    public void paginatedResultListAsyncRunsOnSecondaryEntityManager() throws Exception {
+        int executions = EXECUTIONS.get();
+        int acquired = ACQUIRED_ENTITY_MANAGERS.get();
+        int released = RELEASED_ENTITY_MANAGERS.get();
+        PagedList<Document> result = cbf.create(em, Document.class, "d")
+                .where("d.name").notEq("doc0")
+                .orderByAsc("d.id")
+                .page(2, 2)
+                .getResultListAsync()
+                .get();
+
+        // The count, id and object queries share one secondary entity manager
+        Assert.assertEquals(executions + 1, EXECUTIONS.get());
+        Assert.assertEquals(acquired + 1, ACQUIRED_ENTITY_MANAGERS.get());
+        Assert.assertEquals(released + 1, RELEASED_ENTITY_MANAGERS.get());
+        Assert.assertEquals(4, result.getTotalSize());
+        Assert.assertEquals(2, result.getFirstResult());
+        Assert.assertEquals(2, result.size());
+        Assert.assertEquals("doc3", result.get(0).getName());
+        Assert.assertFalse(em.contains(result.get(0)));
+    }
+
+    @Test
+    public void objectBuilderOfAsyncPaginatedResultRunsOnRetrievingThread() throws Exception {
+        PagedList<String> result = cbf.create(em, Document.class, "d")
+                .orderByAsc("d.name")
+                .orderByAsc("d.id")
+                .selectNew(new UpperCaseNameObjectBuilder(Thread.currentThread()))
+                .page(0, 2)
+                .withKeysetExtraction(true)
+                .getResultListAsync()
+                .get();
+
+        Assert.assertEquals(Arrays.asList("DOC0", "DOC1"), result);
+        Assert.assertEquals(5, result.getTotalSize());
+        Assert.assertEquals("doc0", result.getKeysetPage().getLowest().getTuple()[0]);
+        Assert.assertEquals("doc1", result.getKeysetPage().getHighest().getTuple()[0]);
+    }
+
+    @Test
+    public void objectBuilderOfAsyncPaginatedResultWithIdQueryRunsOnRetrievingThread() throws Exception {
+        PagedList<String> result = cbf.create(em, Document.class, "d")
+                .orderByDesc("d.id")
+                .selectNew(new UpperCaseNameObjectBuilder(Thread.currentThread()))
+                .page(0, 2)
+                .withForceIdQuery(true)
+                .getResultListAsync()
+                .get();
+
+        Assert.assertEquals(Arrays.asList("DOC4", "DOC3"), result);
+        Assert.assertEquals(5, result.getTotalSize());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    @Category({ NoDatanucleus.class, NoEclipselink.class, NoOpenJPA.class })
+    public void asyncPaginatedQueryWithBoundedCountIsRejected() {
+        cbf.create(em, Document.class, "d")
+                .orderByAsc("d.id")
+                .page(0, 2)
+                .withBoundedCount(3)
+                .getResultListAsync();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    @Category({ NoDatanucleus.class, NoEclipselink.class, NoOpenJPA.class })
+    public void asyncQueryWithSqlRewritingIsRejected() {
+        cbf.create(em, String.class)
+                .fromValues(String.class, "allowedName", Collections.singleton("doc1"))
+                .from(Document.class, "d")
+                .where("d.name").eqExpression("allowedName")
+                .select("d.name")
+                .getResultListAsync();
+    }
+
+    private static class UpperCaseNameObjectBuilder implements ObjectBuilder<String> {
+
+        private final Thread retrievingThread;
+
+        public UpperCaseNameObjectBuilder(Thread retrievingThread) {
+            this.retrievingThread = retrievingThread;
+        }
+
+        @Override
+        public <X extends SelectBuilder<X>> void applySelects(X queryBuilder) {
+            queryBuilder.select("d.name");
+        }
+
+        @Override
+        public String build(Object[] tuple) {
+            Assert.assertSame(retrievingThread, Thread.currentThread());
+            return ((String) tuple[0]).toUpperCase();
+        }
+
+        @Override
+        public List<String> buildList(List<String> list) {
+            Assert.assertSame(retrievingThread, Thread.currentThread());
+            return list;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.testsuite;
+
+import com.blazebit.persistence.parser.EntityMetamodel;
+import com.blazebit.persistence.spi.ExtendedAttribute;
+import com.blazebit.persistence.spi.ExtendedManagedType;
+import com.blazebit.persistence.spi.JpaProvider;
+import com.blazebit.persistence.testsuite.entity.Document;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.ManagedType;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public class EntityMetamodelLookupTest extends AbstractCoreTest {
+
+    @Test
+    public void managedTypeInstanceResolvesSameExtendedManagedType() {
+        EntityMetamodel metamodel = cbf.getService(EntityMetamodel.class);
+        EntityType<Document> entityType = metamodel.entity(Document.class);
+
+        ExtendedManagedType<?> byClass = metamodel.getManagedType(ExtendedManagedType.class, Document.class);
+        Assert.assertSame(byClass, metamodel.getManagedType(ExtendedManagedType.class, entityType));
+        Assert.assertSame(byClass, metamodel.getManagedType(ExtendedManagedType.class, entityType.getName()));
+        Assert.assertNull(metamodel.getManagedType(ManagedType.class, entityType));
+    }
+
+    @Test
+    public void foreignManagedTypeInstanceResolvesByType() {
+        EntityMetamodel metamodel = cbf.getService(EntityMetamodel.class);
+        final EntityType<Document> entityType = metamodel.entity(Document.class);
+        // A managed type instance that is equal to none of the metamodel, so it can't be resolved by identity
+        EntityType<?> foreignEntityType = (EntityType<?>) Proxy.newProxyInstance(EntityType.class.getClassLoader(), new Class[]{ EntityType.class }, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                if ("equals".equals(method.getName())) {
+                    return proxy == args[0];
+                } else if ("hashCode".equals(method.getName())) {
+                    return System.identityHashCode(proxy);
+                }
+                try {
+                    return method.invoke(entityType, args);
+                } catch (InvocationTargetException ex) {
+                    throw ex.getCause();
+                }
+            }
+        });
+
+        Assert.assertSame(metamodel.getManagedType(ExtendedManagedType.class, Document.class), metamodel.getManagedType(ExtendedManagedType.class, foreignEntityType));
+    }
+
+    @Test
+    public void cachingJpaProviderUsesExtendedAttributes() {
+        EntityMetamodel metamodel = cbf.getService(EntityMetamodel.class);
+        JpaProvider jpaProvider = cbf.getService(JpaProvider.class);
+        EntityType<Document> entityType = metamodel.entity(Document.class);
+        ExtendedManagedType<Document> extendedManagedType = metamodel.getManagedType(ExtendedManagedType.class, Document.class);
+
+        for (String attributeName : new String[]{ "owner", "people", "partners" }) {
+            ExtendedAttribute<Document, ?> attribute = extendedManagedType.getAttribute(attributeName);
+            Assert.assertEquals(attribute.isForeignJoinColumn(), jpaProvider.isForeignJoinColumn(entityType, attributeName));
+            Assert.assertArrayEquals(attribute.getColumnNames(), jpaProvider.getColumnNames(entityType, attributeName));
+            Assert.assertEquals(attribute.getMappedBy(), jpaProvider.getMappedBy(entityType, attributeName));
+        }
+    }
+}
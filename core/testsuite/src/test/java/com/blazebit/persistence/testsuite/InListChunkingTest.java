@@ -0,0 +1,111 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.testsuite;
+
+import com.blazebit.persistence.ConfigurationProperties;
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.testsuite.entity.Person;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public class InListChunkingTest extends AbstractCoreTest {
+
+    @Override
+    public void setUpOnce() {
+        cleanDatabase();
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                Person owner = new Person("Karl1");
+                em.persist(owner);
+                for (int i = 0; i < 5; i++) {
+                    Document document = new Document("doc" + i);
+                    document.setOwner(owner);
+                    em.persist(document);
+                }
+            }
+        });
+    }
+
+    @Test
+    public void inListIsSplitIntoChunks() {
+        List<Long> ids = documentIds();
+        CriteriaBuilder<Document> cb = cbf.create(em, Document.class, "d")
+                .setProperty(ConfigurationProperties.IN_LIST_CHUNK_SIZE, "2")
+                .where("d.id").in(ids)
+                .orderByAsc("d.id");
+
+        Assert.assertTrue(cb.getQueryString().contains(":param_2"));
+        Assert.assertEquals(5, cb.getResultList().size());
+    }
+
+    @Test
+    public void notInListIsSplitIntoChunks() {
+        List<Long> ids = documentIds();
+        CriteriaBuilder<Document> cb = cbf.create(em, Document.class, "d")
+                .setProperty(ConfigurationProperties.IN_LIST_CHUNK_SIZE, "2")
+                .where("d.id").notIn(ids.subList(0, 3))
+                .orderByAsc("d.id");
+
+        List<Document> result = cb.getResultList();
+        Assert.assertEquals(2, result.size());
+        Assert.assertEquals("doc3", result.get(0).getName());
+        Assert.assertEquals("doc4", result.get(1).getName());
+    }
+
+    @Test
+    public void paddedInListReturnsSameResults() {
+        List<Long> ids = documentIds();
+        CriteriaBuilder<Document> cb = cbf.create(em, Document.class, "d")
+                .setProperty(ConfigurationProperties.IN_LIST_PADDING, "true")
+                .where("d.id").in(ids.subList(0, 3))
+                .orderByAsc("d.id");
+
+        // Padding happens when binding, so the query string keeps a single list parameter that is bound with 4 values
+        Assert.assertEquals("SELECT d FROM Document d WHERE d.id IN " + listParameter("param_0") + " ORDER BY d.id ASC", cb.getQueryString());
+        TypedQuery<Document> query = cb.getQuery();
+        Collection<?> boundValues = (Collection<?>) query.getParameterValue("param_0");
+        Assert.assertEquals(4, boundValues.size());
+        Assert.assertEquals(Arrays.asList(ids.get(0), ids.get(1), ids.get(2), ids.get(2)), new ArrayList<Object>(boundValues));
+
+        List<Document> result = query.getResultList();
+        Assert.assertEquals(3, result.size());
+        Assert.assertEquals("doc2", result.get(2).getName());
+    }
+
+    private List<Long> documentIds() {
+        return cbf.create(em, Long.class)
+                .from(Document.class, "d")
+                .select("d.id")
+                .orderByAsc("d.id")
+                .getResultList();
+    }
+}
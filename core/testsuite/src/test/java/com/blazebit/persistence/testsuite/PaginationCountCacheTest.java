@@ -0,0 +1,109 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.testsuite;
+
+import com.blazebit.persistence.ConfigurationProperties;
+import com.blazebit.persistence.PagedList;
+import com.blazebit.persistence.PaginatedCriteriaBuilder;
+import com.blazebit.persistence.spi.CriteriaBuilderConfiguration;
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.testsuite.entity.Person;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.persistence.EntityManager;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public class PaginationCountCacheTest extends AbstractCoreTest {
+
+    @Override
+    protected CriteriaBuilderConfiguration configure(CriteriaBuilderConfiguration config) {
+        config = super.configure(config);
+        config.setProperty(ConfigurationProperties.PAGINATION_COUNT_CACHE_SIZE, "16");
+        config.setProperty(ConfigurationProperties.PAGINATION_COUNT_CACHE_TTL, "600000");
+        return config;
+    }
+
+    @Override
+    public void setUpOnce() {
+        cleanDatabase();
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                Person owner = new Person("Karl1");
+                em.persist(owner);
+                for (int i = 0; i < 5; i++) {
+                    Document document = new Document("doc" + i);
+                    document.setOwner(owner);
+                    em.persist(document);
+                }
+            }
+        });
+    }
+
+    @Test
+    public void countResultIsReusedForSameParameters() {
+        Assert.assertEquals(4, page("doc0", 0).getTotalSize());
+        insertDocument("doc5");
+
+        // The cached count is reused for the next page
+        Assert.assertEquals(4, page("doc0", 2).getTotalSize());
+        // Different parameter values result in a new count
+        Assert.assertEquals(5, page("doc1", 0).getTotalSize());
+    }
+
+    @Test
+    public void countEstimationBelowThresholdUsesExactCount() {
+        PagedList<Document> result = cbf.create(em, Document.class, "d")
+                .where("d.name").notEq("doc4")
+                .orderByAsc("d.id")
+                .page(0, 2)
+                .withInlineCountQuery(false)
+                .withCountEstimation(1000000L)
+                .getResultList();
+
+        Assert.assertEquals(4, result.getTotalSize());
+        Assert.assertEquals(2, result.size());
+    }
+
+    private PagedList<Document> page(String excludedName, int firstResult) {
+        PaginatedCriteriaBuilder<Document> cb = cbf.create(em, Document.class, "d")
+                .where("d.name").notEq(excludedName)
+                .orderByAsc("d.id")
+                .page(firstResult, 2)
+                .withInlineCountQuery(false);
+        return cb.getResultList();
+    }
+
+    private void insertDocument(final String name) {
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                Person owner = new Person("Owner " + name);
+                em.persist(owner);
+                Document document = new Document(name);
+                document.setOwner(owner);
+                em.persist(document);
+            }
+        });
+    }
+}
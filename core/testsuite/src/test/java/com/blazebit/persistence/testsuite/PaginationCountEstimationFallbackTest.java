@@ -0,0 +1,87 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.testsuite;
+
+import com.blazebit.persistence.PagedList;
+import com.blazebit.persistence.impl.CriteriaBuilderConfigurationImpl;
+import com.blazebit.persistence.spi.CriteriaBuilderConfiguration;
+import com.blazebit.persistence.spi.DbmsDialect;
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.testsuite.entity.Person;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.persistence.EntityManager;
+import java.util.Map;
+
+/**
+ * Simulates a DBMS that fails to create the plan for the count estimation like PostgreSQL before version 16 does for queries with parameters.
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public class PaginationCountEstimationFallbackTest extends AbstractCoreTest {
+
+    @Override
+    protected CriteriaBuilderConfiguration configure(CriteriaBuilderConfiguration config) {
+        config = super.configure(config);
+        Map<String, DbmsDialect> dbmsDialects = ((CriteriaBuilderConfigurationImpl) config).getDbmsDialects();
+        DbmsDialect dialect = dbmsDialects.containsKey(dbms) ? dbmsDialects.get(dbms) : dbmsDialects.get(null);
+        config.registerDialect(dbms, new DelegatingDbmsDialect(dialect) {
+            @Override
+            public String getCountEstimationSql(String countSql, long serverVersion) {
+                return "select count(*) from blaze_count_estimation_missing_table";
+            }
+        });
+        return config;
+    }
+
+    @Override
+    public void setUpOnce() {
+        cleanDatabase();
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                Person owner = new Person("Karl1");
+                em.persist(owner);
+                for (int i = 0; i < 5; i++) {
+                    Document document = new Document("doc" + i);
+                    document.setOwner(owner);
+                    em.persist(document);
+                }
+            }
+        });
+    }
+
+    @Test
+    public void failedCountEstimationFallsBackToExactCount() {
+        Assert.assertEquals(4, page().getTotalSize());
+        // The failed estimation must not break subsequent queries of the entity manager
+        Assert.assertEquals(4, page().getTotalSize());
+    }
+
+    private PagedList<Document> page() {
+        return cbf.create(em, Document.class, "d")
+                .where("d.name").notEq("doc4")
+                .orderByAsc("d.id")
+                .page(0, 2)
+                .withInlineCountQuery(false)
+                .withCountEstimation(0)
+                .getResultList();
+    }
+}
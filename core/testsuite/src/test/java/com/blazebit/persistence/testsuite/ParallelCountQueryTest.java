@@ -0,0 +1,117 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.testsuite;
+
+import com.blazebit.persistence.ConfigurationProperties;
+import com.blazebit.persistence.PagedList;
+import com.blazebit.persistence.spi.CriteriaBuilderConfiguration;
+import com.blazebit.persistence.spi.SecondaryEntityManagerProvider;
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.testsuite.entity.Person;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.persistence.EntityManager;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public class ParallelCountQueryTest extends AbstractCoreTest {
+
+    private static final AtomicInteger EXECUTIONS = new AtomicInteger();
+
+    @Override
+    protected CriteriaBuilderConfiguration configure(CriteriaBuilderConfiguration config) {
+        config = super.configure(config);
+        config.setProperty(ConfigurationProperties.PARALLEL_COUNT_QUERY, "true");
+        config.withParallelQueryExecution(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                EXECUTIONS.incrementAndGet();
+                new Thread(command).start();
+            }
+        }, SecondaryEntityManagerProvider.DEFAULT);
+        return config;
+    }
+
+    @Override
+    public void setUpOnce() {
+        cleanDatabase();
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                Person owner = new Person("Karl1");
+                em.persist(owner);
+                for (int i = 0; i < 5; i++) {
+                    Document document = new Document("doc" + i);
+                    document.setOwner(owner);
+                    em.persist(document);
+                }
+            }
+        });
+    }
+
+    @Test
+    public void countQueryRunsConcurrently() {
+        int executions = EXECUTIONS.get();
+        PagedList<Document> result = cbf.create(em, Document.class, "d")
+                .orderByAsc("d.id")
+                .page(0, 2)
+                .withInlineCountQuery(false)
+                .getResultList();
+
+        Assert.assertEquals(executions + 1, EXECUTIONS.get());
+        Assert.assertEquals(2, result.size());
+        Assert.assertEquals(5, result.getTotalSize());
+    }
+
+    @Test
+    public void countQueryRunsConcurrentlyToIdQuery() {
+        int executions = EXECUTIONS.get();
+        PagedList<Document> result = cbf.create(em, Document.class, "d")
+                .where("d.name").notEq("doc0")
+                .orderByAsc("d.id")
+                .page(2, 2)
+                .withForceIdQuery(true)
+                .withInlineIdQuery(false)
+                .withInlineCountQuery(false)
+                .getResultList();
+
+        Assert.assertEquals(executions + 1, EXECUTIONS.get());
+        Assert.assertEquals(2, result.size());
+        Assert.assertEquals(4, result.getTotalSize());
+    }
+
+    @Test
+    public void parallelCountQueryCanBeDisabledPerQuery() {
+        int executions = EXECUTIONS.get();
+        PagedList<Document> result = cbf.create(em, Document.class, "d")
+                .setProperty(ConfigurationProperties.PARALLEL_COUNT_QUERY, "false")
+                .orderByAsc("d.id")
+                .page(0, 2)
+                .withInlineCountQuery(false)
+                .getResultList();
+
+        Assert.assertEquals(executions, EXECUTIONS.get());
+        Assert.assertEquals(5, result.getTotalSize());
+    }
+}
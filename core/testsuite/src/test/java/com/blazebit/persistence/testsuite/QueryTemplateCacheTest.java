@@ -0,0 +1,135 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.testsuite;
+
+import com.blazebit.persistence.ConfigurationProperties;
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.impl.QueryTemplateCache;
+import com.blazebit.persistence.spi.CriteriaBuilderConfiguration;
+import com.blazebit.persistence.testsuite.entity.Document;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.persistence.TypedQuery;
+import java.util.Arrays;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public class QueryTemplateCacheTest extends AbstractCoreTest {
+
+    @Override
+    protected CriteriaBuilderConfiguration configure(CriteriaBuilderConfiguration config) {
+        config = super.configure(config);
+        config.setProperty(ConfigurationProperties.QUERY_TEMPLATE_CACHE_SIZE, "16");
+        return config;
+    }
+
+    @Test
+    public void sameShapeWithDifferentParameterValuesHitsCache() {
+        QueryTemplateCache cache = cbf.getService(QueryTemplateCache.class);
+        long hits = cache.getHitCount();
+        CriteriaBuilder<Document> cb1 = cbf.create(em, Document.class, "d")
+                .where("d.name").eq("doc1")
+                .orderByAsc("d.id");
+        CriteriaBuilder<Document> cb2 = cbf.create(em, Document.class, "d")
+                .where("d.name").eq("doc2")
+                .orderByAsc("d.id");
+
+        cb1.getQuery();
+        cb2.getQuery();
+
+        Assert.assertEquals(hits + 1, cache.getHitCount());
+        Assert.assertEquals(cb1.getQueryString(), cb2.getQueryString());
+        Assert.assertEquals("doc2", cb2.getParameterValue("param_0"));
+    }
+
+    @Test
+    public void differentShapesDoNotShareQueryString() {
+        QueryTemplateCache cache = cbf.getService(QueryTemplateCache.class);
+        long hits = cache.getHitCount();
+        CriteriaBuilder<Document> cb1 = cbf.create(em, Document.class, "d")
+                .where("d.age").eq(1L)
+                .orderByAsc("d.id");
+        CriteriaBuilder<Document> cb2 = cbf.create(em, Document.class, "d")
+                .where("d.age").notEq(1L)
+                .orderByDesc("d.id");
+
+        cb1.getQuery();
+        cb2.getQuery();
+
+        Assert.assertEquals(hits, cache.getHitCount());
+        Assert.assertEquals("SELECT d FROM Document d WHERE d.age = :param_0 ORDER BY d.id ASC", cb1.getQueryString());
+        Assert.assertEquals("SELECT d FROM Document d WHERE d.age <> :param_0 ORDER BY d.id DESC", cb2.getQueryString());
+    }
+
+    @Test
+    public void parameterListIsReusedForSameShape() {
+        QueryTemplateCache cache = cbf.getService(QueryTemplateCache.class);
+        long hits = cache.getHitCount();
+        CriteriaBuilder<Document> cb1 = cbf.create(em, Document.class, "d")
+                .where("d.id").in(Arrays.asList(1L, 2L))
+                .orderByAsc("d.id");
+        CriteriaBuilder<Document> cb2 = cbf.create(em, Document.class, "d")
+                .where("d.id").in(Arrays.asList(3L, 4L, 5L))
+                .orderByAsc("d.id");
+        CriteriaBuilder<Document> cb3 = cbf.create(em, Document.class, "d")
+                .where("d.id").in(Arrays.asList(6L))
+                .orderByAsc("d.id");
+
+        // The first query determines the parameter layout, the others bind their values based on the cached layout
+        cb1.getResultList();
+        TypedQuery<Document> query2 = cb2.getQuery();
+        TypedQuery<Document> query3 = cb3.getQuery();
+        query3.getResultList();
+
+        Assert.assertEquals(hits + 2, cache.getHitCount());
+        Assert.assertEquals(cb1.getQueryString(), cb2.getQueryString());
+        Assert.assertEquals(cb1.getQueryString(), cb3.getQueryString());
+        Assert.assertEquals(Arrays.asList(3L, 4L, 5L), query2.getParameterValue("param_0"));
+        Assert.assertEquals(Arrays.asList(6L), query3.getParameterValue("param_0"));
+    }
+
+    @Test
+    public void evictedShapeIsRenderedAgain() {
+        QueryTemplateCache cache = cbf.getService(QueryTemplateCache.class);
+        CriteriaBuilder<Document> firstCb = cbf.create(em, Document.class, "d")
+                .where("d.name").eq("doc1")
+                .setMaxResults(1);
+        firstCb.getQuery();
+        // The max results are part of the shape, so every builder has a different shape
+        for (int i = 2; i <= 32; i++) {
+            cbf.create(em, Document.class, "d")
+                    .where("d.name").eq("doc1")
+                    .setMaxResults(i)
+                    .getQuery();
+        }
+        long misses = cache.getMissCount();
+        CriteriaBuilder<Document> cb = cbf.create(em, Document.class, "d")
+                .where("d.name").eq("doc2")
+                .setMaxResults(1);
+        cb.getQuery();
+
+        Assert.assertTrue(cache.size() <= 16);
+        Assert.assertTrue(cache.getEvictionCount() > 0);
+        Assert.assertEquals(misses + 1, cache.getMissCount());
+        Assert.assertEquals(firstCb.getQueryString(), cb.getQueryString());
+        Assert.assertEquals("doc2", cb.getParameterValue("param_0"));
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.testsuite;
+
+import com.blazebit.persistence.ConfigurationProperties;
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.impl.query.SqlTemplateCache;
+import com.blazebit.persistence.spi.CriteriaBuilderConfiguration;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoEclipselink;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoMySQLOld;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoOpenJPA;
+import com.blazebit.persistence.testsuite.entity.RecursiveEntity;
+import com.blazebit.persistence.testsuite.entity.TestCTE;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import javax.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public class SqlTemplateCacheTest extends AbstractCoreTest {
+
+    @Override
+    protected Class<?>[] getEntityClasses() {
+        return new Class<?>[]{
+            RecursiveEntity.class,
+            TestCTE.class
+        };
+    }
+
+    @Override
+    protected CriteriaBuilderConfiguration configure(CriteriaBuilderConfiguration config) {
+        config = super.configure(config);
+        config.setProperty(ConfigurationProperties.SQL_TEMPLATE_CACHE_SIZE, "16");
+        return config;
+    }
+
+    @Override
+    public void setUpOnce() {
+        cleanDatabase();
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                RecursiveEntity root1 = new RecursiveEntity("root1");
+                RecursiveEntity child1_1 = new RecursiveEntity("child1_1", root1);
+                em.persist(root1);
+                em.persist(child1_1);
+            }
+        });
+    }
+
+    @Test
+    @Category({ NoDatanucleus.class, NoEclipselink.class, NoOpenJPA.class, NoMySQLOld.class })
+    public void cteQueryReusesSqlTemplate() {
+        SqlTemplateCache cache = cbf.getService(SqlTemplateCache.class);
+        List<TestCTE> firstResult = cteQuery().getResultList();
+        int size = cache.size();
+        List<TestCTE> secondResult = cteQuery().getResultList();
+
+        Assert.assertTrue(size > 0);
+        Assert.assertEquals(size, cache.size());
+        Assert.assertEquals(1, firstResult.size());
+        Assert.assertEquals(1, secondResult.size());
+        Assert.assertEquals("root1", secondResult.get(0).getName());
+    }
+
+    @Test
+    @Category({ NoDatanucleus.class, NoEclipselink.class, NoOpenJPA.class })
+    public void valuesQueryReusesSqlTemplate() {
+        SqlTemplateCache cache = cbf.getService(SqlTemplateCache.class);
+        List<String> firstResult = valuesQuery("a", "b").getResultList();
+        int size = cache.size();
+        List<String> secondResult = valuesQuery("c", "d").getResultList();
+
+        Assert.assertTrue(size > 0);
+        Assert.assertEquals(size, cache.size());
+        Assert.assertEquals(new HashSet<>(Arrays.asList("a", "b")), new HashSet<>(firstResult));
+        // The VALUES clause is a slot of the template, so the second query binds its own values
+        Assert.assertEquals(new HashSet<>(Arrays.asList("c", "d")), new HashSet<>(secondResult));
+    }
+
+    @Test
+    @Category({ NoDatanucleus.class, NoEclipselink.class, NoOpenJPA.class })
+    public void valuesQueryWithDifferentValueCountUsesOwnSqlTemplate() {
+        SqlTemplateCache cache = cbf.getService(SqlTemplateCache.class);
+        List<String> firstResult = valuesQuery("a").getResultList();
+        int size = cache.size();
+        List<String> secondResult = valuesQuery("a", "b", "c").getResultList();
+
+        Assert.assertEquals(size + 1, cache.size());
+        Assert.assertEquals(Arrays.asList("a"), firstResult);
+        Assert.assertEquals(new HashSet<>(Arrays.asList("a", "b", "c")), new HashSet<>(secondResult));
+    }
+
+    @Test
+    @Category({ NoDatanucleus.class, NoEclipselink.class, NoOpenJPA.class, NoMySQLOld.class })
+    public void cteWithValuesReusesSqlTemplate() {
+        SqlTemplateCache cache = cbf.getService(SqlTemplateCache.class);
+        List<TestCTE> firstResult = cteValuesQuery("root1").getResultList();
+        int size = cache.size();
+        List<TestCTE> secondResult = cteValuesQuery("child1_1").getResultList();
+
+        Assert.assertTrue(size > 0);
+        Assert.assertEquals(size, cache.size());
+        Assert.assertEquals(1, firstResult.size());
+        Assert.assertEquals("root1", firstResult.get(0).getName());
+        // The VALUES clause of the CTE is a slot of the CTE template, so the second query binds its own values
+        Assert.assertEquals(1, secondResult.size());
+        Assert.assertEquals("child1_1", secondResult.get(0).getName());
+    }
+
+    private CriteriaBuilder<TestCTE> cteValuesQuery(String... names) {
+        CriteriaBuilder<TestCTE> cb = cbf.create(em, TestCTE.class, "t");
+        cb.with(TestCTE.class, false)
+            .fromValues(RecursiveEntity.class, "name", "n", Arrays.asList(names))
+            .innerJoinOn(RecursiveEntity.class, "e")
+                .on("e.name").eqExpression("n")
+            .end()
+            .bind("id").select("e.id")
+            .bind("name").select("e.name")
+            .bind("level").select("0")
+        .end();
+        return cb;
+    }
+
+    private CriteriaBuilder<String> valuesQuery(String... names) {
+        return cbf.create(em, String.class)
+            .fromValues(RecursiveEntity.class, "name", "n", Arrays.asList(names))
+            .select("n");
+    }
+
+    private CriteriaBuilder<TestCTE> cteQuery() {
+        CriteriaBuilder<TestCTE> cb = cbf.create(em, TestCTE.class, "t").where("t.level").ltExpression("2");
+        cb.with(TestCTE.class, false)
+            .from(RecursiveEntity.class, "e")
+            .bind("id").select("e.id")
+            .bind("name").select("e.name")
+            .bind("level").select("0")
+            .where("e.parent").isNull()
+        .end();
+        return cb;
+    }
+}
@@ -35,9 +35,12 @@ public final class ConfigurationProperties {
      */
     public static final String PROXY_EAGER_LOADING = "com.blazebit.persistence.view.proxy.eager_loading";
     /**
-     * A boolean flag to make it possible to prepare all view template caches on startup.
+     * A flag to make it possible to prepare all view template caches on startup.
      * By default the eager loading of the view templates is disabled to have a better startup performance.
-     * Valid values for this property are <code>true</code> or <code>false</code>.
+     * With the value <code>async</code>, the templates are prepared in the background with the executor configured via
+     * {@linkplain com.blazebit.persistence.spi.CriteriaBuilderConfiguration#withParallelQueryExecution} after the entity view manager was created.
+     * If no executor is configured, <code>async</code> behaves like <code>true</code>.
+     * Valid values for this property are <code>true</code>, <code>false</code> or <code>async</code>.
      *
      * @since 1.2.0
      */
@@ -103,6 +106,30 @@ public final class ConfigurationProperties {
      * @since 1.3.0
      */
     public static final String EXPECT_BATCH_MODE = "com.blazebit.persistence.view.batch_mode";
+    /**
+     * An integer value that defines how many batches of a <code>SELECT</code> fetched attribute may be loaded concurrently.
+     * By default the value is 1 which means that batches are loaded sequentially. A higher value requires a batch size greater than 1
+     * and an executor configured via {@linkplain com.blazebit.persistence.spi.CriteriaBuilderConfiguration#withParallelQueryExecution}.
+     * The additional batches are loaded through secondary entity managers, so entity results are not managed by the entity manager of the main query.
+     * The value can be overridden by setting this property via {@linkplain com.blazebit.persistence.view.EntityViewSetting#setProperty}.
+     *
+     * To specify the batch parallelism of a specific attribute, append the attribute name after the "batch_parallelism" like
+     * e.g. <code>com.blazebit.persistence.view.batch_parallelism.subProperty</code>
+     *
+     * @since 1.5.0
+     */
+    public static final String BATCH_PARALLELISM = "com.blazebit.persistence.view.batch_parallelism";
+    /**
+     * An integer value that defines how many threads may build the entity view objects of a query result list concurrently.
+     * By default the value is 1 which means that objects are built on the calling thread. A higher value requires an executor
+     * configured via {@linkplain com.blazebit.persistence.spi.CriteriaBuilderConfiguration#withParallelQueryExecution}.
+     * The result list is split into contiguous ranges of at least 1024 tuples, so smaller result lists are still built on the calling thread.
+     * Note that converters and <code>@PostLoad</code> methods may be invoked on executor threads.
+     * The value can be overridden by setting this property via {@linkplain com.blazebit.persistence.view.EntityViewSetting#setProperty}.
+     *
+     * @since 1.5.0
+     */
+    public static final String MATERIALIZATION_PARALLELISM = "com.blazebit.persistence.view.materialization_parallelism";
     /**
      * A boolean flag to make it possible to prepare the entity view updater cache on startup.
      * By default the eager loading of entity view updates is disabled to have a better startup performance.
@@ -167,6 +194,28 @@ public final class ConfigurationProperties {
      */
     public static final String UPDATER_ERROR_ON_INVALID_PLURAL_SETTER = "com.blazebit.persistence.view.updater.error_on_invalid_plural_setter";
 
+    /**
+     * The maximum number of partial update query strings that are cached per updatable entity view type.
+     * Partial update queries are keyed by the set of dirty attributes, so repeatedly flushing the same attributes reuses the query string.
+     * A value of <code>0</code> disables the cache.
+     * By default up to 32 query strings are cached per entity view type i.e. the default value is <code>32</code>.
+     * Valid values for this property are non-negative integers.
+     *
+     * @since 1.5.0
+     */
+    public static final String UPDATER_QUERY_CACHE_SIZE = "com.blazebit.persistence.view.updater.query_cache_size";
+
+    /**
+     * A boolean flag that allows to enable inserting added elements of non-indexed collections with multi-row inserts.
+     * When enabled, the elements are inserted through an insert query from a VALUES clause in chunks, whose row count is limited
+     * by the bind parameter limit of the DBMS and the number of parameters per element. The insert query is reused for all full chunks.
+     * By default the use is disabled i.e. the default value is <code>false</code>.
+     * Valid values for this property are <code>true</code> or <code>false</code>.
+     *
+     * @since 1.5.0
+     */
+    public static final String UPDATER_MULTI_ROW_INSERT = "com.blazebit.persistence.view.updater.multi_row_insert";
+
     /**
      * A boolean flag that allows to disable a count query for a paginated criteria builder.
      *
@@ -239,6 +288,19 @@ public final class ConfigurationProperties {
      */
     public static final String STATIC_IMPLEMENTATION_SCANNING_DISABLED = "com.blazebit.persistence.view.static_implementation_scanning_disabled";
 
+    /**
+     * A boolean flag to make it possible to require a static implementation annotated with {@link StaticImplementation} for every entity view type
+     * that is an interface or an abstract class. When enabled, entity view implementations are never generated at runtime,
+     * so a missing static implementation is reported as error during the bootstrap and unsafe proxies are disabled.
+     * The static implementations are generated at build time by the annotation processor.
+     * This property has no effect if {@link #STATIC_IMPLEMENTATION_SCANNING_DISABLED} is set to <code>true</code>.
+     * By default implementations are generated at runtime if no static implementation is found i.e. the default value is <code>false</code>.
+     * Valid values for this property are <code>true</code> or <code>false</code>.
+     *
+     * @since 1.5.0
+     */
+    public static final String STATIC_IMPLEMENTATION_REQUIRED = "com.blazebit.persistence.view.static_implementation_required";
+
     /**
      * A boolean flag to make it possible to disable the scanning for static metmodels annotated with {@link StaticMetamodel}.
      * By default the scanning is enabled i.e. the default value is <code>false</code>.
@@ -257,6 +319,17 @@ public final class ConfigurationProperties {
      */
     public static final String CREATE_EMPTY_FLAT_VIEWS = "com.blazebit.persistence.view.create_empty_flat_views";
 
+    /**
+     * The number of threads to use for the independent tasks of the entity view manager bootstrap i.e. the expression validation
+     * and the eager template creation of the entity view types. The tasks run on a fork-join pool that only lives during the bootstrap.
+     * A value of <code>1</code> runs all tasks on the bootstrapping thread, a value of <code>0</code> uses the number of available processors.
+     * By default the bootstrap runs on the bootstrapping thread i.e. the default value is <code>1</code>.
+     * Valid values for this property are non-negative integers.
+     *
+     * @since 1.5.0
+     */
+    public static final String BOOTSTRAP_PARALLELISM = "com.blazebit.persistence.view.bootstrap_parallelism";
+
     private ConfigurationProperties() {
     }
 }
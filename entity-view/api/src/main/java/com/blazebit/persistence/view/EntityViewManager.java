@@ -366,6 +366,17 @@ public interface EntityViewManager extends ServiceProvider {
      */
     public void saveFullTo(EntityManager entityManager, Object view, Object entity);
 
+    /**
+     * Saves the entities which the given entity views map to within a single flush operation.
+     * Issues partial updates if enabled for the respective views.
+     * The views are flushed in the given order and views that change the same attributes reuse the same update query.
+     *
+     * @param entityManager The entity manager to use for the save
+     * @param views The views to use for saving
+     * @since 1.5.0
+     */
+    public void saveAll(EntityManager entityManager, Iterable<?> views);
+
     /**
      * Updates the entity which the given entity view maps to.
      * Issues a partial update if enabled for the given view.
@@ -433,6 +444,18 @@ public interface EntityViewManager extends ServiceProvider {
      */
     public FlushOperationBuilder saveFullWithTo(EntityManager entityManager, Object view, Object entity);
 
+    /**
+     * Saves the entities which the given entity views map to within a single flush operation.
+     * Issues partial updates if enabled for the respective views.
+     * The views are flushed in the given order and views that change the same attributes reuse the same update query.
+     *
+     * @param entityManager The entity manager to use for the save
+     * @param views The views to use for saving
+     * @return A flush operation builder for further configuring the flush operation
+     * @since 1.5.0
+     */
+    public FlushOperationBuilder saveAllWith(EntityManager entityManager, Iterable<?> views);
+
     /**
      * Removes the entity represented by the given view.
      * Also cascades deletes to attributes that have {@link CascadeType#DELETE} enabled.
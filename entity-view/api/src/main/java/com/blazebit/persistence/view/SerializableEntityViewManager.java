@@ -209,6 +209,11 @@ public class SerializableEntityViewManager implements EntityViewManager, Seriali
         getEvm().saveFullTo(entityManager, view, entity);
     }
 
+    @Override
+    public void saveAll(EntityManager entityManager, Iterable<?> views) {
+        getEvm().saveAll(entityManager, views);
+    }
+
     @Override
     @Deprecated
     public void update(EntityManager entityManager, Object view) {
@@ -241,6 +246,11 @@ public class SerializableEntityViewManager implements EntityViewManager, Seriali
         return getEvm().saveFullWithTo(entityManager, view, entity);
     }
 
+    @Override
+    public FlushOperationBuilder saveAllWith(EntityManager entityManager, Iterable<?> views) {
+        return getEvm().saveAllWith(entityManager, views);
+    }
+
     @Override
     public void remove(EntityManager entityManager, Object view) {
         getEvm().remove(entityManager, view);
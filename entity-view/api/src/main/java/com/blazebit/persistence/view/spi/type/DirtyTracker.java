@@ -65,7 +65,8 @@ public interface DirtyTracker extends BasicDirtyTracker {
     public long[] $$_getDirty();
 
     /**
-     * Returns the dirty bit mask as long.
+     * Returns the dirty bit mask as long. For objects with more than 64 attributes,
+     * this only covers the first 64 attributes, use {@link #$$_getDirty()} or {@link #$$_isDirty(int)} instead.
      *
      * @return the dirty bit mask as long
      */
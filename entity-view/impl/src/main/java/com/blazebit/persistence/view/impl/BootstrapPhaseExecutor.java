@@ -0,0 +1,139 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.view.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the tasks of the phases of the entity view manager bootstrap and records the duration of every phase.
+ * The tasks of a phase must be independent of each other. They run on a fork-join pool that lives for the duration of the phase
+ * if a parallelism greater than 1 is configured, otherwise on the calling thread. A phase only starts after all tasks of the previous phase finished.
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public final class BootstrapPhaseExecutor {
+
+    private final int parallelism;
+    private final Map<String, Long> phaseDurations = new LinkedHashMap<>();
+
+    public BootstrapPhaseExecutor(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Illegal non-positive parallelism: " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public <T> void execute(String phase, Collection<? extends Callable<T>> tasks) {
+        long start = System.nanoTime();
+        try {
+            if (parallelism == 1 || tasks.size() < 2) {
+                for (Callable<T> task : tasks) {
+                    try {
+                        task.call();
+                    } catch (RuntimeException ex) {
+                        throw ex;
+                    } catch (Exception ex) {
+                        throw new IllegalStateException("Bootstrap phase '" + phase + "' failed", ex);
+                    }
+                }
+            } else {
+                ForkJoinPool pool = new ForkJoinPool(Math.min(parallelism, tasks.size()));
+                List<Future<T>> futures;
+                try {
+                    futures = pool.invokeAll(tasks);
+                } finally {
+                    pool.shutdown();
+                }
+                RuntimeException exception = null;
+                for (Future<T> future : futures) {
+                    try {
+                        future.get();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Interrupted while waiting for the bootstrap phase '" + phase + "'", ex);
+                    } catch (ExecutionException ex) {
+                        if (exception == null) {
+                            Throwable cause = ex.getCause();
+                            // The fork-join pool might wrap an exception of another thread into a new instance of the same type
+                            if (cause != null && cause.getCause() != null && cause.getClass() == cause.getCause().getClass()) {
+                                cause = cause.getCause();
+                            }
+                            if (cause instanceof RuntimeException) {
+                                exception = (RuntimeException) cause;
+                            } else if (cause instanceof Error) {
+                                throw (Error) cause;
+                            } else {
+                                exception = new IllegalStateException("Bootstrap phase '" + phase + "' failed", cause);
+                            }
+                        }
+                    }
+                }
+                if (exception != null) {
+                    throw exception;
+                }
+            }
+        } finally {
+            record(phase, start);
+        }
+    }
+
+    public void record(String phase, long startNanos) {
+        long duration = System.nanoTime() - startNanos;
+        Long previousDuration = phaseDurations.get(phase);
+        if (previousDuration != null) {
+            duration += previousDuration;
+        }
+        phaseDurations.put(phase, duration);
+    }
+
+    public Map<String, Long> getPhaseDurations() {
+        return phaseDurations;
+    }
+
+    public String getReport() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Entity view bootstrap with parallelism ").append(getParallelism()).append(" took");
+        long total = 0L;
+        List<String> phases = new ArrayList<>(phaseDurations.size());
+        for (Map.Entry<String, Long> entry : phaseDurations.entrySet()) {
+            total += entry.getValue();
+            phases.add(entry.getKey() + ": " + TimeUnit.NANOSECONDS.toMillis(entry.getValue()) + "ms");
+        }
+        sb.append(' ').append(TimeUnit.NANOSECONDS.toMillis(total)).append("ms");
+        for (int i = 0; i < phases.size(); i++) {
+            sb.append(i == 0 ? " [" : ", ").append(phases.get(i));
+        }
+        if (!phases.isEmpty()) {
+            sb.append(']');
+        }
+        return sb.toString();
+    }
+}
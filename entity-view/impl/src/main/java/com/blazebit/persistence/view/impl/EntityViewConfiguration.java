@@ -49,6 +49,8 @@ public final class EntityViewConfiguration {
     private final Set<String> fetches;
     private final Map<String, Integer> batchSizeConfiguration;
     private final Map<String, BatchCorrelationMode> expectBatchCorrelationValuesConfiguration;
+    private final Map<String, Integer> batchParallelismConfiguration;
+    private final int materializationParallelism;
 
     public EntityViewConfiguration(FullQueryBuilder<?, ?> criteriaBuilder, ExpressionFactory expressionFactory, ViewJpqlMacro viewJpqlMacro, EmbeddingViewJpqlMacro embeddingViewJpqlMacro, Map<String, Object> optionalParameters, Map<String, Object> properties, Collection<String> fetches, String attributePath) {
         this(criteriaBuilder, expressionFactory, viewJpqlMacro, embeddingViewJpqlMacro, optionalParameters, properties, getFetches(fetches, attributePath));
@@ -61,6 +63,8 @@ public final class EntityViewConfiguration {
     private EntityViewConfiguration(FullQueryBuilder<?, ?> criteriaBuilder, ExpressionFactory expressionFactory, ViewJpqlMacro viewJpqlMacro, EmbeddingViewJpqlMacro embeddingViewJpqlMacro, Map<String, Object> optionalParameters, Map<String, Object> properties, Set<String> fetches) {
         Map<String, Integer> batchSizeConfiguration = new HashMap<String, Integer>(properties.size());
         Map<String, BatchCorrelationMode> expectBatchCorrelationValuesConfiguration = new HashMap<>(properties.size());
+        Map<String, Integer> batchParallelismConfiguration = new HashMap<>(properties.size());
+        int materializationParallelism = 1;
 
         for (Map.Entry<String, Object> entry : properties.entrySet()) {
             String key = entry.getKey();
@@ -94,6 +98,18 @@ public final class EntityViewConfiguration {
                     key = key.substring(ConfigurationProperties.EXPECT_BATCH_MODE.length() + 1);
                     expectBatchCorrelationValuesConfiguration.put(key, value);
                 }
+            } else if (key.startsWith(ConfigurationProperties.BATCH_PARALLELISM)) {
+                Integer value = getBatchParallelism(key, entry.getValue());
+                if (key.length() == ConfigurationProperties.BATCH_PARALLELISM.length()) {
+                    batchParallelismConfiguration.put("", value);
+                } else if (key.length() < ConfigurationProperties.BATCH_PARALLELISM.length() + 2) {
+                    throw new IllegalArgumentException("Invalid batch parallelism configuration!");
+                } else {
+                    key = key.substring(ConfigurationProperties.BATCH_PARALLELISM.length() + 1);
+                    batchParallelismConfiguration.put(key, value);
+                }
+            } else if (key.equals(ConfigurationProperties.MATERIALIZATION_PARALLELISM)) {
+                materializationParallelism = getMaterializationParallelism(entry.getValue());
             }
         }
 
@@ -105,6 +121,8 @@ public final class EntityViewConfiguration {
         this.fetches = fetches;
         this.batchSizeConfiguration = Collections.unmodifiableMap(batchSizeConfiguration);
         this.expectBatchCorrelationValuesConfiguration = Collections.unmodifiableMap(expectBatchCorrelationValuesConfiguration);
+        this.batchParallelismConfiguration = Collections.unmodifiableMap(batchParallelismConfiguration);
+        this.materializationParallelism = materializationParallelism;
         this.criteriaBuilder.registerMacro("view", viewJpqlMacro);
         this.criteriaBuilder.registerMacro("embedding_view", embeddingViewJpqlMacro);
     }
@@ -118,6 +136,9 @@ public final class EntityViewConfiguration {
         this.fetches = original.fetches;
         this.batchSizeConfiguration = original.batchSizeConfiguration;
         this.expectBatchCorrelationValuesConfiguration = original.expectBatchCorrelationValuesConfiguration;
+        this.batchParallelismConfiguration = original.batchParallelismConfiguration;
+        // Only the objects of the view root are built in parallel
+        this.materializationParallelism = 1;
     }
 
     private static Set<String> getFetches(Collection<String> fetches, String attributePath) {
@@ -269,6 +290,56 @@ public final class EntityViewConfiguration {
         return val;
     }
 
+    public int getBatchParallelism(String attributePath) {
+        Integer value = batchParallelismConfiguration.get(attributePath);
+        if (value == null) {
+            value = batchParallelismConfiguration.get("");
+        }
+        if (value == null) {
+            return 1;
+        }
+
+        return value;
+    }
+
+    private Integer getBatchParallelism(String key, Object value) {
+        Integer val = null;
+        if (value instanceof Integer) {
+            val = (Integer) value;
+        } else if (value instanceof String) {
+            val = Integer.parseInt(value.toString());
+        }
+
+        if (val == null) {
+            throw new IllegalArgumentException("Invalid batch parallelism configuration for key: " + key);
+        } else if (val < 1) {
+            throw new IllegalArgumentException("Invalid batch parallelism configuration " + val + " for key: " + key);
+        }
+
+        return val;
+    }
+
+    public int getMaterializationParallelism() {
+        return materializationParallelism;
+    }
+
+    private static int getMaterializationParallelism(Object value) {
+        Integer val = null;
+        if (value instanceof Integer) {
+            val = (Integer) value;
+        } else if (value instanceof String) {
+            val = Integer.parseInt(value.toString());
+        }
+
+        if (val == null) {
+            throw new IllegalArgumentException("Invalid materialization parallelism configuration: " + value);
+        } else if (val < 1) {
+            throw new IllegalArgumentException("Invalid materialization parallelism configuration " + val);
+        }
+
+        return val;
+    }
+
     public BatchCorrelationMode getExpectBatchCorrelationValues() {
         return getExpectBatchCorrelationValues("");
     }
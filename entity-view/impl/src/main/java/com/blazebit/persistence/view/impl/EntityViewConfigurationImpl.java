@@ -72,10 +72,14 @@ public class EntityViewConfigurationImpl implements EntityViewConfiguration {
         properties.put(ConfigurationProperties.UPDATER_DISALLOW_OWNED_UPDATABLE_SUBVIEW, "true");
         properties.put(ConfigurationProperties.UPDATER_STRICT_CASCADING_CHECK, "true");
         properties.put(ConfigurationProperties.UPDATER_ERROR_ON_INVALID_PLURAL_SETTER, "false");
+        properties.put(ConfigurationProperties.UPDATER_QUERY_CACHE_SIZE, "32");
+        properties.put(ConfigurationProperties.UPDATER_MULTI_ROW_INSERT, "false");
         properties.put(ConfigurationProperties.STATIC_BUILDER_SCANNING_DISABLED, "false");
         properties.put(ConfigurationProperties.STATIC_IMPLEMENTATION_SCANNING_DISABLED, "false");
+        properties.put(ConfigurationProperties.STATIC_IMPLEMENTATION_REQUIRED, "false");
         properties.put(ConfigurationProperties.STATIC_METAMODEL_SCANNING_DISABLED, "false");
         properties.put(ConfigurationProperties.CREATE_EMPTY_FLAT_VIEWS, "true");
+        properties.put(ConfigurationProperties.BOOTSTRAP_PARALLELISM, "1");
 
         typeTestValues.put(boolean.class, true);
         typeTestValues.put(byte.class, Byte.MAX_VALUE);
@@ -203,7 +207,9 @@ public class EntityViewConfigurationImpl implements EntityViewConfiguration {
 
     @Override
     public EntityViewManager createEntityViewManager(CriteriaBuilderFactory cbf) {
-        return new EntityViewManagerImpl(this, cbf);
+        EntityViewManagerImpl entityViewManager = new EntityViewManagerImpl(this, cbf);
+        entityViewManager.startAsyncTemplateLoading();
+        return entityViewManager;
     }
 
     @Override
@@ -150,6 +150,7 @@ import java.io.StringWriter;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.TypeVariable;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -159,8 +160,12 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  *
@@ -169,6 +174,8 @@ import java.util.concurrent.ConcurrentMap;
  */
 public class EntityViewManagerImpl implements EntityViewManager {
 
+    private static final Logger LOG = Logger.getLogger(EntityViewManagerImpl.class.getName());
+    private static final String ASYNC_TEMPLATE_EAGER_LOADING = "async";
     private static final String META_MODEL_CLASS_NAME_SUFFIX = "_";
     private static final String RELATION_CLASS_NAME_SUFFIX = "Relation";
     private static final String BUILDER_CLASS_NAME_SUFFIX = "Builder";
@@ -201,6 +208,10 @@ public class EntityViewManagerImpl implements EntityViewManager {
     private final Map<ViewBuilderKey, Constructor<? extends EntityViewBuilder<?>>> viewBuilderClasses;
     private final boolean unsafeDisabled;
     private final boolean strictCascadingCheck;
+    private final int updateQueryCacheSize;
+    private final boolean multiRowInsertEnabled;
+    // Building context for the asynchronous template loading which is started after construction via startAsyncTemplateLoading
+    private MetamodelBuildingContext asyncTemplateLoadingContext;
 
     public EntityViewManagerImpl(EntityViewConfigurationImpl config, CriteriaBuilderFactory cbf) {
         this.cbf = cbf;
@@ -210,8 +221,13 @@ public class EntityViewManagerImpl implements EntityViewManager {
         this.expressionFactory = cbf.getService(ExpressionFactory.class);
         this.packageOpener = cbf.getService(PackageOpener.class);
         this.entityIdAccessor = new EntityIdAttributeAccessor(jpaProvider);
-        this.unsafeDisabled = !Boolean.valueOf(String.valueOf(config.getProperty(ConfigurationProperties.PROXY_UNSAFE_ALLOWED)));
+        boolean scanStaticImplementations = !Boolean.valueOf(String.valueOf(config.getProperty(ConfigurationProperties.STATIC_IMPLEMENTATION_SCANNING_DISABLED)));
+        boolean requireStaticImplementations = scanStaticImplementations && Boolean.valueOf(String.valueOf(config.getProperty(ConfigurationProperties.STATIC_IMPLEMENTATION_REQUIRED)));
+        // Static implementations are only usable as safe proxies, so unsafe proxies must be disabled when static implementations are required
+        this.unsafeDisabled = requireStaticImplementations || !Boolean.valueOf(String.valueOf(config.getProperty(ConfigurationProperties.PROXY_UNSAFE_ALLOWED)));
         this.strictCascadingCheck = Boolean.valueOf(String.valueOf(config.getProperty(ConfigurationProperties.UPDATER_STRICT_CASCADING_CHECK)));
+        this.updateQueryCacheSize = getNonNegativeIntProperty(config, ConfigurationProperties.UPDATER_QUERY_CACHE_SIZE);
+        this.multiRowInsertEnabled = Boolean.valueOf(String.valueOf(config.getProperty(ConfigurationProperties.UPDATER_MULTI_ROW_INSERT)));
         this.proxyFactory = new ProxyFactory(unsafeDisabled, strictCascadingCheck, packageOpener);
         this.transactionSupport = config.getTransactionSupport();
         this.optionalParameters = Collections.unmodifiableMap(new HashMap<>(config.getOptionalParameters()));
@@ -229,9 +245,9 @@ public class EntityViewManagerImpl implements EntityViewManager {
         boolean validateManagedTypes = !Boolean.valueOf(String.valueOf(config.getProperty(ConfigurationProperties.MANAGED_TYPE_VALIDATION_DISABLED)));
         boolean validateExpressions = !Boolean.valueOf(String.valueOf(config.getProperty(ConfigurationProperties.EXPRESSION_VALIDATION_DISABLED)));
         boolean scanStaticBuilder = !Boolean.valueOf(String.valueOf(config.getProperty(ConfigurationProperties.STATIC_BUILDER_SCANNING_DISABLED)));
-        boolean scanStaticImplementations = !Boolean.valueOf(String.valueOf(config.getProperty(ConfigurationProperties.STATIC_IMPLEMENTATION_SCANNING_DISABLED)));
         boolean scanStaticMetamodels = !Boolean.valueOf(String.valueOf(config.getProperty(ConfigurationProperties.STATIC_METAMODEL_SCANNING_DISABLED)));
 
+        BootstrapPhaseExecutor bootstrapPhaseExecutor = new BootstrapPhaseExecutor(getBootstrapParallelism(config));
         Set<String> errors = config.getBootContext().getErrors();
         Map<String, JpqlFunction> functions = cbf.getRegisteredFunctions();
         Map<String, JpqlFunction> registeredFunctions = new HashMap<>(functions.size());
@@ -257,7 +273,7 @@ public class EntityViewManagerImpl implements EntityViewManager {
         Map<Class<?>, Object> typeTestValues = config.getTypeTestValues();
 
         try {
-            viewMetamodel = new ViewMetamodelImpl(entityMetamodel, context, typeTestValues, validateManagedTypes, validateExpressions);
+            viewMetamodel = new ViewMetamodelImpl(entityMetamodel, context, typeTestValues, validateManagedTypes, validateExpressions, bootstrapPhaseExecutor);
         } catch (RuntimeException ex) {
             exception = ex;
         }
@@ -312,6 +328,7 @@ public class EntityViewManagerImpl implements EntityViewManager {
         Map<Class<?>, Listeners> listeners = new HashMap<>();
         Map<ViewBuilderKey, Constructor<? extends EntityViewBuilder<?>>> viewBuilderConstructors = new HashMap<>();
         Map<Class<?>, Constructor<?>> relationConstructors = new HashMap<>(viewMetamodel.getManagedViews().size());
+        long start = System.nanoTime();
         for (ManagedViewType<?> managedView : viewMetamodel.getManagedViews()) {
             Class<?> javaType = managedView.getJavaType();
             Listeners l = new Listeners(managedView.getEntityClass());
@@ -344,7 +361,9 @@ public class EntityViewManagerImpl implements EntityViewManager {
             if (!javaType.isInterface() && !Modifier.isAbstract(javaType.getModifiers())) {
                 proxyFactory.setImplementation(javaType);
             } else if (scanStaticImplementations) {
-                proxyFactory.loadImplementation(errors, managedView, this);
+                if (!proxyFactory.loadImplementation(errors, managedView, this) && requireStaticImplementations) {
+                    errors.add("No static implementation found for the entity view type '" + javaType.getName() + "' but static implementations are required. Make sure the entity view annotation processor runs for this type!");
+                }
             }
             if (scanStaticMetamodels) {
                 initializeStaticMetamodel(errors, managedView, relationConstructors);
@@ -362,6 +381,7 @@ public class EntityViewManagerImpl implements EntityViewManager {
                 }
             }
         }
+        bootstrapPhaseExecutor.record("view type initialization", start);
 
         if (!errors.isEmpty()) {
             StringBuilder sb = new StringBuilder();
@@ -421,33 +441,97 @@ public class EntityViewManagerImpl implements EntityViewManager {
 
         this.listeners = listeners;
 
-        if (Boolean.valueOf(String.valueOf(config.getProperty(ConfigurationProperties.TEMPLATE_EAGER_LOADING)))) {
-            for (ViewTypeImpl<?> view : metamodel.views()) {
-                // TODO: Might be a good idea to let the view root be overridden or specified via the annotation
-                String probableViewRoot = StringUtils.firstToLower(view.getEntityClass().getSimpleName());
-                MacroConfigurationExpressionFactory macroAwareExpressionFactory = context.createMacroAwareExpressionFactory(probableViewRoot);
-                ViewJpqlMacro viewJpqlMacro = (ViewJpqlMacro) macroAwareExpressionFactory.getDefaultMacroConfiguration().get("VIEW").getState()[0];
-                EmbeddingViewJpqlMacro embeddingViewJpqlMacro = (EmbeddingViewJpqlMacro) macroAwareExpressionFactory.getDefaultMacroConfiguration().get("EMBEDDING_VIEW").getState()[0];
-                getTemplate(macroAwareExpressionFactory, view, null, null, viewJpqlMacro, null, embeddingViewJpqlMacro);
-
-                for (MappingConstructor<?> constructor : view.getConstructors()) {
-                    getTemplate(macroAwareExpressionFactory, view, (MappingConstructorImpl) constructor, null, viewJpqlMacro, null, embeddingViewJpqlMacro);
-                }
+        String templateEagerLoading = String.valueOf(config.getProperty(ConfigurationProperties.TEMPLATE_EAGER_LOADING));
+        if (ASYNC_TEMPLATE_EAGER_LOADING.equalsIgnoreCase(templateEagerLoading) && cbf.getService(Executor.class) != null) {
+            if (Boolean.valueOf(String.valueOf(config.getProperty(ConfigurationProperties.PROXY_EAGER_LOADING)))) {
+                loadProxies(bootstrapPhaseExecutor);
             }
+            this.asyncTemplateLoadingContext = context;
+        } else if (ASYNC_TEMPLATE_EAGER_LOADING.equalsIgnoreCase(templateEagerLoading) || Boolean.valueOf(templateEagerLoading)) {
+            // Proxy generation is serialized within the proxy factory, so we generate the proxies upfront
+            // and then create the templates, which only depend on the proxies, in parallel
+            loadProxies(bootstrapPhaseExecutor);
+            loadTemplates(bootstrapPhaseExecutor, context);
         } else if (Boolean.valueOf(String.valueOf(config.getProperty(ConfigurationProperties.PROXY_EAGER_LOADING)))) {
             // Loading template will always involve also loading the proxies, so we use else if
-            for (ViewType<?> view : metamodel.getViews()) {
-                proxyFactory.getProxy(this, (ManagedViewTypeImplementor<Object>) view);
-            }
+            loadProxies(bootstrapPhaseExecutor);
         }
 
         if (Boolean.valueOf(String.valueOf(config.getProperty(ConfigurationProperties.UPDATER_EAGER_LOADING)))) {
+            start = System.nanoTime();
             for (ManagedViewType<?> view : metamodel.getViews()) {
                 getUpdater((ManagedViewTypeImplementor<?>) view, null, null, null);
             }
+            bootstrapPhaseExecutor.record("updater creation", start);
+        }
+
+        if (LOG.isLoggable(Level.FINE)) {
+            LOG.fine(bootstrapPhaseExecutor.getReport());
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private void loadProxies(BootstrapPhaseExecutor bootstrapPhaseExecutor) {
+        long start = System.nanoTime();
+        for (ViewType<?> view : metamodel.getViews()) {
+            proxyFactory.getProxy(this, (ManagedViewTypeImplementor<Object>) view);
+        }
+        bootstrapPhaseExecutor.record("proxy generation", start);
+    }
+
+    private void loadTemplates(BootstrapPhaseExecutor bootstrapPhaseExecutor, final MetamodelBuildingContext context) {
+        // Templates are cached via putIfAbsent, so the templates of different view types can be created in parallel
+        List<Callable<Void>> tasks = new ArrayList<>(metamodel.views().size());
+        for (final ViewTypeImpl<?> view : metamodel.views()) {
+            tasks.add(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    loadTemplates(context, view);
+                    return null;
+                }
+            });
+        }
+        bootstrapPhaseExecutor.execute("template creation", tasks);
+    }
+
+    private void loadTemplates(MetamodelBuildingContext context, ViewTypeImpl<?> view) {
+        // TODO: Might be a good idea to let the view root be overridden or specified via the annotation
+        String probableViewRoot = StringUtils.firstToLower(view.getEntityClass().getSimpleName());
+        MacroConfigurationExpressionFactory macroAwareExpressionFactory = context.createMacroAwareExpressionFactory(probableViewRoot);
+        ViewJpqlMacro viewJpqlMacro = (ViewJpqlMacro) macroAwareExpressionFactory.getDefaultMacroConfiguration().get("VIEW").getState()[0];
+        EmbeddingViewJpqlMacro embeddingViewJpqlMacro = (EmbeddingViewJpqlMacro) macroAwareExpressionFactory.getDefaultMacroConfiguration().get("EMBEDDING_VIEW").getState()[0];
+        getTemplate(macroAwareExpressionFactory, view, null, null, viewJpqlMacro, null, embeddingViewJpqlMacro);
+
+        for (MappingConstructor<?> constructor : view.getConstructors()) {
+            getTemplate(macroAwareExpressionFactory, view, (MappingConstructorImpl) constructor, null, viewJpqlMacro, null, embeddingViewJpqlMacro);
+        }
+    }
+
+    /**
+     * Starts loading the templates of all views in the background if {@link ConfigurationProperties#TEMPLATE_EAGER_LOADING} is set to <code>async</code>.
+     * This must be invoked after the construction, as the loading runs concurrently on the configured executor.
+     */
+    void startAsyncTemplateLoading() {
+        final MetamodelBuildingContext context = asyncTemplateLoadingContext;
+        if (context == null) {
+            return;
+        }
+        this.asyncTemplateLoadingContext = null;
+        // Templates are cached via putIfAbsent, so a template requested by a query in the meantime is simply built by that thread
+        cbf.getService(Executor.class).execute(new Runnable() {
+            @Override
+            public void run() {
+                for (ViewTypeImpl<?> view : metamodel.views()) {
+                    try {
+                        loadTemplates(context, view);
+                    } catch (RuntimeException ex) {
+                        LOG.log(Level.WARNING, "Loading the object builder template for the entity view type '" + view.getJavaType().getName() + "' failed", ex);
+                    }
+                }
+            }
+        });
+    }
+
     private static String getMetamodelClassName(Class<?> javaType) {
         String packageName = javaType.getPackage().getName();
         String fqcn = javaType.getName();
@@ -1069,6 +1153,11 @@ public class EntityViewManagerImpl implements EntityViewManager {
         updateTo(em, view, entity, true);
     }
 
+    @Override
+    public void saveAll(EntityManager em, Iterable<?> views) {
+        updateAll(new DefaultUpdateContext(this, em, false, false, false, true, null, views, null), views);
+    }
+
     @Override
     public void remove(EntityManager entityManager, Object view) {
         remove(new DefaultUpdateContext(this, entityManager, false, false, true, null, view, null), view);
@@ -1160,6 +1249,11 @@ public class EntityViewManagerImpl implements EntityViewManager {
     public FlushOperationBuilder saveFullWithTo(EntityManager em, Object view, Object entity) {
         return new DefaultUpdateContext(this, em, true, true, false, null, view, entity);
     }
+
+    @Override
+    public FlushOperationBuilder saveAllWith(EntityManager em, Iterable<?> views) {
+        return new DefaultUpdateContext(this, em, false, false, false, true, null, views, null);
+    }
     
     public void update(UpdateContext context, Object view) {
         if (!(view instanceof MutableStateTrackable)) {
@@ -1182,6 +1276,35 @@ public class EntityViewManagerImpl implements EntityViewManager {
         }
     }
 
+    public void updateAll(UpdateContext context, Iterable<?> views) {
+        for (Object view : views) {
+            if (!(view instanceof MutableStateTrackable)) {
+                throw new IllegalArgumentException("Can't update non-updatable entity views: " + view);
+            }
+        }
+
+        // The views are flushed in the given order, views with the same dirty state reuse the update query of the context
+        Class<?> entityViewClass = null;
+        EntityViewUpdater updater = null;
+        try {
+            for (Object view : views) {
+                MutableStateTrackable updatableProxy = (MutableStateTrackable) view;
+                if (updatableProxy.$$_getEntityViewClass() != entityViewClass) {
+                    entityViewClass = updatableProxy.$$_getEntityViewClass();
+                    updater = getUpdater(metamodel.managedView(entityViewClass), null, null, null);
+                }
+                if (updatableProxy.$$_isNew()) {
+                    updater.executePersist(context, updatableProxy);
+                } else {
+                    updater.executeUpdate(context, updatableProxy);
+                }
+            }
+        } catch (Throwable t) {
+            context.getTransactionAccess().markRollbackOnly();
+            ExceptionUtils.doThrow(t);
+        }
+    }
+
     public void updateTo(UpdateContext context, Object view, Object entity) {
         if (!(view instanceof MutableStateTrackable)) {
             throw new IllegalArgumentException("Can't update non-updatable entity views: " + view);
@@ -1228,6 +1351,14 @@ public class EntityViewManagerImpl implements EntityViewManager {
         return unsafeDisabled;
     }
 
+    public int getUpdateQueryCacheSize() {
+        return updateQueryCacheSize;
+    }
+
+    public boolean isMultiRowInsertEnabled() {
+        return multiRowInsertEnabled;
+    }
+
     public boolean supportsTransientReference() {
         return supportsTransientReference;
     }
@@ -566,12 +566,17 @@ public class MetamodelBuildingContextImpl implements MetamodelBuildingContext {
 
     @Override
     public void addError(String error) {
-        errors.add(error);
+        // Errors might be added concurrently during the parallel expression validation
+        synchronized (errors) {
+            errors.add(error);
+        }
     }
 
     @Override
     public boolean hasErrors() {
-        return !errors.isEmpty();
+        synchronized (errors) {
+            return !errors.isEmpty();
+        }
     }
 
     @Override
@@ -19,6 +19,7 @@ package com.blazebit.persistence.view.impl.metamodel;
 import com.blazebit.persistence.parser.EntityMetamodel;
 import com.blazebit.persistence.parser.util.JpaMetamodelUtils;
 import com.blazebit.persistence.view.ConfigurationProperties;
+import com.blazebit.persistence.view.impl.BootstrapPhaseExecutor;
 import com.blazebit.persistence.view.impl.type.BasicUserTypeRegistry;
 import com.blazebit.persistence.view.metamodel.FlatViewType;
 import com.blazebit.persistence.view.metamodel.ManagedViewType;
@@ -49,6 +50,7 @@ import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 
 /**
  *
@@ -63,7 +65,8 @@ public class ViewMetamodelImpl implements ViewMetamodel {
     private final Map<Class<?>, FlatViewTypeImpl<?>> flatViews;
     private final Map<Class<?>, ManagedViewTypeImplementor<?>> managedViews;
 
-    public ViewMetamodelImpl(EntityMetamodel entityMetamodel, MetamodelBuildingContext context, Map<Class<?>, Object> typeTestValues, boolean validateManagedTypes, boolean validateExpressions) {
+    public ViewMetamodelImpl(EntityMetamodel entityMetamodel, final MetamodelBuildingContext context, Map<Class<?>, Object> typeTestValues, boolean validateManagedTypes, boolean validateExpressions, BootstrapPhaseExecutor bootstrapPhaseExecutor) {
+        long start = System.nanoTime();
         this.metamodel = entityMetamodel;
         this.basicUserTypeRegistry = context.getBasicUserTypeRegistry();
 
@@ -98,19 +101,29 @@ public class ViewMetamodelImpl implements ViewMetamodel {
         this.views = Collections.unmodifiableMap(views);
         this.flatViews = Collections.unmodifiableMap(flatViews);
         this.managedViews = Collections.unmodifiableMap(managedViews);
+        bootstrapPhaseExecutor.record("metamodel analysis", start);
 
         // Phase 4: Validate expressions against the entity model
+        // The validation of a view type only reads the metamodel, so the view types can be validated in parallel
         if (!context.hasErrors()) {
             if (validateExpressions) {
-                List<AbstractAttribute<?, ?>> parents = new ArrayList<>();
-                for (ManagedViewTypeImplementor<?> t : managedViews.values()) {
-                    t.checkAttributes(context);
-                    t.checkNestedAttributes(parents, context, false);
+                List<Callable<Void>> tasks = new ArrayList<>(managedViews.size());
+                for (final ManagedViewTypeImplementor<?> t : managedViews.values()) {
+                    tasks.add(new Callable<Void>() {
+                        @Override
+                        public Void call() {
+                            t.checkAttributes(context);
+                            t.checkNestedAttributes(new ArrayList<AbstractAttribute<?, ?>>(), context, false);
+                            return null;
+                        }
+                    });
                 }
+                bootstrapPhaseExecutor.execute("expression validation", tasks);
             }
         }
 
         // Phase 5: Validate that JPA types that are used in entity views have sane equals/hashCode implementations
+        start = System.nanoTime();
         if (validateManagedTypes) {
             Set<ManagedType<?>> jpaManagedTypes = new HashSet<>();
             for (ManagedViewTypeImplementor<?> managedViewType : managedViews.values()) {
@@ -181,6 +194,7 @@ public class ViewMetamodelImpl implements ViewMetamodel {
                 }
             }
         }
+        bootstrapPhaseExecutor.record("managed type validation", start);
     }
 
     private String createValue(ManagedType<?> jpaManagedType, Object instance, Map<Class<?>, Object> typeTestValues, boolean root) throws Exception {
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.view.impl.objectbuilder;
+
+import com.blazebit.persistence.ObjectBuilder;
+import com.blazebit.persistence.SelectBuilder;
+
+import javax.persistence.PersistenceException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+/**
+ * An object builder that defers building objects to {@link #buildList(List)}, which splits the tuple list into contiguous ranges
+ * and builds the ranges concurrently while keeping the order of the list.
+ * Every range uses its own object builder because object builders like the {@link ReducerViewTypeObjectBuilder} reuse state between tuples.
+ * The tuple list transformations that group tuples into collections run before this builder, so ranges never split such groups.
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public class ParallelObjectBuilder<T> implements ObjectBuilder<T> {
+
+    /**
+     * The minimum number of tuples a range must have so that building it on a separate thread pays off.
+     */
+    static final int MIN_RANGE_SIZE = 1024;
+
+    private final ObjectBuilder<T>[] objectBuilders;
+    private final Executor executor;
+
+    public ParallelObjectBuilder(ObjectBuilder<T>[] objectBuilders, Executor executor) {
+        this.objectBuilders = objectBuilders;
+        this.executor = executor;
+    }
+
+    @Override
+    public <X extends SelectBuilder<X>> void applySelects(X queryBuilder) {
+        objectBuilders[0].applySelects(queryBuilder);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T build(Object[] tuple) {
+        // Single element tuples might be reused by the caller for the next result, so we have to copy them
+        if (tuple.length == 1) {
+            return (T) new Object[]{ tuple[0] };
+        }
+        return (T) tuple;
+    }
+
+    @Override
+    public List<T> buildList(List<T> list) {
+        if (!(list instanceof RandomAccess)) {
+            list = new ArrayList<>(list);
+        }
+        int size = list.size();
+        int workerCount = Math.min(objectBuilders.length, size / MIN_RANGE_SIZE);
+        if (workerCount < 2) {
+            new RangeBuilder<>(objectBuilders[0], list, 0, size).run();
+        } else {
+            int rangeSize = (size + workerCount - 1) / workerCount;
+            List<FutureTask<Void>> tasks = new ArrayList<>(workerCount - 1);
+            try {
+                for (int worker = 1; worker < workerCount; worker++) {
+                    int start = worker * rangeSize;
+                    FutureTask<Void> task = new FutureTask<Void>(new RangeBuilder<>(objectBuilders[worker], list, start, Math.min(size, start + rangeSize)), null);
+                    executor.execute(task);
+                    tasks.add(task);
+                }
+                new RangeBuilder<>(objectBuilders[0], list, 0, rangeSize).run();
+                for (int i = 0; i < tasks.size(); i++) {
+                    awaitRange(tasks.get(i));
+                }
+            } finally {
+                // Make sure no worker modifies the list anymore when returning
+                for (int i = 0; i < tasks.size(); i++) {
+                    awaitRangeQuietly(tasks.get(i));
+                }
+            }
+        }
+        return objectBuilders[0].buildList(list);
+    }
+
+    private static void awaitRange(FutureTask<Void> task) {
+        try {
+            task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PersistenceException("Interrupted while waiting for the objects to be built", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new PersistenceException("Building the objects failed", cause);
+        }
+    }
+
+    private static void awaitRangeQuietly(FutureTask<Void> task) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                task.get();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            } catch (ExecutionException e) {
+                break;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Replaces the tuples of a range of the list with the objects built from them.
+     *
+     * @author Christian Beikov
+     * @since 1.5.0
+     */
+    private static final class RangeBuilder<T> implements Runnable {
+
+        private final ObjectBuilder<T> objectBuilder;
+        private final List<T> list;
+        private final int start;
+        private final int end;
+
+        private RangeBuilder(ObjectBuilder<T> objectBuilder, List<T> list, int start, int end) {
+            this.objectBuilder = objectBuilder;
+            this.list = list;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public void run() {
+            for (int i = start; i < end; i++) {
+                list.set(i, objectBuilder.build((Object[]) list.get(i)));
+            }
+        }
+    }
+}
@@ -112,6 +112,7 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  *
@@ -1252,6 +1253,33 @@ public class ViewTypeObjectBuilderTemplate<T> {
     }
 
     public ObjectBuilder<T> createObjectBuilder(ParameterHolder<?> parameterHolder, Map<String, Object> optionalParameters, EntityViewConfiguration entityViewConfiguration, int suffix, boolean isSubview, boolean nullFlatViewIfEmpty) {
+        ObjectBuilder<T> result;
+        int materializationParallelism = entityViewConfiguration == null || isSubview ? 1 : entityViewConfiguration.getMaterializationParallelism();
+
+        if (materializationParallelism > 1) {
+            Executor executor = entityViewConfiguration.getCriteriaBuilder().getService(Executor.class);
+            if (executor == null) {
+                throw new IllegalStateException("The materialization parallelism for the entity view '" + viewType.getJavaType().getName() + "' is " + materializationParallelism + " but no executor was configured via CriteriaBuilderConfiguration.withParallelQueryExecution!");
+            }
+            // Every range is built with a separate object builder as reducers reuse state between tuples
+            @SuppressWarnings("unchecked")
+            ObjectBuilder<T>[] objectBuilders = new ObjectBuilder[materializationParallelism];
+            for (int i = 0; i < objectBuilders.length; i++) {
+                objectBuilders[i] = createTupleObjectBuilder(parameterHolder, optionalParameters, entityViewConfiguration, suffix, isSubview, nullFlatViewIfEmpty);
+            }
+            result = new ParallelObjectBuilder<T>(objectBuilders, executor);
+        } else {
+            result = createTupleObjectBuilder(parameterHolder, optionalParameters, entityViewConfiguration, suffix, isSubview, nullFlatViewIfEmpty);
+        }
+
+        if (tupleTransformatorFactory.hasTransformers() && !isSubview) {
+            result = new ChainingObjectBuilder<T>(tupleTransformatorFactory, result, parameterHolder, optionalParameters, entityViewConfiguration, tupleOffset);
+        }
+
+        return result;
+    }
+
+    private ObjectBuilder<T> createTupleObjectBuilder(ParameterHolder<?> parameterHolder, Map<String, Object> optionalParameters, EntityViewConfiguration entityViewConfiguration, int suffix, boolean isSubview, boolean nullFlatViewIfEmpty) {
         boolean hasOffset = tupleOffset != 0 || suffix != 0;
         ObjectBuilder<T> result;
 
@@ -1267,10 +1295,6 @@ public class ViewTypeObjectBuilderTemplate<T> {
             result = new ParameterViewTypeObjectBuilder<T>(result, this, parameterHolder, optionalParameters, tupleOffset);
         }
 
-        if (tupleTransformatorFactory.hasTransformers() && !isSubview) {
-            result = new ChainingObjectBuilder<T>(tupleTransformatorFactory, result, parameterHolder, optionalParameters, entityViewConfiguration, tupleOffset);
-        }
-
         return result;
     }
 
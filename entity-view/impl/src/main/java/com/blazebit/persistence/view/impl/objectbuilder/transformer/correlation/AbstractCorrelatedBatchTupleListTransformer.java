@@ -21,6 +21,7 @@ import com.blazebit.persistence.CriteriaBuilder;
 import com.blazebit.persistence.FullQueryBuilder;
 import com.blazebit.persistence.parser.expression.Expression;
 import com.blazebit.persistence.parser.expression.ExpressionFactory;
+import com.blazebit.persistence.spi.SecondaryEntityManagerProvider;
 import com.blazebit.persistence.view.CorrelationProvider;
 import com.blazebit.persistence.view.impl.BatchCorrelationMode;
 import com.blazebit.persistence.view.CorrelationProviderFactory;
@@ -35,12 +36,17 @@ import com.blazebit.persistence.view.metamodel.ViewType;
 
 import javax.persistence.EntityManager;
 import javax.persistence.Parameter;
+import javax.persistence.PersistenceException;
 import javax.persistence.Query;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
 
 /**
  *
@@ -53,8 +59,10 @@ public abstract class AbstractCorrelatedBatchTupleListTransformer extends Abstra
     private static final String CORRELATION_PARAM_PREFIX = "correlationParam_";
 
     protected final int batchSize;
+    protected final int batchParallelism;
     protected final boolean correlatesThis;
     protected final BatchCorrelationMode expectBatchCorrelationMode;
+    protected final BatchCorrelationModeCache batchCorrelationModeCache;
     protected final int valueIndex;
     protected final int keyIndex;
 
@@ -66,11 +74,14 @@ public abstract class AbstractCorrelatedBatchTupleListTransformer extends Abstra
     protected Query query;
 
     public AbstractCorrelatedBatchTupleListTransformer(ExpressionFactory ef, Correlator correlator, ManagedViewType<?> viewRootType, ManagedViewType<?> embeddingViewType, Expression correlationResult, CorrelationProviderFactory correlationProviderFactory, String attributePath, String[] fetches,
-                                                       boolean correlatesThis, int viewRootIndex, int embeddingViewIndex, int tupleIndex, int defaultBatchSize, Class<?> correlationBasisType, Class<?> correlationBasisEntity, Limiter limiter, EntityViewConfiguration entityViewConfiguration) {
+                                                       boolean correlatesThis, int viewRootIndex, int embeddingViewIndex, int tupleIndex, int defaultBatchSize, Class<?> correlationBasisType, Class<?> correlationBasisEntity, Limiter limiter, EntityViewConfiguration entityViewConfiguration,
+                                                       BatchCorrelationModeCache batchCorrelationModeCache) {
         super(ef, correlator, viewRootType, embeddingViewType, correlationResult, correlationProviderFactory, attributePath, fetches, viewRootIndex, embeddingViewIndex, tupleIndex, correlationBasisType, correlationBasisEntity, limiter, entityViewConfiguration);
         this.batchSize = entityViewConfiguration.getBatchSize(attributePath, defaultBatchSize);
+        this.batchParallelism = entityViewConfiguration.getBatchParallelism(attributePath);
         this.correlatesThis = correlatesThis;
-        this.expectBatchCorrelationMode = entityViewConfiguration.getExpectBatchCorrelationValues(attributePath);
+        this.batchCorrelationModeCache = batchCorrelationModeCache;
+        this.expectBatchCorrelationMode = batchCorrelationModeCache.getExpectedMode(entityViewConfiguration.getOptionalParameters(), entityViewConfiguration.getExpectBatchCorrelationValues(attributePath));
         this.valueIndex = correlator.getElementOffset();
         this.keyIndex = valueIndex + 1;
     }
@@ -93,6 +104,10 @@ public abstract class AbstractCorrelatedBatchTupleListTransformer extends Abstra
     }
 
     private String applyAndGetCorrelationRoot(BatchCorrelationMode batchCorrelationMode) {
+        return applyAndGetCorrelationRoot(batchCorrelationMode, entityViewConfiguration.getCriteriaBuilder().getEntityManager());
+    }
+
+    private String applyAndGetCorrelationRoot(BatchCorrelationMode batchCorrelationMode, EntityManager entityManager) {
         Class<?> viewRootEntityClass = viewRootType.getEntityClass();
         Class<?> embeddingViewEntityClass = embeddingViewType.getEntityClass();
         String viewRootIdAttributePath = getEntityIdName(viewRootEntityClass);
@@ -120,7 +135,7 @@ public abstract class AbstractCorrelatedBatchTupleListTransformer extends Abstra
             embeddingViewExpression = CORRELATION_KEY_ALIAS;
         }
 
-        this.criteriaBuilder = queryBuilder.getCriteriaBuilderFactory().create(queryBuilder.getEntityManager(), Object[].class);
+        this.criteriaBuilder = queryBuilder.getCriteriaBuilderFactory().create(entityManager, Object[].class);
         if (queryBuilder instanceof CTEBuilder<?>) {
             this.criteriaBuilder.withCtesFrom((CTEBuilder<?>) queryBuilder);
         }
@@ -214,9 +229,16 @@ public abstract class AbstractCorrelatedBatchTupleListTransformer extends Abstra
                     criteriaBuilder.select(correlationSelectExpression);
                 }
             }
+            setRequiredBatchCorrelationMode(BatchCorrelationMode.VALUES);
             populateParameters(criteriaBuilder);
             query = criteriaBuilder.getQuery();
 
+            if (batchSize > 1 && batchParallelism > 1) {
+                transformPipelined(tuples, tupleOffset, correlationRoot);
+                consumeTupleMacroViewValues(tuples);
+                return tuples;
+            }
+
             Map<Object, TuplePromise> correlationValues = new HashMap<>(tuples.size());
             while (tupleListIter.hasNext()) {
                 Object[] tuple = tupleListIter.next();
@@ -338,7 +360,9 @@ public abstract class AbstractCorrelatedBatchTupleListTransformer extends Abstra
             }
         }
 
-        boolean batchCorrelationValues = !macro.usesViewMacro() && viewRoots.size() <= correlationValues.size();
+        // Only the decision based on the macro usage is independent of the correlated data
+        boolean usesViewMacro = macro.usesViewMacro();
+        boolean batchCorrelationValues = !usesViewMacro && viewRoots.size() <= correlationValues.size();
         FixedArrayList viewRootIds = new FixedArrayList(batchSize);
 
         if (batchCorrelationValues) {
@@ -400,6 +424,9 @@ public abstract class AbstractCorrelatedBatchTupleListTransformer extends Abstra
                 // We have to bind the view id value, otherwise we might get wrong results
                 macro.addIdParamPredicate(criteriaBuilder);
             }
+            if (usesViewMacro) {
+                setRequiredBatchCorrelationMode(correlationMode);
+            }
             populateParameters(criteriaBuilder);
             query = criteriaBuilder.getQuery();
 
@@ -433,6 +460,132 @@ public abstract class AbstractCorrelatedBatchTupleListTransformer extends Abstra
         }
     }
 
+    private void setRequiredBatchCorrelationMode(BatchCorrelationMode requiredMode) {
+        // The mode only makes a difference for the query if batching is used
+        if (batchSize > 1) {
+            batchCorrelationModeCache.setRequiredMode(entityViewConfiguration.getOptionalParameters(), requiredMode);
+        }
+    }
+
+    private void transformPipelined(List<Object[]> tuples, int tupleOffset, String correlationRoot) {
+        Map<Object, TuplePromise> correlationValues = new HashMap<>(tuples.size());
+        List<Object> correlationKeys = new ArrayList<>(tuples.size());
+        for (int i = 0; i < tuples.size(); i++) {
+            Object[] tuple = tuples.get(i);
+            Object correlationValue = tuple[startIndex];
+            TuplePromise tupleIndexValue = correlationValues.get(correlationValue);
+            if (tupleIndexValue == null) {
+                tupleIndexValue = new TuplePromise(startIndex);
+                correlationValues.put(correlationValue, tupleIndexValue);
+                // Can't correlate null
+                if (correlationValue != null) {
+                    correlationKeys.add(correlationValue);
+                }
+            }
+            tupleIndexValue.add(tuple);
+        }
+
+        // Partition the correlation keys up front so that the batches can be distributed over the workers
+        int batchCount = (correlationKeys.size() + batchSize - 1) / batchSize;
+        int workerCount = Math.min(batchParallelism, batchCount);
+        List<Object>[] batchResults = new List[batchCount];
+        if (workerCount > 1) {
+            loadBatchesConcurrently(correlationKeys, batchResults, workerCount, tupleOffset, correlationRoot);
+        } else {
+            new BatchLoader(criteriaBuilder, query, correlationKeys, batchResults, 0, 1).run();
+        }
+
+        for (int i = 0; i < batchCount; i++) {
+            populateResult(correlationValues, null, batchResults[i]);
+        }
+
+        fillDefaultValues(Collections.singletonMap(null, correlationValues));
+    }
+
+    private void loadBatchesConcurrently(List<Object> correlationKeys, List<Object>[] batchResults, int workerCount, int tupleOffset, String correlationRoot) {
+        FullQueryBuilder<?, ?> mainBuilder = entityViewConfiguration.getCriteriaBuilder();
+        Executor executor = mainBuilder.getService(Executor.class);
+        if (executor == null) {
+            throw new IllegalStateException("The batch parallelism for the attribute '" + attributePath + "' is " + batchParallelism + " but no executor was configured via CriteriaBuilderConfiguration.withParallelQueryExecution!");
+        }
+        SecondaryEntityManagerProvider entityManagerProvider = mainBuilder.getService(SecondaryEntityManagerProvider.class);
+        EntityManager primaryEntityManager = criteriaBuilder.getEntityManager();
+        CriteriaBuilder<?> primaryCriteriaBuilder = criteriaBuilder;
+        Query primaryQuery = query;
+        CorrelatedSubqueryViewRootJpqlMacro primaryViewRootJpqlMacro = viewRootJpqlMacro;
+        CorrelatedSubqueryEmbeddingViewJpqlMacro primaryEmbeddingViewJpqlMacro = embeddingViewJpqlMacro;
+        List<EntityManager> secondaryEntityManagers = new ArrayList<>(workerCount - 1);
+        List<FutureTask<Void>> tasks = new ArrayList<>(workerCount - 1);
+        try {
+            try {
+                // Every worker needs its own correlation query as entity managers must not be shared between threads
+                for (int worker = 1; worker < workerCount; worker++) {
+                    EntityManager secondaryEntityManager = entityManagerProvider.getEntityManager(primaryEntityManager);
+                    secondaryEntityManagers.add(secondaryEntityManager);
+                    applyAndGetCorrelationRoot(BatchCorrelationMode.VALUES, secondaryEntityManager);
+                    correlator.finish(criteriaBuilder, entityViewConfiguration, tupleOffset, correlationRoot, embeddingViewJpqlMacro, true);
+                    criteriaBuilder.select(correlationSelectExpression);
+                    populateParameters(criteriaBuilder);
+                    FutureTask<Void> task = new FutureTask<Void>(new BatchLoader(criteriaBuilder, criteriaBuilder.getQuery(), correlationKeys, batchResults, worker, workerCount), null);
+                    executor.execute(task);
+                    tasks.add(task);
+                }
+            } finally {
+                criteriaBuilder = primaryCriteriaBuilder;
+                query = primaryQuery;
+                viewRootJpqlMacro = primaryViewRootJpqlMacro;
+                embeddingViewJpqlMacro = primaryEmbeddingViewJpqlMacro;
+            }
+
+            new BatchLoader(criteriaBuilder, query, correlationKeys, batchResults, 0, workerCount).run();
+            for (int i = 0; i < tasks.size(); i++) {
+                awaitBatches(tasks.get(i));
+            }
+        } finally {
+            // Make sure no worker uses a secondary entity manager anymore before releasing it
+            for (int i = 0; i < tasks.size(); i++) {
+                awaitBatchesQuietly(tasks.get(i));
+            }
+            for (int i = 0; i < secondaryEntityManagers.size(); i++) {
+                entityManagerProvider.releaseEntityManager(primaryEntityManager, secondaryEntityManagers.get(i));
+            }
+        }
+    }
+
+    private static void awaitBatches(FutureTask<Void> task) {
+        try {
+            task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PersistenceException("Interrupted while waiting for the correlation batches", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new PersistenceException("Loading the correlation batches failed", cause);
+        }
+    }
+
+    private static void awaitBatchesQuietly(FutureTask<Void> task) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                task.get();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            } catch (ExecutionException e) {
+                break;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private void batchLoad(Map<Object, TuplePromise> correlationValues, FixedArrayList batchParameters, FixedArrayList viewRootIds, Object defaultKey, CorrelatedSubqueryViewRootJpqlMacro macro, BatchCorrelationMode batchCorrelationMode) {
         batchParameters.clearRest();
         if (criteriaBuilder.containsParameter(correlationParamName)) {
@@ -464,4 +617,52 @@ public abstract class AbstractCorrelatedBatchTupleListTransformer extends Abstra
 
     protected abstract void populateResult(Map<Object, TuplePromise> correlationValues, Object defaultKey, List<Object> list);
 
+    /**
+     * Loads every batch with <code>batch % workerCount == worker</code> through the given correlation query.
+     *
+     * @author Christian Beikov
+     * @since 1.5.0
+     */
+    private final class BatchLoader implements Runnable {
+
+        private final CriteriaBuilder<?> batchCriteriaBuilder;
+        private final Query batchQuery;
+        private final List<Object> correlationKeys;
+        private final List<Object>[] batchResults;
+        private final int worker;
+        private final int workerCount;
+
+        private BatchLoader(CriteriaBuilder<?> batchCriteriaBuilder, Query batchQuery, List<Object> correlationKeys, List<Object>[] batchResults, int worker, int workerCount) {
+            this.batchCriteriaBuilder = batchCriteriaBuilder;
+            this.batchQuery = batchQuery;
+            this.correlationKeys = correlationKeys;
+            this.batchResults = batchResults;
+            this.worker = worker;
+            this.workerCount = workerCount;
+        }
+
+        @Override
+        public void run() {
+            EntityManager em = batchCriteriaBuilder.getEntityManager();
+            FixedArrayList batchParameters = new FixedArrayList(batchSize);
+            for (int batch = worker; batch < batchResults.length; batch += workerCount) {
+                int end = Math.min(correlationKeys.size(), (batch + 1) * batchSize);
+                for (int i = batch * batchSize; i < end; i++) {
+                    if (correlationBasisEntity != null) {
+                        batchParameters.add(em.getReference(correlationBasisEntity, correlationKeys.get(i)));
+                    } else {
+                        batchParameters.add(correlationKeys.get(i));
+                    }
+                }
+                batchParameters.clearRest();
+                if (batchCriteriaBuilder.containsParameter(correlationParamName)) {
+                    batchCriteriaBuilder.setParameter(correlationParamName, batchParameters);
+                    batchQuery.setParameter(correlationParamName, batchParameters);
+                }
+                batchResults[batch] = (List<Object>) batchQuery.getResultList();
+                batchParameters.reset();
+            }
+        }
+    }
+
 }
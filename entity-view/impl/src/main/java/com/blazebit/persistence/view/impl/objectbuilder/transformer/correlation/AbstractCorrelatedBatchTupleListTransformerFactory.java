@@ -44,6 +44,8 @@ public abstract class AbstractCorrelatedBatchTupleListTransformerFactory impleme
     protected final Class<?> correlationBasisType;
     protected final Class<?> correlationBasisEntity;
     protected final Limiter limiter;
+    // Shared by all transformers of the attribute so that the correlation query is built in the required mode right away
+    protected final BatchCorrelationModeCache batchCorrelationModeCache = new BatchCorrelationModeCache();
 
     public AbstractCorrelatedBatchTupleListTransformerFactory(Correlator correlator, ManagedViewType<?> viewRootType, ManagedViewType<?> embeddingViewType, Expression correlationResult, CorrelationProviderFactory correlationProviderFactory, String attributePath, String[] fetches,
                                                               boolean correlatesThis, int viewRootIndex, int embeddingViewIndex, int tupleIndex, int batchSize, Class<?> correlationBasisType, Class<?> correlationBasisEntity, Limiter limiter) {
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.view.impl.objectbuilder.transformer.correlation;
+
+import com.blazebit.persistence.view.impl.BatchCorrelationMode;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Remembers the batch correlation mode that the correlation query of an attribute requires, keyed by the names of the optional parameters.
+ * Only modes that follow from the correlation itself i.e. from the use of the <code>VIEW_ROOT</code> and <code>EMBEDDING_VIEW</code> macros are remembered,
+ * never modes that are chosen based on the correlated data. Batch transformers use it as expectation, so the correlation query
+ * is built in the required mode right away instead of being built for the configured expectation first and then rebuilt.
+ * A wrong expectation, e.g. because a correlation provider depends on the values of optional parameters, only costs a rebuild.
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public final class BatchCorrelationModeCache {
+
+    private final ConcurrentMap<Set<String>, BatchCorrelationMode> requiredModes = new ConcurrentHashMap<>();
+
+    public BatchCorrelationMode getExpectedMode(Map<String, Object> optionalParameters, BatchCorrelationMode configuredMode) {
+        BatchCorrelationMode requiredMode = requiredModes.get(optionalParameters.keySet());
+        if (requiredMode == null) {
+            return configuredMode;
+        }
+        return requiredMode;
+    }
+
+    public void setRequiredMode(Map<String, Object> optionalParameters, BatchCorrelationMode requiredMode) {
+        Set<String> key = optionalParameters.keySet();
+        if (requiredModes.get(key) != requiredMode) {
+            requiredModes.put(new HashSet<>(key), requiredMode);
+        }
+    }
+}
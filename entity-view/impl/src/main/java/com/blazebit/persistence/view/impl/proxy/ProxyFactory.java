@@ -133,7 +133,8 @@ public class ProxyFactory {
     private final ConcurrentMap<Class<?>, Class<?>> unsafeProxyClasses = new ConcurrentHashMap<>();
     private final ConcurrentMap<Class<?>, Class<?>> proxyClassesToViewClasses = new ConcurrentHashMap<>();
     private final Object proxyLock = new Object();
-    private final ClassPool pool;
+    // Created lazily under the proxy lock, so that javassist is not initialized if all implementations are static
+    private ClassPool pool;
     private final boolean unsafeDisabled;
     private final boolean strictCascadingCheck;
     private final PackageOpener packageOpener;
@@ -154,7 +155,6 @@ public class ProxyFactory {
     }
 
     public ProxyFactory(boolean unsafeDisabled, boolean strictCascadingCheck, PackageOpener packageOpener) {
-        this.pool = new ClassPool(ClassPool.getDefault());
         this.unsafeDisabled = unsafeDisabled;
         this.strictCascadingCheck = strictCascadingCheck;
         this.packageOpener = packageOpener;
@@ -190,7 +190,16 @@ public class ProxyFactory {
         return sb.toString();
     }
 
-    public void loadImplementation(Set<String> errors, ManagedViewType<?> managedView, EntityViewManager entityViewManager) {
+    /**
+     * Loads and registers the static implementation class for the given entity view type, if one exists.
+     * Errors in an existing static implementation class are added to the given errors.
+     *
+     * @param errors The set to which to add errors
+     * @param managedView The entity view type for which to load the static implementation
+     * @param entityViewManager The entity view manager to use for the static implementation
+     * @return Whether a static implementation class exists
+     */
+    public boolean loadImplementation(Set<String> errors, ManagedViewType<?> managedView, EntityViewManager entityViewManager) {
         Class<?> javaType = managedView.getJavaType();
         Class<?> entityViewImplementationClass;
         try {
@@ -199,12 +208,12 @@ public class ProxyFactory {
             if (annotation != null) {
                 if (annotation.value() != javaType) {
                     errors.add("The static implementation class '" + entityViewImplementationClass.getName() + "' was expected to be defined for the entity view type '" + javaType.getName() + "' but was defined for: " + annotation.value().getName());
-                    return;
+                    return true;
                 }
             }
         } catch (ClassNotFoundException e) {
             // Ignore
-            return;
+            return false;
         }
         try {
             entityViewImplementationClass.getDeclaredField(SerializableEntityViewManager.EVM_FIELD_NAME).set(null, entityViewManager);
@@ -219,6 +228,7 @@ public class ProxyFactory {
             e.printStackTrace(new PrintWriter(sw));
             errors.add("The initialization of the static metamodel class '" + entityViewImplementationClass.getName() + "' failed: " + sw.toString());
         }
+        return true;
     }
 
     public void setImplementation(Class<?> entityViewImplementationClass) {
@@ -237,6 +247,9 @@ public class ProxyFactory {
             synchronized (proxyLock) {
                 proxyClass = (Class<? extends T>) classes.get(clazz);
                 if (proxyClass == null) {
+                    if (pool == null) {
+                        pool = new ClassPool(ClassPool.getDefault());
+                    }
                     proxyClass = createProxyClass(entityViewManager, viewType, unsafe);
                     classes.put(clazz, proxyClass);
                     proxyClassesToViewClasses.put(proxyClass, clazz);
@@ -356,7 +369,7 @@ public class ProxyFactory {
             CtField initialStateField = null;
             CtField mutableStateField = null;
             CtMethod markDirtyStub = null;
-            long alwaysDirtyMask = 0L;
+            long[] alwaysDirtyMask = new long[1];
             cc.addInterface(pool.get(EntityViewProxy.class.getName()));
             addGetJpaManagedClass(cc, managedViewType.getEntityClass());
             addGetJpaManagedBaseClass(cc, getJpaManagedBaseClass(managedViewType));
@@ -479,38 +492,40 @@ public class ProxyFactory {
             if (dirtyChecking) {
                 addReplaceAttribute(cc, methodAttributes);
                 cc.removeMethod(markDirtyStub);
-                if (mutableAttributeCount > 64) {
-                    throw new IllegalArgumentException("Support for more than 64 mutable attributes per view is not yet implemented! " + viewType.getJavaType().getName() + " has " + mutableAttributeCount);
-                } else {
+                // Views with more than 64 mutable attributes use a multi-word bitset
+                alwaysDirtyMask = new long[Math.max(1, (mutableAttributeCount + 63) >>> 6)];
+                if (alwaysDirtyMask.length == 1) {
                     dirtyField = new CtField(CtClass.longType, "$$_dirty", cc);
-                    dirtyField.setModifiers(getModifiers(true));
-                    cc.addField(dirtyField);
-
-                    boolean allSupportDirtyTracking = true;
-                    boolean[] supportsDirtyTracking = new boolean[mutableAttributeCount];
-                    int mutableAttributeIndex = 0;
-                    for (int j = 0; j < methodAttributes.length; j++) {
-                        if (methodAttributes[j] != null && methodAttributes[j].hasDirtyStateIndex()) {
-                            if (supportsDirtyTracking(methodAttributes[j])) {
-                                supportsDirtyTracking[mutableAttributeIndex++] = true;
-                            } else {
-                                allSupportDirtyTracking = false;
-                                alwaysDirtyMask |= 1 << mutableAttributeIndex;
-                                supportsDirtyTracking[mutableAttributeIndex++] = false;
-                            }
+                } else {
+                    dirtyField = new CtField(pool.get("long[]"), "$$_dirty", cc);
+                }
+                dirtyField.setModifiers(getModifiers(true));
+                cc.addField(dirtyField);
+
+                boolean allSupportDirtyTracking = true;
+                boolean[] supportsDirtyTracking = new boolean[mutableAttributeCount];
+                int mutableAttributeIndex = 0;
+                for (int j = 0; j < methodAttributes.length; j++) {
+                    if (methodAttributes[j] != null && methodAttributes[j].hasDirtyStateIndex()) {
+                        if (supportsDirtyTracking(methodAttributes[j])) {
+                            supportsDirtyTracking[mutableAttributeIndex++] = true;
+                        } else {
+                            allSupportDirtyTracking = false;
+                            alwaysDirtyMask[mutableAttributeIndex >>> 6] |= 1L << mutableAttributeIndex;
+                            supportsDirtyTracking[mutableAttributeIndex++] = false;
                         }
                     }
-
-                    addIsDirty(cc, dirtyField, allSupportDirtyTracking);
-                    addIsDirtyAttribute(cc, dirtyField, supportsDirtyTracking, allSupportDirtyTracking);
-                    addMarkDirty(cc, dirtyField);
-                    addUnmarkDirty(cc, dirtyField, alwaysDirtyMask);
-                    addSetDirty(cc, dirtyField, alwaysDirtyMask);
-                    addResetDirty(cc, dirtyField, alwaysDirtyMask);
-                    addGetDirty(cc, dirtyField);
-                    addGetSimpleDirty(cc, dirtyField);
-                    addCopyDirty(cc, dirtyField, supportsDirtyTracking, allSupportDirtyTracking);
                 }
+
+                addIsDirty(cc, dirtyField, alwaysDirtyMask.length, allSupportDirtyTracking);
+                addIsDirtyAttribute(cc, dirtyField, alwaysDirtyMask.length, supportsDirtyTracking, allSupportDirtyTracking);
+                addMarkDirty(cc, dirtyField, alwaysDirtyMask.length);
+                addUnmarkDirty(cc, dirtyField, alwaysDirtyMask);
+                addSetDirty(cc, dirtyField, alwaysDirtyMask);
+                addResetDirty(cc, dirtyField, alwaysDirtyMask);
+                addGetDirty(cc, dirtyField, alwaysDirtyMask.length);
+                addGetSimpleDirty(cc, dirtyField, alwaysDirtyMask.length);
+                addCopyDirty(cc, dirtyField, alwaysDirtyMask.length, supportsDirtyTracking, allSupportDirtyTracking);
             }
 
             createEqualsHashCodeMethods(viewType, managedViewType, cc, superCc, attributeFields, idField);
@@ -1240,7 +1255,7 @@ public class ProxyFactory {
         return method;
     }
 
-    private CtMethod addIsDirty(CtClass cc, CtField dirtyField, boolean allSupportDirtyTracking) throws CannotCompileException {
+    private CtMethod addIsDirty(CtClass cc, CtField dirtyField, int dirtyWords, boolean allSupportDirtyTracking) throws CannotCompileException {
         String desc = "()" + Descriptor.of("boolean");
         ConstPool cp = cc.getClassFile().getConstPool();
         MethodInfo minfo = new MethodInfo(cp, "$$_isDirty", desc);
@@ -1248,7 +1263,7 @@ public class ProxyFactory {
         minfo.setAccessFlags(AccessFlag.PUBLIC);
 
         if (allSupportDirtyTracking) {
-            method.setBody("{ return $0." + dirtyField.getName() + " != 0; }");
+            method.setBody("{ return " + renderDirtyUnion("$0." + dirtyField.getName(), dirtyWords) + " != 0L; }");
         } else {
             method.setBody("{ return true; }");
         }
@@ -1257,7 +1272,7 @@ public class ProxyFactory {
         return method;
     }
 
-    private CtMethod addIsDirtyAttribute(CtClass cc, CtField dirtyField, boolean[] supportsDirtyTracking, boolean allSupportDirtyTracking) throws CannotCompileException {
+    private CtMethod addIsDirtyAttribute(CtClass cc, CtField dirtyField, int dirtyWords, boolean[] supportsDirtyTracking, boolean allSupportDirtyTracking) throws CannotCompileException {
         String desc = "(" + Descriptor.of("int") + ")" + Descriptor.of("boolean");
         ConstPool cp = cc.getClassFile().getConstPool();
         MethodInfo minfo = new MethodInfo(cp, "$$_isDirty", desc);
@@ -1276,13 +1291,16 @@ public class ProxyFactory {
             sb.append("\t}\n");
         }
 
-        sb.append("\treturn ($0.").append(dirtyField.getName()).append(" & (1L << $1)) != 0;\n");
+        if (dirtyWords == 1) {
+            sb.append("\treturn ($0.").append(dirtyField.getName()).append(" & (1L << $1)) != 0;\n");
+        } else {
+            sb.append("\treturn ($0.").append(dirtyField.getName()).append("[$1 >>> 6] & (1L << $1)) != 0;\n");
+        }
         sb.append("}");
         method.setBody(sb.toString());
         cc.addMethod(method);
         return method;
     }
-
     private CtMethod addMarkDirtyStub(CtClass cc) throws CannotCompileException {
         String desc = "(" + Descriptor.of("int") + ")V";
         ConstPool cp = cc.getClassFile().getConstPool();
@@ -1299,7 +1317,7 @@ public class ProxyFactory {
         return method;
     }
 
-    private CtMethod addMarkDirty(CtClass cc, CtField dirtyField) throws CannotCompileException {
+    private CtMethod addMarkDirty(CtClass cc, CtField dirtyField, int dirtyWords) throws CannotCompileException {
         FieldInfo dirtyFieldInfo = dirtyField.getFieldInfo2();
         String desc = "(" + Descriptor.of("int") + ")V";
         ConstPool cp = dirtyFieldInfo.getConstPool();
@@ -1310,7 +1328,15 @@ public class ProxyFactory {
         StringBuilder sb = new StringBuilder();
 
         sb.append("{\n");
-        sb.append("\t$0.").append(dirtyFieldName).append(" |= (1 << $1);\n");
+        if (dirtyWords == 1) {
+            sb.append("\t$0.").append(dirtyFieldName).append(" |= (1L << $1);\n");
+        } else {
+            // A setter might be invoked by a super constructor before the bitset was allocated
+            sb.append("\tif ($0.").append(dirtyFieldName).append(" == null) {\n");
+            sb.append("\t\t$0.").append(dirtyFieldName).append(" = new long[").append(dirtyWords).append("];\n");
+            sb.append("\t}\n");
+            sb.append("\t$0.").append(dirtyFieldName).append("[$1 >>> 6] = $0.").append(dirtyFieldName).append("[$1 >>> 6] | (1L << $1);\n");
+        }
 
         sb.append("\tif ($0.$$_parent != null) {\n");
         sb.append("\t$0.$$_parent.$$_markDirty($0.$$_parentIndex);\n");
@@ -1323,7 +1349,7 @@ public class ProxyFactory {
         return method;
     }
 
-    private CtMethod addSetDirty(CtClass cc, CtField dirtyField, long alwaysDirtyMask) throws CannotCompileException {
+    private CtMethod addSetDirty(CtClass cc, CtField dirtyField, long[] alwaysDirtyMask) throws CannotCompileException {
         FieldInfo dirtyFieldInfo = dirtyField.getFieldInfo2();
         String desc = "([" + Descriptor.of("long") + ")V";
         ConstPool cp = dirtyFieldInfo.getConstPool();
@@ -1334,13 +1360,25 @@ public class ProxyFactory {
         StringBuilder sb = new StringBuilder();
 
         sb.append("{\n");
-        if (alwaysDirtyMask == 0L) {
-            sb.append("\t$0.").append(dirtyFieldName).append(" = $1[0];\n");
+        if (alwaysDirtyMask.length == 1) {
+            if (alwaysDirtyMask[0] == 0L) {
+                sb.append("\t$0.").append(dirtyFieldName).append(" = $1[0];\n");
+            } else {
+                sb.append("\t$0.").append(dirtyFieldName).append(" = $1[0] | ").append(alwaysDirtyMask[0]).append("L;\n");
+            }
+
+            sb.append("\tif ($0.").append(dirtyFieldName).append(" != 0 && $0.$$_parent != null) {\n");
         } else {
-            sb.append("\t$0.").append(dirtyFieldName).append(" = $1[0] | ").append(alwaysDirtyMask).append("L;\n");
-        }
+            for (int i = 0; i < alwaysDirtyMask.length; i++) {
+                sb.append("\t$0.").append(dirtyFieldName).append("[").append(i).append("] = ($1.length > ").append(i).append(" ? $1[").append(i).append("] : 0L)");
+                if (alwaysDirtyMask[i] != 0L) {
+                    sb.append(" | ").append(alwaysDirtyMask[i]).append("L");
+                }
+                sb.append(";\n");
+            }
 
-        sb.append("\tif ($0.").append(dirtyFieldName).append(" != 0 && $0.$$_parent != null) {\n");
+            sb.append("\tif (").append(renderDirtyUnion("$0." + dirtyFieldName, alwaysDirtyMask.length)).append(" != 0L && $0.$$_parent != null) {\n");
+        }
         sb.append("\t\t$0.$$_parent.$$_markDirty($0.$$_parentIndex);\n");
         sb.append("\t}\n");
         sb.append('}');
@@ -1351,7 +1389,7 @@ public class ProxyFactory {
         return method;
     }
 
-    private CtMethod addUnmarkDirty(CtClass cc, CtField dirtyField, long alwaysDirtyMask) throws CannotCompileException {
+    private CtMethod addUnmarkDirty(CtClass cc, CtField dirtyField, long[] alwaysDirtyMask) throws CannotCompileException {
         FieldInfo dirtyFieldInfo = dirtyField.getFieldInfo2();
         String desc = "()" + Descriptor.of("void");
         ConstPool cp = dirtyFieldInfo.getConstPool();
@@ -1362,7 +1400,7 @@ public class ProxyFactory {
         StringBuilder sb = new StringBuilder();
 
         sb.append("{\n");
-        sb.append("\t$0.").append(dirtyFieldName).append(" = ").append(alwaysDirtyMask).append("L;\n");
+        renderDirtyAssignment(sb, "$0." + dirtyFieldName, alwaysDirtyMask);
         sb.append('}');
 
         CtMethod method = CtMethod.make(minfo, cc);
@@ -1371,7 +1409,7 @@ public class ProxyFactory {
         return method;
     }
 
-    private CtMethod addResetDirty(CtClass cc, CtField dirtyField, long alwaysDirtyMask) throws CannotCompileException {
+    private CtMethod addResetDirty(CtClass cc, CtField dirtyField, long[] alwaysDirtyMask) throws CannotCompileException {
         FieldInfo dirtyFieldInfo = dirtyField.getFieldInfo2();
         String desc = "()[" + Descriptor.of("long");
         ConstPool cp = dirtyFieldInfo.getConstPool();
@@ -1382,9 +1420,8 @@ public class ProxyFactory {
         StringBuilder sb = new StringBuilder();
 
         sb.append("{\n");
-        sb.append("\tlong[] dirty = new long[1];\n");
-        sb.append("\tdirty[0] = $0.").append(dirtyFieldName).append(";\n");
-        sb.append("\t$0.").append(dirtyFieldName).append(" = ").append(alwaysDirtyMask).append("L;\n");
+        renderDirtyCopy(sb, "$0." + dirtyFieldName, alwaysDirtyMask.length);
+        renderDirtyAssignment(sb, "$0." + dirtyFieldName, alwaysDirtyMask);
         sb.append("\treturn dirty;\n");
         sb.append('}');
 
@@ -1394,7 +1431,7 @@ public class ProxyFactory {
         return method;
     }
 
-    private CtMethod addGetDirty(CtClass cc, CtField dirtyField) throws CannotCompileException {
+    private CtMethod addGetDirty(CtClass cc, CtField dirtyField, int dirtyWords) throws CannotCompileException {
         FieldInfo dirtyFieldInfo = dirtyField.getFieldInfo2();
         String desc = "()[" + Descriptor.of("long");
         ConstPool cp = dirtyFieldInfo.getConstPool();
@@ -1405,8 +1442,7 @@ public class ProxyFactory {
         StringBuilder sb = new StringBuilder();
 
         sb.append("{\n");
-        sb.append("\tlong[] dirty = new long[1];\n");
-        sb.append("\tdirty[0] = $0.").append(dirtyFieldName).append(";\n");
+        renderDirtyCopy(sb, "$0." + dirtyFieldName, dirtyWords);
         sb.append("\treturn dirty;\n");
         sb.append('}');
 
@@ -1416,7 +1452,7 @@ public class ProxyFactory {
         return method;
     }
 
-    private CtMethod addGetSimpleDirty(CtClass cc, CtField dirtyField) throws CannotCompileException {
+    private CtMethod addGetSimpleDirty(CtClass cc, CtField dirtyField, int dirtyWords) throws CannotCompileException {
         FieldInfo dirtyFieldInfo = dirtyField.getFieldInfo2();
         String desc = "()" + Descriptor.of("long");
         ConstPool cp = dirtyFieldInfo.getConstPool();
@@ -1427,7 +1463,12 @@ public class ProxyFactory {
         StringBuilder sb = new StringBuilder();
 
         sb.append("{\n");
-        sb.append("\treturn $0.").append(dirtyFieldName).append(";\n");
+        if (dirtyWords == 1) {
+            sb.append("\treturn $0.").append(dirtyFieldName).append(";\n");
+        } else {
+            // Only the first 64 attributes are represented, callers of wide views must use $$_getDirty or $$_isDirty(int)
+            sb.append("\treturn $0.").append(dirtyFieldName).append("[0];\n");
+        }
         sb.append('}');
 
         CtMethod method = CtMethod.make(minfo, cc);
@@ -1436,7 +1477,7 @@ public class ProxyFactory {
         return method;
     }
 
-    private CtMethod addCopyDirty(CtClass cc, CtField dirtyField, boolean[] supportsDirtyTracking, boolean allSupportDirtyTracking) throws CannotCompileException {
+    private CtMethod addCopyDirty(CtClass cc, CtField dirtyField, int dirtyWords, boolean[] supportsDirtyTracking, boolean allSupportDirtyTracking) throws CannotCompileException {
         FieldInfo dirtyFieldInfo = dirtyField.getFieldInfo2();
         String desc = "([" + Descriptor.of("java.lang.Object") + "[" + Descriptor.of("java.lang.Object") + ")" + Descriptor.of("boolean");
         ConstPool cp = dirtyFieldInfo.getConstPool();
@@ -1449,19 +1490,27 @@ public class ProxyFactory {
 
         sb.append("{\n");
 
-        sb.append("\tlong dirty = $0.").append(dirtyFieldName).append(";\n");
+        if (dirtyWords == 1) {
+            sb.append("\tlong dirty = $0.").append(dirtyFieldName).append(";\n");
+        } else {
+            sb.append("\tlong[] dirty = $0.").append(dirtyFieldName).append(";\n");
+        }
 
         if (allSupportDirtyTracking) {
-            sb.append("\tif (dirty == 0) {\n");
+            sb.append("\tif (").append(dirtyWords == 1 ? "dirty" : renderDirtyUnion("dirty", dirtyWords)).append(" == 0L) {\n");
             sb.append("\t\treturn false;\n");
             sb.append("\t} else {\n");
         }
 
         for (int i = 0; i < supportsDirtyTracking.length; i++) {
-            long mask = 1 << i;
+            long mask = 1L << i;
 
             if (supportsDirtyTracking[i]) {
-                sb.append("\t\t$2[").append(i).append("] = (dirty & ").append(mask).append(") == 0 ? null : $1[").append(i).append("];\n");
+                sb.append("\t\t$2[").append(i).append("] = (dirty");
+                if (dirtyWords != 1) {
+                    sb.append("[").append(i >>> 6).append("]");
+                }
+                sb.append(" & ").append(mask).append("L) == 0 ? null : $1[").append(i).append("];\n");
             } else {
                 sb.append("\t\t$2[").append(i).append("] = $1[").append(i).append("];\n");
             }
@@ -1478,10 +1527,67 @@ public class ProxyFactory {
         CtMethod method = CtMethod.make(minfo, cc);
         method.setBody(sb.toString());
         cc.addMethod(method);
-
         return method;
     }
 
+    private static String renderDirtyUnion(String dirty, int dirtyWords) {
+        if (dirtyWords == 1) {
+            return dirty;
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append('(');
+        for (int i = 0; i < dirtyWords; i++) {
+            if (i != 0) {
+                sb.append(" | ");
+            }
+            sb.append(dirty).append('[').append(i).append(']');
+        }
+        sb.append(')');
+        return sb.toString();
+    }
+
+    private static void renderDirtyCopy(StringBuilder sb, String dirty, int dirtyWords) {
+        sb.append("\tlong[] dirty = new long[").append(dirtyWords).append("];\n");
+        if (dirtyWords == 1) {
+            sb.append("\tdirty[0] = ").append(dirty).append(";\n");
+        } else {
+            sb.append("\tSystem.arraycopy(").append(dirty).append(", 0, dirty, 0, ").append(dirtyWords).append(");\n");
+        }
+    }
+
+    private static void renderDirtyAssignment(StringBuilder sb, String dirty, long[] alwaysDirtyMask) {
+        if (alwaysDirtyMask.length == 1) {
+            sb.append("\t").append(dirty).append(" = ").append(alwaysDirtyMask[0]).append("L;\n");
+        } else {
+            for (int i = 0; i < alwaysDirtyMask.length; i++) {
+                sb.append("\t").append(dirty).append("[").append(i).append("] = ").append(alwaysDirtyMask[i]).append("L;\n");
+            }
+        }
+    }
+
+    private static void renderDirtyInitialization(StringBuilder sb, long[] alwaysDirtyMask, boolean unsafe) {
+        if (alwaysDirtyMask.length == 1) {
+            if (unsafe) {
+                sb.append("\t$0.$$_dirty = ").append(alwaysDirtyMask[0]).append("L;\n");
+            } else {
+                sb.append("\t$0.$$_dirty |= ").append(alwaysDirtyMask[0]).append("L;\n");
+            }
+        } else {
+            if (unsafe) {
+                sb.append("\t$0.$$_dirty = new long[").append(alwaysDirtyMask.length).append("];\n");
+            } else {
+                sb.append("\tif ($0.$$_dirty == null) {\n");
+                sb.append("\t\t$0.$$_dirty = new long[").append(alwaysDirtyMask.length).append("];\n");
+                sb.append("\t}\n");
+            }
+            for (int i = 0; i < alwaysDirtyMask.length; i++) {
+                if (alwaysDirtyMask[i] != 0L) {
+                    sb.append("\t$0.$$_dirty[").append(i).append("] = $0.$$_dirty[").append(i).append("] | ").append(alwaysDirtyMask[i]).append("L;\n");
+                }
+            }
+        }
+    }
+
     private boolean supportsDirtyTracking(AbstractMethodAttribute<?, ?> mutableAttribute) {
         // Non-mutable types always support dirty tracking as there is nothing to track
         // Subview types have dirty tracking implemented
@@ -2306,19 +2412,19 @@ public class ProxyFactory {
     }
 
     private CtConstructor createNormalConstructor(EntityViewManager evm, ManagedViewType<?> managedViewType, MappingConstructor<?> constructor, CtClass cc, CtField[] attributeFields, CtClass[] attributeTypes, CtField initialStateField, CtField mutableStateField,
-                                                  AbstractMethodAttribute<?, ?>[] attributes, int mutableAttributeCount, long alwaysDirtyMask, boolean unsafe) throws CannotCompileException, NotFoundException, BadBytecode {
+                                                  AbstractMethodAttribute<?, ?>[] attributes, int mutableAttributeCount, long[] alwaysDirtyMask, boolean unsafe) throws CannotCompileException, NotFoundException, BadBytecode {
         int superConstructorStart = attributeFields.length;
         int superConstructorEnd = attributeTypes.length;
         return createConstructor(evm, managedViewType, constructor, cc, superConstructorStart, superConstructorEnd, attributeFields, attributeTypes, initialStateField, mutableStateField, attributes, mutableAttributeCount, ConstructorKind.NORMAL, null, alwaysDirtyMask, unsafe);
     }
 
     private CtConstructor createCreateConstructor(EntityViewManager evm, ManagedViewType<?> managedViewType, CtClass cc, CtField[] attributeFields, CtClass[] attributeTypes, CtField idField, CtField initialStateField, CtField mutableStateField,
-                                                  AbstractMethodAttribute<?, ?>[] attributes, int mutableAttributeCount, long alwaysDirtyMask, boolean unsafe) throws CannotCompileException, NotFoundException, BadBytecode {
+                                                  AbstractMethodAttribute<?, ?>[] attributes, int mutableAttributeCount, long[] alwaysDirtyMask, boolean unsafe) throws CannotCompileException, NotFoundException, BadBytecode {
         return createConstructor(evm, managedViewType, null, cc, 0, 0, attributeFields, attributeTypes, initialStateField, mutableStateField, attributes, mutableAttributeCount, ConstructorKind.CREATE, idField, alwaysDirtyMask, unsafe);
     }
 
     private CtConstructor createReferenceConstructor(EntityViewManager evm, ManagedViewType<?> managedViewType, CtClass cc, CtField[] attributeFields, CtField idField, CtField initialStateField, CtField mutableStateField,
-                                                     AbstractMethodAttribute<?, ?>[] attributes, int mutableAttributeCount, long alwaysDirtyMask, boolean unsafe) throws CannotCompileException, NotFoundException, BadBytecode {
+                                                     AbstractMethodAttribute<?, ?>[] attributes, int mutableAttributeCount, long[] alwaysDirtyMask, boolean unsafe) throws CannotCompileException, NotFoundException, BadBytecode {
         CtClass[] attributeTypes = new CtClass[]{ idField.getType() };
         return createConstructor(evm, managedViewType, null, cc, 0, 0, attributeFields, attributeTypes, initialStateField, mutableStateField, attributes, mutableAttributeCount, ConstructorKind.REFERENCE, idField, alwaysDirtyMask, unsafe);
     }
@@ -2334,7 +2440,7 @@ public class ProxyFactory {
     }
 
     private CtConstructor createConstructor(EntityViewManager evm, ManagedViewType<?> managedViewType, MappingConstructor<?> constructor, CtClass cc, int superConstructorStart, int superConstructorEnd, CtField[] attributeFields, CtClass[] attributeTypes, CtField initialStateField, CtField mutableStateField,
-                                            AbstractMethodAttribute<?, ?>[] attributes, int mutableAttributeCount, ConstructorKind kind, CtField idField, long alwaysDirtyMask, boolean unsafe) throws CannotCompileException, NotFoundException, BadBytecode {
+                                            AbstractMethodAttribute<?, ?>[] attributes, int mutableAttributeCount, ConstructorKind kind, CtField idField, long[] alwaysDirtyMask, boolean unsafe) throws CannotCompileException, NotFoundException, BadBytecode {
         CtClass[] parameterTypes;
         if (kind == ConstructorKind.CREATE) {
             parameterTypes = new CtClass[]{ cc, pool.get(Map.class.getName()) };
@@ -2362,7 +2468,7 @@ public class ProxyFactory {
     }
 
     private CtConstructor createTupleConstructor(ManagedViewType<?> managedViewType, MappingConstructor<?> constructor, CtClass cc, int superConstructorStart, int superConstructorEnd, CtField[] attributeFields, CtClass[] attributeTypes, CtField initialStateField, CtField mutableStateField,
-                                                 AbstractMethodAttribute<?, ?>[] attributes, int mutableAttributeCount, boolean assignment, long alwaysDirtyMask, boolean unsafe) throws CannotCompileException, NotFoundException, BadBytecode {
+                                                 AbstractMethodAttribute<?, ?>[] attributes, int mutableAttributeCount, boolean assignment, long[] alwaysDirtyMask, boolean unsafe) throws CannotCompileException, NotFoundException, BadBytecode {
         CtClass[] parameterTypes;
         if (assignment) {
             parameterTypes = new CtClass[(superConstructorEnd - superConstructorStart) + 4];
@@ -2534,18 +2640,14 @@ public class ProxyFactory {
     }
 
     private void renderFieldInitialization(EntityViewManager entityViewManager, ManagedViewType<?> managedViewType, MappingConstructor<?> constructor, CtField[] attributeFields, CtField initialStateField, CtField mutableStateField,
-                                           AbstractMethodAttribute<?, ?>[] methodAttributes, int mutableAttributeCount, ConstructorKind kind, long alwaysDirtyMask, StringBuilder sb, boolean unsafe, CtField idField) throws NotFoundException, CannotCompileException {
+                                           AbstractMethodAttribute<?, ?>[] methodAttributes, int mutableAttributeCount, ConstructorKind kind, long[] alwaysDirtyMask, StringBuilder sb, boolean unsafe, CtField idField) throws NotFoundException, CannotCompileException {
         if (initialStateField != null) {
             sb.append("\tObject[] initialStateArr = new Object[").append(mutableAttributeCount).append("];\n");
         }
 
         if (mutableStateField != null) {
             sb.append("\tObject[] mutableStateArr = new Object[").append(mutableAttributeCount).append("];\n");
-            if (unsafe) {
-                sb.append("\t$0.$$_dirty = ").append(alwaysDirtyMask).append("L;\n");
-            } else {
-                sb.append("\t$0.$$_dirty |= ").append(alwaysDirtyMask).append("L;\n");
-            }
+            renderDirtyInitialization(sb, alwaysDirtyMask, unsafe);
         }
 
         if (kind == ConstructorKind.CREATE && managedViewType.isCreatable()) {
@@ -2820,18 +2922,14 @@ public class ProxyFactory {
         }
     }
 
-    private void renderFieldInitialization(MappingConstructor<?> constructor, CtField[] attributeFields, CtField initialStateField, CtField mutableStateField, AbstractMethodAttribute<?, ?>[] methodAttributes, int mutableAttributeCount, boolean assignment, long alwaysDirtyMask, boolean unsafe, StringBuilder sb) throws NotFoundException {
+    private void renderFieldInitialization(MappingConstructor<?> constructor, CtField[] attributeFields, CtField initialStateField, CtField mutableStateField, AbstractMethodAttribute<?, ?>[] methodAttributes, int mutableAttributeCount, boolean assignment, long[] alwaysDirtyMask, boolean unsafe, StringBuilder sb) throws NotFoundException {
         if (initialStateField != null) {
             sb.append("\tObject[] initialStateArr = new Object[").append(mutableAttributeCount).append("];\n");
         }
 
         if (mutableStateField != null) {
             sb.append("\tObject[] mutableStateArr = new Object[").append(mutableAttributeCount).append("];\n");
-            if (unsafe) {
-                sb.append("\t$0.$$_dirty = ").append(alwaysDirtyMask).append("L;\n");
-            } else {
-                sb.append("\t$0.$$_dirty |= ").append(alwaysDirtyMask).append("L;\n");
-            }
+            renderDirtyInitialization(sb, alwaysDirtyMask, unsafe);
         }
 
         for (int i = 0; i < attributeFields.length; i++) {
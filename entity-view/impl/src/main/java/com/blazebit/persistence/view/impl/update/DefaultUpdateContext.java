@@ -53,6 +53,7 @@ import com.blazebit.persistence.view.spi.TransactionAccess;
 import com.blazebit.persistence.view.spi.type.EntityViewProxy;
 
 import javax.persistence.EntityManager;
+import javax.persistence.Query;
 import javax.transaction.Synchronization;
 import java.util.ArrayList;
 import java.util.EnumSet;
@@ -77,6 +78,7 @@ public class DefaultUpdateContext implements UpdateContext, FlushOperationBuilde
     private final boolean forceFull;
     private final boolean forceEntity;
     private final boolean remove;
+    private final boolean batch;
     private final Class<?> entityViewClass;
     private final Object object;
     private final Object entity;
@@ -86,15 +88,21 @@ public class DefaultUpdateContext implements UpdateContext, FlushOperationBuilde
     private Map<Object, Object> removedObjects;
     private Map<EntityKey, List<ViewCacheEntry>> viewCache;
     private Set<EntityKey> versionChecked;
+    private Map<String, Query> updateQueries;
     private List<PostFlushDeleter> orphanRemovalDeleters = new ArrayList<>();
 
     public DefaultUpdateContext(EntityViewManagerImpl evm, EntityManager em, boolean forceFull, boolean forceEntity, boolean remove, Class<?> entityViewClass, Object object, Object entity) {
+        this(evm, em, forceFull, forceEntity, remove, false, entityViewClass, object, entity);
+    }
+
+    public DefaultUpdateContext(EntityViewManagerImpl evm, EntityManager em, boolean forceFull, boolean forceEntity, boolean remove, boolean batch, Class<?> entityViewClass, Object object, Object entity) {
         this.evm = evm;
         this.em = em;
         this.forceFull = forceFull;
         this.transactionAccess = TransactionHelper.getTransactionAccess(em);
         this.forceEntity = forceEntity;
         this.remove = remove;
+        this.batch = batch;
         this.entityViewClass = entityViewClass;
         this.object = object;
         this.entity = entity;
@@ -118,6 +126,23 @@ public class DefaultUpdateContext implements UpdateContext, FlushOperationBuilde
         return em;
     }
 
+    @Override
+    public Query getUpdateQuery(String queryString) {
+        if (!batch) {
+            return em.createQuery(queryString);
+        }
+        // Within a batch flush, views of the same type and dirty state produce the same query string and all parameters are rebound
+        if (updateQueries == null) {
+            updateQueries = new HashMap<>();
+        }
+        Query query = updateQueries.get(queryString);
+        if (query == null) {
+            query = em.createQuery(queryString);
+            updateQueries.put(queryString, query);
+        }
+        return query;
+    }
+
     @Override
     public boolean containsEntity(Class<?> entityClass, Object id) {
         return evm.getJpaProvider().containsEntity(em, entityClass, id);
@@ -682,6 +707,8 @@ public class DefaultUpdateContext implements UpdateContext, FlushOperationBuilde
             } else {
                 evm.remove(this, entityViewClass, object);
             }
+        } else if (batch) {
+            evm.updateAll(this, (Iterable<?>) object);
         } else {
             if (entity == null) {
                 evm.update(this, object);
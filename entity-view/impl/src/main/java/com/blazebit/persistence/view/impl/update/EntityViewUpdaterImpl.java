@@ -128,6 +128,7 @@ public class EntityViewUpdaterImpl implements EntityViewUpdater {
     private final String updatePrefixString;
     private final String updatePostfixString;
     private final String fullUpdateQueryString;
+    private final UpdateQueryCache updateQueryCache;
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public EntityViewUpdaterImpl(EntityViewManagerImpl evm, ManagedViewTypeImplementor<?> viewType, ManagedViewTypeImplementor<?> declaredViewType, EntityViewUpdaterImpl owner, String ownerMapping) {
@@ -411,6 +412,11 @@ public class EntityViewUpdaterImpl implements EntityViewUpdater {
         } else {
             this.fullUpdateQueryString = null;
         }
+        if (updatePrefixString != null && evm.getUpdateQueryCacheSize() > 0) {
+            this.updateQueryCache = new UpdateQueryCache(evm.getUpdateQueryCacheSize());
+        } else {
+            this.updateQueryCache = null;
+        }
     }
 
     private static boolean isUpdateMappable(Set<AbstractMethodAttribute<?, ?>> attributes) {
@@ -639,6 +645,16 @@ public class EntityViewUpdaterImpl implements EntityViewUpdater {
             queryString = fullUpdateQueryString;
             needsOptimisticLocking = fullFlusher.hasVersionFlusher();
         } else {
+            long[] fragmentKey = null;
+            if (updateQueryCache != null && flusher instanceof CompositeAttributeFlusher) {
+                fragmentKey = ((CompositeAttributeFlusher) flusher).getUpdateQueryFragmentKey();
+                if (fragmentKey != null) {
+                    UpdateQueryCache.Entry entry = updateQueryCache.get(fragmentKey);
+                    if (entry != null) {
+                        return createUpdateQuery(context, updatableProxy, entry.getQueryString(), entry.isNeedsOptimisticLocking());
+                    }
+                }
+            }
             StringBuilder sb = new StringBuilder(updatePrefixString.length() + updatePostfixString.length() + 250);
             sb.append(updatePrefixString);
             int initialLength = sb.length();
@@ -658,11 +674,18 @@ public class EntityViewUpdaterImpl implements EntityViewUpdater {
                 queryString = sb.toString();
                 needsOptimisticLocking = fullFlusher.hasVersionFlusher() && flusher.isOptimisticLockProtected();
             }
+            if (fragmentKey != null) {
+                updateQueryCache.put(fragmentKey, queryString, needsOptimisticLocking);
+            }
         }
 
+        return createUpdateQuery(context, updatableProxy, queryString, needsOptimisticLocking);
+    }
+
+    private Query createUpdateQuery(UpdateContext context, MutableStateTrackable updatableProxy, String queryString, boolean needsOptimisticLocking) {
         Query query = null;
         if (queryString != null) {
-            query = context.getEntityManager().createQuery(queryString);
+            query = context.getUpdateQuery(queryString);
             if (idFlusher != null) {
                 idFlusher.flushQuery(context, WHERE_CLAUSE_PREFIX, null, query, updatableProxy, updatableProxy, updatableProxy.$$_getId(), null, null);
             }
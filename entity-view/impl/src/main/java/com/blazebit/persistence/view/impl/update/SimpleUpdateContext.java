@@ -23,6 +23,7 @@ import com.blazebit.persistence.view.spi.type.EntityViewProxy;
 import com.blazebit.persistence.view.spi.type.MutableStateTrackable;
 
 import javax.persistence.EntityManager;
+import javax.persistence.Query;
 import java.util.List;
 
 /**
@@ -50,6 +51,11 @@ public class SimpleUpdateContext implements UpdateContext {
         return em;
     }
 
+    @Override
+    public Query getUpdateQuery(String queryString) {
+        return em.createQuery(queryString);
+    }
+
     @Override
     public boolean containsEntity(Class<?> entityClass, Object id) {
         return evm.getJpaProvider().containsEntity(em, entityClass, id);
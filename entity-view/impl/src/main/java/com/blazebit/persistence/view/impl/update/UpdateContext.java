@@ -23,6 +23,7 @@ import com.blazebit.persistence.view.spi.type.EntityViewProxy;
 import com.blazebit.persistence.view.spi.type.MutableStateTrackable;
 
 import javax.persistence.EntityManager;
+import javax.persistence.Query;
 import java.util.List;
 
 /**
@@ -36,6 +37,8 @@ public interface UpdateContext {
 
     public EntityManager getEntityManager();
 
+    public Query getUpdateQuery(String queryString);
+
     public boolean containsEntity(Class<?> entityClass, Object id);
 
     public boolean isForceFull();
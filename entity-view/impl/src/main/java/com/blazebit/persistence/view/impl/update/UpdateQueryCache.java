@@ -0,0 +1,118 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.view.impl.update;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded LRU cache for the partial update query strings of an entity view type,
+ * keyed by the update query fragment key of the dirty flusher.
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public final class UpdateQueryCache {
+
+    private final Map<Key, Entry> cache;
+
+    public UpdateQueryCache(final int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Illegal non-positive max size: " + maxSize);
+        }
+        this.cache = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public Entry get(long[] fragmentKey) {
+        Key key = new Key(fragmentKey);
+        synchronized (cache) {
+            return cache.get(key);
+        }
+    }
+
+    public void put(long[] fragmentKey, String queryString, boolean needsOptimisticLocking) {
+        Key key = new Key(fragmentKey);
+        Entry entry = new Entry(queryString, needsOptimisticLocking);
+        synchronized (cache) {
+            cache.put(key, entry);
+        }
+    }
+
+    /**
+     * A cached update query string along with the optimistic locking requirement.
+     * The query string is <code>null</code> if nothing has to be updated.
+     *
+     * @author Christian Beikov
+     * @since 1.5.0
+     */
+    public static final class Entry {
+
+        private final String queryString;
+        private final boolean needsOptimisticLocking;
+
+        private Entry(String queryString, boolean needsOptimisticLocking) {
+            this.queryString = queryString;
+            this.needsOptimisticLocking = needsOptimisticLocking;
+        }
+
+        public String getQueryString() {
+            return queryString;
+        }
+
+        public boolean isNeedsOptimisticLocking() {
+            return needsOptimisticLocking;
+        }
+    }
+
+    /**
+     * @author Christian Beikov
+     * @since 1.5.0
+     */
+    private static final class Key {
+
+        private final long[] fragmentKey;
+        private final int hashCode;
+
+        private Key(long[] fragmentKey) {
+            this.fragmentKey = fragmentKey;
+            this.hashCode = Arrays.hashCode(fragmentKey);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return hashCode == key.hashCode && Arrays.equals(fragmentKey, key.fragmentKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
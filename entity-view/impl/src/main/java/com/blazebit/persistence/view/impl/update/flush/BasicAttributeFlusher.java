@@ -157,33 +157,35 @@ public class BasicAttributeFlusher<E, V> extends BasicDirtyChecker<V> implements
 
     @Override
     public boolean appendUpdateQueryFragment(UpdateContext context, StringBuilder sb, String mappingPrefix, String parameterPrefix, String separator) {
-        // It must be updatable and the value must have changed
-        if ((updatable || isPassThrough()) && (flushOperation == null || update) && inverseFlusher == null) {
-            if (updateFragment != null) {
-                if (componentFlushers == null) {
-                    if (mappingPrefix == null) {
-                        sb.append(updateFragment);
-                        sb.append(" = :");
-                        sb.append(parameterName);
-                    } else {
-                        sb.append(mappingPrefix).append(updateFragment);
-                        sb.append(" = :");
-                        sb.append(parameterPrefix).append(parameterName);
-                    }
+        if (appendsUpdateQueryFragment()) {
+            if (componentFlushers == null) {
+                if (mappingPrefix == null) {
+                    sb.append(updateFragment);
+                    sb.append(" = :");
+                    sb.append(parameterName);
                 } else {
-                    componentFlushers[0].getValue().appendUpdateQueryFragment(context, sb, mappingPrefix, parameterPrefix, separator);
-                    for (int i = 1; i < componentFlushers.length; i++) {
-                        sb.append(separator);
-                        componentFlushers[i].getValue().appendUpdateQueryFragment(context, sb, mappingPrefix, parameterPrefix, separator);
-                    }
+                    sb.append(mappingPrefix).append(updateFragment);
+                    sb.append(" = :");
+                    sb.append(parameterPrefix).append(parameterName);
+                }
+            } else {
+                componentFlushers[0].getValue().appendUpdateQueryFragment(context, sb, mappingPrefix, parameterPrefix, separator);
+                for (int i = 1; i < componentFlushers.length; i++) {
+                    sb.append(separator);
+                    componentFlushers[i].getValue().appendUpdateQueryFragment(context, sb, mappingPrefix, parameterPrefix, separator);
                 }
-                return true;
             }
+            return true;
         }
 
         return false;
     }
 
+    boolean appendsUpdateQueryFragment() {
+        // It must be updatable and the value must have changed
+        return (updatable || isPassThrough()) && (flushOperation == null || update) && inverseFlusher == null && updateFragment != null;
+    }
+
     @Override
     public void appendFetchJoinQueryFragment(String base, StringBuilder sb) {
         if (fetch) {
@@ -18,6 +18,7 @@ package com.blazebit.persistence.view.impl.update.flush;
 
 import com.blazebit.persistence.DeleteCriteriaBuilder;
 import com.blazebit.persistence.InsertCriteriaBuilder;
+import com.blazebit.persistence.spi.ExtendedManagedType;
 import com.blazebit.persistence.view.FlushStrategy;
 import com.blazebit.persistence.view.InverseRemoveStrategy;
 import com.blazebit.persistence.view.impl.EntityViewManagerImpl;
@@ -489,38 +490,33 @@ public class CollectionAttributeFlusher<E, V extends Collection<?>> extends Abst
             return;
         }
 
-        String mapping = getMapping();
         if (inverseFlusher == null) {
-            InsertCriteriaBuilder<?> insertCb = context.getEntityViewManager().getCriteriaBuilderFactory().insertCollection(context.getEntityManager(), ownerEntityClass, mapping);
-
-            String entityIdAttributeName = elementDescriptor.getEntityIdAttributeName();
-            String attributeIdAttributeName = elementDescriptor.getAttributeIdAttributeName();
-            if (flushAtOnce) {
-                if (entityIdAttributeName == null) {
-                    insertCb.fromValues(ownerEntityClass, mapping, "val", elementsToAdd);
-                } else if (attributeIdAttributeName.equals(entityIdAttributeName)) {
-                    insertCb.fromIdentifiableValues((Class<Object>) elementDescriptor.getJpaType(), "val", elementsToAdd);
-                } else {
-                    insertCb.fromIdentifiableValues((Class<Object>) elementDescriptor.getJpaType(), attributeIdAttributeName, "val", elementsToAdd);
+            boolean checkTransient = elementDescriptor.isJpaEntity() && !elementDescriptor.shouldJpaPersist();
+            if (context.getEntityViewManager().isMultiRowInsertEnabled()) {
+                List<Object> elements = new ArrayList<>(elementsToAdd.size());
+                for (Object o : elementsToAdd) {
+                    // Null elements are only inserted when flushing at once
+                    if (o != null || flushAtOnce) {
+                        if (checkTransient && o != null && elementDescriptor.getBasicUserType().shouldPersist(o)) {
+                            throw new IllegalStateException("Collection " + attributeName + " references an unsaved transient instance - save the transient instance before flushing: " + o);
+                        }
+                        elements.add(o);
+                    }
                 }
-            } else {
-                if (entityIdAttributeName == null) {
-                    insertCb.fromValues(ownerEntityClass, mapping, "val", 1);
-                } else if (attributeIdAttributeName.equals(entityIdAttributeName)) {
-                    insertCb.fromIdentifiableValues((Class<Object>) elementDescriptor.getJpaType(), "val", 1);
-                } else {
-                    insertCb.fromIdentifiableValues((Class<Object>) elementDescriptor.getJpaType(), attributeIdAttributeName, "val", 1);
+                // Insert the elements in chunks that stay below the bind parameter limit, so that the insert query can be reused for full chunks
+                int maxInsertRows = getMaxInsertRows(context);
+                Query insertQuery = null;
+                int insertQueryRows = 0;
+                for (int i = 0; i < elements.size(); i += maxInsertRows) {
+                    int rows = Math.min(maxInsertRows, elements.size() - i);
+                    if (insertQueryRows != rows) {
+                        insertQuery = createInsertQuery(context, ownerView, view, rows);
+                        insertQueryRows = rows;
+                    }
+                    insertQuery.setParameter("val", elements.subList(i, i + rows));
+                    insertQuery.executeUpdate();
                 }
-            }
-            for (int i = 0; i < ownerIdBindFragments.length; i += 2) {
-                insertCb.bind(ownerIdBindFragments[i]).select(ownerIdBindFragments[i + 1]);
-            }
-            insertCb.bind(mapping).select("val");
-            Query insertQuery = insertCb.getQuery();
-            ownerIdFlusher.flushQuery(context, null, null, insertQuery, ownerView, view, ownerIdFlusher.getViewAttributeAccessor().getValue(ownerView), null, null);
-
-            boolean checkTransient = elementDescriptor.isJpaEntity() && !elementDescriptor.shouldJpaPersist();
-            if (flushAtOnce) {
+            } else if (flushAtOnce) {
                 if (checkTransient) {
                     for (Object o : elementsToAdd) {
                         if (elementDescriptor.getBasicUserType().shouldPersist(o)) {
@@ -528,9 +524,12 @@ public class CollectionAttributeFlusher<E, V extends Collection<?>> extends Abst
                         }
                     }
                 }
+                Query insertQuery = createInsertQuery(context, ownerView, view, elementsToAdd.size());
+                insertQuery.setParameter("val", elementsToAdd);
                 insertQuery.executeUpdate();
             } else {
                 // TODO: Use batching when we implement #657
+                Query insertQuery = createInsertQuery(context, ownerView, view, 1);
                 Object[] singletonArray = new Object[1];
                 List<Object> singletonList = Arrays.asList(singletonArray);
                 for (Object o : elementsToAdd) {
@@ -559,6 +558,38 @@ public class CollectionAttributeFlusher<E, V extends Collection<?>> extends Abst
         }
     }
 
+    private int getMaxInsertRows(UpdateContext context) {
+        EntityViewManagerImpl evm = context.getEntityViewManager();
+        ExtendedManagedType<?> extendedManagedType = evm.getMetamodel().getEntityMetamodel().getManagedType(ExtendedManagedType.class, ownerEntityClass);
+        // Every row binds one parameter per element column and the owner id parameters are bound once
+        int parametersPerRow = Math.max(1, extendedManagedType.getAttribute(getMapping()).getColumnNames().length);
+        int availableParameters = evm.getDbmsDialect().getMaxBindParameters() - ownerIdBindFragments.length / 2;
+        return Math.max(1, availableParameters / parametersPerRow);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Query createInsertQuery(UpdateContext context, Object ownerView, Object view, int valueCount) {
+        String mapping = getMapping();
+        InsertCriteriaBuilder<?> insertCb = context.getEntityViewManager().getCriteriaBuilderFactory().insertCollection(context.getEntityManager(), ownerEntityClass, mapping);
+
+        String entityIdAttributeName = elementDescriptor.getEntityIdAttributeName();
+        String attributeIdAttributeName = elementDescriptor.getAttributeIdAttributeName();
+        if (entityIdAttributeName == null) {
+            insertCb.fromValues(ownerEntityClass, mapping, "val", valueCount);
+        } else if (attributeIdAttributeName.equals(entityIdAttributeName)) {
+            insertCb.fromIdentifiableValues((Class<Object>) elementDescriptor.getJpaType(), "val", valueCount);
+        } else {
+            insertCb.fromIdentifiableValues((Class<Object>) elementDescriptor.getJpaType(), attributeIdAttributeName, "val", valueCount);
+        }
+        for (int i = 0; i < ownerIdBindFragments.length; i += 2) {
+            insertCb.bind(ownerIdBindFragments[i]).select(ownerIdBindFragments[i + 1]);
+        }
+        insertCb.bind(mapping).select("val");
+        Query insertQuery = insertCb.getQuery();
+        ownerIdFlusher.flushQuery(context, null, null, insertQuery, ownerView, view, ownerIdFlusher.getViewAttributeAccessor().getValue(ownerView), null, null);
+        return insertQuery;
+    }
+
     @Override
     protected boolean canFlushSeparateCollectionOperations() {
         return !collectionInstantiator.allowsDuplicates();
@@ -325,6 +325,48 @@ public class CompositeAttributeFlusher extends CompositeAttributeFetchGraphNode<
         return wasDirty;
     }
 
+    /**
+     * Returns a key that identifies the update query fragment rendered by {@link #appendUpdateQueryFragment}
+     * or <code>null</code> if the fragment can't be determined without rendering it.
+     * The key is a bit set of the attribute indices that render a fragment, followed by a bit for the version fragment
+     * and a bit for the optimistic lock protection.
+     *
+     * @return the update query fragment key or <code>null</code>
+     */
+    public long[] getUpdateQueryFragmentKey() {
+        long[] key = new long[(flushers.length + 65) >>> 6];
+        boolean optimisticLock = false;
+        for (int i = 0; i < flushers.length; i++) {
+            DirtyAttributeFlusher<?, Object, Object> flusher = flushers[i];
+            if (flusher != null) {
+                boolean appends;
+                if (flusher instanceof AbstractPluralAttributeFlusher<?, ?, ?, ?, ?>) {
+                    // Plural attributes never render a fragment but count as dirty
+                    optimisticLock |= flusher.isOptimisticLockProtected();
+                    continue;
+                } else if (flusher.getClass() == BasicAttributeFlusher.class || flusher.getClass() == VersionAttributeFlusher.class) {
+                    appends = ((BasicAttributeFlusher<Object, Object>) flusher).appendsUpdateQueryFragment();
+                } else if (flusher.getClass() == SubviewAttributeFlusher.class && !((SubviewAttributeFlusher<Object, Object>) flusher).supportsElementIdQueryFlush()) {
+                    appends = ((SubviewAttributeFlusher<Object, Object>) flusher).appendsUpdateQueryFragment();
+                } else {
+                    return null;
+                }
+                if (appends) {
+                    key[i >>> 6] |= 1L << i;
+                    optimisticLock |= flusher.isOptimisticLockProtected();
+                }
+            }
+        }
+        int versionIndex = flushers.length;
+        if (optimisticLock && optimisticLockProtected && versionFlusher != null) {
+            key[versionIndex >>> 6] |= 1L << versionIndex;
+        }
+        if (optimisticLockProtected) {
+            key[(versionIndex + 1) >>> 6] |= 1L << (versionIndex + 1);
+        }
+        return key;
+    }
+
     @Override
     public boolean supportsQueryFlush() {
         return supportsQueryFlush;
@@ -803,8 +845,11 @@ public class CompositeAttributeFlusher extends CompositeAttributeFetchGraphNode<
         // After Pre-Update the dirtyness could change
         long[] dirtyMask = context.getInitialStateResetter().addUpdatedView(element);
         boolean ranPreUpdate = context.invokePreUpdate(element);
-        if (ranPreUpdate && this.fullFlushers != this.flushers && element.$$_getSimpleDirty() != 0) {
-            dirtyMask[0] |= element.$$_getSimpleDirty();
+        if (ranPreUpdate && this.fullFlushers != this.flushers && element.$$_isDirty()) {
+            long[] newDirtyMask = element.$$_getDirty();
+            for (int i = 0; i < dirtyMask.length; i++) {
+                dirtyMask[i] |= newDirtyMask[i];
+            }
             element.$$_setDirty(dirtyMask);
             updateFlushers(context, element, this.flushers);
             element.$$_resetDirty();
@@ -1167,13 +1212,11 @@ public class CompositeAttributeFlusher extends CompositeAttributeFetchGraphNode<
         if (!currentObject.$$_isDirty()) {
             return DirtyKind.NONE;
         }
-        long dirty = currentObject.$$_getSimpleDirty();
         Object[] initialState = initialObject.$$_getInitialState();
         Object[] dirtyState = currentObject.$$_getMutableState();
 
         for (int i = 0; i < initialState.length; i++) {
-            long mask = 1L << i;
-            if ((dirty & mask) != 0) {
+            if (currentObject.$$_isDirty(i)) {
                 if (flushers[i].getDirtyKind(initialState[i], dirtyState[i]) != DirtyKind.NONE) {
                     return DirtyKind.MUTATED;
                 }
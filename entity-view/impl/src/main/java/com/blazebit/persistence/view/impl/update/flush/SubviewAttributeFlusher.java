@@ -150,7 +150,7 @@ public class SubviewAttributeFlusher<E, V> extends AttributeFetchGraphNode<Subvi
 
     @Override
     public boolean appendUpdateQueryFragment(UpdateContext context, StringBuilder sb, String mappingPrefix, String parameterPrefix, String separator) {
-        if (update && (updatable || isPassThrough()) && inverseFlusher == null) {
+        if (appendsUpdateQueryFragment()) {
             if (supportElementIdQueryFlush) {
                 if (mappingPrefix == null) {
                     return getElementIdFlusher().appendUpdateQueryFragment(context, sb, mapping + ".", parameterName + "_", separator);
@@ -174,6 +174,14 @@ public class SubviewAttributeFlusher<E, V> extends AttributeFetchGraphNode<Subvi
         return false;
     }
 
+    boolean appendsUpdateQueryFragment() {
+        return update && (updatable || isPassThrough()) && inverseFlusher == null;
+    }
+
+    boolean supportsElementIdQueryFlush() {
+        return supportElementIdQueryFlush;
+    }
+
     @Override
     public boolean supportsQueryFlush() {
         return true;
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.view.impl.objectbuilder;
+
+import com.blazebit.persistence.ObjectBuilder;
+import com.blazebit.persistence.SelectBuilder;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public class ParallelObjectBuilderTest {
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private final Executor executor = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            executions.incrementAndGet();
+            new Thread(command).start();
+        }
+    };
+
+    @Test
+    public void largeListIsBuiltConcurrentlyInOrder() {
+        int size = ParallelObjectBuilder.MIN_RANGE_SIZE * 3 + 1;
+        List<Object> result = buildList(size, 4);
+
+        assertEquals(2, executions.get());
+        assertEquals(size, result.size());
+        for (int i = 0; i < size; i++) {
+            assertEquals("object" + i, result.get(i));
+        }
+    }
+
+    @Test
+    public void smallListIsBuiltOnCallingThread() {
+        List<Object> result = buildList(ParallelObjectBuilder.MIN_RANGE_SIZE * 2 - 1, 4);
+
+        assertEquals(0, executions.get());
+        assertEquals("object0", result.get(0));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> buildList(int size, int parallelism) {
+        ObjectBuilder<Object>[] objectBuilders = new ObjectBuilder[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            objectBuilders[i] = new NameObjectBuilder();
+        }
+        ParallelObjectBuilder<Object> objectBuilder = new ParallelObjectBuilder<>(objectBuilders, executor);
+        Object[] singleObjectTuple = new Object[1];
+        List<Object> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            singleObjectTuple[0] = i;
+            list.add(objectBuilder.build(singleObjectTuple));
+        }
+        return objectBuilder.buildList(list);
+    }
+
+    /**
+     *
+     * @author Christian Beikov
+     * @since 1.5.0
+     */
+    private static class NameObjectBuilder implements ObjectBuilder<Object> {
+
+        @Override
+        public <X extends SelectBuilder<X>> void applySelects(X queryBuilder) {
+        }
+
+        @Override
+        public Object build(Object[] tuple) {
+            return "object" + tuple[0];
+        }
+
+        @Override
+        public List<Object> buildList(List<Object> list) {
+            return list;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.view.impl.objectbuilder.transformer.correlation;
+
+import com.blazebit.persistence.view.impl.BatchCorrelationMode;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public class BatchCorrelationModeCacheTest {
+
+    @Test
+    public void configuredModeIsExpectedInitially() {
+        BatchCorrelationModeCache cache = new BatchCorrelationModeCache();
+        Map<String, Object> optionalParameters = Collections.emptyMap();
+        assertEquals(BatchCorrelationMode.VALUES, cache.getExpectedMode(optionalParameters, BatchCorrelationMode.VALUES));
+        assertEquals(BatchCorrelationMode.VIEW_ROOTS, cache.getExpectedMode(optionalParameters, BatchCorrelationMode.VIEW_ROOTS));
+    }
+
+    @Test
+    public void requiredModeIsExpectedRegardlessOfConfiguredMode() {
+        BatchCorrelationModeCache cache = new BatchCorrelationModeCache();
+        Map<String, Object> optionalParameters = Collections.emptyMap();
+        cache.setRequiredMode(optionalParameters, BatchCorrelationMode.VIEW_ROOTS);
+
+        assertEquals(BatchCorrelationMode.VIEW_ROOTS, cache.getExpectedMode(optionalParameters, BatchCorrelationMode.VALUES));
+        assertEquals(BatchCorrelationMode.VIEW_ROOTS, cache.getExpectedMode(optionalParameters, BatchCorrelationMode.EMBEDDING_VIEWS));
+    }
+
+    @Test
+    public void requiredModeIsRememberedPerOptionalParameterNames() {
+        BatchCorrelationModeCache cache = new BatchCorrelationModeCache();
+        Map<String, Object> optionalParameters = new HashMap<>();
+        optionalParameters.put("a", 1);
+        cache.setRequiredMode(optionalParameters, BatchCorrelationMode.VIEW_ROOTS);
+
+        // Other values for the same parameter names have the same shape
+        Map<String, Object> sameShape = Collections.<String, Object>singletonMap("a", 2);
+        assertEquals(BatchCorrelationMode.VIEW_ROOTS, cache.getExpectedMode(sameShape, BatchCorrelationMode.VALUES));
+        assertEquals(BatchCorrelationMode.VALUES, cache.getExpectedMode(Collections.<String, Object>emptyMap(), BatchCorrelationMode.VALUES));
+
+        // Changing the map afterwards must not affect the remembered key
+        optionalParameters.put("b", 1);
+        assertEquals(BatchCorrelationMode.VIEW_ROOTS, cache.getExpectedMode(sameShape, BatchCorrelationMode.VALUES));
+        assertEquals(BatchCorrelationMode.VALUES, cache.getExpectedMode(optionalParameters, BatchCorrelationMode.VALUES));
+    }
+}
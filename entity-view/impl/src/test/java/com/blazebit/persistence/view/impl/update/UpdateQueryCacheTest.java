@@ -0,0 +1,75 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.view.impl.update;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public class UpdateQueryCacheTest {
+
+    @Test
+    public void entriesAreFoundByFragmentKeyContent() {
+        UpdateQueryCache cache = new UpdateQueryCache(4);
+        cache.put(new long[]{ 5L, 1L }, "UPDATE Document e SET e.name = :name WHERE e.id = :_id", true);
+
+        UpdateQueryCache.Entry entry = cache.get(new long[]{ 5L, 1L });
+        assertNotNull(entry);
+        assertEquals("UPDATE Document e SET e.name = :name WHERE e.id = :_id", entry.getQueryString());
+        assertTrue(entry.isNeedsOptimisticLocking());
+        assertNull(cache.get(new long[]{ 5L, 0L }));
+        assertNull(cache.get(new long[]{ 5L }));
+    }
+
+    @Test
+    public void emptyUpdatesAreCached() {
+        UpdateQueryCache cache = new UpdateQueryCache(4);
+        cache.put(new long[]{ 0L }, null, false);
+
+        UpdateQueryCache.Entry entry = cache.get(new long[]{ 0L });
+        assertNotNull(entry);
+        assertNull(entry.getQueryString());
+        assertFalse(entry.isNeedsOptimisticLocking());
+    }
+
+    @Test
+    public void leastRecentlyUsedEntryIsEvicted() {
+        UpdateQueryCache cache = new UpdateQueryCache(2);
+        cache.put(new long[]{ 1L }, "q1", false);
+        cache.put(new long[]{ 2L }, "q2", false);
+        cache.get(new long[]{ 1L });
+        cache.put(new long[]{ 4L }, "q4", false);
+
+        assertNotNull(cache.get(new long[]{ 1L }));
+        assertNull(cache.get(new long[]{ 2L }));
+        assertNotNull(cache.get(new long[]{ 4L }));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nonPositiveSizeIsRejected() {
+        new UpdateQueryCache(0);
+    }
+}
@@ -141,7 +141,12 @@ public final class ImplementationClassWriter {
             sb.append("    private ").append(entity.implementationImportType(Constants.LIST)).append("<Object> $$_readOnlyParents;").append(NEW_LINE);
             sb.append("    private ").append(entity.implementationImportType(Constants.DIRTY_TRACKER)).append(" $$_parent;").append(NEW_LINE);
             sb.append("    private int $$_parentIndex;").append(NEW_LINE);
-            sb.append("    private long $$_dirty;").append(NEW_LINE);
+            if (entity.getDefaultDirtyMask().length == 1) {
+                sb.append("    private long $$_dirty;").append(NEW_LINE);
+            } else {
+                // Views with more than 64 mutable attributes use a multi-word bitset like the runtime generated implementations
+                sb.append("    private long[] $$_dirty;").append(NEW_LINE);
+            }
         }
         if (version != null && version.getPropertyName().equals("$$_version")) {
             sb.append("    private ").append(version.getImplementationTypeString()).append(" ").append(version.getPropertyName()).append(";").append(NEW_LINE);
@@ -190,24 +195,34 @@ public final class ImplementationClassWriter {
 
         if (entity.isCreatable() || entity.isUpdatable()) {
             // BasicDirtyTracker
+            long[] defaultDirtyMask = entity.getDefaultDirtyMask();
+            int dirtyWords = defaultDirtyMask.length;
             sb.append("    @Override").append(NEW_LINE);
             sb.append("    public boolean $$_isDirty() {").append(NEW_LINE);
             if (entity.isAllSupportDirtyTracking()) {
-                sb.append("        return $$_dirty != 0L;").append(NEW_LINE);
+                sb.append("        return ").append(renderDirtyUnion(dirtyWords)).append(" != 0L;").append(NEW_LINE);
             } else {
                 sb.append("        return true;").append(NEW_LINE);
             }
             sb.append("    }").append(NEW_LINE);
             sb.append("    @Override").append(NEW_LINE);
             sb.append("    public void $$_markDirty(int attributeIndex) {").append(NEW_LINE);
-            sb.append("        this.$$_dirty |= (1 << attributeIndex);").append(NEW_LINE);
+            if (dirtyWords == 1) {
+                sb.append("        this.$$_dirty |= (1L << attributeIndex);").append(NEW_LINE);
+            } else {
+                // A setter might be invoked by a super constructor before the bitset was allocated
+                sb.append("        if (this.$$_dirty == null) {").append(NEW_LINE);
+                sb.append("            this.$$_dirty = new long[").append(dirtyWords).append("];").append(NEW_LINE);
+                sb.append("        }").append(NEW_LINE);
+                sb.append("        this.$$_dirty[attributeIndex >>> 6] |= (1L << attributeIndex);").append(NEW_LINE);
+            }
             sb.append("        if (this.$$_parent != null) {").append(NEW_LINE);
             sb.append("            this.$$_parent.$$_markDirty(this.$$_parentIndex);").append(NEW_LINE);
             sb.append("        }").append(NEW_LINE);
             sb.append("    }").append(NEW_LINE);
             sb.append("    @Override").append(NEW_LINE);
             sb.append("    public void $$_unmarkDirty() {").append(NEW_LINE);
-            sb.append("        this.$$_dirty = ").append(entity.getDefaultDirtyMask()).append("L;").append(NEW_LINE);
+            appendDirtyAssignment(sb, defaultDirtyMask);
             sb.append("    }").append(NEW_LINE);
             sb.append("    @Override").append(NEW_LINE);
             sb.append("    public void $$_setParent(").append(entity.implementationImportType(Constants.BASIC_DIRTY_TRACKER)).append(" parent, int parentIndex) {").append(NEW_LINE);
@@ -243,18 +258,18 @@ public final class ImplementationClassWriter {
 
                 sb.append("        }").append(NEW_LINE);
             }
-            sb.append("        return (this.$$_dirty & (1L << attributeIndex)) != 0;").append(NEW_LINE);
+            sb.append("        return (").append(renderDirtyWord("attributeIndex >>> 6", dirtyWords)).append(" & (1L << attributeIndex)) != 0;").append(NEW_LINE);
             sb.append("    }").append(NEW_LINE);
             sb.append("    @Override").append(NEW_LINE);
             sb.append("    public <T> boolean $$_copyDirty(T[] source, T[] target) {").append(NEW_LINE);
-            sb.append("        if (this.$$_dirty == 0L) {").append(NEW_LINE);
+            sb.append("        if (").append(renderDirtyUnion(dirtyWords)).append(" == 0L) {").append(NEW_LINE);
             sb.append("            return false;").append(NEW_LINE);
             sb.append("        } else {").append(NEW_LINE);
             for (MetaAttribute member : members) {
                 if ((member.getDirtyStateIndex() != -1)) {
                     if (member.supportsDirtyTracking()) {
-                        long mask = 1 << member.getDirtyStateIndex();
-                        sb.append("            target[").append(member.getDirtyStateIndex()).append("] = (this.$$_dirty & ").append(mask).append(") == 0 ? null : source[").append(member.getDirtyStateIndex()).append("];").append(NEW_LINE);
+                        long mask = 1L << member.getDirtyStateIndex();
+                        sb.append("            target[").append(member.getDirtyStateIndex()).append("] = (").append(renderDirtyWord(Integer.toString(member.getDirtyStateIndex() >>> 6), dirtyWords)).append(" & ").append(mask).append("L) == 0 ? null : source[").append(member.getDirtyStateIndex()).append("];").append(NEW_LINE);
                     } else {
                         sb.append("            target[").append(member.getDirtyStateIndex()).append("] = source[").append(member.getDirtyStateIndex()).append("];").append(NEW_LINE);
                     }
@@ -265,28 +280,43 @@ public final class ImplementationClassWriter {
             sb.append("    }").append(NEW_LINE);
             sb.append("    @Override").append(NEW_LINE);
             sb.append("    public void $$_setDirty(long[] dirty) {").append(NEW_LINE);
-            if (entity.getDefaultDirtyMask() == 0) {
-                sb.append("        this.$$_dirty = dirty[0];").append(NEW_LINE);
+            if (dirtyWords == 1) {
+                if (defaultDirtyMask[0] == 0L) {
+                    sb.append("        this.$$_dirty = dirty[0];").append(NEW_LINE);
+                } else {
+                    sb.append("        this.$$_dirty = dirty[0] | ").append(defaultDirtyMask[0]).append("L;").append(NEW_LINE);
+                }
             } else {
-                sb.append("        this.$$_dirty = dirty[0] | ").append(entity.getDefaultDirtyMask()).append("L;").append(NEW_LINE);
+                for (int i = 0; i < dirtyWords; i++) {
+                    sb.append("        this.$$_dirty[").append(i).append("] = (dirty.length > ").append(i).append(" ? dirty[").append(i).append("] : 0L)");
+                    if (defaultDirtyMask[i] != 0L) {
+                        sb.append(" | ").append(defaultDirtyMask[i]).append("L");
+                    }
+                    sb.append(";").append(NEW_LINE);
+                }
             }
-            sb.append("        if (this.$$_dirty != 0L && this.$$_parent != null) {").append(NEW_LINE);
+            sb.append("        if (").append(renderDirtyUnion(dirtyWords)).append(" != 0L && this.$$_parent != null) {").append(NEW_LINE);
             sb.append("            this.$$_parent.$$_markDirty(this.$$_parentIndex);").append(NEW_LINE);
             sb.append("        }").append(NEW_LINE);
             sb.append("    }").append(NEW_LINE);
             sb.append("    @Override").append(NEW_LINE);
             sb.append("    public long[] $$_resetDirty() {").append(NEW_LINE);
-            sb.append("        long[] dirty = new long[]{ this.$$_dirty };").append(NEW_LINE);
-            sb.append("        this.$$_dirty = ").append(entity.getDefaultDirtyMask()).append("L;").append(NEW_LINE);
+            sb.append("        long[] dirty = ").append(renderDirtyCopy(dirtyWords)).append(";").append(NEW_LINE);
+            appendDirtyAssignment(sb, defaultDirtyMask);
             sb.append("        return dirty;").append(NEW_LINE);
             sb.append("    }").append(NEW_LINE);
             sb.append("    @Override").append(NEW_LINE);
             sb.append("    public long[] $$_getDirty() {").append(NEW_LINE);
-            sb.append("        return new long[]{ this.$$_dirty };").append(NEW_LINE);
+            sb.append("        return ").append(renderDirtyCopy(dirtyWords)).append(";").append(NEW_LINE);
             sb.append("    }").append(NEW_LINE);
             sb.append("    @Override").append(NEW_LINE);
             sb.append("    public long $$_getSimpleDirty() {").append(NEW_LINE);
-            sb.append("        return $$_dirty;").append(NEW_LINE);
+            if (dirtyWords == 1) {
+                sb.append("        return $$_dirty;").append(NEW_LINE);
+            } else {
+                // Only the first 64 attributes are represented, callers of wide views must use $$_getDirty or $$_isDirty(int)
+                sb.append("        return $$_dirty[0];").append(NEW_LINE);
+            }
             sb.append("    }").append(NEW_LINE);
             sb.append("    @Override").append(NEW_LINE);
             sb.append("    public void $$_replaceAttribute(Object oldObject, int attributeIndex, Object newObject) {").append(NEW_LINE);
@@ -404,6 +434,63 @@ public final class ImplementationClassWriter {
         sb.append(NEW_LINE);
     }
 
+    private static String renderDirtyWord(String wordIndex, int dirtyWords) {
+        if (dirtyWords == 1) {
+            return "this.$$_dirty";
+        }
+        return "this.$$_dirty[" + wordIndex + "]";
+    }
+
+    private static String renderDirtyUnion(int dirtyWords) {
+        if (dirtyWords == 1) {
+            return "this.$$_dirty";
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append('(');
+        for (int i = 0; i < dirtyWords; i++) {
+            if (i != 0) {
+                sb.append(" | ");
+            }
+            sb.append("this.$$_dirty[").append(i).append(']');
+        }
+        sb.append(')');
+        return sb.toString();
+    }
+
+    private static String renderDirtyCopy(int dirtyWords) {
+        if (dirtyWords == 1) {
+            return "new long[]{ this.$$_dirty }";
+        }
+        return "this.$$_dirty.clone()";
+    }
+
+    private static void appendDirtyAssignment(StringBuilder sb, long[] defaultDirtyMask) {
+        if (defaultDirtyMask.length == 1) {
+            sb.append("        this.$$_dirty = ").append(defaultDirtyMask[0]).append("L;").append(NEW_LINE);
+        } else {
+            for (int i = 0; i < defaultDirtyMask.length; i++) {
+                sb.append("        this.$$_dirty[").append(i).append("] = ").append(defaultDirtyMask[i]).append("L;").append(NEW_LINE);
+            }
+        }
+    }
+
+    private static void appendDirtyInitialization(StringBuilder sb, long[] defaultDirtyMask) {
+        if (defaultDirtyMask.length == 1) {
+            if (defaultDirtyMask[0] != 0L) {
+                sb.append("        this.$$_dirty |= ").append(defaultDirtyMask[0]).append("L;").append(NEW_LINE);
+            }
+        } else {
+            sb.append("        if (this.$$_dirty == null) {").append(NEW_LINE);
+            sb.append("            this.$$_dirty = new long[").append(defaultDirtyMask.length).append("];").append(NEW_LINE);
+            sb.append("        }").append(NEW_LINE);
+            for (int i = 0; i < defaultDirtyMask.length; i++) {
+                if (defaultDirtyMask[i] != 0L) {
+                    sb.append("        this.$$_dirty[").append(i).append("] |= ").append(defaultDirtyMask[i]).append("L;").append(NEW_LINE);
+                }
+            }
+        }
+    }
+
     private static void appendSerializationClass(StringBuilder sb, MetaEntityView entity, Context context) {
         String serializableClassSimpleName = entity.getSimpleName() + SERIALIZATION_CLASS_NAME_SUFFIX;
         for (MetaConstructor constructor : entity.getConstructors()) {
@@ -1518,9 +1605,7 @@ public final class ImplementationClassWriter {
         sb.append(NEW_LINE);
 
         if (entity.isCreatable() || entity.isUpdatable()) {
-            if (entity.getDefaultDirtyMask() != 0) {
-                sb.append("        this.$$_dirty |= ").append(entity.getDefaultDirtyMask()).append("L;").append(NEW_LINE);
-            }
+            appendDirtyInitialization(sb, entity.getDefaultDirtyMask());
             sb.append("        Object[] initialStateArr = new Object[").append(entity.getMutableAttributeCount()).append("];").append(NEW_LINE);
             sb.append("        Object[] mutableStateArr = new Object[").append(entity.getMutableAttributeCount()).append("];").append(NEW_LINE);
         }
@@ -1611,9 +1696,7 @@ public final class ImplementationClassWriter {
         }
 
         if (entity.isCreatable() || entity.isUpdatable()) {
-            if (entity.getDefaultDirtyMask() != 0) {
-                sb.append("        this.$$_dirty |= ").append(entity.getDefaultDirtyMask()).append("L;").append(NEW_LINE);
-            }
+            appendDirtyInitialization(sb, entity.getDefaultDirtyMask());
             sb.append("        Object[] initialStateArr = new Object[").append(entity.getMutableAttributeCount()).append("];").append(NEW_LINE);
             sb.append("        Object[] mutableStateArr = new Object[").append(entity.getMutableAttributeCount()).append("];").append(NEW_LINE);
         }
@@ -1726,9 +1809,7 @@ public final class ImplementationClassWriter {
         }
 
         if (entity.isCreatable() || entity.isUpdatable()) {
-            if (entity.getDefaultDirtyMask() != 0) {
-                sb.append("        this.$$_dirty |= ").append(entity.getDefaultDirtyMask()).append("L;").append(NEW_LINE);
-            }
+            appendDirtyInitialization(sb, entity.getDefaultDirtyMask());
             sb.append("        Object[] initialStateArr = new Object[").append(entity.getMutableAttributeCount()).append("];").append(NEW_LINE);
             sb.append("        Object[] mutableStateArr = new Object[").append(entity.getMutableAttributeCount()).append("];").append(NEW_LINE);
         }
@@ -1795,9 +1876,7 @@ public final class ImplementationClassWriter {
         sb.append(NEW_LINE);
 
         if (entity.isCreatable() || entity.isUpdatable()) {
-            if (entity.getDefaultDirtyMask() != 0) {
-                sb.append("        this.$$_dirty |= ").append(entity.getDefaultDirtyMask()).append("L;").append(NEW_LINE);
-            }
+            appendDirtyInitialization(sb, entity.getDefaultDirtyMask());
             sb.append("        Object[] initialStateArr = new Object[").append(entity.getMutableAttributeCount()).append("];").append(NEW_LINE);
             sb.append("        Object[] mutableStateArr = new Object[").append(entity.getMutableAttributeCount()).append("];").append(NEW_LINE);
             if (entity.isCreatable()) {
@@ -1956,9 +2035,7 @@ public final class ImplementationClassWriter {
         sb.append(NEW_LINE);
         sb.append("        this.$$_kind = (byte) 1;").append(NEW_LINE);
         if (entity.isCreatable() || entity.isUpdatable()) {
-            if (entity.getDefaultDirtyMask() != 0) {
-                sb.append("        this.$$_dirty |= ").append(entity.getDefaultDirtyMask()).append("L;").append(NEW_LINE);
-            }
+            appendDirtyInitialization(sb, entity.getDefaultDirtyMask());
             sb.append("        Object[] initialStateArr = new Object[").append(entity.getMutableAttributeCount()).append("];").append(NEW_LINE);
             sb.append("        Object[] mutableStateArr = new Object[").append(entity.getMutableAttributeCount()).append("];").append(NEW_LINE);
         }
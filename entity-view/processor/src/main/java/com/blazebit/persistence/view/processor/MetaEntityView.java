@@ -102,5 +102,5 @@ public interface MetaEntityView {
 
     Map<String, ViewFilter> getViewFilters();
 
-    int getDefaultDirtyMask();
+    long[] getDefaultDirtyMask();
 }
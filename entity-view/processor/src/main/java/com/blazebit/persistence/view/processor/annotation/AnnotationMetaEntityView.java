@@ -41,6 +41,7 @@ import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.tools.Diagnostic;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -79,7 +80,7 @@ public class AnnotationMetaEntityView implements MetaEntityView {
     private final boolean creatable;
     private final boolean allSupportDirtyTracking;
     private final int mutableAttributeCount;
-    private final int defaultDirtyMask;
+    private final long[] defaultDirtyMask;
     private final boolean hasEmptyConstructor;
     private final boolean hasSelfConstructor;
     private final boolean hasSubviews;
@@ -222,7 +223,8 @@ public class AnnotationMetaEntityView implements MetaEntityView {
         }
 
         int dirtyStateIndex = 0;
-        int defaultDirtyMask = 0;
+        // One word per 64 mutable attributes like the runtime generated implementations
+        long[] defaultDirtyMask = new long[Math.max(1, (members.size() + 63) >>> 6)];
         int index = 0;
         if (idMember != null) {
             idMember.setAttributeIndex(index);
@@ -239,7 +241,7 @@ public class AnnotationMetaEntityView implements MetaEntityView {
                     value.setDirtyStateIndex(dirtyStateIndex);
                     if (!value.supportsDirtyTracking()) {
                         allSupportDirtyTracking = false;
-                        defaultDirtyMask |= 1 << dirtyStateIndex;
+                        defaultDirtyMask[dirtyStateIndex >>> 6] |= 1L << dirtyStateIndex;
                     }
                     dirtyStateIndex++;
                 }
@@ -253,7 +255,7 @@ public class AnnotationMetaEntityView implements MetaEntityView {
         this.valid = valid;
         this.allSupportDirtyTracking = allSupportDirtyTracking;
         this.mutableAttributeCount = dirtyStateIndex;
-        this.defaultDirtyMask = defaultDirtyMask;
+        this.defaultDirtyMask = Arrays.copyOf(defaultDirtyMask, Math.max(1, (dirtyStateIndex + 63) >>> 6));
 
         if (constructors.isEmpty()) {
             constructors.add(new AnnotationMetaConstructor(this));
@@ -418,7 +420,7 @@ public class AnnotationMetaEntityView implements MetaEntityView {
     }
 
     @Override
-    public int getDefaultDirtyMask() {
+    public long[] getDefaultDirtyMask() {
         return defaultDirtyMask;
     }
 
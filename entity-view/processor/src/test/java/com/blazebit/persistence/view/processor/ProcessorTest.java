@@ -19,6 +19,8 @@ package com.blazebit.persistence.view.processor;
 import com.blazebit.persistence.view.processor.model.AView;
 import com.blazebit.persistence.view.processor.model.BView;
 import com.blazebit.persistence.view.processor.model.BViewImpl;
+import com.blazebit.persistence.view.processor.model.WideView;
+import com.blazebit.persistence.view.processor.model.WideViewImpl;
 import com.blazebit.persistence.view.processor.model.sub.BaseView_com_blazebit_persistence_view_processor_model_BView;
 import com.google.testing.compile.Compilation;
 import com.google.testing.compile.CompilationSubject;
@@ -28,6 +30,7 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import javax.tools.JavaFileObject;
+import java.util.Collections;
 
 /**
  * @author Christian Beikov
@@ -52,6 +55,32 @@ public class ProcessorTest {
         Assert.assertEquals("Test", obj.getCapturedName());
     }
 
+    @Test
+    public void testWideUpdatableView() {
+        test(WideView.class);
+        WideViewImpl obj = new WideViewImpl((WideViewImpl) null, Collections.<String, Object>emptyMap());
+        Assert.assertFalse(obj.$$_isDirty());
+        obj.setAttribute64("Test");
+        Assert.assertTrue(obj.$$_isDirty());
+        Assert.assertTrue(obj.$$_isDirty(64));
+        Assert.assertFalse(obj.$$_isDirty(0));
+        Assert.assertArrayEquals(new long[]{ 0L, 1L }, obj.$$_getDirty());
+
+        String[] source = new String[65];
+        String[] target = new String[65];
+        source[0] = "Other";
+        source[64] = "Test";
+        Assert.assertTrue(obj.$$_copyDirty(source, target));
+        Assert.assertNull(target[0]);
+        Assert.assertEquals("Test", target[64]);
+
+        Assert.assertArrayEquals(new long[]{ 0L, 1L }, obj.$$_resetDirty());
+        Assert.assertFalse(obj.$$_isDirty());
+        obj.$$_setDirty(new long[]{ 1L });
+        Assert.assertTrue(obj.$$_isDirty(0));
+        Assert.assertFalse(obj.$$_isDirty(64));
+    }
+
     private Compilation test(Class<?>... views) {
         Compiler compiler = Compiler.javac().withProcessors(new EntityViewAnnotationProcessor());
         JavaFileObject[] javaFileObjects = new JavaFileObject[views.length];
@@ -0,0 +1,269 @@
+package com.blazebit.persistence.view.processor.model;
+
+import com.blazebit.persistence.view.EntityView;
+import com.blazebit.persistence.view.UpdatableEntityView;
+
+@UpdatableEntityView
+@EntityView(WideView.class)
+public interface WideView extends IdHolderView<Integer> {
+
+    String getAttribute00();
+
+    void setAttribute00(String value);
+
+    String getAttribute01();
+
+    void setAttribute01(String value);
+
+    String getAttribute02();
+
+    void setAttribute02(String value);
+
+    String getAttribute03();
+
+    void setAttribute03(String value);
+
+    String getAttribute04();
+
+    void setAttribute04(String value);
+
+    String getAttribute05();
+
+    void setAttribute05(String value);
+
+    String getAttribute06();
+
+    void setAttribute06(String value);
+
+    String getAttribute07();
+
+    void setAttribute07(String value);
+
+    String getAttribute08();
+
+    void setAttribute08(String value);
+
+    String getAttribute09();
+
+    void setAttribute09(String value);
+
+    String getAttribute10();
+
+    void setAttribute10(String value);
+
+    String getAttribute11();
+
+    void setAttribute11(String value);
+
+    String getAttribute12();
+
+    void setAttribute12(String value);
+
+    String getAttribute13();
+
+    void setAttribute13(String value);
+
+    String getAttribute14();
+
+    void setAttribute14(String value);
+
+    String getAttribute15();
+
+    void setAttribute15(String value);
+
+    String getAttribute16();
+
+    void setAttribute16(String value);
+
+    String getAttribute17();
+
+    void setAttribute17(String value);
+
+    String getAttribute18();
+
+    void setAttribute18(String value);
+
+    String getAttribute19();
+
+    void setAttribute19(String value);
+
+    String getAttribute20();
+
+    void setAttribute20(String value);
+
+    String getAttribute21();
+
+    void setAttribute21(String value);
+
+    String getAttribute22();
+
+    void setAttribute22(String value);
+
+    String getAttribute23();
+
+    void setAttribute23(String value);
+
+    String getAttribute24();
+
+    void setAttribute24(String value);
+
+    String getAttribute25();
+
+    void setAttribute25(String value);
+
+    String getAttribute26();
+
+    void setAttribute26(String value);
+
+    String getAttribute27();
+
+    void setAttribute27(String value);
+
+    String getAttribute28();
+
+    void setAttribute28(String value);
+
+    String getAttribute29();
+
+    void setAttribute29(String value);
+
+    String getAttribute30();
+
+    void setAttribute30(String value);
+
+    String getAttribute31();
+
+    void setAttribute31(String value);
+
+    String getAttribute32();
+
+    void setAttribute32(String value);
+
+    String getAttribute33();
+
+    void setAttribute33(String value);
+
+    String getAttribute34();
+
+    void setAttribute34(String value);
+
+    String getAttribute35();
+
+    void setAttribute35(String value);
+
+    String getAttribute36();
+
+    void setAttribute36(String value);
+
+    String getAttribute37();
+
+    void setAttribute37(String value);
+
+    String getAttribute38();
+
+    void setAttribute38(String value);
+
+    String getAttribute39();
+
+    void setAttribute39(String value);
+
+    String getAttribute40();
+
+    void setAttribute40(String value);
+
+    String getAttribute41();
+
+    void setAttribute41(String value);
+
+    String getAttribute42();
+
+    void setAttribute42(String value);
+
+    String getAttribute43();
+
+    void setAttribute43(String value);
+
+    String getAttribute44();
+
+    void setAttribute44(String value);
+
+    String getAttribute45();
+
+    void setAttribute45(String value);
+
+    String getAttribute46();
+
+    void setAttribute46(String value);
+
+    String getAttribute47();
+
+    void setAttribute47(String value);
+
+    String getAttribute48();
+
+    void setAttribute48(String value);
+
+    String getAttribute49();
+
+    void setAttribute49(String value);
+
+    String getAttribute50();
+
+    void setAttribute50(String value);
+
+    String getAttribute51();
+
+    void setAttribute51(String value);
+
+    String getAttribute52();
+
+    void setAttribute52(String value);
+
+    String getAttribute53();
+
+    void setAttribute53(String value);
+
+    String getAttribute54();
+
+    void setAttribute54(String value);
+
+    String getAttribute55();
+
+    void setAttribute55(String value);
+
+    String getAttribute56();
+
+    void setAttribute56(String value);
+
+    String getAttribute57();
+
+    void setAttribute57(String value);
+
+    String getAttribute58();
+
+    void setAttribute58(String value);
+
+    String getAttribute59();
+
+    void setAttribute59(String value);
+
+    String getAttribute60();
+
+    void setAttribute60(String value);
+
+    String getAttribute61();
+
+    void setAttribute61(String value);
+
+    String getAttribute62();
+
+    void setAttribute62(String value);
+
+    String getAttribute63();
+
+    void setAttribute63(String value);
+
+    String getAttribute64();
+
+    void setAttribute64(String value);
+}
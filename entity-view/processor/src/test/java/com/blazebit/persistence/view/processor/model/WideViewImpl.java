@@ -0,0 +1,1963 @@
+package com.blazebit.persistence.view.processor.model;
+
+import com.blazebit.persistence.view.EntityViewManager;
+import com.blazebit.persistence.view.SerializableEntityViewManager;
+import com.blazebit.persistence.view.StaticImplementation;
+import com.blazebit.persistence.view.spi.type.BasicDirtyTracker;
+import com.blazebit.persistence.view.spi.type.DirtyStateTrackable;
+import com.blazebit.persistence.view.spi.type.DirtyTracker;
+import com.blazebit.persistence.view.spi.type.EntityViewProxy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.Generated;
+
+@Generated(value = "com.blazebit.persistence.view.processor.EntityViewAnnotationProcessor")
+@StaticImplementation(WideView.class)
+public class WideViewImpl implements WideView, EntityViewProxy, DirtyStateTrackable {
+
+    public static volatile EntityViewManager ENTITY_VIEW_MANAGER;
+    public static final SerializableEntityViewManager SERIALIZABLE_ENTITY_VIEW_MANAGER = new SerializableEntityViewManager(WideViewImpl.class, ENTITY_VIEW_MANAGER);
+
+    private String attribute00;
+    private String attribute01;
+    private String attribute02;
+    private String attribute03;
+    private String attribute04;
+    private String attribute05;
+    private String attribute06;
+    private String attribute07;
+    private String attribute08;
+    private String attribute09;
+    private String attribute10;
+    private String attribute11;
+    private String attribute12;
+    private String attribute13;
+    private String attribute14;
+    private String attribute15;
+    private String attribute16;
+    private String attribute17;
+    private String attribute18;
+    private String attribute19;
+    private String attribute20;
+    private String attribute21;
+    private String attribute22;
+    private String attribute23;
+    private String attribute24;
+    private String attribute25;
+    private String attribute26;
+    private String attribute27;
+    private String attribute28;
+    private String attribute29;
+    private String attribute30;
+    private String attribute31;
+    private String attribute32;
+    private String attribute33;
+    private String attribute34;
+    private String attribute35;
+    private String attribute36;
+    private String attribute37;
+    private String attribute38;
+    private String attribute39;
+    private String attribute40;
+    private String attribute41;
+    private String attribute42;
+    private String attribute43;
+    private String attribute44;
+    private String attribute45;
+    private String attribute46;
+    private String attribute47;
+    private String attribute48;
+    private String attribute49;
+    private String attribute50;
+    private String attribute51;
+    private String attribute52;
+    private String attribute53;
+    private String attribute54;
+    private String attribute55;
+    private String attribute56;
+    private String attribute57;
+    private String attribute58;
+    private String attribute59;
+    private String attribute60;
+    private String attribute61;
+    private String attribute62;
+    private String attribute63;
+    private String attribute64;
+    private Integer id;
+
+    public WideViewImpl(WideViewImpl noop, Map<String, Object> optionalParameters) {
+        if (this.$$_dirty == null) {
+            this.$$_dirty = new long[2];
+        }
+        Object[] initialStateArr = new Object[65];
+        Object[] mutableStateArr = new Object[65];
+        this.attribute00 = (String) (mutableStateArr[0] = initialStateArr[0] = null);
+        this.attribute01 = (String) (mutableStateArr[1] = initialStateArr[1] = null);
+        this.attribute02 = (String) (mutableStateArr[2] = initialStateArr[2] = null);
+        this.attribute03 = (String) (mutableStateArr[3] = initialStateArr[3] = null);
+        this.attribute04 = (String) (mutableStateArr[4] = initialStateArr[4] = null);
+        this.attribute05 = (String) (mutableStateArr[5] = initialStateArr[5] = null);
+        this.attribute06 = (String) (mutableStateArr[6] = initialStateArr[6] = null);
+        this.attribute07 = (String) (mutableStateArr[7] = initialStateArr[7] = null);
+        this.attribute08 = (String) (mutableStateArr[8] = initialStateArr[8] = null);
+        this.attribute09 = (String) (mutableStateArr[9] = initialStateArr[9] = null);
+        this.attribute10 = (String) (mutableStateArr[10] = initialStateArr[10] = null);
+        this.attribute11 = (String) (mutableStateArr[11] = initialStateArr[11] = null);
+        this.attribute12 = (String) (mutableStateArr[12] = initialStateArr[12] = null);
+        this.attribute13 = (String) (mutableStateArr[13] = initialStateArr[13] = null);
+        this.attribute14 = (String) (mutableStateArr[14] = initialStateArr[14] = null);
+        this.attribute15 = (String) (mutableStateArr[15] = initialStateArr[15] = null);
+        this.attribute16 = (String) (mutableStateArr[16] = initialStateArr[16] = null);
+        this.attribute17 = (String) (mutableStateArr[17] = initialStateArr[17] = null);
+        this.attribute18 = (String) (mutableStateArr[18] = initialStateArr[18] = null);
+        this.attribute19 = (String) (mutableStateArr[19] = initialStateArr[19] = null);
+        this.attribute20 = (String) (mutableStateArr[20] = initialStateArr[20] = null);
+        this.attribute21 = (String) (mutableStateArr[21] = initialStateArr[21] = null);
+        this.attribute22 = (String) (mutableStateArr[22] = initialStateArr[22] = null);
+        this.attribute23 = (String) (mutableStateArr[23] = initialStateArr[23] = null);
+        this.attribute24 = (String) (mutableStateArr[24] = initialStateArr[24] = null);
+        this.attribute25 = (String) (mutableStateArr[25] = initialStateArr[25] = null);
+        this.attribute26 = (String) (mutableStateArr[26] = initialStateArr[26] = null);
+        this.attribute27 = (String) (mutableStateArr[27] = initialStateArr[27] = null);
+        this.attribute28 = (String) (mutableStateArr[28] = initialStateArr[28] = null);
+        this.attribute29 = (String) (mutableStateArr[29] = initialStateArr[29] = null);
+        this.attribute30 = (String) (mutableStateArr[30] = initialStateArr[30] = null);
+        this.attribute31 = (String) (mutableStateArr[31] = initialStateArr[31] = null);
+        this.attribute32 = (String) (mutableStateArr[32] = initialStateArr[32] = null);
+        this.attribute33 = (String) (mutableStateArr[33] = initialStateArr[33] = null);
+        this.attribute34 = (String) (mutableStateArr[34] = initialStateArr[34] = null);
+        this.attribute35 = (String) (mutableStateArr[35] = initialStateArr[35] = null);
+        this.attribute36 = (String) (mutableStateArr[36] = initialStateArr[36] = null);
+        this.attribute37 = (String) (mutableStateArr[37] = initialStateArr[37] = null);
+        this.attribute38 = (String) (mutableStateArr[38] = initialStateArr[38] = null);
+        this.attribute39 = (String) (mutableStateArr[39] = initialStateArr[39] = null);
+        this.attribute40 = (String) (mutableStateArr[40] = initialStateArr[40] = null);
+        this.attribute41 = (String) (mutableStateArr[41] = initialStateArr[41] = null);
+        this.attribute42 = (String) (mutableStateArr[42] = initialStateArr[42] = null);
+        this.attribute43 = (String) (mutableStateArr[43] = initialStateArr[43] = null);
+        this.attribute44 = (String) (mutableStateArr[44] = initialStateArr[44] = null);
+        this.attribute45 = (String) (mutableStateArr[45] = initialStateArr[45] = null);
+        this.attribute46 = (String) (mutableStateArr[46] = initialStateArr[46] = null);
+        this.attribute47 = (String) (mutableStateArr[47] = initialStateArr[47] = null);
+        this.attribute48 = (String) (mutableStateArr[48] = initialStateArr[48] = null);
+        this.attribute49 = (String) (mutableStateArr[49] = initialStateArr[49] = null);
+        this.attribute50 = (String) (mutableStateArr[50] = initialStateArr[50] = null);
+        this.attribute51 = (String) (mutableStateArr[51] = initialStateArr[51] = null);
+        this.attribute52 = (String) (mutableStateArr[52] = initialStateArr[52] = null);
+        this.attribute53 = (String) (mutableStateArr[53] = initialStateArr[53] = null);
+        this.attribute54 = (String) (mutableStateArr[54] = initialStateArr[54] = null);
+        this.attribute55 = (String) (mutableStateArr[55] = initialStateArr[55] = null);
+        this.attribute56 = (String) (mutableStateArr[56] = initialStateArr[56] = null);
+        this.attribute57 = (String) (mutableStateArr[57] = initialStateArr[57] = null);
+        this.attribute58 = (String) (mutableStateArr[58] = initialStateArr[58] = null);
+        this.attribute59 = (String) (mutableStateArr[59] = initialStateArr[59] = null);
+        this.attribute60 = (String) (mutableStateArr[60] = initialStateArr[60] = null);
+        this.attribute61 = (String) (mutableStateArr[61] = initialStateArr[61] = null);
+        this.attribute62 = (String) (mutableStateArr[62] = initialStateArr[62] = null);
+        this.attribute63 = (String) (mutableStateArr[63] = initialStateArr[63] = null);
+        this.attribute64 = (String) (mutableStateArr[64] = initialStateArr[64] = null);
+        this.id = null;
+        this.$$_initialState = initialStateArr;
+        this.$$_mutableState = mutableStateArr;
+        this.$$_initialized = true;
+    }
+
+    public WideViewImpl(Integer id) {
+        this.$$_kind = (byte) 1;
+        if (this.$$_dirty == null) {
+            this.$$_dirty = new long[2];
+        }
+        Object[] initialStateArr = new Object[65];
+        Object[] mutableStateArr = new Object[65];
+        this.attribute00 = (String) (mutableStateArr[0] = null);
+        this.attribute01 = (String) (mutableStateArr[1] = null);
+        this.attribute02 = (String) (mutableStateArr[2] = null);
+        this.attribute03 = (String) (mutableStateArr[3] = null);
+        this.attribute04 = (String) (mutableStateArr[4] = null);
+        this.attribute05 = (String) (mutableStateArr[5] = null);
+        this.attribute06 = (String) (mutableStateArr[6] = null);
+        this.attribute07 = (String) (mutableStateArr[7] = null);
+        this.attribute08 = (String) (mutableStateArr[8] = null);
+        this.attribute09 = (String) (mutableStateArr[9] = null);
+        this.attribute10 = (String) (mutableStateArr[10] = null);
+        this.attribute11 = (String) (mutableStateArr[11] = null);
+        this.attribute12 = (String) (mutableStateArr[12] = null);
+        this.attribute13 = (String) (mutableStateArr[13] = null);
+        this.attribute14 = (String) (mutableStateArr[14] = null);
+        this.attribute15 = (String) (mutableStateArr[15] = null);
+        this.attribute16 = (String) (mutableStateArr[16] = null);
+        this.attribute17 = (String) (mutableStateArr[17] = null);
+        this.attribute18 = (String) (mutableStateArr[18] = null);
+        this.attribute19 = (String) (mutableStateArr[19] = null);
+        this.attribute20 = (String) (mutableStateArr[20] = null);
+        this.attribute21 = (String) (mutableStateArr[21] = null);
+        this.attribute22 = (String) (mutableStateArr[22] = null);
+        this.attribute23 = (String) (mutableStateArr[23] = null);
+        this.attribute24 = (String) (mutableStateArr[24] = null);
+        this.attribute25 = (String) (mutableStateArr[25] = null);
+        this.attribute26 = (String) (mutableStateArr[26] = null);
+        this.attribute27 = (String) (mutableStateArr[27] = null);
+        this.attribute28 = (String) (mutableStateArr[28] = null);
+        this.attribute29 = (String) (mutableStateArr[29] = null);
+        this.attribute30 = (String) (mutableStateArr[30] = null);
+        this.attribute31 = (String) (mutableStateArr[31] = null);
+        this.attribute32 = (String) (mutableStateArr[32] = null);
+        this.attribute33 = (String) (mutableStateArr[33] = null);
+        this.attribute34 = (String) (mutableStateArr[34] = null);
+        this.attribute35 = (String) (mutableStateArr[35] = null);
+        this.attribute36 = (String) (mutableStateArr[36] = null);
+        this.attribute37 = (String) (mutableStateArr[37] = null);
+        this.attribute38 = (String) (mutableStateArr[38] = null);
+        this.attribute39 = (String) (mutableStateArr[39] = null);
+        this.attribute40 = (String) (mutableStateArr[40] = null);
+        this.attribute41 = (String) (mutableStateArr[41] = null);
+        this.attribute42 = (String) (mutableStateArr[42] = null);
+        this.attribute43 = (String) (mutableStateArr[43] = null);
+        this.attribute44 = (String) (mutableStateArr[44] = null);
+        this.attribute45 = (String) (mutableStateArr[45] = null);
+        this.attribute46 = (String) (mutableStateArr[46] = null);
+        this.attribute47 = (String) (mutableStateArr[47] = null);
+        this.attribute48 = (String) (mutableStateArr[48] = null);
+        this.attribute49 = (String) (mutableStateArr[49] = null);
+        this.attribute50 = (String) (mutableStateArr[50] = null);
+        this.attribute51 = (String) (mutableStateArr[51] = null);
+        this.attribute52 = (String) (mutableStateArr[52] = null);
+        this.attribute53 = (String) (mutableStateArr[53] = null);
+        this.attribute54 = (String) (mutableStateArr[54] = null);
+        this.attribute55 = (String) (mutableStateArr[55] = null);
+        this.attribute56 = (String) (mutableStateArr[56] = null);
+        this.attribute57 = (String) (mutableStateArr[57] = null);
+        this.attribute58 = (String) (mutableStateArr[58] = null);
+        this.attribute59 = (String) (mutableStateArr[59] = null);
+        this.attribute60 = (String) (mutableStateArr[60] = null);
+        this.attribute61 = (String) (mutableStateArr[61] = null);
+        this.attribute62 = (String) (mutableStateArr[62] = null);
+        this.attribute63 = (String) (mutableStateArr[63] = null);
+        this.attribute64 = (String) (mutableStateArr[64] = null);
+        this.id = id;
+        this.$$_initialState = initialStateArr;
+        this.$$_mutableState = mutableStateArr;
+        this.$$_initialized = true;
+    }
+
+    public WideViewImpl(Integer id, String attribute00, String attribute01, String attribute02, String attribute03, String attribute04, String attribute05, String attribute06, String attribute07, String attribute08, String attribute09, String attribute10, String attribute11, String attribute12, String attribute13, String attribute14, String attribute15, String attribute16, String attribute17, String attribute18, String attribute19, String attribute20, String attribute21, String attribute22, String attribute23, String attribute24, String attribute25, String attribute26, String attribute27, String attribute28, String attribute29, String attribute30, String attribute31, String attribute32, String attribute33, String attribute34, String attribute35, String attribute36, String attribute37, String attribute38, String attribute39, String attribute40, String attribute41, String attribute42, String attribute43, String attribute44, String attribute45, String attribute46, String attribute47, String attribute48, String attribute49, String attribute50, String attribute51, String attribute52, String attribute53, String attribute54, String attribute55, String attribute56, String attribute57, String attribute58, String attribute59, String attribute60, String attribute61, String attribute62, String attribute63, String attribute64) {
+        super();
+        if (this.$$_dirty == null) {
+            this.$$_dirty = new long[2];
+        }
+        Object[] initialStateArr = new Object[65];
+        Object[] mutableStateArr = new Object[65];
+        this.attribute00 = attribute00;
+        mutableStateArr[0] = initialStateArr[0] = attribute00;
+        this.attribute01 = attribute01;
+        mutableStateArr[1] = initialStateArr[1] = attribute01;
+        this.attribute02 = attribute02;
+        mutableStateArr[2] = initialStateArr[2] = attribute02;
+        this.attribute03 = attribute03;
+        mutableStateArr[3] = initialStateArr[3] = attribute03;
+        this.attribute04 = attribute04;
+        mutableStateArr[4] = initialStateArr[4] = attribute04;
+        this.attribute05 = attribute05;
+        mutableStateArr[5] = initialStateArr[5] = attribute05;
+        this.attribute06 = attribute06;
+        mutableStateArr[6] = initialStateArr[6] = attribute06;
+        this.attribute07 = attribute07;
+        mutableStateArr[7] = initialStateArr[7] = attribute07;
+        this.attribute08 = attribute08;
+        mutableStateArr[8] = initialStateArr[8] = attribute08;
+        this.attribute09 = attribute09;
+        mutableStateArr[9] = initialStateArr[9] = attribute09;
+        this.attribute10 = attribute10;
+        mutableStateArr[10] = initialStateArr[10] = attribute10;
+        this.attribute11 = attribute11;
+        mutableStateArr[11] = initialStateArr[11] = attribute11;
+        this.attribute12 = attribute12;
+        mutableStateArr[12] = initialStateArr[12] = attribute12;
+        this.attribute13 = attribute13;
+        mutableStateArr[13] = initialStateArr[13] = attribute13;
+        this.attribute14 = attribute14;
+        mutableStateArr[14] = initialStateArr[14] = attribute14;
+        this.attribute15 = attribute15;
+        mutableStateArr[15] = initialStateArr[15] = attribute15;
+        this.attribute16 = attribute16;
+        mutableStateArr[16] = initialStateArr[16] = attribute16;
+        this.attribute17 = attribute17;
+        mutableStateArr[17] = initialStateArr[17] = attribute17;
+        this.attribute18 = attribute18;
+        mutableStateArr[18] = initialStateArr[18] = attribute18;
+        this.attribute19 = attribute19;
+        mutableStateArr[19] = initialStateArr[19] = attribute19;
+        this.attribute20 = attribute20;
+        mutableStateArr[20] = initialStateArr[20] = attribute20;
+        this.attribute21 = attribute21;
+        mutableStateArr[21] = initialStateArr[21] = attribute21;
+        this.attribute22 = attribute22;
+        mutableStateArr[22] = initialStateArr[22] = attribute22;
+        this.attribute23 = attribute23;
+        mutableStateArr[23] = initialStateArr[23] = attribute23;
+        this.attribute24 = attribute24;
+        mutableStateArr[24] = initialStateArr[24] = attribute24;
+        this.attribute25 = attribute25;
+        mutableStateArr[25] = initialStateArr[25] = attribute25;
+        this.attribute26 = attribute26;
+        mutableStateArr[26] = initialStateArr[26] = attribute26;
+        this.attribute27 = attribute27;
+        mutableStateArr[27] = initialStateArr[27] = attribute27;
+        this.attribute28 = attribute28;
+        mutableStateArr[28] = initialStateArr[28] = attribute28;
+        this.attribute29 = attribute29;
+        mutableStateArr[29] = initialStateArr[29] = attribute29;
+        this.attribute30 = attribute30;
+        mutableStateArr[30] = initialStateArr[30] = attribute30;
+        this.attribute31 = attribute31;
+        mutableStateArr[31] = initialStateArr[31] = attribute31;
+        this.attribute32 = attribute32;
+        mutableStateArr[32] = initialStateArr[32] = attribute32;
+        this.attribute33 = attribute33;
+        mutableStateArr[33] = initialStateArr[33] = attribute33;
+        this.attribute34 = attribute34;
+        mutableStateArr[34] = initialStateArr[34] = attribute34;
+        this.attribute35 = attribute35;
+        mutableStateArr[35] = initialStateArr[35] = attribute35;
+        this.attribute36 = attribute36;
+        mutableStateArr[36] = initialStateArr[36] = attribute36;
+        this.attribute37 = attribute37;
+        mutableStateArr[37] = initialStateArr[37] = attribute37;
+        this.attribute38 = attribute38;
+        mutableStateArr[38] = initialStateArr[38] = attribute38;
+        this.attribute39 = attribute39;
+        mutableStateArr[39] = initialStateArr[39] = attribute39;
+        this.attribute40 = attribute40;
+        mutableStateArr[40] = initialStateArr[40] = attribute40;
+        this.attribute41 = attribute41;
+        mutableStateArr[41] = initialStateArr[41] = attribute41;
+        this.attribute42 = attribute42;
+        mutableStateArr[42] = initialStateArr[42] = attribute42;
+        this.attribute43 = attribute43;
+        mutableStateArr[43] = initialStateArr[43] = attribute43;
+        this.attribute44 = attribute44;
+        mutableStateArr[44] = initialStateArr[44] = attribute44;
+        this.attribute45 = attribute45;
+        mutableStateArr[45] = initialStateArr[45] = attribute45;
+        this.attribute46 = attribute46;
+        mutableStateArr[46] = initialStateArr[46] = attribute46;
+        this.attribute47 = attribute47;
+        mutableStateArr[47] = initialStateArr[47] = attribute47;
+        this.attribute48 = attribute48;
+        mutableStateArr[48] = initialStateArr[48] = attribute48;
+        this.attribute49 = attribute49;
+        mutableStateArr[49] = initialStateArr[49] = attribute49;
+        this.attribute50 = attribute50;
+        mutableStateArr[50] = initialStateArr[50] = attribute50;
+        this.attribute51 = attribute51;
+        mutableStateArr[51] = initialStateArr[51] = attribute51;
+        this.attribute52 = attribute52;
+        mutableStateArr[52] = initialStateArr[52] = attribute52;
+        this.attribute53 = attribute53;
+        mutableStateArr[53] = initialStateArr[53] = attribute53;
+        this.attribute54 = attribute54;
+        mutableStateArr[54] = initialStateArr[54] = attribute54;
+        this.attribute55 = attribute55;
+        mutableStateArr[55] = initialStateArr[55] = attribute55;
+        this.attribute56 = attribute56;
+        mutableStateArr[56] = initialStateArr[56] = attribute56;
+        this.attribute57 = attribute57;
+        mutableStateArr[57] = initialStateArr[57] = attribute57;
+        this.attribute58 = attribute58;
+        mutableStateArr[58] = initialStateArr[58] = attribute58;
+        this.attribute59 = attribute59;
+        mutableStateArr[59] = initialStateArr[59] = attribute59;
+        this.attribute60 = attribute60;
+        mutableStateArr[60] = initialStateArr[60] = attribute60;
+        this.attribute61 = attribute61;
+        mutableStateArr[61] = initialStateArr[61] = attribute61;
+        this.attribute62 = attribute62;
+        mutableStateArr[62] = initialStateArr[62] = attribute62;
+        this.attribute63 = attribute63;
+        mutableStateArr[63] = initialStateArr[63] = attribute63;
+        this.attribute64 = attribute64;
+        mutableStateArr[64] = initialStateArr[64] = attribute64;
+        this.id = id;
+        this.$$_initialState = initialStateArr;
+        this.$$_mutableState = mutableStateArr;
+        this.$$_initialized = true;
+    }
+
+    public WideViewImpl(WideViewImpl noop, int offset, Object[] tuple) {
+        super();
+        if (this.$$_dirty == null) {
+            this.$$_dirty = new long[2];
+        }
+        Object[] initialStateArr = new Object[65];
+        Object[] mutableStateArr = new Object[65];
+        this.attribute00 = (String) tuple[offset + 1];
+        mutableStateArr[0] = initialStateArr[0] = tuple[offset + 1];
+        this.attribute01 = (String) tuple[offset + 2];
+        mutableStateArr[1] = initialStateArr[1] = tuple[offset + 2];
+        this.attribute02 = (String) tuple[offset + 3];
+        mutableStateArr[2] = initialStateArr[2] = tuple[offset + 3];
+        this.attribute03 = (String) tuple[offset + 4];
+        mutableStateArr[3] = initialStateArr[3] = tuple[offset + 4];
+        this.attribute04 = (String) tuple[offset + 5];
+        mutableStateArr[4] = initialStateArr[4] = tuple[offset + 5];
+        this.attribute05 = (String) tuple[offset + 6];
+        mutableStateArr[5] = initialStateArr[5] = tuple[offset + 6];
+        this.attribute06 = (String) tuple[offset + 7];
+        mutableStateArr[6] = initialStateArr[6] = tuple[offset + 7];
+        this.attribute07 = (String) tuple[offset + 8];
+        mutableStateArr[7] = initialStateArr[7] = tuple[offset + 8];
+        this.attribute08 = (String) tuple[offset + 9];
+        mutableStateArr[8] = initialStateArr[8] = tuple[offset + 9];
+        this.attribute09 = (String) tuple[offset + 10];
+        mutableStateArr[9] = initialStateArr[9] = tuple[offset + 10];
+        this.attribute10 = (String) tuple[offset + 11];
+        mutableStateArr[10] = initialStateArr[10] = tuple[offset + 11];
+        this.attribute11 = (String) tuple[offset + 12];
+        mutableStateArr[11] = initialStateArr[11] = tuple[offset + 12];
+        this.attribute12 = (String) tuple[offset + 13];
+        mutableStateArr[12] = initialStateArr[12] = tuple[offset + 13];
+        this.attribute13 = (String) tuple[offset + 14];
+        mutableStateArr[13] = initialStateArr[13] = tuple[offset + 14];
+        this.attribute14 = (String) tuple[offset + 15];
+        mutableStateArr[14] = initialStateArr[14] = tuple[offset + 15];
+        this.attribute15 = (String) tuple[offset + 16];
+        mutableStateArr[15] = initialStateArr[15] = tuple[offset + 16];
+        this.attribute16 = (String) tuple[offset + 17];
+        mutableStateArr[16] = initialStateArr[16] = tuple[offset + 17];
+        this.attribute17 = (String) tuple[offset + 18];
+        mutableStateArr[17] = initialStateArr[17] = tuple[offset + 18];
+        this.attribute18 = (String) tuple[offset + 19];
+        mutableStateArr[18] = initialStateArr[18] = tuple[offset + 19];
+        this.attribute19 = (String) tuple[offset + 20];
+        mutableStateArr[19] = initialStateArr[19] = tuple[offset + 20];
+        this.attribute20 = (String) tuple[offset + 21];
+        mutableStateArr[20] = initialStateArr[20] = tuple[offset + 21];
+        this.attribute21 = (String) tuple[offset + 22];
+        mutableStateArr[21] = initialStateArr[21] = tuple[offset + 22];
+        this.attribute22 = (String) tuple[offset + 23];
+        mutableStateArr[22] = initialStateArr[22] = tuple[offset + 23];
+        this.attribute23 = (String) tuple[offset + 24];
+        mutableStateArr[23] = initialStateArr[23] = tuple[offset + 24];
+        this.attribute24 = (String) tuple[offset + 25];
+        mutableStateArr[24] = initialStateArr[24] = tuple[offset + 25];
+        this.attribute25 = (String) tuple[offset + 26];
+        mutableStateArr[25] = initialStateArr[25] = tuple[offset + 26];
+        this.attribute26 = (String) tuple[offset + 27];
+        mutableStateArr[26] = initialStateArr[26] = tuple[offset + 27];
+        this.attribute27 = (String) tuple[offset + 28];
+        mutableStateArr[27] = initialStateArr[27] = tuple[offset + 28];
+        this.attribute28 = (String) tuple[offset + 29];
+        mutableStateArr[28] = initialStateArr[28] = tuple[offset + 29];
+        this.attribute29 = (String) tuple[offset + 30];
+        mutableStateArr[29] = initialStateArr[29] = tuple[offset + 30];
+        this.attribute30 = (String) tuple[offset + 31];
+        mutableStateArr[30] = initialStateArr[30] = tuple[offset + 31];
+        this.attribute31 = (String) tuple[offset + 32];
+        mutableStateArr[31] = initialStateArr[31] = tuple[offset + 32];
+        this.attribute32 = (String) tuple[offset + 33];
+        mutableStateArr[32] = initialStateArr[32] = tuple[offset + 33];
+        this.attribute33 = (String) tuple[offset + 34];
+        mutableStateArr[33] = initialStateArr[33] = tuple[offset + 34];
+        this.attribute34 = (String) tuple[offset + 35];
+        mutableStateArr[34] = initialStateArr[34] = tuple[offset + 35];
+        this.attribute35 = (String) tuple[offset + 36];
+        mutableStateArr[35] = initialStateArr[35] = tuple[offset + 36];
+        this.attribute36 = (String) tuple[offset + 37];
+        mutableStateArr[36] = initialStateArr[36] = tuple[offset + 37];
+        this.attribute37 = (String) tuple[offset + 38];
+        mutableStateArr[37] = initialStateArr[37] = tuple[offset + 38];
+        this.attribute38 = (String) tuple[offset + 39];
+        mutableStateArr[38] = initialStateArr[38] = tuple[offset + 39];
+        this.attribute39 = (String) tuple[offset + 40];
+        mutableStateArr[39] = initialStateArr[39] = tuple[offset + 40];
+        this.attribute40 = (String) tuple[offset + 41];
+        mutableStateArr[40] = initialStateArr[40] = tuple[offset + 41];
+        this.attribute41 = (String) tuple[offset + 42];
+        mutableStateArr[41] = initialStateArr[41] = tuple[offset + 42];
+        this.attribute42 = (String) tuple[offset + 43];
+        mutableStateArr[42] = initialStateArr[42] = tuple[offset + 43];
+        this.attribute43 = (String) tuple[offset + 44];
+        mutableStateArr[43] = initialStateArr[43] = tuple[offset + 44];
+        this.attribute44 = (String) tuple[offset + 45];
+        mutableStateArr[44] = initialStateArr[44] = tuple[offset + 45];
+        this.attribute45 = (String) tuple[offset + 46];
+        mutableStateArr[45] = initialStateArr[45] = tuple[offset + 46];
+        this.attribute46 = (String) tuple[offset + 47];
+        mutableStateArr[46] = initialStateArr[46] = tuple[offset + 47];
+        this.attribute47 = (String) tuple[offset + 48];
+        mutableStateArr[47] = initialStateArr[47] = tuple[offset + 48];
+        this.attribute48 = (String) tuple[offset + 49];
+        mutableStateArr[48] = initialStateArr[48] = tuple[offset + 49];
+        this.attribute49 = (String) tuple[offset + 50];
+        mutableStateArr[49] = initialStateArr[49] = tuple[offset + 50];
+        this.attribute50 = (String) tuple[offset + 51];
+        mutableStateArr[50] = initialStateArr[50] = tuple[offset + 51];
+        this.attribute51 = (String) tuple[offset + 52];
+        mutableStateArr[51] = initialStateArr[51] = tuple[offset + 52];
+        this.attribute52 = (String) tuple[offset + 53];
+        mutableStateArr[52] = initialStateArr[52] = tuple[offset + 53];
+        this.attribute53 = (String) tuple[offset + 54];
+        mutableStateArr[53] = initialStateArr[53] = tuple[offset + 54];
+        this.attribute54 = (String) tuple[offset + 55];
+        mutableStateArr[54] = initialStateArr[54] = tuple[offset + 55];
+        this.attribute55 = (String) tuple[offset + 56];
+        mutableStateArr[55] = initialStateArr[55] = tuple[offset + 56];
+        this.attribute56 = (String) tuple[offset + 57];
+        mutableStateArr[56] = initialStateArr[56] = tuple[offset + 57];
+        this.attribute57 = (String) tuple[offset + 58];
+        mutableStateArr[57] = initialStateArr[57] = tuple[offset + 58];
+        this.attribute58 = (String) tuple[offset + 59];
+        mutableStateArr[58] = initialStateArr[58] = tuple[offset + 59];
+        this.attribute59 = (String) tuple[offset + 60];
+        mutableStateArr[59] = initialStateArr[59] = tuple[offset + 60];
+        this.attribute60 = (String) tuple[offset + 61];
+        mutableStateArr[60] = initialStateArr[60] = tuple[offset + 61];
+        this.attribute61 = (String) tuple[offset + 62];
+        mutableStateArr[61] = initialStateArr[61] = tuple[offset + 62];
+        this.attribute62 = (String) tuple[offset + 63];
+        mutableStateArr[62] = initialStateArr[62] = tuple[offset + 63];
+        this.attribute63 = (String) tuple[offset + 64];
+        mutableStateArr[63] = initialStateArr[63] = tuple[offset + 64];
+        this.attribute64 = (String) tuple[offset + 65];
+        mutableStateArr[64] = initialStateArr[64] = tuple[offset + 65];
+        this.id = (Integer) tuple[offset + 0];
+        this.$$_initialState = initialStateArr;
+        this.$$_mutableState = mutableStateArr;
+        this.$$_initialized = true;
+    }
+
+    public WideViewImpl(WideViewImpl noop, int offset, int[] assignment, Object[] tuple) {
+        super();
+        if (this.$$_dirty == null) {
+            this.$$_dirty = new long[2];
+        }
+        Object[] initialStateArr = new Object[65];
+        Object[] mutableStateArr = new Object[65];
+        this.attribute00 = (String) tuple[offset + assignment[1]];
+        mutableStateArr[0] = initialStateArr[0] = tuple[offset + assignment[1]];
+        this.attribute01 = (String) tuple[offset + assignment[2]];
+        mutableStateArr[1] = initialStateArr[1] = tuple[offset + assignment[2]];
+        this.attribute02 = (String) tuple[offset + assignment[3]];
+        mutableStateArr[2] = initialStateArr[2] = tuple[offset + assignment[3]];
+        this.attribute03 = (String) tuple[offset + assignment[4]];
+        mutableStateArr[3] = initialStateArr[3] = tuple[offset + assignment[4]];
+        this.attribute04 = (String) tuple[offset + assignment[5]];
+        mutableStateArr[4] = initialStateArr[4] = tuple[offset + assignment[5]];
+        this.attribute05 = (String) tuple[offset + assignment[6]];
+        mutableStateArr[5] = initialStateArr[5] = tuple[offset + assignment[6]];
+        this.attribute06 = (String) tuple[offset + assignment[7]];
+        mutableStateArr[6] = initialStateArr[6] = tuple[offset + assignment[7]];
+        this.attribute07 = (String) tuple[offset + assignment[8]];
+        mutableStateArr[7] = initialStateArr[7] = tuple[offset + assignment[8]];
+        this.attribute08 = (String) tuple[offset + assignment[9]];
+        mutableStateArr[8] = initialStateArr[8] = tuple[offset + assignment[9]];
+        this.attribute09 = (String) tuple[offset + assignment[10]];
+        mutableStateArr[9] = initialStateArr[9] = tuple[offset + assignment[10]];
+        this.attribute10 = (String) tuple[offset + assignment[11]];
+        mutableStateArr[10] = initialStateArr[10] = tuple[offset + assignment[11]];
+        this.attribute11 = (String) tuple[offset + assignment[12]];
+        mutableStateArr[11] = initialStateArr[11] = tuple[offset + assignment[12]];
+        this.attribute12 = (String) tuple[offset + assignment[13]];
+        mutableStateArr[12] = initialStateArr[12] = tuple[offset + assignment[13]];
+        this.attribute13 = (String) tuple[offset + assignment[14]];
+        mutableStateArr[13] = initialStateArr[13] = tuple[offset + assignment[14]];
+        this.attribute14 = (String) tuple[offset + assignment[15]];
+        mutableStateArr[14] = initialStateArr[14] = tuple[offset + assignment[15]];
+        this.attribute15 = (String) tuple[offset + assignment[16]];
+        mutableStateArr[15] = initialStateArr[15] = tuple[offset + assignment[16]];
+        this.attribute16 = (String) tuple[offset + assignment[17]];
+        mutableStateArr[16] = initialStateArr[16] = tuple[offset + assignment[17]];
+        this.attribute17 = (String) tuple[offset + assignment[18]];
+        mutableStateArr[17] = initialStateArr[17] = tuple[offset + assignment[18]];
+        this.attribute18 = (String) tuple[offset + assignment[19]];
+        mutableStateArr[18] = initialStateArr[18] = tuple[offset + assignment[19]];
+        this.attribute19 = (String) tuple[offset + assignment[20]];
+        mutableStateArr[19] = initialStateArr[19] = tuple[offset + assignment[20]];
+        this.attribute20 = (String) tuple[offset + assignment[21]];
+        mutableStateArr[20] = initialStateArr[20] = tuple[offset + assignment[21]];
+        this.attribute21 = (String) tuple[offset + assignment[22]];
+        mutableStateArr[21] = initialStateArr[21] = tuple[offset + assignment[22]];
+        this.attribute22 = (String) tuple[offset + assignment[23]];
+        mutableStateArr[22] = initialStateArr[22] = tuple[offset + assignment[23]];
+        this.attribute23 = (String) tuple[offset + assignment[24]];
+        mutableStateArr[23] = initialStateArr[23] = tuple[offset + assignment[24]];
+        this.attribute24 = (String) tuple[offset + assignment[25]];
+        mutableStateArr[24] = initialStateArr[24] = tuple[offset + assignment[25]];
+        this.attribute25 = (String) tuple[offset + assignment[26]];
+        mutableStateArr[25] = initialStateArr[25] = tuple[offset + assignment[26]];
+        this.attribute26 = (String) tuple[offset + assignment[27]];
+        mutableStateArr[26] = initialStateArr[26] = tuple[offset + assignment[27]];
+        this.attribute27 = (String) tuple[offset + assignment[28]];
+        mutableStateArr[27] = initialStateArr[27] = tuple[offset + assignment[28]];
+        this.attribute28 = (String) tuple[offset + assignment[29]];
+        mutableStateArr[28] = initialStateArr[28] = tuple[offset + assignment[29]];
+        this.attribute29 = (String) tuple[offset + assignment[30]];
+        mutableStateArr[29] = initialStateArr[29] = tuple[offset + assignment[30]];
+        this.attribute30 = (String) tuple[offset + assignment[31]];
+        mutableStateArr[30] = initialStateArr[30] = tuple[offset + assignment[31]];
+        this.attribute31 = (String) tuple[offset + assignment[32]];
+        mutableStateArr[31] = initialStateArr[31] = tuple[offset + assignment[32]];
+        this.attribute32 = (String) tuple[offset + assignment[33]];
+        mutableStateArr[32] = initialStateArr[32] = tuple[offset + assignment[33]];
+        this.attribute33 = (String) tuple[offset + assignment[34]];
+        mutableStateArr[33] = initialStateArr[33] = tuple[offset + assignment[34]];
+        this.attribute34 = (String) tuple[offset + assignment[35]];
+        mutableStateArr[34] = initialStateArr[34] = tuple[offset + assignment[35]];
+        this.attribute35 = (String) tuple[offset + assignment[36]];
+        mutableStateArr[35] = initialStateArr[35] = tuple[offset + assignment[36]];
+        this.attribute36 = (String) tuple[offset + assignment[37]];
+        mutableStateArr[36] = initialStateArr[36] = tuple[offset + assignment[37]];
+        this.attribute37 = (String) tuple[offset + assignment[38]];
+        mutableStateArr[37] = initialStateArr[37] = tuple[offset + assignment[38]];
+        this.attribute38 = (String) tuple[offset + assignment[39]];
+        mutableStateArr[38] = initialStateArr[38] = tuple[offset + assignment[39]];
+        this.attribute39 = (String) tuple[offset + assignment[40]];
+        mutableStateArr[39] = initialStateArr[39] = tuple[offset + assignment[40]];
+        this.attribute40 = (String) tuple[offset + assignment[41]];
+        mutableStateArr[40] = initialStateArr[40] = tuple[offset + assignment[41]];
+        this.attribute41 = (String) tuple[offset + assignment[42]];
+        mutableStateArr[41] = initialStateArr[41] = tuple[offset + assignment[42]];
+        this.attribute42 = (String) tuple[offset + assignment[43]];
+        mutableStateArr[42] = initialStateArr[42] = tuple[offset + assignment[43]];
+        this.attribute43 = (String) tuple[offset + assignment[44]];
+        mutableStateArr[43] = initialStateArr[43] = tuple[offset + assignment[44]];
+        this.attribute44 = (String) tuple[offset + assignment[45]];
+        mutableStateArr[44] = initialStateArr[44] = tuple[offset + assignment[45]];
+        this.attribute45 = (String) tuple[offset + assignment[46]];
+        mutableStateArr[45] = initialStateArr[45] = tuple[offset + assignment[46]];
+        this.attribute46 = (String) tuple[offset + assignment[47]];
+        mutableStateArr[46] = initialStateArr[46] = tuple[offset + assignment[47]];
+        this.attribute47 = (String) tuple[offset + assignment[48]];
+        mutableStateArr[47] = initialStateArr[47] = tuple[offset + assignment[48]];
+        this.attribute48 = (String) tuple[offset + assignment[49]];
+        mutableStateArr[48] = initialStateArr[48] = tuple[offset + assignment[49]];
+        this.attribute49 = (String) tuple[offset + assignment[50]];
+        mutableStateArr[49] = initialStateArr[49] = tuple[offset + assignment[50]];
+        this.attribute50 = (String) tuple[offset + assignment[51]];
+        mutableStateArr[50] = initialStateArr[50] = tuple[offset + assignment[51]];
+        this.attribute51 = (String) tuple[offset + assignment[52]];
+        mutableStateArr[51] = initialStateArr[51] = tuple[offset + assignment[52]];
+        this.attribute52 = (String) tuple[offset + assignment[53]];
+        mutableStateArr[52] = initialStateArr[52] = tuple[offset + assignment[53]];
+        this.attribute53 = (String) tuple[offset + assignment[54]];
+        mutableStateArr[53] = initialStateArr[53] = tuple[offset + assignment[54]];
+        this.attribute54 = (String) tuple[offset + assignment[55]];
+        mutableStateArr[54] = initialStateArr[54] = tuple[offset + assignment[55]];
+        this.attribute55 = (String) tuple[offset + assignment[56]];
+        mutableStateArr[55] = initialStateArr[55] = tuple[offset + assignment[56]];
+        this.attribute56 = (String) tuple[offset + assignment[57]];
+        mutableStateArr[56] = initialStateArr[56] = tuple[offset + assignment[57]];
+        this.attribute57 = (String) tuple[offset + assignment[58]];
+        mutableStateArr[57] = initialStateArr[57] = tuple[offset + assignment[58]];
+        this.attribute58 = (String) tuple[offset + assignment[59]];
+        mutableStateArr[58] = initialStateArr[58] = tuple[offset + assignment[59]];
+        this.attribute59 = (String) tuple[offset + assignment[60]];
+        mutableStateArr[59] = initialStateArr[59] = tuple[offset + assignment[60]];
+        this.attribute60 = (String) tuple[offset + assignment[61]];
+        mutableStateArr[60] = initialStateArr[60] = tuple[offset + assignment[61]];
+        this.attribute61 = (String) tuple[offset + assignment[62]];
+        mutableStateArr[61] = initialStateArr[61] = tuple[offset + assignment[62]];
+        this.attribute62 = (String) tuple[offset + assignment[63]];
+        mutableStateArr[62] = initialStateArr[62] = tuple[offset + assignment[63]];
+        this.attribute63 = (String) tuple[offset + assignment[64]];
+        mutableStateArr[63] = initialStateArr[63] = tuple[offset + assignment[64]];
+        this.attribute64 = (String) tuple[offset + assignment[65]];
+        mutableStateArr[64] = initialStateArr[64] = tuple[offset + assignment[65]];
+        this.id = (Integer) tuple[offset + assignment[0]];
+        this.$$_initialState = initialStateArr;
+        this.$$_mutableState = mutableStateArr;
+        this.$$_initialized = true;
+    }
+
+    @Override
+    public String getAttribute00() {
+        return attribute00;
+    }
+
+    @Override
+    public void setAttribute00(String attribute00) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[0] = attribute00;
+        }
+        this.$$_markDirty(0);
+        this.attribute00 = attribute00;
+    }
+
+    @Override
+    public String getAttribute01() {
+        return attribute01;
+    }
+
+    @Override
+    public void setAttribute01(String attribute01) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[1] = attribute01;
+        }
+        this.$$_markDirty(1);
+        this.attribute01 = attribute01;
+    }
+
+    @Override
+    public String getAttribute02() {
+        return attribute02;
+    }
+
+    @Override
+    public void setAttribute02(String attribute02) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[2] = attribute02;
+        }
+        this.$$_markDirty(2);
+        this.attribute02 = attribute02;
+    }
+
+    @Override
+    public String getAttribute03() {
+        return attribute03;
+    }
+
+    @Override
+    public void setAttribute03(String attribute03) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[3] = attribute03;
+        }
+        this.$$_markDirty(3);
+        this.attribute03 = attribute03;
+    }
+
+    @Override
+    public String getAttribute04() {
+        return attribute04;
+    }
+
+    @Override
+    public void setAttribute04(String attribute04) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[4] = attribute04;
+        }
+        this.$$_markDirty(4);
+        this.attribute04 = attribute04;
+    }
+
+    @Override
+    public String getAttribute05() {
+        return attribute05;
+    }
+
+    @Override
+    public void setAttribute05(String attribute05) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[5] = attribute05;
+        }
+        this.$$_markDirty(5);
+        this.attribute05 = attribute05;
+    }
+
+    @Override
+    public String getAttribute06() {
+        return attribute06;
+    }
+
+    @Override
+    public void setAttribute06(String attribute06) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[6] = attribute06;
+        }
+        this.$$_markDirty(6);
+        this.attribute06 = attribute06;
+    }
+
+    @Override
+    public String getAttribute07() {
+        return attribute07;
+    }
+
+    @Override
+    public void setAttribute07(String attribute07) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[7] = attribute07;
+        }
+        this.$$_markDirty(7);
+        this.attribute07 = attribute07;
+    }
+
+    @Override
+    public String getAttribute08() {
+        return attribute08;
+    }
+
+    @Override
+    public void setAttribute08(String attribute08) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[8] = attribute08;
+        }
+        this.$$_markDirty(8);
+        this.attribute08 = attribute08;
+    }
+
+    @Override
+    public String getAttribute09() {
+        return attribute09;
+    }
+
+    @Override
+    public void setAttribute09(String attribute09) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[9] = attribute09;
+        }
+        this.$$_markDirty(9);
+        this.attribute09 = attribute09;
+    }
+
+    @Override
+    public String getAttribute10() {
+        return attribute10;
+    }
+
+    @Override
+    public void setAttribute10(String attribute10) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[10] = attribute10;
+        }
+        this.$$_markDirty(10);
+        this.attribute10 = attribute10;
+    }
+
+    @Override
+    public String getAttribute11() {
+        return attribute11;
+    }
+
+    @Override
+    public void setAttribute11(String attribute11) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[11] = attribute11;
+        }
+        this.$$_markDirty(11);
+        this.attribute11 = attribute11;
+    }
+
+    @Override
+    public String getAttribute12() {
+        return attribute12;
+    }
+
+    @Override
+    public void setAttribute12(String attribute12) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[12] = attribute12;
+        }
+        this.$$_markDirty(12);
+        this.attribute12 = attribute12;
+    }
+
+    @Override
+    public String getAttribute13() {
+        return attribute13;
+    }
+
+    @Override
+    public void setAttribute13(String attribute13) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[13] = attribute13;
+        }
+        this.$$_markDirty(13);
+        this.attribute13 = attribute13;
+    }
+
+    @Override
+    public String getAttribute14() {
+        return attribute14;
+    }
+
+    @Override
+    public void setAttribute14(String attribute14) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[14] = attribute14;
+        }
+        this.$$_markDirty(14);
+        this.attribute14 = attribute14;
+    }
+
+    @Override
+    public String getAttribute15() {
+        return attribute15;
+    }
+
+    @Override
+    public void setAttribute15(String attribute15) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[15] = attribute15;
+        }
+        this.$$_markDirty(15);
+        this.attribute15 = attribute15;
+    }
+
+    @Override
+    public String getAttribute16() {
+        return attribute16;
+    }
+
+    @Override
+    public void setAttribute16(String attribute16) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[16] = attribute16;
+        }
+        this.$$_markDirty(16);
+        this.attribute16 = attribute16;
+    }
+
+    @Override
+    public String getAttribute17() {
+        return attribute17;
+    }
+
+    @Override
+    public void setAttribute17(String attribute17) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[17] = attribute17;
+        }
+        this.$$_markDirty(17);
+        this.attribute17 = attribute17;
+    }
+
+    @Override
+    public String getAttribute18() {
+        return attribute18;
+    }
+
+    @Override
+    public void setAttribute18(String attribute18) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[18] = attribute18;
+        }
+        this.$$_markDirty(18);
+        this.attribute18 = attribute18;
+    }
+
+    @Override
+    public String getAttribute19() {
+        return attribute19;
+    }
+
+    @Override
+    public void setAttribute19(String attribute19) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[19] = attribute19;
+        }
+        this.$$_markDirty(19);
+        this.attribute19 = attribute19;
+    }
+
+    @Override
+    public String getAttribute20() {
+        return attribute20;
+    }
+
+    @Override
+    public void setAttribute20(String attribute20) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[20] = attribute20;
+        }
+        this.$$_markDirty(20);
+        this.attribute20 = attribute20;
+    }
+
+    @Override
+    public String getAttribute21() {
+        return attribute21;
+    }
+
+    @Override
+    public void setAttribute21(String attribute21) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[21] = attribute21;
+        }
+        this.$$_markDirty(21);
+        this.attribute21 = attribute21;
+    }
+
+    @Override
+    public String getAttribute22() {
+        return attribute22;
+    }
+
+    @Override
+    public void setAttribute22(String attribute22) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[22] = attribute22;
+        }
+        this.$$_markDirty(22);
+        this.attribute22 = attribute22;
+    }
+
+    @Override
+    public String getAttribute23() {
+        return attribute23;
+    }
+
+    @Override
+    public void setAttribute23(String attribute23) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[23] = attribute23;
+        }
+        this.$$_markDirty(23);
+        this.attribute23 = attribute23;
+    }
+
+    @Override
+    public String getAttribute24() {
+        return attribute24;
+    }
+
+    @Override
+    public void setAttribute24(String attribute24) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[24] = attribute24;
+        }
+        this.$$_markDirty(24);
+        this.attribute24 = attribute24;
+    }
+
+    @Override
+    public String getAttribute25() {
+        return attribute25;
+    }
+
+    @Override
+    public void setAttribute25(String attribute25) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[25] = attribute25;
+        }
+        this.$$_markDirty(25);
+        this.attribute25 = attribute25;
+    }
+
+    @Override
+    public String getAttribute26() {
+        return attribute26;
+    }
+
+    @Override
+    public void setAttribute26(String attribute26) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[26] = attribute26;
+        }
+        this.$$_markDirty(26);
+        this.attribute26 = attribute26;
+    }
+
+    @Override
+    public String getAttribute27() {
+        return attribute27;
+    }
+
+    @Override
+    public void setAttribute27(String attribute27) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[27] = attribute27;
+        }
+        this.$$_markDirty(27);
+        this.attribute27 = attribute27;
+    }
+
+    @Override
+    public String getAttribute28() {
+        return attribute28;
+    }
+
+    @Override
+    public void setAttribute28(String attribute28) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[28] = attribute28;
+        }
+        this.$$_markDirty(28);
+        this.attribute28 = attribute28;
+    }
+
+    @Override
+    public String getAttribute29() {
+        return attribute29;
+    }
+
+    @Override
+    public void setAttribute29(String attribute29) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[29] = attribute29;
+        }
+        this.$$_markDirty(29);
+        this.attribute29 = attribute29;
+    }
+
+    @Override
+    public String getAttribute30() {
+        return attribute30;
+    }
+
+    @Override
+    public void setAttribute30(String attribute30) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[30] = attribute30;
+        }
+        this.$$_markDirty(30);
+        this.attribute30 = attribute30;
+    }
+
+    @Override
+    public String getAttribute31() {
+        return attribute31;
+    }
+
+    @Override
+    public void setAttribute31(String attribute31) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[31] = attribute31;
+        }
+        this.$$_markDirty(31);
+        this.attribute31 = attribute31;
+    }
+
+    @Override
+    public String getAttribute32() {
+        return attribute32;
+    }
+
+    @Override
+    public void setAttribute32(String attribute32) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[32] = attribute32;
+        }
+        this.$$_markDirty(32);
+        this.attribute32 = attribute32;
+    }
+
+    @Override
+    public String getAttribute33() {
+        return attribute33;
+    }
+
+    @Override
+    public void setAttribute33(String attribute33) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[33] = attribute33;
+        }
+        this.$$_markDirty(33);
+        this.attribute33 = attribute33;
+    }
+
+    @Override
+    public String getAttribute34() {
+        return attribute34;
+    }
+
+    @Override
+    public void setAttribute34(String attribute34) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[34] = attribute34;
+        }
+        this.$$_markDirty(34);
+        this.attribute34 = attribute34;
+    }
+
+    @Override
+    public String getAttribute35() {
+        return attribute35;
+    }
+
+    @Override
+    public void setAttribute35(String attribute35) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[35] = attribute35;
+        }
+        this.$$_markDirty(35);
+        this.attribute35 = attribute35;
+    }
+
+    @Override
+    public String getAttribute36() {
+        return attribute36;
+    }
+
+    @Override
+    public void setAttribute36(String attribute36) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[36] = attribute36;
+        }
+        this.$$_markDirty(36);
+        this.attribute36 = attribute36;
+    }
+
+    @Override
+    public String getAttribute37() {
+        return attribute37;
+    }
+
+    @Override
+    public void setAttribute37(String attribute37) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[37] = attribute37;
+        }
+        this.$$_markDirty(37);
+        this.attribute37 = attribute37;
+    }
+
+    @Override
+    public String getAttribute38() {
+        return attribute38;
+    }
+
+    @Override
+    public void setAttribute38(String attribute38) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[38] = attribute38;
+        }
+        this.$$_markDirty(38);
+        this.attribute38 = attribute38;
+    }
+
+    @Override
+    public String getAttribute39() {
+        return attribute39;
+    }
+
+    @Override
+    public void setAttribute39(String attribute39) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[39] = attribute39;
+        }
+        this.$$_markDirty(39);
+        this.attribute39 = attribute39;
+    }
+
+    @Override
+    public String getAttribute40() {
+        return attribute40;
+    }
+
+    @Override
+    public void setAttribute40(String attribute40) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[40] = attribute40;
+        }
+        this.$$_markDirty(40);
+        this.attribute40 = attribute40;
+    }
+
+    @Override
+    public String getAttribute41() {
+        return attribute41;
+    }
+
+    @Override
+    public void setAttribute41(String attribute41) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[41] = attribute41;
+        }
+        this.$$_markDirty(41);
+        this.attribute41 = attribute41;
+    }
+
+    @Override
+    public String getAttribute42() {
+        return attribute42;
+    }
+
+    @Override
+    public void setAttribute42(String attribute42) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[42] = attribute42;
+        }
+        this.$$_markDirty(42);
+        this.attribute42 = attribute42;
+    }
+
+    @Override
+    public String getAttribute43() {
+        return attribute43;
+    }
+
+    @Override
+    public void setAttribute43(String attribute43) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[43] = attribute43;
+        }
+        this.$$_markDirty(43);
+        this.attribute43 = attribute43;
+    }
+
+    @Override
+    public String getAttribute44() {
+        return attribute44;
+    }
+
+    @Override
+    public void setAttribute44(String attribute44) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[44] = attribute44;
+        }
+        this.$$_markDirty(44);
+        this.attribute44 = attribute44;
+    }
+
+    @Override
+    public String getAttribute45() {
+        return attribute45;
+    }
+
+    @Override
+    public void setAttribute45(String attribute45) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[45] = attribute45;
+        }
+        this.$$_markDirty(45);
+        this.attribute45 = attribute45;
+    }
+
+    @Override
+    public String getAttribute46() {
+        return attribute46;
+    }
+
+    @Override
+    public void setAttribute46(String attribute46) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[46] = attribute46;
+        }
+        this.$$_markDirty(46);
+        this.attribute46 = attribute46;
+    }
+
+    @Override
+    public String getAttribute47() {
+        return attribute47;
+    }
+
+    @Override
+    public void setAttribute47(String attribute47) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[47] = attribute47;
+        }
+        this.$$_markDirty(47);
+        this.attribute47 = attribute47;
+    }
+
+    @Override
+    public String getAttribute48() {
+        return attribute48;
+    }
+
+    @Override
+    public void setAttribute48(String attribute48) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[48] = attribute48;
+        }
+        this.$$_markDirty(48);
+        this.attribute48 = attribute48;
+    }
+
+    @Override
+    public String getAttribute49() {
+        return attribute49;
+    }
+
+    @Override
+    public void setAttribute49(String attribute49) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[49] = attribute49;
+        }
+        this.$$_markDirty(49);
+        this.attribute49 = attribute49;
+    }
+
+    @Override
+    public String getAttribute50() {
+        return attribute50;
+    }
+
+    @Override
+    public void setAttribute50(String attribute50) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[50] = attribute50;
+        }
+        this.$$_markDirty(50);
+        this.attribute50 = attribute50;
+    }
+
+    @Override
+    public String getAttribute51() {
+        return attribute51;
+    }
+
+    @Override
+    public void setAttribute51(String attribute51) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[51] = attribute51;
+        }
+        this.$$_markDirty(51);
+        this.attribute51 = attribute51;
+    }
+
+    @Override
+    public String getAttribute52() {
+        return attribute52;
+    }
+
+    @Override
+    public void setAttribute52(String attribute52) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[52] = attribute52;
+        }
+        this.$$_markDirty(52);
+        this.attribute52 = attribute52;
+    }
+
+    @Override
+    public String getAttribute53() {
+        return attribute53;
+    }
+
+    @Override
+    public void setAttribute53(String attribute53) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[53] = attribute53;
+        }
+        this.$$_markDirty(53);
+        this.attribute53 = attribute53;
+    }
+
+    @Override
+    public String getAttribute54() {
+        return attribute54;
+    }
+
+    @Override
+    public void setAttribute54(String attribute54) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[54] = attribute54;
+        }
+        this.$$_markDirty(54);
+        this.attribute54 = attribute54;
+    }
+
+    @Override
+    public String getAttribute55() {
+        return attribute55;
+    }
+
+    @Override
+    public void setAttribute55(String attribute55) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[55] = attribute55;
+        }
+        this.$$_markDirty(55);
+        this.attribute55 = attribute55;
+    }
+
+    @Override
+    public String getAttribute56() {
+        return attribute56;
+    }
+
+    @Override
+    public void setAttribute56(String attribute56) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[56] = attribute56;
+        }
+        this.$$_markDirty(56);
+        this.attribute56 = attribute56;
+    }
+
+    @Override
+    public String getAttribute57() {
+        return attribute57;
+    }
+
+    @Override
+    public void setAttribute57(String attribute57) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[57] = attribute57;
+        }
+        this.$$_markDirty(57);
+        this.attribute57 = attribute57;
+    }
+
+    @Override
+    public String getAttribute58() {
+        return attribute58;
+    }
+
+    @Override
+    public void setAttribute58(String attribute58) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[58] = attribute58;
+        }
+        this.$$_markDirty(58);
+        this.attribute58 = attribute58;
+    }
+
+    @Override
+    public String getAttribute59() {
+        return attribute59;
+    }
+
+    @Override
+    public void setAttribute59(String attribute59) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[59] = attribute59;
+        }
+        this.$$_markDirty(59);
+        this.attribute59 = attribute59;
+    }
+
+    @Override
+    public String getAttribute60() {
+        return attribute60;
+    }
+
+    @Override
+    public void setAttribute60(String attribute60) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[60] = attribute60;
+        }
+        this.$$_markDirty(60);
+        this.attribute60 = attribute60;
+    }
+
+    @Override
+    public String getAttribute61() {
+        return attribute61;
+    }
+
+    @Override
+    public void setAttribute61(String attribute61) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[61] = attribute61;
+        }
+        this.$$_markDirty(61);
+        this.attribute61 = attribute61;
+    }
+
+    @Override
+    public String getAttribute62() {
+        return attribute62;
+    }
+
+    @Override
+    public void setAttribute62(String attribute62) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[62] = attribute62;
+        }
+        this.$$_markDirty(62);
+        this.attribute62 = attribute62;
+    }
+
+    @Override
+    public String getAttribute63() {
+        return attribute63;
+    }
+
+    @Override
+    public void setAttribute63(String attribute63) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[63] = attribute63;
+        }
+        this.$$_markDirty(63);
+        this.attribute63 = attribute63;
+    }
+
+    @Override
+    public String getAttribute64() {
+        return attribute64;
+    }
+
+    @Override
+    public void setAttribute64(String attribute64) {
+        if (this.$$_mutableState != null) {
+            this.$$_mutableState[64] = attribute64;
+        }
+        this.$$_markDirty(64);
+        this.attribute64 = attribute64;
+    }
+
+    @Override
+    public Integer getId() {
+        return id;
+    }
+
+    private byte $$_kind;
+    private final Object[] $$_initialState;
+    private final Object[] $$_mutableState;
+    private final boolean $$_initialized;
+    private List<Object> $$_readOnlyParents;
+    private DirtyTracker $$_parent;
+    private int $$_parentIndex;
+    private long[] $$_dirty;
+
+    @Override
+    public Class<?> $$_getJpaManagedClass() {
+        return WideView.class;
+    }
+
+    @Override
+    public Class<?> $$_getJpaManagedBaseClass() {
+        return WideView.class;
+    }
+
+    @Override
+    public Class<?> $$_getEntityViewClass() {
+        return WideView.class;
+    }
+
+    @Override
+    public boolean $$_isNew() {
+        return false;
+    }
+
+    @Override
+    public boolean $$_isReference() {
+        return $$_kind == (byte) 1;
+    }
+
+    @Override
+    public Object $$_getId() {
+        return id;
+    }
+
+    @Override
+    public Object $$_getVersion() {
+        return null;
+    }
+
+    @Override
+    public boolean $$_isDirty() {
+        return (this.$$_dirty[0] | this.$$_dirty[1]) != 0L;
+    }
+
+    @Override
+    public void $$_markDirty(int attributeIndex) {
+        if (this.$$_dirty == null) {
+            this.$$_dirty = new long[2];
+        }
+        this.$$_dirty[attributeIndex >>> 6] |= (1L << attributeIndex);
+        if (this.$$_parent != null) {
+            this.$$_parent.$$_markDirty(this.$$_parentIndex);
+        }
+    }
+
+    @Override
+    public void $$_unmarkDirty() {
+        this.$$_dirty[0] = 0L;
+        this.$$_dirty[1] = 0L;
+    }
+
+    @Override
+    public void $$_setParent(BasicDirtyTracker parent, int parentIndex) {
+        if (this.$$_parent != null) {
+            throw new IllegalStateException("Parent object for " + this.toString() + " is already set to " + this.$$_parent.toString() + " and can't be set to: " + parent.toString());
+        }
+        this.$$_parent = (DirtyTracker) parent;
+        this.$$_parentIndex = parentIndex;
+    }
+
+    @Override
+    public boolean $$_hasParent() {
+        return this.$$_parent != null;
+    }
+
+    @Override
+    public void $$_unsetParent() {
+        if (this.$$_parent != null && this.$$_readOnlyParents != null && !this.$$_readOnlyParents.isEmpty()) {
+            throw new IllegalStateException("Can't unset writable parent " + this.$$_parent.toString() + " on object " + this.toString() + " because it is still connected to read only parents: " + this.$$_readOnlyParents);
+        }
+        this.$$_parent = null;
+        this.$$_parentIndex = 0;
+    }
+
+    @Override
+    public boolean $$_isDirty(int attributeIndex) {
+        return (this.$$_dirty[attributeIndex >>> 6] & (1L << attributeIndex)) != 0;
+    }
+
+    @Override
+    public <T> boolean $$_copyDirty(T[] source, T[] target) {
+        if ((this.$$_dirty[0] | this.$$_dirty[1]) == 0L) {
+            return false;
+        } else {
+            target[0] = (this.$$_dirty[0] & 1L) == 0 ? null : source[0];
+            target[1] = (this.$$_dirty[0] & 2L) == 0 ? null : source[1];
+            target[2] = (this.$$_dirty[0] & 4L) == 0 ? null : source[2];
+            target[3] = (this.$$_dirty[0] & 8L) == 0 ? null : source[3];
+            target[4] = (this.$$_dirty[0] & 16L) == 0 ? null : source[4];
+            target[5] = (this.$$_dirty[0] & 32L) == 0 ? null : source[5];
+            target[6] = (this.$$_dirty[0] & 64L) == 0 ? null : source[6];
+            target[7] = (this.$$_dirty[0] & 128L) == 0 ? null : source[7];
+            target[8] = (this.$$_dirty[0] & 256L) == 0 ? null : source[8];
+            target[9] = (this.$$_dirty[0] & 512L) == 0 ? null : source[9];
+            target[10] = (this.$$_dirty[0] & 1024L) == 0 ? null : source[10];
+            target[11] = (this.$$_dirty[0] & 2048L) == 0 ? null : source[11];
+            target[12] = (this.$$_dirty[0] & 4096L) == 0 ? null : source[12];
+            target[13] = (this.$$_dirty[0] & 8192L) == 0 ? null : source[13];
+            target[14] = (this.$$_dirty[0] & 16384L) == 0 ? null : source[14];
+            target[15] = (this.$$_dirty[0] & 32768L) == 0 ? null : source[15];
+            target[16] = (this.$$_dirty[0] & 65536L) == 0 ? null : source[16];
+            target[17] = (this.$$_dirty[0] & 131072L) == 0 ? null : source[17];
+            target[18] = (this.$$_dirty[0] & 262144L) == 0 ? null : source[18];
+            target[19] = (this.$$_dirty[0] & 524288L) == 0 ? null : source[19];
+            target[20] = (this.$$_dirty[0] & 1048576L) == 0 ? null : source[20];
+            target[21] = (this.$$_dirty[0] & 2097152L) == 0 ? null : source[21];
+            target[22] = (this.$$_dirty[0] & 4194304L) == 0 ? null : source[22];
+            target[23] = (this.$$_dirty[0] & 8388608L) == 0 ? null : source[23];
+            target[24] = (this.$$_dirty[0] & 16777216L) == 0 ? null : source[24];
+            target[25] = (this.$$_dirty[0] & 33554432L) == 0 ? null : source[25];
+            target[26] = (this.$$_dirty[0] & 67108864L) == 0 ? null : source[26];
+            target[27] = (this.$$_dirty[0] & 134217728L) == 0 ? null : source[27];
+            target[28] = (this.$$_dirty[0] & 268435456L) == 0 ? null : source[28];
+            target[29] = (this.$$_dirty[0] & 536870912L) == 0 ? null : source[29];
+            target[30] = (this.$$_dirty[0] & 1073741824L) == 0 ? null : source[30];
+            target[31] = (this.$$_dirty[0] & 2147483648L) == 0 ? null : source[31];
+            target[32] = (this.$$_dirty[0] & 4294967296L) == 0 ? null : source[32];
+            target[33] = (this.$$_dirty[0] & 8589934592L) == 0 ? null : source[33];
+            target[34] = (this.$$_dirty[0] & 17179869184L) == 0 ? null : source[34];
+            target[35] = (this.$$_dirty[0] & 34359738368L) == 0 ? null : source[35];
+            target[36] = (this.$$_dirty[0] & 68719476736L) == 0 ? null : source[36];
+            target[37] = (this.$$_dirty[0] & 137438953472L) == 0 ? null : source[37];
+            target[38] = (this.$$_dirty[0] & 274877906944L) == 0 ? null : source[38];
+            target[39] = (this.$$_dirty[0] & 549755813888L) == 0 ? null : source[39];
+            target[40] = (this.$$_dirty[0] & 1099511627776L) == 0 ? null : source[40];
+            target[41] = (this.$$_dirty[0] & 2199023255552L) == 0 ? null : source[41];
+            target[42] = (this.$$_dirty[0] & 4398046511104L) == 0 ? null : source[42];
+            target[43] = (this.$$_dirty[0] & 8796093022208L) == 0 ? null : source[43];
+            target[44] = (this.$$_dirty[0] & 17592186044416L) == 0 ? null : source[44];
+            target[45] = (this.$$_dirty[0] & 35184372088832L) == 0 ? null : source[45];
+            target[46] = (this.$$_dirty[0] & 70368744177664L) == 0 ? null : source[46];
+            target[47] = (this.$$_dirty[0] & 140737488355328L) == 0 ? null : source[47];
+            target[48] = (this.$$_dirty[0] & 281474976710656L) == 0 ? null : source[48];
+            target[49] = (this.$$_dirty[0] & 562949953421312L) == 0 ? null : source[49];
+            target[50] = (this.$$_dirty[0] & 1125899906842624L) == 0 ? null : source[50];
+            target[51] = (this.$$_dirty[0] & 2251799813685248L) == 0 ? null : source[51];
+            target[52] = (this.$$_dirty[0] & 4503599627370496L) == 0 ? null : source[52];
+            target[53] = (this.$$_dirty[0] & 9007199254740992L) == 0 ? null : source[53];
+            target[54] = (this.$$_dirty[0] & 18014398509481984L) == 0 ? null : source[54];
+            target[55] = (this.$$_dirty[0] & 36028797018963968L) == 0 ? null : source[55];
+            target[56] = (this.$$_dirty[0] & 72057594037927936L) == 0 ? null : source[56];
+            target[57] = (this.$$_dirty[0] & 144115188075855872L) == 0 ? null : source[57];
+            target[58] = (this.$$_dirty[0] & 288230376151711744L) == 0 ? null : source[58];
+            target[59] = (this.$$_dirty[0] & 576460752303423488L) == 0 ? null : source[59];
+            target[60] = (this.$$_dirty[0] & 1152921504606846976L) == 0 ? null : source[60];
+            target[61] = (this.$$_dirty[0] & 2305843009213693952L) == 0 ? null : source[61];
+            target[62] = (this.$$_dirty[0] & 4611686018427387904L) == 0 ? null : source[62];
+            target[63] = (this.$$_dirty[0] & -9223372036854775808L) == 0 ? null : source[63];
+            target[64] = (this.$$_dirty[1] & 1L) == 0 ? null : source[64];
+            return true;
+        }
+    }
+
+    @Override
+    public void $$_setDirty(long[] dirty) {
+        this.$$_dirty[0] = (dirty.length > 0 ? dirty[0] : 0L);
+        this.$$_dirty[1] = (dirty.length > 1 ? dirty[1] : 0L);
+        if ((this.$$_dirty[0] | this.$$_dirty[1]) != 0L && this.$$_parent != null) {
+            this.$$_parent.$$_markDirty(this.$$_parentIndex);
+        }
+    }
+
+    @Override
+    public long[] $$_resetDirty() {
+        long[] dirty = this.$$_dirty.clone();
+        this.$$_dirty[0] = 0L;
+        this.$$_dirty[1] = 0L;
+        return dirty;
+    }
+
+    @Override
+    public long[] $$_getDirty() {
+        return this.$$_dirty.clone();
+    }
+
+    @Override
+    public long $$_getSimpleDirty() {
+        return $$_dirty[0];
+    }
+
+    @Override
+    public void $$_replaceAttribute(Object oldObject, int attributeIndex, Object newObject) {
+        switch (attributeIndex) {
+            case 0: setAttribute00((String) newObject); break;
+            case 1: setAttribute01((String) newObject); break;
+            case 2: setAttribute02((String) newObject); break;
+            case 3: setAttribute03((String) newObject); break;
+            case 4: setAttribute04((String) newObject); break;
+            case 5: setAttribute05((String) newObject); break;
+            case 6: setAttribute06((String) newObject); break;
+            case 7: setAttribute07((String) newObject); break;
+            case 8: setAttribute08((String) newObject); break;
+            case 9: setAttribute09((String) newObject); break;
+            case 10: setAttribute10((String) newObject); break;
+            case 11: setAttribute11((String) newObject); break;
+            case 12: setAttribute12((String) newObject); break;
+            case 13: setAttribute13((String) newObject); break;
+            case 14: setAttribute14((String) newObject); break;
+            case 15: setAttribute15((String) newObject); break;
+            case 16: setAttribute16((String) newObject); break;
+            case 17: setAttribute17((String) newObject); break;
+            case 18: setAttribute18((String) newObject); break;
+            case 19: setAttribute19((String) newObject); break;
+            case 20: setAttribute20((String) newObject); break;
+            case 21: setAttribute21((String) newObject); break;
+            case 22: setAttribute22((String) newObject); break;
+            case 23: setAttribute23((String) newObject); break;
+            case 24: setAttribute24((String) newObject); break;
+            case 25: setAttribute25((String) newObject); break;
+            case 26: setAttribute26((String) newObject); break;
+            case 27: setAttribute27((String) newObject); break;
+            case 28: setAttribute28((String) newObject); break;
+            case 29: setAttribute29((String) newObject); break;
+            case 30: setAttribute30((String) newObject); break;
+            case 31: setAttribute31((String) newObject); break;
+            case 32: setAttribute32((String) newObject); break;
+            case 33: setAttribute33((String) newObject); break;
+            case 34: setAttribute34((String) newObject); break;
+            case 35: setAttribute35((String) newObject); break;
+            case 36: setAttribute36((String) newObject); break;
+            case 37: setAttribute37((String) newObject); break;
+            case 38: setAttribute38((String) newObject); break;
+            case 39: setAttribute39((String) newObject); break;
+            case 40: setAttribute40((String) newObject); break;
+            case 41: setAttribute41((String) newObject); break;
+            case 42: setAttribute42((String) newObject); break;
+            case 43: setAttribute43((String) newObject); break;
+            case 44: setAttribute44((String) newObject); break;
+            case 45: setAttribute45((String) newObject); break;
+            case 46: setAttribute46((String) newObject); break;
+            case 47: setAttribute47((String) newObject); break;
+            case 48: setAttribute48((String) newObject); break;
+            case 49: setAttribute49((String) newObject); break;
+            case 50: setAttribute50((String) newObject); break;
+            case 51: setAttribute51((String) newObject); break;
+            case 52: setAttribute52((String) newObject); break;
+            case 53: setAttribute53((String) newObject); break;
+            case 54: setAttribute54((String) newObject); break;
+            case 55: setAttribute55((String) newObject); break;
+            case 56: setAttribute56((String) newObject); break;
+            case 57: setAttribute57((String) newObject); break;
+            case 58: setAttribute58((String) newObject); break;
+            case 59: setAttribute59((String) newObject); break;
+            case 60: setAttribute60((String) newObject); break;
+            case 61: setAttribute61((String) newObject); break;
+            case 62: setAttribute62((String) newObject); break;
+            case 63: setAttribute63((String) newObject); break;
+            case 64: setAttribute64((String) newObject); break;
+            default: throw new IllegalArgumentException("Invalid non-mutable attribute index: " + attributeIndex);
+        }
+    }
+
+    @Override
+    public Object[] $$_getMutableState() {
+        return $$_mutableState;
+    }
+
+    @Override
+    public DirtyTracker $$_getParent() {
+        return $$_parent;
+    }
+
+    @Override
+    public List<Object> $$_getReadOnlyParents() {
+        return $$_readOnlyParents;
+    }
+
+    @Override
+    public void $$_addReadOnlyParent(DirtyTracker readOnlyParent, int parentIndex) {
+        if (this != readOnlyParent && this.$$_parent == null) {
+            throw new IllegalStateException("Can't set read only parent for object " + this.toString() + " util it doesn't have a writable parent! First add the object to an attribute with proper cascading. If you just want to reference it convert the object with EntityViewManager.getReference() or EntityViewManager.convert()!");
+        }
+        if (this.$$_readOnlyParents == null) {
+            this.$$_readOnlyParents = new ArrayList<>();
+        }
+        this.$$_readOnlyParents.add(readOnlyParent);
+        this.$$_readOnlyParents.add(parentIndex);
+        return;
+    }
+
+    @Override
+    public void $$_removeReadOnlyParent(DirtyTracker readOnlyParent, int parentIndex) {
+        if (this.$$_readOnlyParents != null) {
+            int size = this.$$_readOnlyParents.size();
+            for (int i = 0; i < size; i += 2) {
+                if (this.$$_readOnlyParents.get(i) == readOnlyParent && ((Integer) this.$$_readOnlyParents.get(i + 1)).intValue() == parentIndex) {
+                    this.$$_readOnlyParents.remove(i + 1);
+                    this.$$_readOnlyParents.remove(i);
+                    break;
+                }
+            }
+        }
+    }
+
+    @Override
+    public int $$_getParentIndex() {
+        return $$_parentIndex;
+    }
+
+    @Override
+    public void $$_setIsNew(boolean isNew) {
+        // No-op
+    }
+
+    @Override
+    public void $$_setId(Object id) {
+        this.id = (Integer) id;
+    }
+
+    @Override
+    public void $$_setVersion(Object version) {
+        throw new UnsupportedOperationException("No version attribute available!");
+    }
+
+    @Override
+    public Object[] $$_getInitialState() {
+        return $$_initialState;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || this.$$_getId() == null) {
+            return false;
+        }
+        if (obj instanceof EntityViewProxy) {
+            EntityViewProxy other = (EntityViewProxy) obj;
+            if (this.$$_getJpaManagedBaseClass() == other.$$_getJpaManagedBaseClass() && this.$$_getId().equals(other.$$_getId())) {
+                return true;
+            } else {
+                return false;
+            }
+        }
+        if (obj instanceof WideView) {
+            WideView other = (WideView) obj;
+            if (!Objects.equals(this.id, other.getId())) {
+                return false;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        long bits;
+        int hash = 3;
+        hash = 83 * hash + (this.id != null ? this.id.hashCode() : 0);
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "WideView(id = " + this.id + ")";
+    }
+}
+
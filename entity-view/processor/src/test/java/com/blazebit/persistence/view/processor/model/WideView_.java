@@ -0,0 +1,158 @@
+package com.blazebit.persistence.view.processor.model;
+
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.PaginatedCriteriaBuilder;
+import com.blazebit.persistence.view.EntityViewSetting;
+import com.blazebit.persistence.view.StaticMetamodel;
+import com.blazebit.persistence.view.metamodel.MethodSingularAttribute;
+
+import javax.annotation.Generated;
+
+@Generated(value = "com.blazebit.persistence.view.processor.EntityViewAnnotationProcessor")
+@StaticMetamodel(WideView.class)
+public abstract class WideView_ {
+
+    public static volatile MethodSingularAttribute<WideView, String> attribute00;
+    public static volatile MethodSingularAttribute<WideView, String> attribute01;
+    public static volatile MethodSingularAttribute<WideView, String> attribute02;
+    public static volatile MethodSingularAttribute<WideView, String> attribute03;
+    public static volatile MethodSingularAttribute<WideView, String> attribute04;
+    public static volatile MethodSingularAttribute<WideView, String> attribute05;
+    public static volatile MethodSingularAttribute<WideView, String> attribute06;
+    public static volatile MethodSingularAttribute<WideView, String> attribute07;
+    public static volatile MethodSingularAttribute<WideView, String> attribute08;
+    public static volatile MethodSingularAttribute<WideView, String> attribute09;
+    public static volatile MethodSingularAttribute<WideView, String> attribute10;
+    public static volatile MethodSingularAttribute<WideView, String> attribute11;
+    public static volatile MethodSingularAttribute<WideView, String> attribute12;
+    public static volatile MethodSingularAttribute<WideView, String> attribute13;
+    public static volatile MethodSingularAttribute<WideView, String> attribute14;
+    public static volatile MethodSingularAttribute<WideView, String> attribute15;
+    public static volatile MethodSingularAttribute<WideView, String> attribute16;
+    public static volatile MethodSingularAttribute<WideView, String> attribute17;
+    public static volatile MethodSingularAttribute<WideView, String> attribute18;
+    public static volatile MethodSingularAttribute<WideView, String> attribute19;
+    public static volatile MethodSingularAttribute<WideView, String> attribute20;
+    public static volatile MethodSingularAttribute<WideView, String> attribute21;
+    public static volatile MethodSingularAttribute<WideView, String> attribute22;
+    public static volatile MethodSingularAttribute<WideView, String> attribute23;
+    public static volatile MethodSingularAttribute<WideView, String> attribute24;
+    public static volatile MethodSingularAttribute<WideView, String> attribute25;
+    public static volatile MethodSingularAttribute<WideView, String> attribute26;
+    public static volatile MethodSingularAttribute<WideView, String> attribute27;
+    public static volatile MethodSingularAttribute<WideView, String> attribute28;
+    public static volatile MethodSingularAttribute<WideView, String> attribute29;
+    public static volatile MethodSingularAttribute<WideView, String> attribute30;
+    public static volatile MethodSingularAttribute<WideView, String> attribute31;
+    public static volatile MethodSingularAttribute<WideView, String> attribute32;
+    public static volatile MethodSingularAttribute<WideView, String> attribute33;
+    public static volatile MethodSingularAttribute<WideView, String> attribute34;
+    public static volatile MethodSingularAttribute<WideView, String> attribute35;
+    public static volatile MethodSingularAttribute<WideView, String> attribute36;
+    public static volatile MethodSingularAttribute<WideView, String> attribute37;
+    public static volatile MethodSingularAttribute<WideView, String> attribute38;
+    public static volatile MethodSingularAttribute<WideView, String> attribute39;
+    public static volatile MethodSingularAttribute<WideView, String> attribute40;
+    public static volatile MethodSingularAttribute<WideView, String> attribute41;
+    public static volatile MethodSingularAttribute<WideView, String> attribute42;
+    public static volatile MethodSingularAttribute<WideView, String> attribute43;
+    public static volatile MethodSingularAttribute<WideView, String> attribute44;
+    public static volatile MethodSingularAttribute<WideView, String> attribute45;
+    public static volatile MethodSingularAttribute<WideView, String> attribute46;
+    public static volatile MethodSingularAttribute<WideView, String> attribute47;
+    public static volatile MethodSingularAttribute<WideView, String> attribute48;
+    public static volatile MethodSingularAttribute<WideView, String> attribute49;
+    public static volatile MethodSingularAttribute<WideView, String> attribute50;
+    public static volatile MethodSingularAttribute<WideView, String> attribute51;
+    public static volatile MethodSingularAttribute<WideView, String> attribute52;
+    public static volatile MethodSingularAttribute<WideView, String> attribute53;
+    public static volatile MethodSingularAttribute<WideView, String> attribute54;
+    public static volatile MethodSingularAttribute<WideView, String> attribute55;
+    public static volatile MethodSingularAttribute<WideView, String> attribute56;
+    public static volatile MethodSingularAttribute<WideView, String> attribute57;
+    public static volatile MethodSingularAttribute<WideView, String> attribute58;
+    public static volatile MethodSingularAttribute<WideView, String> attribute59;
+    public static volatile MethodSingularAttribute<WideView, String> attribute60;
+    public static volatile MethodSingularAttribute<WideView, String> attribute61;
+    public static volatile MethodSingularAttribute<WideView, String> attribute62;
+    public static volatile MethodSingularAttribute<WideView, String> attribute63;
+    public static volatile MethodSingularAttribute<WideView, String> attribute64;
+    public static volatile MethodSingularAttribute<WideView, Integer> id;
+
+    public static final String ATTRIBUTE00 = "attribute00";
+    public static final String ATTRIBUTE01 = "attribute01";
+    public static final String ATTRIBUTE02 = "attribute02";
+    public static final String ATTRIBUTE03 = "attribute03";
+    public static final String ATTRIBUTE04 = "attribute04";
+    public static final String ATTRIBUTE05 = "attribute05";
+    public static final String ATTRIBUTE06 = "attribute06";
+    public static final String ATTRIBUTE07 = "attribute07";
+    public static final String ATTRIBUTE08 = "attribute08";
+    public static final String ATTRIBUTE09 = "attribute09";
+    public static final String ATTRIBUTE10 = "attribute10";
+    public static final String ATTRIBUTE11 = "attribute11";
+    public static final String ATTRIBUTE12 = "attribute12";
+    public static final String ATTRIBUTE13 = "attribute13";
+    public static final String ATTRIBUTE14 = "attribute14";
+    public static final String ATTRIBUTE15 = "attribute15";
+    public static final String ATTRIBUTE16 = "attribute16";
+    public static final String ATTRIBUTE17 = "attribute17";
+    public static final String ATTRIBUTE18 = "attribute18";
+    public static final String ATTRIBUTE19 = "attribute19";
+    public static final String ATTRIBUTE20 = "attribute20";
+    public static final String ATTRIBUTE21 = "attribute21";
+    public static final String ATTRIBUTE22 = "attribute22";
+    public static final String ATTRIBUTE23 = "attribute23";
+    public static final String ATTRIBUTE24 = "attribute24";
+    public static final String ATTRIBUTE25 = "attribute25";
+    public static final String ATTRIBUTE26 = "attribute26";
+    public static final String ATTRIBUTE27 = "attribute27";
+    public static final String ATTRIBUTE28 = "attribute28";
+    public static final String ATTRIBUTE29 = "attribute29";
+    public static final String ATTRIBUTE30 = "attribute30";
+    public static final String ATTRIBUTE31 = "attribute31";
+    public static final String ATTRIBUTE32 = "attribute32";
+    public static final String ATTRIBUTE33 = "attribute33";
+    public static final String ATTRIBUTE34 = "attribute34";
+    public static final String ATTRIBUTE35 = "attribute35";
+    public static final String ATTRIBUTE36 = "attribute36";
+    public static final String ATTRIBUTE37 = "attribute37";
+    public static final String ATTRIBUTE38 = "attribute38";
+    public static final String ATTRIBUTE39 = "attribute39";
+    public static final String ATTRIBUTE40 = "attribute40";
+    public static final String ATTRIBUTE41 = "attribute41";
+    public static final String ATTRIBUTE42 = "attribute42";
+    public static final String ATTRIBUTE43 = "attribute43";
+    public static final String ATTRIBUTE44 = "attribute44";
+    public static final String ATTRIBUTE45 = "attribute45";
+    public static final String ATTRIBUTE46 = "attribute46";
+    public static final String ATTRIBUTE47 = "attribute47";
+    public static final String ATTRIBUTE48 = "attribute48";
+    public static final String ATTRIBUTE49 = "attribute49";
+    public static final String ATTRIBUTE50 = "attribute50";
+    public static final String ATTRIBUTE51 = "attribute51";
+    public static final String ATTRIBUTE52 = "attribute52";
+    public static final String ATTRIBUTE53 = "attribute53";
+    public static final String ATTRIBUTE54 = "attribute54";
+    public static final String ATTRIBUTE55 = "attribute55";
+    public static final String ATTRIBUTE56 = "attribute56";
+    public static final String ATTRIBUTE57 = "attribute57";
+    public static final String ATTRIBUTE58 = "attribute58";
+    public static final String ATTRIBUTE59 = "attribute59";
+    public static final String ATTRIBUTE60 = "attribute60";
+    public static final String ATTRIBUTE61 = "attribute61";
+    public static final String ATTRIBUTE62 = "attribute62";
+    public static final String ATTRIBUTE63 = "attribute63";
+    public static final String ATTRIBUTE64 = "attribute64";
+    public static final String ID = "id";
+
+    public static EntityViewSetting<WideView, CriteriaBuilder<WideView>> createSettingInit() {
+        return EntityViewSetting.create(WideView.class, "init");
+    }
+
+    public static EntityViewSetting<WideView, PaginatedCriteriaBuilder<WideView>> createPaginatedSettingInit(int firstResult, int maxResults) {
+        return EntityViewSetting.create(WideView.class, firstResult, maxResults, "init");
+    }
+
+}
+
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.view.testsuite.basic;
+
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.spi.CriteriaBuilderConfiguration;
+import com.blazebit.persistence.spi.SecondaryEntityManagerProvider;
+import com.blazebit.persistence.testsuite.entity.Person;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
+import com.blazebit.persistence.view.ConfigurationProperties;
+import com.blazebit.persistence.view.EntityViewManager;
+import com.blazebit.persistence.view.EntityViewSetting;
+import com.blazebit.persistence.view.EntityViews;
+import com.blazebit.persistence.view.spi.EntityViewConfiguration;
+import com.blazebit.persistence.view.testsuite.AbstractEntityViewTest;
+import com.blazebit.persistence.view.testsuite.basic.model.PersonView;
+import org.junit.Test;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public class TemplateEagerLoadingTest extends AbstractEntityViewTest {
+
+    private static final AtomicInteger EXECUTIONS = new AtomicInteger();
+
+    @Override
+    protected CriteriaBuilderConfiguration configure(CriteriaBuilderConfiguration config) {
+        config = super.configure(config);
+        config.withParallelQueryExecution(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                EXECUTIONS.incrementAndGet();
+                command.run();
+            }
+        }, SecondaryEntityManagerProvider.DEFAULT);
+        return config;
+    }
+
+    @Override
+    public void setUpOnce() {
+        cleanDatabase();
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                Person p1 = new Person("pers1");
+                Person p2 = new Person("pers2");
+                em.persist(p1);
+                em.persist(p2);
+            }
+        });
+    }
+
+    @Test
+    public void eagerLoadingDoesNotUseExecutor() {
+        int executions = EXECUTIONS.get();
+        EntityViewManager evm = build("true");
+
+        assertEquals(executions, EXECUTIONS.get());
+        assertPersonViews(evm);
+    }
+
+    @Test
+    public void asyncEagerLoadingUsesExecutor() {
+        int executions = EXECUTIONS.get();
+        EntityViewManager evm = build("async");
+
+        assertEquals(executions + 1, EXECUTIONS.get());
+        assertPersonViews(evm);
+    }
+
+    private EntityViewManager build(String templateEagerLoading) {
+        EntityViewConfiguration cfg = EntityViews.createDefaultConfiguration();
+        cfg.setProperty(ConfigurationProperties.TEMPLATE_EAGER_LOADING, templateEagerLoading);
+        cfg.addEntityView(PersonView.class);
+        return cfg.createEntityViewManager(cbf);
+    }
+
+    private void assertPersonViews(EntityViewManager evm) {
+        CriteriaBuilder<Person> cb = cbf.create(em, Person.class).orderByAsc("name");
+        List<PersonView> results = evm.applySetting(EntityViewSetting.create(PersonView.class), cb).getResultList();
+
+        assertEquals(2, results.size());
+        assertEquals("pers1", results.get(0).getName());
+        assertEquals("pers2", results.get(1).getName());
+    }
+}
@@ -17,6 +17,7 @@
 package com.blazebit.persistence.view.testsuite.basic;
 
 import com.blazebit.persistence.testsuite.entity.Person;
+import com.blazebit.persistence.view.ConfigurationProperties;
 import com.blazebit.persistence.view.EntityView;
 import com.blazebit.persistence.view.Mapping;
 import com.blazebit.persistence.view.testsuite.basic.model.IdHolderView;
@@ -76,6 +77,49 @@ public class ValidationTest extends AbstractEntityViewTest {
         }
     }
 
+    @Test
+    public void testParallelValidation() {
+        EntityViewConfiguration cfg = EntityViews.createDefaultConfiguration();
+        cfg.setProperty(ConfigurationProperties.BOOTSTRAP_PARALLELISM, "4");
+        cfg.setProperty(ConfigurationProperties.TEMPLATE_EAGER_LOADING, "true");
+        cfg.addEntityView(DocumentValidationView.class);
+        cfg.addEntityView(PersonValidationView.class);
+        cfg.createEntityViewManager(cbf);
+    }
+
+    @Test
+    public void testParallelValidationInvalidMapping() {
+        EntityViewConfiguration cfg = EntityViews.createDefaultConfiguration();
+        cfg.setProperty(ConfigurationProperties.BOOTSTRAP_PARALLELISM, "4");
+        cfg.addEntityView(PersonValidationView.class);
+        cfg.addEntityView(PersonInvalidMappingValidationView.class);
+
+        try {
+            cfg.createEntityViewManager(cbf);
+            Assert.fail("Expected validation exception!");
+        } catch (IllegalArgumentException ex) {
+            if (!ex.getMessage().contains(PersonInvalidMappingValidationView.class.getSimpleName() + ".getName") || !ex.getCause().getMessage().contains("'defaultContact'")) {
+                throw ex;
+            }
+        }
+    }
+
+    @Test
+    public void testStaticImplementationRequired() {
+        EntityViewConfiguration cfg = EntityViews.createDefaultConfiguration();
+        cfg.setProperty(ConfigurationProperties.STATIC_IMPLEMENTATION_REQUIRED, "true");
+        cfg.addEntityView(PersonValidationView.class);
+
+        try {
+            cfg.createEntityViewManager(cbf);
+            Assert.fail("Expected validation exception!");
+        } catch (IllegalArgumentException ex) {
+            if (!ex.getMessage().contains("No static implementation found for the entity view type '" + PersonValidationView.class.getName() + "'")) {
+                throw ex;
+            }
+        }
+    }
+
     @Test
     public void testValidationInvalidCaseMapping() {
         EntityViewConfiguration cfg = EntityViews.createDefaultConfiguration();
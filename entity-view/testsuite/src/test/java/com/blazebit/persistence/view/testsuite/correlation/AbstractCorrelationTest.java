@@ -92,6 +92,10 @@ public abstract class AbstractCorrelationTest extends AbstractEntityViewTest {
     }
 
     protected <T extends DocumentCorrelationView> void testCorrelation(Class<T> entityView, Integer batchSize) {
+        testCorrelation(entityView, batchSize, null);
+    }
+
+    protected <T extends DocumentCorrelationView> void testCorrelation(Class<T> entityView, Integer batchSize, Integer batchParallelism) {
         EntityViewConfiguration cfg = EntityViews.createDefaultConfiguration();
         cfg.addEntityView(entityView);
         cfg.addEntityView(SimpleDocumentCorrelatedView.class);
@@ -103,6 +107,12 @@ public abstract class AbstractCorrelationTest extends AbstractEntityViewTest {
         if (batchSize != null) {
             setting.setProperty(ConfigurationProperties.DEFAULT_BATCH_SIZE + ".ownerRelatedDocumentIds", batchSize);
         }
+        if (batchParallelism != null) {
+            // The this correlations don't use the view root, so their batches can be loaded concurrently
+            setting.setProperty(ConfigurationProperties.DEFAULT_BATCH_SIZE + ".thisCorrelatedIdList", batchSize);
+            setting.setProperty(ConfigurationProperties.DEFAULT_BATCH_SIZE + ".thisCorrelatedViewList", batchSize);
+            setting.setProperty(ConfigurationProperties.BATCH_PARALLELISM, batchParallelism);
+        }
         CriteriaBuilder<T> cb = evm.applySetting(setting, criteria);
         List<T> results = cb.getResultList();
 
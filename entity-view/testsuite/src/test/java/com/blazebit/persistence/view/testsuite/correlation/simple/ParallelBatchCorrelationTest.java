@@ -0,0 +1,83 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.view.testsuite.correlation.simple;
+
+import com.blazebit.persistence.spi.CriteriaBuilderConfiguration;
+import com.blazebit.persistence.spi.SecondaryEntityManagerProvider;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus4;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoEclipselink;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoOpenJPA;
+import com.blazebit.persistence.view.testsuite.correlation.AbstractCorrelationTest;
+import com.blazebit.persistence.view.testsuite.correlation.simple.model.DocumentSimpleCorrelationViewSubqueryId;
+import com.blazebit.persistence.view.testsuite.correlation.simple.model.DocumentSimpleCorrelationViewSubqueryNormal;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public class ParallelBatchCorrelationTest extends AbstractCorrelationTest {
+
+    private static final AtomicInteger EXECUTIONS = new AtomicInteger();
+
+    @Override
+    protected CriteriaBuilderConfiguration configure(CriteriaBuilderConfiguration config) {
+        config = super.configure(config);
+        config.withParallelQueryExecution(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                EXECUTIONS.incrementAndGet();
+                new Thread(command).start();
+            }
+        }, SecondaryEntityManagerProvider.DEFAULT);
+        return config;
+    }
+
+    @Test
+    // NOTE: Requires values clause which currently is only available for Hibernate
+    @Category({ NoDatanucleus4.class, NoDatanucleus.class, NoOpenJPA.class, NoEclipselink.class})
+    public void testSubqueryBatchedCorrelationNormalParallel() {
+        int executions = EXECUTIONS.get();
+        testCorrelation(DocumentSimpleCorrelationViewSubqueryNormal.class, 2, 2);
+        Assert.assertTrue(EXECUTIONS.get() > executions);
+    }
+
+    @Test
+    // NOTE: Requires values clause which currently is only available for Hibernate
+    @Category({ NoDatanucleus4.class, NoDatanucleus.class, NoOpenJPA.class, NoEclipselink.class})
+    public void testSubqueryBatchedCorrelationIdParallel() {
+        int executions = EXECUTIONS.get();
+        testCorrelation(DocumentSimpleCorrelationViewSubqueryId.class, 2, 2);
+        Assert.assertTrue(EXECUTIONS.get() > executions);
+    }
+
+    @Test
+    // NOTE: Requires values clause which currently is only available for Hibernate
+    @Category({ NoDatanucleus4.class, NoDatanucleus.class, NoOpenJPA.class, NoEclipselink.class})
+    public void testSubqueryBatchedCorrelationSingleBatchRunsSequentially() {
+        int executions = EXECUTIONS.get();
+        testCorrelation(DocumentSimpleCorrelationViewSubqueryNormal.class, 4, 2);
+        Assert.assertEquals(executions, EXECUTIONS.get());
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.blazebit.persistence.view.testsuite.materialization;
+
+import com.blazebit.persistence.spi.CriteriaBuilderConfiguration;
+import com.blazebit.persistence.spi.SecondaryEntityManagerProvider;
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.testsuite.entity.Person;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
+import com.blazebit.persistence.view.ConfigurationProperties;
+import com.blazebit.persistence.view.EntityViewManager;
+import com.blazebit.persistence.view.EntityViewSetting;
+import com.blazebit.persistence.view.EntityViews;
+import com.blazebit.persistence.view.spi.EntityViewConfiguration;
+import com.blazebit.persistence.view.testsuite.AbstractEntityViewTest;
+import com.blazebit.persistence.view.testsuite.materialization.model.DocumentMaterializationView;
+import com.blazebit.persistence.view.testsuite.materialization.model.OwnerFlatView;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public class ParallelMaterializationTest extends AbstractEntityViewTest {
+
+    // More than two ranges of the minimum range size, so that the result list is built in parallel
+    private static final int DOCUMENT_COUNT = 2 * 1024 + 100;
+    private static final AtomicInteger EXECUTIONS = new AtomicInteger();
+
+    protected EntityViewManager evm;
+
+    @Override
+    protected CriteriaBuilderConfiguration configure(CriteriaBuilderConfiguration config) {
+        config = super.configure(config);
+        config.withParallelQueryExecution(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                EXECUTIONS.incrementAndGet();
+                new Thread(command).start();
+            }
+        }, SecondaryEntityManagerProvider.DEFAULT);
+        return config;
+    }
+
+    @Before
+    public void initEvm() {
+        EntityViewConfiguration cfg = EntityViews.createDefaultConfiguration();
+        cfg.addEntityView(DocumentMaterializationView.class);
+        cfg.addEntityView(OwnerFlatView.class);
+        evm = cfg.createEntityViewManager(cbf);
+    }
+
+    @Override
+    public void setUpOnce() {
+        cleanDatabase();
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                Person[] owners = new Person[3];
+                for (int i = 0; i < owners.length; i++) {
+                    owners[i] = new Person("pers" + i);
+                    em.persist(owners[i]);
+                }
+                for (int i = 0; i < DOCUMENT_COUNT; i++) {
+                    Document document = new Document("doc" + i, owners[i % owners.length]);
+                    // Every document has zero to two collection elements, so the tuples are grouped before building
+                    for (int j = 0; j < i % 3; j++) {
+                        document.getStrings().add("doc" + i + "-string" + j);
+                    }
+                    em.persist(document);
+                }
+            }
+        });
+    }
+
+    @Test
+    public void parallelMaterializationPreservesOrderAndContents() {
+        List<DocumentMaterializationView> sequential = evm.applySetting(
+                EntityViewSetting.create(DocumentMaterializationView.class),
+                cbf.create(em, Document.class).orderByAsc("id")
+        ).getResultList();
+        int executions = EXECUTIONS.get();
+
+        EntityViewSetting<DocumentMaterializationView, ?> setting = EntityViewSetting.create(DocumentMaterializationView.class);
+        setting.setProperty(ConfigurationProperties.MATERIALIZATION_PARALLELISM, 4);
+        List<DocumentMaterializationView> parallel = evm.applySetting(setting, cbf.create(em, Document.class).orderByAsc("id")).getResultList();
+
+        assertTrue(EXECUTIONS.get() > executions);
+        assertEquals(DOCUMENT_COUNT, sequential.size());
+        assertEquals(describe(sequential), describe(parallel));
+    }
+
+    private static List<String> describe(List<DocumentMaterializationView> views) {
+        List<String> descriptions = new ArrayList<>(views.size());
+        for (DocumentMaterializationView view : views) {
+            descriptions.add(view.getId() + ":" + view.getName() + ":" + view.getOwner().getName() + ":" + view.getStrings());
+        }
+        return descriptions;
+    }
+}
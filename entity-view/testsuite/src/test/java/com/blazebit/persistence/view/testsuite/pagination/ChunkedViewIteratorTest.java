@@ -0,0 +1,97 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.view.testsuite.pagination;
+
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.testsuite.entity.Person;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
+import com.blazebit.persistence.view.EntityViewManager;
+import com.blazebit.persistence.view.EntityViewSetting;
+import com.blazebit.persistence.view.EntityViews;
+import com.blazebit.persistence.view.spi.EntityViewConfiguration;
+import com.blazebit.persistence.view.testsuite.AbstractEntityViewTest;
+import com.blazebit.persistence.view.testsuite.pagination.model.DocumentViewInterface;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public class ChunkedViewIteratorTest extends AbstractEntityViewTest {
+
+    protected EntityViewManager evm;
+
+    @Before
+    public void initEvm() {
+        EntityViewConfiguration cfg = EntityViews.createDefaultConfiguration();
+        cfg.addEntityView(DocumentViewInterface.class);
+        evm = cfg.createEntityViewManager(cbf);
+    }
+
+    @Override
+    public void setUpOnce() {
+        cleanDatabase();
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                Person o1 = new Person("pers1");
+                em.persist(o1);
+                for (int i = 0; i < 5; i++) {
+                    em.persist(new Document("doc" + i, o1));
+                }
+            }
+        });
+    }
+
+    @Test
+    public void testIterateInChunks() {
+        CriteriaBuilder<DocumentViewInterface> cb = evm.applySetting(EntityViewSetting.create(DocumentViewInterface.class), cbf.create(em, Document.class).orderByAsc("id"));
+        List<String> names = new ArrayList<>();
+        Iterator<DocumentViewInterface> iterator = cb.getResultIterator(2);
+        while (iterator.hasNext()) {
+            names.add(iterator.next().getName());
+        }
+
+        assertEquals(5, names.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals("doc" + i, names.get(i));
+        }
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testIterateExactMultipleOfChunkSize() {
+        CriteriaBuilder<DocumentViewInterface> cb = evm.applySetting(EntityViewSetting.create(DocumentViewInterface.class), cbf.create(em, Document.class).where("name").notEq("doc0").orderByAsc("id"));
+        Iterator<DocumentViewInterface> iterator = cb.getResultIterator(2);
+        for (int i = 1; i < 5; i++) {
+            assertEquals("doc" + i, iterator.next().getName());
+        }
+        assertFalse(iterator.hasNext());
+        iterator.next();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.view.testsuite.update.batch;
+
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoEclipselink;
+import com.blazebit.persistence.testsuite.entity.Person;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
+import com.blazebit.persistence.view.EntityViewSetting;
+import com.blazebit.persistence.view.EntityViews;
+import com.blazebit.persistence.view.spi.EntityViewConfiguration;
+import com.blazebit.persistence.view.testsuite.AbstractEntityViewTest;
+import com.blazebit.persistence.view.testsuite.update.batch.model.UpdatablePersonView;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+// NOTE: No Datanucleus support yet
+@Category({ NoDatanucleus.class, NoEclipselink.class})
+public class EntityViewSaveAllTest extends AbstractEntityViewTest {
+
+    @Before
+    public void initEvm() {
+        EntityViewConfiguration cfg = EntityViews.createDefaultConfiguration();
+        cfg.addEntityView(UpdatablePersonView.class);
+        evm = cfg.createEntityViewManager(cbf);
+        enableQueryCollecting();
+    }
+
+    @After
+    public void tearDown() {
+        disableQueryCollecting();
+    }
+
+    @Override
+    public void setUpOnce() {
+        cleanDatabase();
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                for (int i = 0; i < 4; i++) {
+                    em.persist(new Person("pers" + i));
+                }
+            }
+        });
+    }
+
+    @Test
+    public void testSaveAll() {
+        transactional(new TxVoidWork() {
+            @Override
+            public void work(EntityManager em) {
+                List<UpdatablePersonView> views = evm.applySetting(EntityViewSetting.create(UpdatablePersonView.class), cbf.create(em, Person.class).orderByAsc("name")).getResultList();
+                List<Object> toSave = new ArrayList<>();
+                for (int i = 0; i < views.size(); i++) {
+                    UpdatablePersonView view = views.get(i);
+                    // Leave one view unchanged to make sure it is skipped
+                    if (i != 1) {
+                        view.setName("updated" + i);
+                    }
+                    toSave.add(view);
+                }
+                UpdatablePersonView newView = evm.create(UpdatablePersonView.class);
+                newView.setName("new");
+                toSave.add(newView);
+
+                clearQueries();
+                evm.saveAll(em, toSave);
+                em.flush();
+                // One update per changed view and one insert, the unchanged view is skipped
+                assertQueryCount(4);
+            }
+        });
+
+        List<String> names = cbf.create(em, String.class).from(Person.class).select("name").orderByAsc("name").getResultList();
+        assertEquals(5, names.size());
+        assertEquals("new", names.get(0));
+        assertEquals("pers1", names.get(1));
+        assertEquals("updated0", names.get(2));
+        assertEquals("updated2", names.get(3));
+        assertEquals("updated3", names.get(4));
+    }
+}
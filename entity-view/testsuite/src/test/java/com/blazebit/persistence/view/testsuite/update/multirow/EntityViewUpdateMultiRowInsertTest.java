@@ -0,0 +1,168 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.blazebit.persistence.view.testsuite.update.multirow;
+
+import com.blazebit.persistence.spi.DbmsDialect;
+import com.blazebit.persistence.testsuite.base.jpa.assertion.AssertStatementBuilder;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoEclipselink;
+import com.blazebit.persistence.testsuite.entity.ElementCollectionSetEntity;
+import com.blazebit.persistence.testsuite.entity.NameObject;
+import com.blazebit.persistence.view.ConfigurationProperties;
+import com.blazebit.persistence.view.EntityViewSetting;
+import com.blazebit.persistence.view.FlushMode;
+import com.blazebit.persistence.view.FlushStrategy;
+import com.blazebit.persistence.view.spi.EntityViewConfiguration;
+import com.blazebit.persistence.view.testsuite.update.AbstractEntityViewUpdateTest;
+import com.blazebit.persistence.view.testsuite.update.multirow.model.UpdatableElementCollectionSetEntityView;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import javax.persistence.EntityManager;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that added elements of non-indexed basic and embeddable element collections are inserted with multi-row inserts
+ * that are chunked according to the bind parameter limit of the DBMS.
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+@RunWith(Parameterized.class)
+// NOTE: No Datanucleus support yet
+@Category({ NoDatanucleus.class, NoEclipselink.class})
+public class EntityViewUpdateMultiRowInsertTest extends AbstractEntityViewUpdateTest<UpdatableElementCollectionSetEntityView> {
+
+    // The owner id is bound once per insert
+    private static final int OWNER_ID_PARAMETERS = 1;
+    // The primary name, the secondary name and the foreign key of the name object
+    private static final int NAME_OBJECT_COLUMNS = 3;
+
+    private final int elementCount;
+    private ElementCollectionSetEntity entity;
+
+    public EntityViewUpdateMultiRowInsertTest(int elementCount) {
+        super(FlushMode.PARTIAL, FlushStrategy.QUERY, false, UpdatableElementCollectionSetEntityView.class);
+        this.elementCount = elementCount;
+    }
+
+    @Parameterized.Parameters(name = "{0} elements")
+    public static Object[][] combinations() {
+        return new Object[][]{ { 0 }, { 1 }, { 512 }, { 513 } };
+    }
+
+    @Override
+    protected Class<?>[] getEntityClasses() {
+        return new Class<?>[]{
+                ElementCollectionSetEntity.class
+        };
+    }
+
+    @Override
+    protected void registerViewTypes(EntityViewConfiguration cfg) {
+        cfg.setProperty(ConfigurationProperties.UPDATER_MULTI_ROW_INSERT, "true");
+    }
+
+    @Override
+    protected void prepareData(EntityManager em) {
+        em.persist(new ElementCollectionSetEntity("entity"));
+    }
+
+    @Override
+    protected void reload() {
+        entity = cbf.create(em, ElementCollectionSetEntity.class)
+                .fetch("strings", "names")
+                .getSingleResult();
+    }
+
+    private UpdatableElementCollectionSetEntityView getView() {
+        return evm.applySetting(EntityViewSetting.create(UpdatableElementCollectionSetEntityView.class), cbf.create(em, ElementCollectionSetEntity.class)).getSingleResult();
+    }
+
+    @Test
+    public void testAddBasicElements() {
+        // Given
+        final UpdatableElementCollectionSetEntityView view = getView();
+        Set<String> strings = new HashSet<>(elementCount);
+        for (int i = 0; i < elementCount; i++) {
+            strings.add("string" + i);
+        }
+
+        // When
+        view.getStrings().addAll(strings);
+
+        // Then
+        AssertStatementBuilder builder = assertQueriesAfterUpdate(view);
+        int inserts = getInsertCount(1);
+        for (int i = 0; i < inserts; i++) {
+            builder.insert(ElementCollectionSetEntity.class, "strings");
+        }
+        builder.validate();
+
+        restartTransactionAndReload();
+        assertEquals(strings, entity.getStrings());
+    }
+
+    @Test
+    public void testAddEmbeddableElements() {
+        // Given
+        final UpdatableElementCollectionSetEntityView view = getView();
+        Set<NameObject> names = new HashSet<>(elementCount);
+        for (int i = 0; i < elementCount; i++) {
+            names.add(new NameObject("primary" + i, "secondary" + i));
+        }
+
+        // When
+        view.getNames().addAll(names);
+
+        // Then
+        AssertStatementBuilder builder = assertQueriesAfterUpdate(view);
+        int inserts = getInsertCount(NAME_OBJECT_COLUMNS);
+        for (int i = 0; i < inserts; i++) {
+            builder.insert(ElementCollectionSetEntity.class, "names");
+        }
+        builder.validate();
+
+        restartTransactionAndReload();
+        assertEquals(names, entity.getNames());
+    }
+
+    private int getInsertCount(int parametersPerRow) {
+        int maxBindParameters = cbf.getService(DbmsDialect.class).getMaxBindParameters();
+        int rowsPerInsert = Math.max(1, (maxBindParameters - OWNER_ID_PARAMETERS) / parametersPerRow);
+        return (elementCount + rowsPerInsert - 1) / rowsPerInsert;
+    }
+
+    @Override
+    protected AssertStatementBuilder fullFetch(AssertStatementBuilder builder) {
+        return builder.select(ElementCollectionSetEntity.class);
+    }
+
+    @Override
+    protected AssertStatementBuilder fullUpdate(AssertStatementBuilder builder) {
+        return builder.update(ElementCollectionSetEntity.class);
+    }
+
+    @Override
+    protected AssertStatementBuilder versionUpdate(AssertStatementBuilder builder) {
+        return builder.update(ElementCollectionSetEntity.class);
+    }
+}
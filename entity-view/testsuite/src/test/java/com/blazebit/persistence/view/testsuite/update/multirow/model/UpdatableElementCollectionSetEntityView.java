@@ -0,0 +1,49 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.blazebit.persistence.view.testsuite.update.multirow.model;
+
+import com.blazebit.persistence.testsuite.entity.ElementCollectionSetEntity;
+import com.blazebit.persistence.testsuite.entity.NameObject;
+import com.blazebit.persistence.view.EntityView;
+import com.blazebit.persistence.view.IdMapping;
+import com.blazebit.persistence.view.UpdatableEntityView;
+import com.blazebit.persistence.view.UpdatableMapping;
+
+import java.util.Set;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+@UpdatableEntityView
+@EntityView(ElementCollectionSetEntity.class)
+public interface UpdatableElementCollectionSetEntityView {
+
+    @IdMapping
+    public Long getId();
+
+    @UpdatableMapping
+    public Set<String> getStrings();
+
+    public void setStrings(Set<String> strings);
+
+    @UpdatableMapping
+    public Set<NameObject> getNames();
+
+    public void setNames(Set<NameObject> names);
+
+}
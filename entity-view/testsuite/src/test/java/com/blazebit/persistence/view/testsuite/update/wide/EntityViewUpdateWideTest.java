@@ -0,0 +1,182 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.view.testsuite.update.wide;
+
+import com.blazebit.persistence.testsuite.base.jpa.assertion.AssertStatementBuilder;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoDatanucleus;
+import com.blazebit.persistence.testsuite.base.jpa.category.NoEclipselink;
+import com.blazebit.persistence.testsuite.entity.WideEntity;
+import com.blazebit.persistence.testsuite.tx.TxVoidWork;
+import com.blazebit.persistence.view.EntityViewSetting;
+import com.blazebit.persistence.view.FlushMode;
+import com.blazebit.persistence.view.FlushStrategy;
+import com.blazebit.persistence.view.change.SingularChangeModel;
+import com.blazebit.persistence.view.testsuite.update.AbstractEntityViewUpdateTest;
+import com.blazebit.persistence.view.testsuite.update.wide.model.UpdatableWideEntityView;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that partial updates of views with more mutable attributes than fit into a single dirty tracking word
+ * only flush the changed attributes. The annotation processor output for such views is covered by the processor tests.
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+@RunWith(Parameterized.class)
+// NOTE: No Datanucleus support yet
+@Category({ NoDatanucleus.class, NoEclipselink.class})
+public class EntityViewUpdateWideTest extends AbstractEntityViewUpdateTest<UpdatableWideEntityView> {
+
+    private WideEntity entity;
+
+    public EntityViewUpdateWideTest(FlushMode mode, FlushStrategy strategy, boolean version) {
+        super(mode, strategy, version, UpdatableWideEntityView.class);
+    }
+
+    @Parameterized.Parameters(name = "{0} - {1} - VERSIONED={2}")
+    public static Object[][] combinations() {
+        List<Object[]> combinations = new ArrayList<>();
+        for (Object[] combination : MODE_STRATEGY_VERSION_COMBINATIONS) {
+            // The view has no version attribute
+            if (!(Boolean) combination[2]) {
+                combinations.add(combination);
+            }
+        }
+        return combinations.toArray(new Object[combinations.size()][]);
+    }
+
+    @Override
+    protected Class<?>[] getEntityClasses() {
+        return new Class<?>[]{
+                WideEntity.class
+        };
+    }
+
+    @Override
+    protected void prepareData(EntityManager em) {
+        WideEntity e = new WideEntity();
+        e.setVersion(0L);
+        e.setAttribute00("value00");
+        e.setAttribute63("value63");
+        e.setAttribute64("value64");
+        em.persist(e);
+    }
+
+    @Override
+    protected void reload() {
+        entity = cbf.create(em, WideEntity.class).getSingleResult();
+    }
+
+    private UpdatableWideEntityView getWideView() {
+        return evm.applySetting(EntityViewSetting.create(viewType), cbf.create(em, WideEntity.class)).getSingleResult();
+    }
+
+    @Test
+    public void testUpdateAttributeInSecondDirtyWord() {
+        // Given
+        final UpdatableWideEntityView view = getWideView();
+        changeAttribute00Concurrently();
+
+        // When
+        view.setAttribute64("newValue64");
+
+        // Then
+        if (!isFullMode()) {
+            SingularChangeModel<UpdatableWideEntityView> changeModel = evm.getChangeModel(view);
+            assertTrue(changeModel.isDirty("attribute64"));
+            assertFalse(changeModel.isDirty("attribute00"));
+            assertEquals(1, changeModel.getDirtyChanges().size());
+        }
+        AssertStatementBuilder builder = assertQueriesAfterUpdate(view);
+        if (!isQueryStrategy()) {
+            fullFetch(builder);
+        }
+        builder.update(WideEntity.class);
+        builder.validate();
+
+        restartTransactionAndReload();
+        assertEquals("newValue64", entity.getAttribute64());
+        assertEquals("value63", entity.getAttribute63());
+        // Only a partial flush leaves the concurrently changed attribute in the first dirty word untouched
+        if (mode == FlushMode.PARTIAL) {
+            assertEquals("concurrent", entity.getAttribute00());
+        } else {
+            assertEquals("value00", entity.getAttribute00());
+        }
+    }
+
+    @Test
+    public void testUpdateAttributeInFirstDirtyWord() {
+        // Given
+        final UpdatableWideEntityView view = getWideView();
+
+        // When
+        view.setAttribute63("newValue63");
+
+        // Then
+        if (!isFullMode()) {
+            SingularChangeModel<UpdatableWideEntityView> changeModel = evm.getChangeModel(view);
+            assertTrue(changeModel.isDirty("attribute63"));
+            assertFalse(changeModel.isDirty("attribute64"));
+            assertEquals(1, changeModel.getDirtyChanges().size());
+        }
+        update(view);
+        assertEmptyChangeModel(view);
+
+        restartTransactionAndReload();
+        assertEquals("newValue63", entity.getAttribute63());
+        assertEquals("value64", entity.getAttribute64());
+    }
+
+    private void changeAttribute00Concurrently() {
+        transactional(new TxVoidWork() {
+
+            @Override
+            public void work(EntityManager em) {
+                em.createQuery("UPDATE WideEntity e SET e.attribute00 = :value")
+                        .setParameter("value", "concurrent")
+                        .executeUpdate();
+            }
+        });
+    }
+
+    @Override
+    protected AssertStatementBuilder fullFetch(AssertStatementBuilder builder) {
+        return builder.select(WideEntity.class);
+    }
+
+    @Override
+    protected AssertStatementBuilder fullUpdate(AssertStatementBuilder builder) {
+        return builder.update(WideEntity.class);
+    }
+
+    @Override
+    protected AssertStatementBuilder versionUpdate(AssertStatementBuilder builder) {
+        return builder.update(WideEntity.class);
+    }
+}
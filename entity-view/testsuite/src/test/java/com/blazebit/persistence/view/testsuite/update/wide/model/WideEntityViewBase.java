@@ -0,0 +1,291 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.view.testsuite.update.wide.model;
+
+import com.blazebit.persistence.view.IdMapping;
+
+/**
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public interface WideEntityViewBase {
+
+    @IdMapping
+    public Long getId();
+
+    public String getAttribute00();
+
+    public void setAttribute00(String attribute00);
+
+    public String getAttribute01();
+
+    public void setAttribute01(String attribute01);
+
+    public String getAttribute02();
+
+    public void setAttribute02(String attribute02);
+
+    public String getAttribute03();
+
+    public void setAttribute03(String attribute03);
+
+    public String getAttribute04();
+
+    public void setAttribute04(String attribute04);
+
+    public String getAttribute05();
+
+    public void setAttribute05(String attribute05);
+
+    public String getAttribute06();
+
+    public void setAttribute06(String attribute06);
+
+    public String getAttribute07();
+
+    public void setAttribute07(String attribute07);
+
+    public String getAttribute08();
+
+    public void setAttribute08(String attribute08);
+
+    public String getAttribute09();
+
+    public void setAttribute09(String attribute09);
+
+    public String getAttribute10();
+
+    public void setAttribute10(String attribute10);
+
+    public String getAttribute11();
+
+    public void setAttribute11(String attribute11);
+
+    public String getAttribute12();
+
+    public void setAttribute12(String attribute12);
+
+    public String getAttribute13();
+
+    public void setAttribute13(String attribute13);
+
+    public String getAttribute14();
+
+    public void setAttribute14(String attribute14);
+
+    public String getAttribute15();
+
+    public void setAttribute15(String attribute15);
+
+    public String getAttribute16();
+
+    public void setAttribute16(String attribute16);
+
+    public String getAttribute17();
+
+    public void setAttribute17(String attribute17);
+
+    public String getAttribute18();
+
+    public void setAttribute18(String attribute18);
+
+    public String getAttribute19();
+
+    public void setAttribute19(String attribute19);
+
+    public String getAttribute20();
+
+    public void setAttribute20(String attribute20);
+
+    public String getAttribute21();
+
+    public void setAttribute21(String attribute21);
+
+    public String getAttribute22();
+
+    public void setAttribute22(String attribute22);
+
+    public String getAttribute23();
+
+    public void setAttribute23(String attribute23);
+
+    public String getAttribute24();
+
+    public void setAttribute24(String attribute24);
+
+    public String getAttribute25();
+
+    public void setAttribute25(String attribute25);
+
+    public String getAttribute26();
+
+    public void setAttribute26(String attribute26);
+
+    public String getAttribute27();
+
+    public void setAttribute27(String attribute27);
+
+    public String getAttribute28();
+
+    public void setAttribute28(String attribute28);
+
+    public String getAttribute29();
+
+    public void setAttribute29(String attribute29);
+
+    public String getAttribute30();
+
+    public void setAttribute30(String attribute30);
+
+    public String getAttribute31();
+
+    public void setAttribute31(String attribute31);
+
+    public String getAttribute32();
+
+    public void setAttribute32(String attribute32);
+
+    public String getAttribute33();
+
+    public void setAttribute33(String attribute33);
+
+    public String getAttribute34();
+
+    public void setAttribute34(String attribute34);
+
+    public String getAttribute35();
+
+    public void setAttribute35(String attribute35);
+
+    public String getAttribute36();
+
+    public void setAttribute36(String attribute36);
+
+    public String getAttribute37();
+
+    public void setAttribute37(String attribute37);
+
+    public String getAttribute38();
+
+    public void setAttribute38(String attribute38);
+
+    public String getAttribute39();
+
+    public void setAttribute39(String attribute39);
+
+    public String getAttribute40();
+
+    public void setAttribute40(String attribute40);
+
+    public String getAttribute41();
+
+    public void setAttribute41(String attribute41);
+
+    public String getAttribute42();
+
+    public void setAttribute42(String attribute42);
+
+    public String getAttribute43();
+
+    public void setAttribute43(String attribute43);
+
+    public String getAttribute44();
+
+    public void setAttribute44(String attribute44);
+
+    public String getAttribute45();
+
+    public void setAttribute45(String attribute45);
+
+    public String getAttribute46();
+
+    public void setAttribute46(String attribute46);
+
+    public String getAttribute47();
+
+    public void setAttribute47(String attribute47);
+
+    public String getAttribute48();
+
+    public void setAttribute48(String attribute48);
+
+    public String getAttribute49();
+
+    public void setAttribute49(String attribute49);
+
+    public String getAttribute50();
+
+    public void setAttribute50(String attribute50);
+
+    public String getAttribute51();
+
+    public void setAttribute51(String attribute51);
+
+    public String getAttribute52();
+
+    public void setAttribute52(String attribute52);
+
+    public String getAttribute53();
+
+    public void setAttribute53(String attribute53);
+
+    public String getAttribute54();
+
+    public void setAttribute54(String attribute54);
+
+    public String getAttribute55();
+
+    public void setAttribute55(String attribute55);
+
+    public String getAttribute56();
+
+    public void setAttribute56(String attribute56);
+
+    public String getAttribute57();
+
+    public void setAttribute57(String attribute57);
+
+    public String getAttribute58();
+
+    public void setAttribute58(String attribute58);
+
+    public String getAttribute59();
+
+    public void setAttribute59(String attribute59);
+
+    public String getAttribute60();
+
+    public void setAttribute60(String attribute60);
+
+    public String getAttribute61();
+
+    public void setAttribute61(String attribute61);
+
+    public String getAttribute62();
+
+    public void setAttribute62(String attribute62);
+
+    public String getAttribute63();
+
+    public void setAttribute63(String attribute63);
+
+    public String getAttribute64();
+
+    public void setAttribute64(String attribute64);
+
+}
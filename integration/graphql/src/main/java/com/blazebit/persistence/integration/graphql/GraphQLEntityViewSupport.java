@@ -19,6 +19,7 @@ package com.blazebit.persistence.integration.graphql;
 import com.blazebit.persistence.CriteriaBuilder;
 import com.blazebit.persistence.DefaultKeyset;
 import com.blazebit.persistence.DefaultKeysetPage;
+import com.blazebit.persistence.KeysetCodec;
 import com.blazebit.persistence.KeysetPage;
 import com.blazebit.persistence.PaginatedCriteriaBuilder;
 import com.blazebit.persistence.view.ConfigurationProperties;
@@ -86,6 +87,7 @@ public class GraphQLEntityViewSupport {
 
     private final Map<String, Class<?>> typeNameToClass;
     private final Set<String> serializableBasicTypes;
+    private final KeysetCodec keysetCodec;
 
     private final String pageSizeName;
     private final String offsetName;
@@ -121,6 +123,26 @@ public class GraphQLEntityViewSupport {
      * @param elementCursorName The name of the cursor field within elements
      */
     public GraphQLEntityViewSupport(Map<String, Class<?>> typeNameToClass, Set<String> serializableBasicTypes, String pageSizeName, String offsetName, String beforeCursorName, String afterCursorName, String totalCountName, String pageElementsName, String pageElementObjectName, String elementCursorName) {
+        this(typeNameToClass, serializableBasicTypes, KeysetCodec.DEFAULT, pageSizeName, offsetName, beforeCursorName, afterCursorName, totalCountName, pageElementsName, pageElementObjectName, elementCursorName);
+    }
+
+    /**
+     * Creates a new {@link GraphQLEntityViewSupport} instance with the given type name to class mapping, serializable basic type whitelist and keyset codec.
+     * @param typeNameToClass The mapping from GraphQL type names to entity view class names
+     * @param serializableBasicTypes The whitelist of allowed serializable basic types to use for the deserialization of cursors that weren't encoded with the keyset codec
+     * @param keysetCodec The codec for encoding and decoding cursors
+     * @param pageSizeName The name of the page size field
+     * @param offsetName The name of the offset field
+     * @param beforeCursorName The name of the beforeCursor field
+     * @param afterCursorName The name of the afterCursor field
+     * @param totalCountName The name of the totalCount field
+     * @param pageElementsName The name of the elements field
+     * @param pageElementObjectName The name of the element object field within elements
+     * @param elementCursorName The name of the cursor field within elements
+     * @since 1.5.0
+     */
+    public GraphQLEntityViewSupport(Map<String, Class<?>> typeNameToClass, Set<String> serializableBasicTypes, KeysetCodec keysetCodec, String pageSizeName, String offsetName, String beforeCursorName, String afterCursorName, String totalCountName, String pageElementsName, String pageElementObjectName, String elementCursorName) {
+        this.keysetCodec = keysetCodec;
         this.pageSizeName = pageSizeName;
         this.offsetName = offsetName;
         this.beforeCursorName = beforeCursorName;
@@ -451,7 +473,21 @@ public class GraphQLEntityViewSupport {
      * @return a new cursor
      */
     protected GraphQLCursor deserialize(String beforeCursor) {
-        try (ObjectInputStream ois = new GraphQLCursorObjectInputStream(Base64.getDecoder().wrap(new ByteArrayInputStream(beforeCursor.getBytes())), serializableBasicTypes)) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getDecoder().decode(beforeCursor);
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Couldn't read cursor", e);
+        }
+        if (KeysetCodec.isEncodedKeyset(bytes)) {
+            KeysetCodec.Cursor cursor = keysetCodec.decode(bytes);
+            return new GraphQLCursor(cursor.getOffset(), cursor.getPageSize(), cursor.getTuple());
+        }
+        // Cursors that were serialized with Java serialization can't be verified
+        if (keysetCodec.isSigned()) {
+            throw new IllegalArgumentException("Unsigned cursor!");
+        }
+        try (ObjectInputStream ois = new GraphQLCursorObjectInputStream(new ByteArrayInputStream(bytes), serializableBasicTypes)) {
             int offset = ois.read();
             int pageSize = ois.read();
             Serializable[] tuple = (Serializable[]) ois.readObject();
@@ -461,6 +497,16 @@ public class GraphQLEntityViewSupport {
         }
     }
 
+    /**
+     * Returns the codec for encoding and decoding cursors that should be passed to {@link GraphQLRelayConnection}.
+     *
+     * @return the keyset codec
+     * @since 1.5.0
+     */
+    public KeysetCodec getKeysetCodec() {
+        return keysetCodec;
+    }
+
     /**
      * Returns the entity view class for the given GraphQL type name.
      *
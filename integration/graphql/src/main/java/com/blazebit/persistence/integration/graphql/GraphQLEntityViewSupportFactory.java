@@ -17,6 +17,7 @@
 package com.blazebit.persistence.integration.graphql;
 
 import com.blazebit.lang.StringUtils;
+import com.blazebit.persistence.KeysetCodec;
 import com.blazebit.persistence.parser.EntityMetamodel;
 import com.blazebit.persistence.view.EntityViewManager;
 import com.blazebit.persistence.view.metamodel.ManagedViewType;
@@ -85,6 +86,7 @@ public class GraphQLEntityViewSupportFactory {
     private boolean defineRelayTypes;
     private Boolean implementRelayNode;
     private boolean defineRelayNodeIfNotExist = false;
+    private KeysetCodec keysetCodec = KeysetCodec.DEFAULT;
 
     /**
      * Creates a new entity view support factory with the given configuration.
@@ -169,6 +171,26 @@ public class GraphQLEntityViewSupportFactory {
         this.defineRelayNodeIfNotExist = defineRelayNodeIfNotExist;
     }
 
+    /**
+     * Returns the codec for encoding and decoding cursors.
+     *
+     * @return the keyset codec
+     * @since 1.5.0
+     */
+    public KeysetCodec getKeysetCodec() {
+        return keysetCodec;
+    }
+
+    /**
+     * Sets the codec for encoding and decoding cursors. A codec with a signing key prevents clients from tampering with cursors.
+     *
+     * @param keysetCodec The keyset codec
+     * @since 1.5.0
+     */
+    public void setKeysetCodec(KeysetCodec keysetCodec) {
+        this.keysetCodec = keysetCodec;
+    }
+
     /**
      * Returns a new {@link GraphQLEntityViewSupport} after registering the entity view types from {@link EntityViewManager}
      * on the given {@link TypeDefinitionRegistry}.
@@ -217,7 +239,8 @@ public class GraphQLEntityViewSupportFactory {
 
         serializableBasicTypes.add(Serializable[].class.getName());
         serializableBasicTypes.add(GraphQLCursor.class.getName());
-        return new GraphQLEntityViewSupport(typeNameToClass, serializableBasicTypes);
+        return new GraphQLEntityViewSupport(typeNameToClass, serializableBasicTypes, keysetCodec, GraphQLEntityViewSupport.PAGE_SIZE_NAME, GraphQLEntityViewSupport.OFFSET_NAME, GraphQLEntityViewSupport.BEFORE_CURSOR_NAME,
+                GraphQLEntityViewSupport.AFTER_CURSOR_NAME, GraphQLEntityViewSupport.TOTAL_COUNT_NAME, GraphQLEntityViewSupport.EDGES_NAME, GraphQLEntityViewSupport.EDGE_NODE_NAME, GraphQLEntityViewSupport.EDGE_CURSOR_NAME);
     }
 
     protected void addObjectTypeDefinition(TypeDefinitionRegistry typeRegistry, Map<String, Class<?>> typeNameToClass, ManagedViewType<?> managedView, ObjectTypeDefinition objectTypeDefinition) {
@@ -17,6 +17,7 @@
 package com.blazebit.persistence.integration.graphql;
 
 import com.blazebit.persistence.Keyset;
+import com.blazebit.persistence.KeysetCodec;
 import com.blazebit.persistence.PagedList;
 
 import java.io.Serializable;
@@ -44,9 +45,20 @@ public class GraphQLRelayConnection<T> implements Serializable {
      * @param list The list
      */
     public GraphQLRelayConnection(List<T> list) {
+        this(list, KeysetCodec.DEFAULT);
+    }
+
+    /**
+     * Creates a new GraphQL page from the given list that encodes cursors with the given codec.
+     *
+     * @param list The list
+     * @param keysetCodec The codec for encoding cursors
+     * @since 1.5.0
+     */
+    public GraphQLRelayConnection(List<T> list, KeysetCodec keysetCodec) {
         if (list instanceof PagedList<?>) {
             PagedList<T> data = (PagedList<T>) list;
-            this.pageInfo = new GraphQLRelayPageInfo(data);
+            this.pageInfo = new GraphQLRelayPageInfo(data, keysetCodec);
             this.totalCount = data.getTotalSize();
         } else {
             this.pageInfo = GraphQLRelayPageInfo.EMPTY;
@@ -61,7 +73,18 @@ public class GraphQLRelayConnection<T> implements Serializable {
      * @param list The paged list
      */
     public GraphQLRelayConnection(PagedList<T> list) {
-        this.pageInfo = new GraphQLRelayPageInfo(list);
+        this(list, KeysetCodec.DEFAULT);
+    }
+
+    /**
+     * Creates a GraphQL page from the given paged list that encodes cursors with the given codec.
+     *
+     * @param list The paged list
+     * @param keysetCodec The codec for encoding cursors
+     * @since 1.5.0
+     */
+    public GraphQLRelayConnection(PagedList<T> list, KeysetCodec keysetCodec) {
+        this.pageInfo = new GraphQLRelayPageInfo(list, keysetCodec);
         this.totalCount = list.getTotalSize();
         this.edges = createEdges(list, pageInfo);
     }
@@ -16,6 +16,7 @@
 
 package com.blazebit.persistence.integration.graphql;
 
+import com.blazebit.persistence.KeysetCodec;
 import com.blazebit.persistence.KeysetPage;
 import com.blazebit.persistence.PagedList;
 
@@ -39,12 +40,14 @@ public class GraphQLRelayPageInfo implements Serializable {
     private final boolean hasPreviousPage;
     private final GraphQLCursor startCursor;
     private final GraphQLCursor endCursor;
+    private final transient KeysetCodec keysetCodec;
 
     private GraphQLRelayPageInfo() {
         this.hasNextPage = true;
         this.hasPreviousPage = true;
         this.startCursor = null;
         this.endCursor = null;
+        this.keysetCodec = KeysetCodec.DEFAULT;
     }
 
     /**
@@ -53,6 +56,18 @@ public class GraphQLRelayPageInfo implements Serializable {
      * @param data The paged list
      */
     public GraphQLRelayPageInfo(PagedList<?> data) {
+        this(data, KeysetCodec.DEFAULT);
+    }
+
+    /**
+     * Creates a new page info object from the given paged list that encodes cursors with the given codec.
+     *
+     * @param data The paged list
+     * @param keysetCodec The codec for encoding cursors
+     * @since 1.5.0
+     */
+    public GraphQLRelayPageInfo(PagedList<?> data, KeysetCodec keysetCodec) {
+        this.keysetCodec = keysetCodec;
         this.hasPreviousPage = data.getFirstResult() != 0;
         this.hasNextPage = data.getTotalSize() == -1 || data.getFirstResult() + data.getMaxResults() < data.getTotalSize();
         KeysetPage keysetPage = data.getKeysetPage();
@@ -129,7 +144,7 @@ public class GraphQLRelayPageInfo implements Serializable {
      * @return the serialized form of the cursor
      */
     protected byte[] serialize(int offset, int pageSize, Serializable[] tuple) {
-        return serializeCursor(offset, pageSize, tuple);
+        return serializeCursor(keysetCodec == null ? KeysetCodec.DEFAULT : keysetCodec, offset, pageSize, tuple);
     }
 
     /**
@@ -141,6 +156,28 @@ public class GraphQLRelayPageInfo implements Serializable {
      * @return the serialized form of the cursor
      */
     protected static byte[] serializeCursor(int offset, int pageSize, Serializable[] tuple) {
+        return serializeCursor(KeysetCodec.DEFAULT, offset, pageSize, tuple);
+    }
+
+    /**
+     * Serializes the given cursor components to a byte array with the given codec.
+     * If the codec doesn't sign cursors, tuples with values that aren't supported by the codec are serialized with Java serialization.
+     *
+     * @param keysetCodec The codec for encoding cursors
+     * @param offset The offset
+     * @param pageSize The page size
+     * @param tuple The tuple
+     * @return the serialized form of the cursor
+     * @since 1.5.0
+     */
+    protected static byte[] serializeCursor(KeysetCodec keysetCodec, int offset, int pageSize, Serializable[] tuple) {
+        try {
+            return keysetCodec.encode(offset, pageSize, tuple);
+        } catch (IllegalArgumentException ex) {
+            if (keysetCodec.isSigned()) {
+                throw ex;
+            }
+        }
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
             oos.write(offset);
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.integration.graphql;
+
+import com.blazebit.persistence.KeysetCodec;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public class GraphQLCursorCodecTest {
+
+    @Test
+    public void testRoundTrip() {
+        GraphQLEntityViewSupport support = createSupport(KeysetCodec.DEFAULT, Collections.<String>emptySet());
+        Serializable[] tuple = new Serializable[]{ 1L, "abc", UUID.randomUUID(), null };
+        String cursor = Base64.getEncoder().encodeToString(GraphQLRelayPageInfo.serializeCursor(KeysetCodec.DEFAULT, 300, 20, tuple));
+
+        GraphQLCursor graphQLCursor = support.deserialize(cursor);
+        Assert.assertEquals(300, graphQLCursor.getOffset());
+        Assert.assertEquals(20, graphQLCursor.getPageSize());
+        Assert.assertArrayEquals(tuple, graphQLCursor.getTuple());
+    }
+
+    @Test
+    public void testJavaSerializedCursor() throws Exception {
+        Set<String> allowedTypes = new HashSet<>();
+        allowedTypes.add(Long.class.getName());
+        allowedTypes.add(Number.class.getName());
+        allowedTypes.add(Serializable[].class.getName());
+        GraphQLEntityViewSupport support = createSupport(KeysetCodec.DEFAULT, allowedTypes);
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.write(0);
+            oos.write(20);
+            oos.writeObject(new Serializable[]{ 1L });
+        }
+
+        GraphQLCursor graphQLCursor = support.deserialize(Base64.getEncoder().encodeToString(baos.toByteArray()));
+        Assert.assertEquals(20, graphQLCursor.getPageSize());
+        Assert.assertArrayEquals(new Serializable[]{ 1L }, graphQLCursor.getTuple());
+    }
+
+    @Test
+    public void testTamperedSignedCursor() {
+        KeysetCodec keysetCodec = new KeysetCodec("secret".getBytes());
+        GraphQLEntityViewSupport support = createSupport(keysetCodec, Collections.<String>emptySet());
+        byte[] bytes = GraphQLRelayPageInfo.serializeCursor(keysetCodec, 0, 20, new Serializable[]{ 1L });
+        bytes[bytes.length - 20]++;
+
+        try {
+            support.deserialize(Base64.getEncoder().encodeToString(bytes));
+            Assert.fail("Expected to fail decoding of a tampered cursor");
+        } catch (IllegalArgumentException ex) {
+            Assert.assertEquals("Invalid keyset signature!", ex.getMessage());
+        }
+    }
+
+    private static GraphQLEntityViewSupport createSupport(KeysetCodec keysetCodec, Set<String> serializableBasicTypes) {
+        return new GraphQLEntityViewSupport(Collections.<String, Class<?>>emptyMap(), serializableBasicTypes, keysetCodec, GraphQLEntityViewSupport.PAGE_SIZE_NAME,
+                GraphQLEntityViewSupport.OFFSET_NAME, GraphQLEntityViewSupport.BEFORE_CURSOR_NAME, GraphQLEntityViewSupport.AFTER_CURSOR_NAME, GraphQLEntityViewSupport.TOTAL_COUNT_NAME,
+                GraphQLEntityViewSupport.EDGES_NAME, GraphQLEntityViewSupport.EDGE_NODE_NAME, GraphQLEntityViewSupport.EDGE_CURSOR_NAME);
+    }
+}
@@ -23,6 +23,7 @@ import com.blazebit.persistence.integration.quarkus.runtime.DefaultCriteriaBuild
 import com.blazebit.persistence.integration.quarkus.runtime.DefaultEntityViewManagerProducer;
 import com.blazebit.persistence.integration.quarkus.runtime.EntityViewConfigurationHolder;
 import com.blazebit.persistence.integration.quarkus.runtime.EntityViewRecorder;
+import com.blazebit.persistence.parser.expression.BoundedExpressionCache;
 import com.blazebit.persistence.parser.expression.ConcurrentHashMapExpressionCache;
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.BeanContainerListenerBuildItem;
@@ -36,9 +37,12 @@ import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ServiceProviderBuildItem;
 import io.quarkus.deployment.recording.RecorderContext;
 import io.quarkus.hibernate.orm.deployment.PersistenceUnitDescriptorBuildItem;
+import org.jboss.logging.Logger;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 
 import static io.quarkus.deployment.annotations.ExecutionTime.STATIC_INIT;
 
@@ -50,6 +54,7 @@ class BlazePersistenceProcessor {
 
     static final String CAPABILITY = "com.blazebit.persistence.integration.quarkus";
     static final String FEATURE = "blaze-persistence";
+    private static final Logger LOG = Logger.getLogger(BlazePersistenceProcessor.class);
 
     @BuildStep
     CapabilityBuildItem capability() {
@@ -107,9 +112,12 @@ class BlazePersistenceProcessor {
 
     @BuildStep
     void reflection(EntityViewsBuildItem entityViewsBuildItem,
-                    BuildProducer<ReflectiveClassBuildItem> reflectionProducer) {
+                    BuildProducer<ReflectiveClassBuildItem> reflectionProducer,
+                    BlazePersistenceConfiguration blazePersistenceConfig) {
+        validateStaticImplementations(entityViewsBuildItem, blazePersistenceConfig);
         reflectionProducer.produce(new ReflectiveClassBuildItem(true, true, ValuesEntity.class));
         reflectionProducer.produce(new ReflectiveClassBuildItem(true, false, false, ConcurrentHashMapExpressionCache.class));
+        reflectionProducer.produce(new ReflectiveClassBuildItem(true, false, false, BoundedExpressionCache.class));
         reflectionProducer.produce(new ReflectiveClassBuildItem(true, false, false, "com.blazebit.persistence.integration.hibernate.CustomOneToManyPersister"));
         reflectionProducer.produce(new ReflectiveClassBuildItem(true, false, false, "com.blazebit.persistence.integration.hibernate.CustomBasicCollectionPersister"));
         reflectionProducer.produce(ReflectiveClassBuildItem.builder("org.hibernate.dialect.function.SQLFunctionRegistry")
@@ -148,6 +156,29 @@ class BlazePersistenceProcessor {
                 );
             }
         }
+        // add the static implementations generated by the annotation processor that were found in the index
+        for (String implementationClassName : entityViewsBuildItem.getEntityViewImplementationClassNames().values()) {
+            reflectionProducer.produce(ReflectiveClassBuildItem.builder(implementationClassName)
+                    .constructors(true)
+                    .fields(true)
+                    .finalFieldsWritable(true)
+                    .build()
+            );
+        }
+    }
+
+    private void validateStaticImplementations(EntityViewsBuildItem entityViewsBuildItem, BlazePersistenceConfiguration blazePersistenceConfig) {
+        Set<String> entityViewsWithoutImplementation = new TreeSet<>(entityViewsBuildItem.getAbstractEntityViewClassNames());
+        entityViewsWithoutImplementation.removeAll(entityViewsBuildItem.getEntityViewImplementationClassNames().keySet());
+        if (entityViewsWithoutImplementation.isEmpty()) {
+            return;
+        }
+        if (blazePersistenceConfig.staticImplementationRequired.orElse(false)) {
+            throw new IllegalStateException("Static implementations are required but the following entity views have no static implementation. "
+                    + "Make sure the entity view annotation processor runs for these types: " + entityViewsWithoutImplementation);
+        }
+        LOG.infof("The implementations of the following entity views will be generated at runtime because no static implementation was found. "
+                + "Run the entity view annotation processor to generate them at build time: %s", entityViewsWithoutImplementation);
     }
 
     private List<String> getGeneratedEntityViewModelImplClassName(String entityViewClassName) {
@@ -19,11 +19,13 @@ package com.blazebit.persistence.integration.quarkus.deployment;
 import com.blazebit.persistence.view.EntityView;
 import com.blazebit.persistence.view.EntityViewListener;
 import com.blazebit.persistence.view.EntityViewListeners;
+import com.blazebit.persistence.view.StaticImplementation;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
 
+import java.lang.reflect.Modifier;
 import java.util.Collection;
 
 /**
@@ -34,6 +36,7 @@ public class EntityViewJandexScavenger {
     private static final DotName ENTITY_VIEW = DotName.createSimple(EntityView.class.getName());
     private static final DotName ENTITY_VIEW_LISTENER = DotName.createSimple(EntityViewListener.class.getName());
     private static final DotName ENTITY_VIEW_LISTENERS = DotName.createSimple(EntityViewListeners.class.getName());
+    private static final DotName STATIC_IMPLEMENTATION = DotName.createSimple(StaticImplementation.class.getName());
 
     private final IndexView indexView;
 
@@ -50,6 +53,18 @@ public class EntityViewJandexScavenger {
             for (AnnotationInstance annotation : entityViewAnnotations) {
                 ClassInfo klass = annotation.target().asClass();
                 entityViewsBuildItem.addEntityViewClass(klass.name().toString());
+                if (Modifier.isAbstract(klass.flags())) {
+                    entityViewsBuildItem.addAbstractEntityViewClass(klass.name().toString());
+                }
+            }
+        }
+
+        Collection<AnnotationInstance> staticImplementationAnnotations = indexView.getAnnotations(STATIC_IMPLEMENTATION);
+
+        if (staticImplementationAnnotations != null) {
+            for (AnnotationInstance annotation : staticImplementationAnnotations) {
+                ClassInfo klass = annotation.target().asClass();
+                entityViewsBuildItem.addEntityViewImplementationClass(annotation.value().asClass().name().toString(), klass.name().toString());
             }
         }
 
@@ -18,7 +18,9 @@ package com.blazebit.persistence.integration.quarkus.deployment;
 
 import io.quarkus.builder.item.SimpleBuildItem;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -27,12 +29,40 @@ import java.util.Set;
  */
 public final class EntityViewsBuildItem extends SimpleBuildItem {
     private final Set<String> entityViewClassNames = new HashSet<>();
+    private final Set<String> abstractEntityViewClassNames = new HashSet<>();
+    private final Map<String, String> entityViewImplementationClassNames = new HashMap<>();
 
     void addEntityViewClass(final String className) {
         entityViewClassNames.add(className);
     }
 
+    void addAbstractEntityViewClass(final String className) {
+        abstractEntityViewClassNames.add(className);
+    }
+
+    void addEntityViewImplementationClass(final String entityViewClassName, final String implementationClassName) {
+        entityViewImplementationClassNames.put(entityViewClassName, implementationClassName);
+    }
+
     public Set<String> getEntityViewClassNames() {
         return entityViewClassNames;
     }
+
+    /**
+     * Returns the class names of the entity views that are interfaces or abstract classes and thus need an implementation.
+     *
+     * @return the class names of the entity views that need an implementation
+     */
+    public Set<String> getAbstractEntityViewClassNames() {
+        return abstractEntityViewClassNames;
+    }
+
+    /**
+     * Returns the class names of the static implementations generated by the annotation processor, keyed by the entity view class name.
+     *
+     * @return the class names of the static implementations by entity view class name
+     */
+    public Map<String, String> getEntityViewImplementationClassNames() {
+        return entityViewImplementationClassNames;
+    }
 }
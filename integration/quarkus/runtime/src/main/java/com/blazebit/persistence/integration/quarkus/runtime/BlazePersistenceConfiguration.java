@@ -106,6 +106,16 @@ public class BlazePersistenceConfiguration {
     @ConfigItem
     public Optional<Boolean> createEmptyFlatViews;
 
+    /**
+     * A boolean flag to make it possible to require a static implementation generated by the annotation processor for every entity view type
+     * that is an interface or an abstract class. When enabled, the build fails if a static implementation is missing
+     * and entity view implementations are never generated at runtime.
+     * By default implementations are generated at runtime if no static implementation is found i.e. the default value is <code>false</code>.
+     * Valid values for this property are <code>true</code> or <code>false</code>.
+     */
+    @ConfigItem
+    public Optional<Boolean> staticImplementationRequired;
+
     /**
      * The full qualified expression cache implementation class name.
      */
@@ -160,5 +170,8 @@ public class BlazePersistenceConfiguration {
         createEmptyFlatViews.ifPresent(value ->
                 entityViewConfiguration.setProperty(com.blazebit.persistence.view.ConfigurationProperties.CREATE_EMPTY_FLAT_VIEWS, value.toString())
         );
+        staticImplementationRequired.ifPresent(value ->
+                entityViewConfiguration.setProperty(com.blazebit.persistence.view.ConfigurationProperties.STATIC_IMPLEMENTATION_REQUIRED, value.toString())
+        );
     }
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.spring.data.testsuite.webmvc;
+
+import com.blazebit.persistence.KeysetCodec;
+import com.blazebit.persistence.KeysetPage;
+import com.blazebit.persistence.spring.data.repository.KeysetPageable;
+import com.blazebit.persistence.spring.data.testsuite.webmvc.entity.Document;
+import com.blazebit.persistence.spring.data.webmvc.KeysetConfig;
+import com.blazebit.persistence.spring.data.webmvc.impl.KeysetPageableHandlerMethodArgumentResolver;
+import org.junit.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public class KeysetPageableArgumentResolverTest {
+
+    private static final KeysetCodec SIGNED = new KeysetCodec("secret".getBytes(StandardCharsets.UTF_8));
+
+    private final KeysetPageableHandlerMethodArgumentResolver resolver = new KeysetPageableHandlerMethodArgumentResolver();
+
+    @Test
+    public void encodedKeysetIsDecoded() throws Exception {
+        KeysetPage keysetPage = resolve(encode(KeysetCodec.DEFAULT, 1L), encode(KeysetCodec.DEFAULT, 2L));
+
+        assertEquals(10, keysetPage.getFirstResult());
+        assertEquals(10, keysetPage.getMaxResults());
+        assertArrayEquals(new Serializable[] { 1L }, keysetPage.getLowest().getTuple());
+        assertArrayEquals(new Serializable[] { 2L }, keysetPage.getHighest().getTuple());
+    }
+
+    @Test
+    public void signedKeysetIsDecoded() throws Exception {
+        resolver.setKeysetCodec(SIGNED);
+        KeysetPage keysetPage = resolve(encode(SIGNED, 1L), encode(SIGNED, 2L));
+
+        assertArrayEquals(new Serializable[] { 1L }, keysetPage.getLowest().getTuple());
+        assertArrayEquals(new Serializable[] { 2L }, keysetPage.getHighest().getTuple());
+    }
+
+    @Test
+    public void jsonKeysetIsDecodedWithoutSigning() throws Exception {
+        KeysetPage keysetPage = resolve("{\"id\":1}", "{\"id\":2}");
+
+        assertArrayEquals(new Serializable[] { 1L }, keysetPage.getLowest().getTuple());
+        assertArrayEquals(new Serializable[] { 2L }, keysetPage.getHighest().getTuple());
+    }
+
+    @Test
+    public void jsonKeysetIsRejectedWhenSigning() throws Exception {
+        resolver.setKeysetCodec(SIGNED);
+
+        assertRejected("{\"id\":1}", "{\"id\":2}", "Unsigned keyset!");
+    }
+
+    @Test
+    public void unsignedKeysetIsRejectedWhenSigning() throws Exception {
+        resolver.setKeysetCodec(SIGNED);
+
+        assertRejected(encode(KeysetCodec.DEFAULT, 1L), encode(KeysetCodec.DEFAULT, 2L), "Invalid lowest keyset!");
+    }
+
+    @Test
+    public void tamperedKeysetIsRejected() throws Exception {
+        resolver.setKeysetCodec(SIGNED);
+        String highest = encode(new KeysetCodec("other".getBytes(StandardCharsets.UTF_8)), 2L);
+
+        assertRejected(encode(SIGNED, 1L), highest, "Invalid highest keyset!");
+    }
+
+    @Test
+    public void keysetWithWrongValueCountIsRejected() throws Exception {
+        assertRejected(encode(KeysetCodec.DEFAULT, 1L, 1L), encode(KeysetCodec.DEFAULT, 2L), "Invalid lowest keyset! Expected 1 values but got 2");
+    }
+
+    @Test
+    public void malformedKeysetIsRejected() throws Exception {
+        assertRejected("not+base64", encode(KeysetCodec.DEFAULT, 2L), "Invalid lowest keyset!");
+    }
+
+    private KeysetPage resolve(String lowest, String highest) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addParameter("page", "2");
+        request.addParameter("size", "10");
+        request.addParameter("prevPage", "1");
+        request.addParameter("lowest", lowest);
+        request.addParameter("highest", highest);
+        MethodParameter methodParameter = new MethodParameter(getClass().getDeclaredMethod("getDocuments", KeysetPageable.class), 0);
+        KeysetPageable keysetPageable = resolver.resolveArgument(methodParameter, null, new ServletWebRequest(request), null);
+        return keysetPageable.getKeysetPage();
+    }
+
+    private void assertRejected(String lowest, String highest, String message) throws Exception {
+        try {
+            resolve(lowest, highest);
+            fail("Expected the keysets to be rejected");
+        } catch (IllegalArgumentException ex) {
+            assertEquals(message, ex.getMessage());
+        }
+    }
+
+    private static String encode(KeysetCodec codec, Serializable... tuple) {
+        return Base64.getUrlEncoder().encodeToString(codec.encode(tuple));
+    }
+
+    void getDocuments(@KeysetConfig(Document.class) @PageableDefault(sort = "id") KeysetPageable keysetPageable) {
+    }
+}
@@ -18,6 +18,7 @@ package com.blazebit.persistence.spring.data.webflux.impl;
 
 import com.blazebit.persistence.DefaultKeyset;
 import com.blazebit.persistence.DefaultKeysetPage;
+import com.blazebit.persistence.KeysetCodec;
 import com.blazebit.persistence.KeysetPage;
 import com.blazebit.persistence.spring.data.repository.KeysetPageRequest;
 import com.blazebit.persistence.spring.data.repository.KeysetPageable;
@@ -79,6 +80,7 @@ public class KeysetPageableHandlerMethodArgumentResolver extends PageableHandler
     private String previousSizeParameterName = DEFAULT_PREVIOUS_SIZE_PARAMETER;
     private String lowestParameterName = DEFAULT_LOWEST_PARAMETER;
     private String highestParameterName = DEFAULT_HIGHEST_PARAMETER;
+    private KeysetCodec keysetCodec = KeysetCodec.DEFAULT;
 
     static {
         org.springframework.data.domain.Sort unsorted = null;
@@ -205,6 +207,22 @@ public class KeysetPageableHandlerMethodArgumentResolver extends PageableHandler
         this.highestParameterName = highestParameterName;
     }
 
+    protected KeysetCodec getKeysetCodec() {
+        return keysetCodec;
+    }
+
+    /**
+     * Configures the codec for decoding the lowest and highest keysets that aren't given as JSON objects.
+     * Such keysets are expected to be URL safe Base64 encoded. Defaults to {@link KeysetCodec#DEFAULT}.
+     * When the codec signs keysets, keysets given as JSON objects are rejected.
+     *
+     * @param keysetCodec the keyset codec to be used, must not be {@literal null}.
+     * @since 1.5.0
+     */
+    public void setKeysetCodec(KeysetCodec keysetCodec) {
+        this.keysetCodec = keysetCodec;
+    }
+
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
         return KeysetPageable.class.equals(parameter.getParameterType());
@@ -285,7 +303,18 @@ public class KeysetPageableHandlerMethodArgumentResolver extends PageableHandler
                 String lowestString = serverWebExchange.getRequest().getQueryParams().getFirst(lowestName);
                 String highestName = getParameterName(keysetConfig.highestName(), getParameterNameToUse(getHighestParameterName(), methodParameter));
                 String highestString = serverWebExchange.getRequest().getQueryParams().getFirst(highestName);
-                if (StringUtils.hasText(lowestString) && StringUtils.hasText(highestString)) {
+                if (StringUtils.hasText(lowestString) && StringUtils.hasText(highestString) && !isJsonObject(lowestString)) {
+                    int orderCount = (int) sort.stream().count();
+                    keysetPage = new DefaultKeysetPage(
+                            previousOffset,
+                            previousPageSize,
+                            new DefaultKeyset(decodeKeyset(lowestString, "lowest", orderCount)),
+                            new DefaultKeyset(decodeKeyset(highestString, "highest", orderCount))
+                    );
+                } else if (StringUtils.hasText(lowestString) && StringUtils.hasText(highestString)) {
+                    if (keysetCodec.isSigned()) {
+                        throw new IllegalArgumentException("Unsigned keyset!");
+                    }
                     List<Serializable> lowest = new ArrayList<>();
                     List<Serializable> highest = new ArrayList<>();
                     JsonNode lowestObject;
@@ -328,6 +357,23 @@ public class KeysetPageableHandlerMethodArgumentResolver extends PageableHandler
         return Mono.just(new KeysetPageRequest(keysetPage, sort, offset, pageSize));
     }
 
+    private static boolean isJsonObject(String keyset) {
+        return keyset.trim().startsWith("{");
+    }
+
+    private Serializable[] decodeKeyset(String keyset, String name, int orderCount) {
+        Serializable[] tuple;
+        try {
+            tuple = keysetCodec.decode(keyset).getTuple();
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid " + name + " keyset!", ex);
+        }
+        if (tuple.length != orderCount) {
+            throw new IllegalArgumentException("Invalid " + name + " keyset! Expected " + orderCount + " values but got " + tuple.length);
+        }
+        return tuple;
+    }
+
     private static String getParameterName(String name, String defaultName) {
         if (name == null || name.isEmpty()) {
             return defaultName;
@@ -24,6 +24,7 @@ import com.blazebit.persistence.criteria.BlazeSubquery;
 import com.blazebit.persistence.criteria.impl.expression.AbstractSelection;
 import com.blazebit.persistence.criteria.impl.expression.SubqueryExpression;
 import com.blazebit.persistence.criteria.impl.path.RootImpl;
+import com.blazebit.persistence.parser.expression.ExpressionClauseBuilder;
 
 import javax.persistence.criteria.Expression;
 import javax.persistence.criteria.Predicate;
@@ -116,6 +117,11 @@ public class AbstractModificationCriteriaQuery<T> implements BlazeCommonAbstract
 
         context.setClauseType(RenderContext.ClauseType.WHERE);
         context.getBuffer().setLength(0);
+        com.blazebit.persistence.parser.expression.Expression predicate = context.createExpression(wb, restriction);
+        if (predicate != null) {
+            ((ExpressionClauseBuilder) wb).setWherePredicate((com.blazebit.persistence.parser.predicate.Predicate) predicate);
+            return;
+        }
         ((AbstractSelection<?>) restriction).render(context);
         String expression = context.takeBuffer();
         Map<String, InternalQuery<?>> aliasToSubqueries = context.takeAliasToSubqueryMap();
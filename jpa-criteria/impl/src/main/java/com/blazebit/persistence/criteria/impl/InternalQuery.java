@@ -44,6 +44,7 @@ import com.blazebit.persistence.criteria.impl.path.AbstractJoin;
 import com.blazebit.persistence.criteria.impl.path.EntityJoin;
 import com.blazebit.persistence.criteria.impl.path.RootImpl;
 import com.blazebit.persistence.criteria.impl.path.TreatedPath;
+import com.blazebit.persistence.parser.expression.ExpressionClauseBuilder;
 
 import javax.persistence.Tuple;
 import javax.persistence.criteria.Expression;
@@ -407,39 +408,50 @@ public class InternalQuery<T> implements Serializable {
 
             ((SubqueryExpression<?>) s).renderSubquery(context);
             context.popSubqueryInitiator();
-        } else {
-            if (s instanceof TreatedPath<?>) {
-                TreatedPath<?> treatedPath = (TreatedPath<?>) s;
-                treatedSelections.add(treatedPath);
-                treatedPath.getTreatedPath().render(context);
+            return;
+        }
+
+        com.blazebit.persistence.parser.expression.Expression expression = context.createExpression(cb, s);
+        if (expression != null) {
+            if (s.getAlias() != null && !(s instanceof AbstractFrom<?, ?>)) {
+                ((ExpressionClauseBuilder) cb).selectExpression(expression, s.getAlias());
             } else {
-                ((AbstractSelection<?>) s).render(context);
+                ((ExpressionClauseBuilder) cb).selectExpression(expression, null);
             }
-            String expr = context.takeBuffer();
-            Map<String, InternalQuery<?>> aliasToSubqueries = context.takeAliasToSubqueryMap();
+            return;
+        }
 
-            if (aliasToSubqueries.isEmpty()) {
-                if (s.getAlias() != null && !(s instanceof AbstractFrom<?, ?>)) {
-                    cb.select(expr, s.getAlias());
-                } else {
-                    cb.select(expr);
-                }
-            } else {
-                MultipleSubqueryInitiator<?> initiator;
-                if (s.getAlias() != null) {
-                    initiator = cb.selectSubqueries(expr, s.getAlias());
-                } else {
-                    initiator = cb.selectSubqueries(expr);
-                }
+        if (s instanceof TreatedPath<?>) {
+            TreatedPath<?> treatedPath = (TreatedPath<?>) s;
+            treatedSelections.add(treatedPath);
+            treatedPath.getTreatedPath().render(context);
+        } else {
+            ((AbstractSelection<?>) s).render(context);
+        }
+        String expr = context.takeBuffer();
+        Map<String, InternalQuery<?>> aliasToSubqueries = context.takeAliasToSubqueryMap();
 
-                for (Map.Entry<String, InternalQuery<?>> subqueryEntry : aliasToSubqueries.entrySet()) {
-                    context.pushSubqueryInitiator(initiator.with(subqueryEntry.getKey()));
-                    subqueryEntry.getValue().renderSubquery(context);
-                    context.popSubqueryInitiator();
-                }
+        if (aliasToSubqueries.isEmpty()) {
+            if (s.getAlias() != null && !(s instanceof AbstractFrom<?, ?>)) {
+                cb.select(expr, s.getAlias());
+            } else {
+                cb.select(expr);
+            }
+        } else {
+            MultipleSubqueryInitiator<?> initiator;
+            if (s.getAlias() != null) {
+                initiator = cb.selectSubqueries(expr, s.getAlias());
+            } else {
+                initiator = cb.selectSubqueries(expr);
+            }
 
-                initiator.end();
+            for (Map.Entry<String, InternalQuery<?>> subqueryEntry : aliasToSubqueries.entrySet()) {
+                context.pushSubqueryInitiator(initiator.with(subqueryEntry.getKey()));
+                subqueryEntry.getValue().renderSubquery(context);
+                context.popSubqueryInitiator();
             }
+
+            initiator.end();
         }
     }
 
@@ -677,6 +689,13 @@ public class InternalQuery<T> implements Serializable {
 
         context.setClauseType(ClauseType.WHERE);
         context.getBuffer().setLength(0);
+        if (treatedSelections.isEmpty()) {
+            com.blazebit.persistence.parser.expression.Expression predicate = context.createExpression(wb, restriction);
+            if (predicate != null) {
+                ((ExpressionClauseBuilder) wb).setWherePredicate((com.blazebit.persistence.parser.predicate.Predicate) predicate);
+                return;
+            }
+        }
         ((AbstractSelection<?>) restriction).render(context);
         renderTreatTypeRestrictions(context, treatedSelections);
         String expression = context.takeBuffer();
@@ -723,6 +742,11 @@ public class InternalQuery<T> implements Serializable {
         context.setClauseType(ClauseType.GROUP_BY);
         for (Expression<?> expr : groupList) {
             context.getBuffer().setLength(0);
+            com.blazebit.persistence.parser.expression.Expression groupByExpression = context.createExpression(gb, expr);
+            if (groupByExpression != null) {
+                ((ExpressionClauseBuilder) gb).groupByExpression(groupByExpression);
+                continue;
+            }
             ((AbstractSelection<?>) expr).render(context);
             String expression = context.takeBuffer();
             Map<String, InternalQuery<?>> aliasToSubqueries = context.takeAliasToSubqueryMap();
@@ -751,6 +775,11 @@ public class InternalQuery<T> implements Serializable {
 
         context.setClauseType(ClauseType.HAVING);
         context.getBuffer().setLength(0);
+        com.blazebit.persistence.parser.expression.Expression predicate = context.createExpression(hb, having);
+        if (predicate != null) {
+            ((ExpressionClauseBuilder) hb).setHavingPredicate((com.blazebit.persistence.parser.predicate.Predicate) predicate);
+            return;
+        }
         ((AbstractSelection<?>) having).render(context);
         String expression = context.takeBuffer();
         Map<String, InternalQuery<?>> aliasToSubqueries = context.takeAliasToSubqueryMap();
@@ -777,18 +806,23 @@ public class InternalQuery<T> implements Serializable {
 
         context.setClauseType(ClauseType.ORDER_BY);
         for (Order order : orderList) {
+            boolean nullsFirst = false;
+
+            if (order instanceof BlazeOrder) {
+                nullsFirst = ((BlazeOrder) order).isNullsFirst();
+            }
+
             context.getBuffer().setLength(0);
+            com.blazebit.persistence.parser.expression.Expression orderByExpression = context.createExpression(ob, order.getExpression());
+            if (orderByExpression != null) {
+                ((ExpressionClauseBuilder) ob).orderByExpression(orderByExpression, order.isAscending(), nullsFirst);
+                continue;
+            }
             ((AbstractSelection<?>) order.getExpression()).render(context);
             String expression = context.takeBuffer();
             Map<String, InternalQuery<?>> aliasToSubqueries = context.takeAliasToSubqueryMap();
 
             if (aliasToSubqueries.isEmpty()) {
-                boolean nullsFirst = false;
-
-                if (order instanceof BlazeOrder) {
-                    nullsFirst = ((BlazeOrder) order).isNullsFirst();
-                }
-
                 ob.orderBy(expression, order.isAscending(), nullsFirst);
             } else {
                 throw new IllegalArgumentException("Subqueries are not supported in the order by clause!");
@@ -18,8 +18,12 @@ package com.blazebit.persistence.criteria.impl;
 
 import com.blazebit.persistence.CommonQueryBuilder;
 import com.blazebit.persistence.SubqueryInitiator;
+import com.blazebit.persistence.criteria.impl.expression.AbstractPredicate;
 import com.blazebit.persistence.criteria.impl.expression.AbstractSelection;
 import com.blazebit.persistence.criteria.impl.expression.ParameterExpressionImpl;
+import com.blazebit.persistence.parser.expression.Expression;
+import com.blazebit.persistence.parser.expression.ExpressionClauseBuilder;
+import com.blazebit.persistence.parser.expression.ExpressionOptimizer;
 
 import javax.persistence.criteria.ParameterExpression;
 import javax.persistence.criteria.Selection;
@@ -35,9 +39,14 @@ import java.util.Map;
  */
 public class RenderContextImpl implements RenderContext {
 
+    private static final ExpressionOptimizer EXPRESSION_OPTIMIZER = new ExpressionOptimizer();
+
     private final Map<ParameterExpression<?>, String> explicitParameterMapping = new HashMap<ParameterExpression<?>, String>();
     private final Map<String, ParameterExpression<?>> explicitParameterNameMapping = new HashMap<String, ParameterExpression<?>>();
     private final List<ImplicitParameterBinding> implicitParameterBindings = new ArrayList<ImplicitParameterBinding>();
+    // The explicit parameters in registration order and those that got a generated name, so that registrations can be undone
+    private final List<ParameterExpression<?>> explicitParameters = new ArrayList<ParameterExpression<?>>();
+    private final List<ParameterExpression<?>> generatedNameParameters = new ArrayList<ParameterExpression<?>>();
 
     private final StringBuilder buffer;
     private final List<SubqueryInitiator<?>> subqueryInitiatorStack;
@@ -92,6 +101,48 @@ public class RenderContextImpl implements RenderContext {
         ((AbstractSelection<?>) selection).render(this);
     }
 
+    /**
+     * Constructs the expression for the selection like the expression factory would produce it when parsing the rendered selection,
+     * so that it can be passed to the builder directly instead of rendering and parsing it.
+     * Returns <code>null</code> if the expression can't be constructed, in which case the selection has to be rendered.
+     *
+     * @param builder The builder for which to construct the expression
+     * @param selection The selection
+     * @return The expression or <code>null</code>
+     */
+    public Expression createExpression(Object builder, Selection<?> selection) {
+        if (!(builder instanceof ExpressionClauseBuilder) || !(selection instanceof AbstractSelection<?>)) {
+            return null;
+        }
+        // Predicates are only constructed for the predicate clauses
+        if (selection instanceof AbstractPredicate && clauseType != ClauseType.WHERE && clauseType != ClauseType.HAVING) {
+            return null;
+        }
+        int parameterCount = explicitParameterCount;
+        int explicitParameterSize = explicitParameters.size();
+        int implicitParameterBindingSize = implicitParameterBindings.size();
+        Expression expression = ((AbstractSelection<?>) selection).createExpression(this);
+        if (expression == null) {
+            // Rendering registers the parameters again, so we undo the registrations done before hitting an unsupported part
+            resetParameters(parameterCount, explicitParameterSize, implicitParameterBindingSize);
+            return null;
+        }
+        return expression.accept(EXPRESSION_OPTIMIZER);
+    }
+
+    private void resetParameters(int parameterCount, int explicitParameterSize, int implicitParameterBindingSize) {
+        List<ParameterExpression<?>> registeredParameters = explicitParameters.subList(explicitParameterSize, explicitParameters.size());
+        for (ParameterExpression<?> parameter : registeredParameters) {
+            explicitParameterNameMapping.remove(explicitParameterMapping.remove(parameter));
+            if (generatedNameParameters.remove(parameter)) {
+                ((ParameterExpressionImpl<?>) parameter).setName(null);
+            }
+        }
+        registeredParameters.clear();
+        implicitParameterBindings.subList(implicitParameterBindingSize, implicitParameterBindings.size()).clear();
+        explicitParameterCount = parameterCount;
+    }
+
     @Override
     public String generateAlias(Class<?> entityClass) {
         return generateAlias(entityClass.getSimpleName());
@@ -140,6 +191,7 @@ public class RenderContextImpl implements RenderContext {
                 } else {
                     jpaqlParameterName = generateParameterName();
                     ((ParameterExpressionImpl<?>) criteriaQueryParameter).setName(jpaqlParameterName);
+                    generatedNameParameters.add(criteriaQueryParameter);
                 }
             } else {
                 jpaqlParameterName = criteriaQueryParameter.getName();
@@ -147,6 +199,7 @@ public class RenderContextImpl implements RenderContext {
 
             explicitParameterNameMapping.put(jpaqlParameterName, criteriaQueryParameter);
             explicitParameterMapping.put(criteriaQueryParameter, jpaqlParameterName);
+            explicitParameters.add(criteriaQueryParameter);
         }
         return jpaqlParameterName;
     }
@@ -17,7 +17,12 @@
 package com.blazebit.persistence.criteria.impl.expression;
 
 import com.blazebit.persistence.criteria.impl.BlazeCriteriaBuilderImpl;
+import com.blazebit.persistence.criteria.impl.RenderContext;
+import com.blazebit.persistence.parser.expression.NumericLiteral;
+import com.blazebit.persistence.parser.expression.NumericType;
+import com.blazebit.persistence.parser.predicate.EqPredicate;
 
+import javax.persistence.criteria.Expression;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Selection;
 import java.util.List;
@@ -57,4 +62,23 @@ public abstract class AbstractPredicate extends AbstractExpression<Boolean> impl
     public final List<Selection<?>> getCompoundSelectionItems() {
         throw new IllegalStateException("Not a compound selection");
     }
+
+    protected static com.blazebit.persistence.parser.expression.Expression createOperand(RenderContext context, Expression<?> operand) {
+        if (!(operand instanceof AbstractSelection<?>) || operand instanceof AbstractPredicate) {
+            return null;
+        }
+        return ((AbstractSelection<?>) operand).createExpression(context);
+    }
+
+    protected static com.blazebit.persistence.parser.predicate.Predicate createPredicate(RenderContext context, Expression<?> predicate) {
+        if (!(predicate instanceof AbstractPredicate)) {
+            return null;
+        }
+        return (com.blazebit.persistence.parser.predicate.Predicate) ((AbstractPredicate) predicate).createExpression(context);
+    }
+
+    protected static com.blazebit.persistence.parser.predicate.Predicate createConstantPredicate(boolean value) {
+        // Same as the rendered 1=1 or 1=0
+        return new EqPredicate(new NumericLiteral("1", NumericType.INTEGER), new NumericLiteral(value ? "1" : "0", NumericType.INTEGER));
+    }
 }
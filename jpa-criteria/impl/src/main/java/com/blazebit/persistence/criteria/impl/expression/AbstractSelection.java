@@ -19,6 +19,7 @@ package com.blazebit.persistence.criteria.impl.expression;
 import com.blazebit.persistence.criteria.impl.BlazeCriteriaBuilderImpl;
 import com.blazebit.persistence.criteria.impl.ParameterVisitor;
 import com.blazebit.persistence.criteria.impl.RenderContext;
+import com.blazebit.persistence.parser.expression.Expression;
 
 import javax.persistence.criteria.Selection;
 import java.util.List;
@@ -56,4 +57,17 @@ public abstract class AbstractSelection<X> extends AbstractTupleElement<X> imple
 
     public abstract void render(RenderContext context);
 
+    /**
+     * Creates the expression that the expression factory would produce when parsing the string produced by {@link #render(RenderContext)}.
+     * Registers parameters and aliases in the render context just like rendering does.
+     * Returns <code>null</code> if constructing the expression is not supported in the current clause of the render context,
+     * in which case the selection is rendered instead.
+     *
+     * @param context The render context
+     * @return The expression or <code>null</code>
+     */
+    public Expression createExpression(RenderContext context) {
+        return null;
+    }
+
 }
@@ -67,4 +67,20 @@ public class BetweenPredicate<Y> extends AbstractSimplePredicate {
         context.apply(upperBound);
     }
 
+    @Override
+    public com.blazebit.persistence.parser.expression.Expression createExpression(RenderContext context) {
+        com.blazebit.persistence.parser.expression.Expression left = createOperand(context, expression);
+        if (left == null) {
+            return null;
+        }
+        com.blazebit.persistence.parser.expression.Expression start = createOperand(context, lowerBound);
+        if (start == null) {
+            return null;
+        }
+        com.blazebit.persistence.parser.expression.Expression end = createOperand(context, upperBound);
+        if (end == null) {
+            return null;
+        }
+        return new com.blazebit.persistence.parser.predicate.BetweenPredicate(left, start, end, isNegated());
+    }
 }
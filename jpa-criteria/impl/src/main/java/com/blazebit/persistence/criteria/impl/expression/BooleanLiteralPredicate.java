@@ -19,6 +19,7 @@ package com.blazebit.persistence.criteria.impl.expression;
 import com.blazebit.persistence.criteria.impl.BlazeCriteriaBuilderImpl;
 import com.blazebit.persistence.criteria.impl.ParameterVisitor;
 import com.blazebit.persistence.criteria.impl.RenderContext;
+import com.blazebit.persistence.parser.expression.Expression;
 
 /**
  * @author Christian Beikov
@@ -54,4 +55,8 @@ public class BooleanLiteralPredicate extends AbstractSimplePredicate {
         }
     }
 
+    @Override
+    public Expression createExpression(RenderContext context) {
+        return createConstantPredicate(value ^ isNegated());
+    }
 }
@@ -103,6 +103,46 @@ public class CompoundPredicate extends AbstractPredicate {
         }
     }
 
+    @Override
+    public com.blazebit.persistence.parser.expression.Expression createExpression(RenderContext context) {
+        List<Expression<Boolean>> exprs = expressions;
+        int size = exprs.size();
+        switch (size) {
+            case 0: {
+                return createConstantPredicate(operator == BooleanOperator.AND ^ isNegated());
+            }
+            case 1: {
+                return createPredicate(context, exprs.get(0));
+            }
+            default: {
+                com.blazebit.persistence.parser.predicate.CompoundPredicate.BooleanOperator booleanOperator = operator == BooleanOperator.AND
+                        ? com.blazebit.persistence.parser.predicate.CompoundPredicate.BooleanOperator.AND
+                        : com.blazebit.persistence.parser.predicate.CompoundPredicate.BooleanOperator.OR;
+                // Like the parser, which appends the parenthesized operands to a left hand side compound predicate of the same operator
+                com.blazebit.persistence.parser.predicate.Predicate left = createPredicate(context, exprs.get(0));
+                if (left == null) {
+                    return null;
+                }
+                for (int i = 1; i < size; i++) {
+                    com.blazebit.persistence.parser.predicate.Predicate right = createPredicate(context, exprs.get(i));
+                    if (right == null) {
+                        return null;
+                    }
+                    if (left instanceof com.blazebit.persistence.parser.predicate.CompoundPredicate && !left.isNegated()
+                            && ((com.blazebit.persistence.parser.predicate.CompoundPredicate) left).getOperator() == booleanOperator) {
+                        ((com.blazebit.persistence.parser.predicate.CompoundPredicate) left).getChildren().add(right);
+                    } else {
+                        List<com.blazebit.persistence.parser.predicate.Predicate> predicates = new ArrayList<>(2);
+                        predicates.add(left);
+                        predicates.add(right);
+                        left = new com.blazebit.persistence.parser.predicate.CompoundPredicate(booleanOperator, predicates);
+                    }
+                }
+                return left;
+            }
+        }
+    }
+
     @Override
     public AbstractPredicate copyNegated() {
         BooleanOperator operator = getNegatedOperator();
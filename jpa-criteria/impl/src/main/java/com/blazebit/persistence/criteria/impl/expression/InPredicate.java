@@ -19,6 +19,7 @@ package com.blazebit.persistence.criteria.impl.expression;
 import com.blazebit.persistence.criteria.impl.BlazeCriteriaBuilderImpl;
 import com.blazebit.persistence.criteria.impl.ParameterVisitor;
 import com.blazebit.persistence.criteria.impl.RenderContext;
+import com.blazebit.persistence.parser.expression.ParameterExpression;
 import com.blazebit.persistence.parser.util.TypeConverter;
 import com.blazebit.persistence.parser.util.TypeUtils;
 
@@ -198,4 +199,43 @@ public class InPredicate<T> extends AbstractSimplePredicate implements BlazeCrit
         }
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public com.blazebit.persistence.parser.expression.Expression createExpression(RenderContext context) {
+        List<Expression<? extends T>> values = this.values;
+        int size = values.size();
+        if (size == 0) {
+            return createConstantPredicate(isNegated());
+        }
+
+        com.blazebit.persistence.parser.expression.Expression left = createOperand(context, expression);
+        if (left == null) {
+            return null;
+        }
+        List<com.blazebit.persistence.parser.expression.Expression> right = new ArrayList<>(allLiterals ? 1 : size);
+        if (allLiterals) {
+            List<Object> literalValues = new ArrayList<>(size);
+            for (LiteralExpression<T> value : (Collection<LiteralExpression<T>>) (Collection<?>) values) {
+                literalValues.add(value.getLiteral());
+            }
+            // A parameter that is not enclosed in parenthesis is collection valued
+            ParameterExpression parameterExpression = new ParameterExpression(context.registerLiteralParameterBinding(literalValues, Collection.class));
+            parameterExpression.setCollectionValued(true);
+            right.add(parameterExpression);
+        } else {
+            Expression<? extends T> first = values.get(0);
+            boolean collectionValued = size == 1 && first instanceof ParameterExpressionImpl<?> && Collection.class.isAssignableFrom(((ParameterExpressionImpl<?>) first).getParameterType());
+            for (int i = 0; i < size; i++) {
+                com.blazebit.persistence.parser.expression.Expression value = createOperand(context, values.get(i));
+                if (value == null) {
+                    return null;
+                }
+                right.add(value);
+            }
+            if (collectionValued) {
+                ((ParameterExpression) right.get(0)).setCollectionValued(true);
+            }
+        }
+        return new com.blazebit.persistence.parser.predicate.InPredicate(isNegated(), left, right);
+    }
 }
@@ -58,4 +58,12 @@ public class IsNullPredicate extends AbstractSimplePredicate {
         }
     }
 
+    @Override
+    public com.blazebit.persistence.parser.expression.Expression createExpression(RenderContext context) {
+        com.blazebit.persistence.parser.expression.Expression expression = createOperand(context, operand);
+        if (expression == null) {
+            return null;
+        }
+        return new com.blazebit.persistence.parser.predicate.IsNullPredicate(expression, isNegated());
+    }
 }
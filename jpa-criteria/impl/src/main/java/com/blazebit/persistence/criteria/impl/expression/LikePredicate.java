@@ -92,4 +92,20 @@ public class LikePredicate extends AbstractSimplePredicate {
         }
     }
 
+    @Override
+    public com.blazebit.persistence.parser.expression.Expression createExpression(RenderContext context) {
+        // The escape character is a literal that is only resolved when parsing
+        if (escapeCharacter != null) {
+            return null;
+        }
+        com.blazebit.persistence.parser.expression.Expression left = createOperand(context, matchExpression);
+        if (left == null) {
+            return null;
+        }
+        com.blazebit.persistence.parser.expression.Expression right = createOperand(context, pattern);
+        if (right == null) {
+            return null;
+        }
+        return new com.blazebit.persistence.parser.predicate.LikePredicate(left, right, true, null, isNegated());
+    }
 }
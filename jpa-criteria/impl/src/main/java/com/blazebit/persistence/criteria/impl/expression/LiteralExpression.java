@@ -20,6 +20,11 @@ import com.blazebit.persistence.criteria.impl.BlazeCriteriaBuilderImpl;
 import com.blazebit.persistence.criteria.impl.ParameterVisitor;
 import com.blazebit.persistence.criteria.impl.RenderContext;
 import com.blazebit.persistence.criteria.impl.RenderContext.ClauseType;
+import com.blazebit.persistence.parser.expression.Expression;
+import com.blazebit.persistence.parser.expression.NumericLiteral;
+import com.blazebit.persistence.parser.expression.NumericType;
+import com.blazebit.persistence.parser.expression.ParameterExpression;
+import com.blazebit.persistence.parser.predicate.BooleanLiteral;
 import com.blazebit.persistence.parser.util.TypeConverter;
 import com.blazebit.persistence.parser.util.TypeUtils;
 
@@ -81,6 +86,24 @@ public class LiteralExpression<T> extends AbstractExpression<T> {
         }
     }
 
+    @Override
+    public Expression createExpression(RenderContext context) {
+        // Literals in the select clause are rendered with the type converter, so we only support parameters and simple inline literals
+        if (context.getClauseType() == ClauseType.SELECT) {
+            return null;
+        }
+        if (literal instanceof Integer) {
+            return (Integer) literal < 0 ? null : new NumericLiteral(literal.toString(), NumericType.INTEGER);
+        } else if (literal instanceof Long) {
+            return (Long) literal < 0L ? null : new NumericLiteral(literal.toString() + 'L', NumericType.LONG);
+        } else if (literal instanceof Boolean) {
+            return new BooleanLiteral((Boolean) literal);
+        } else if (TypeUtils.isNumeric(literal)) {
+            return null;
+        }
+        return new ParameterExpression(context.registerLiteralParameterBinding(getLiteral(), getJavaType()));
+    }
+
     @Override
     @SuppressWarnings({ "unchecked", "rawtypes" })
     protected void setJavaType(Class targetType) {
@@ -18,6 +18,7 @@ package com.blazebit.persistence.criteria.impl.expression;
 
 import com.blazebit.persistence.criteria.impl.BlazeCriteriaBuilderImpl;
 import com.blazebit.persistence.criteria.impl.RenderContext;
+import com.blazebit.persistence.parser.predicate.Predicate;
 
 /**
  * @author Christian Beikov
@@ -50,4 +51,18 @@ public class NotPredicate extends AbstractSimplePredicate {
             context.apply(predicate);
         }
     }
+
+    @Override
+    public com.blazebit.persistence.parser.expression.Expression createExpression(RenderContext context) {
+        Predicate result = (Predicate) predicate.createExpression(context);
+        if (result == null) {
+            return null;
+        }
+        if (result.isNegated()) {
+            // Like the parser, which wraps the predicate in this case to maintain the negation structure
+            result = new com.blazebit.persistence.parser.predicate.CompoundPredicate(com.blazebit.persistence.parser.predicate.CompoundPredicate.BooleanOperator.AND, result);
+        }
+        result.negate();
+        return result;
+    }
 }
@@ -19,6 +19,8 @@ package com.blazebit.persistence.criteria.impl.expression;
 import com.blazebit.persistence.criteria.impl.BlazeCriteriaBuilderImpl;
 import com.blazebit.persistence.criteria.impl.ParameterVisitor;
 import com.blazebit.persistence.criteria.impl.RenderContext;
+import com.blazebit.persistence.parser.expression.Expression;
+import com.blazebit.persistence.parser.expression.NullExpression;
 
 /**
  * @author Christian Beikov
@@ -42,4 +44,8 @@ public class NullLiteralExpression<T> extends AbstractExpression<T> {
         context.getBuffer().append("NULL");
     }
 
+    @Override
+    public Expression createExpression(RenderContext context) {
+        return NullExpression.INSTANCE;
+    }
 }
@@ -19,6 +19,7 @@ package com.blazebit.persistence.criteria.impl.expression;
 import com.blazebit.persistence.criteria.impl.BlazeCriteriaBuilderImpl;
 import com.blazebit.persistence.criteria.impl.ParameterVisitor;
 import com.blazebit.persistence.criteria.impl.RenderContext;
+import com.blazebit.persistence.parser.expression.Expression;
 
 import javax.persistence.Parameter;
 import javax.persistence.criteria.ParameterExpression;
@@ -73,6 +74,11 @@ public class ParameterExpressionImpl<T> extends AbstractExpression<T> implements
         context.getBuffer().append(':').append(paramName);
     }
 
+    @Override
+    public Expression createExpression(RenderContext context) {
+        return new com.blazebit.persistence.parser.expression.ParameterExpression(context.registerExplicitParameter(this));
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
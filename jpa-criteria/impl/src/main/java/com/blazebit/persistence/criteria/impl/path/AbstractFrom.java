@@ -28,6 +28,10 @@ import com.blazebit.persistence.criteria.impl.ParameterVisitor;
 import com.blazebit.persistence.criteria.impl.RenderContext;
 import com.blazebit.persistence.criteria.impl.expression.FromSelection;
 import com.blazebit.persistence.criteria.impl.expression.SubqueryExpression;
+import com.blazebit.persistence.parser.expression.Expression;
+import com.blazebit.persistence.parser.expression.PathElementExpression;
+import com.blazebit.persistence.parser.expression.PathExpression;
+import com.blazebit.persistence.parser.expression.PropertyExpression;
 
 import javax.persistence.criteria.Fetch;
 import javax.persistence.criteria.Join;
@@ -45,9 +49,11 @@ import javax.persistence.metamodel.SingularAttribute;
 import javax.persistence.metamodel.Type;
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -122,6 +128,25 @@ public abstract class AbstractFrom<Z, X> extends AbstractPath<X> implements Blaz
         context.getBuffer().append(getAlias());
     }
 
+    @Override
+    protected boolean addPathElements(RenderContext context, List<PathElementExpression> pathElements) {
+        if (this instanceof TreatedPath<?>) {
+            return false;
+        }
+        prepareAlias(context);
+        pathElements.add(new PropertyExpression(getAlias()));
+        return true;
+    }
+
+    @Override
+    public Expression createExpression(RenderContext context) {
+        List<PathElementExpression> pathElements = new ArrayList<>(1);
+        if (!addPathElements(context, pathElements)) {
+            return null;
+        }
+        return new PathExpression(pathElements);
+    }
+
     @Override
     public Attribute<?, ?> getAttribute() {
         return null;
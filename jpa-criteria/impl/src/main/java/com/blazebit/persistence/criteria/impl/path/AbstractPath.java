@@ -22,6 +22,10 @@ import com.blazebit.persistence.criteria.impl.BlazeCriteriaBuilderImpl;
 import com.blazebit.persistence.criteria.impl.RenderContext;
 import com.blazebit.persistence.criteria.impl.expression.AbstractExpression;
 import com.blazebit.persistence.criteria.impl.expression.PathTypeExpression;
+import com.blazebit.persistence.parser.expression.Expression;
+import com.blazebit.persistence.parser.expression.PathElementExpression;
+import com.blazebit.persistence.parser.expression.PathExpression;
+import com.blazebit.persistence.parser.expression.PropertyExpression;
 
 import javax.persistence.criteria.Path;
 import javax.persistence.metamodel.Attribute;
@@ -29,8 +33,10 @@ import javax.persistence.metamodel.EntityType;
 import javax.persistence.metamodel.MapAttribute;
 import javax.persistence.metamodel.PluralAttribute;
 import javax.persistence.metamodel.SingularAttribute;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -198,6 +204,41 @@ public abstract class AbstractPath<X> extends AbstractExpression<X> implements B
         }
     }
 
+    /**
+     * Adds the elements of the path produced by {@link #renderPathExpression(RenderContext)} to the given list.
+     * Returns <code>false</code> if the path elements can't be constructed directly, in which case the path is rendered instead.
+     *
+     * @param context The render context
+     * @param pathElements The list to which to add the path elements
+     * @return Whether the path elements were constructed
+     */
+    protected boolean addPathElements(RenderContext context, List<PathElementExpression> pathElements) {
+        AbstractPath<?> base = getBasePath();
+        if (this instanceof TreatedPath<?> || base == null) {
+            return false;
+        }
+        prepareAlias(context);
+        if (!base.addPathElements(context, pathElements)) {
+            return false;
+        }
+        pathElements.add(new PropertyExpression(getAttribute().getName()));
+        return true;
+    }
+
+    @Override
+    public Expression createExpression(RenderContext context) {
+        if (this instanceof TreatedPath<?>) {
+            return null;
+        }
+        List<PathElementExpression> pathElements = new ArrayList<>();
+        AbstractPath<?> base = getBasePath();
+        if (base != null && !base.addPathElements(context, pathElements)) {
+            return null;
+        }
+        pathElements.add(new PropertyExpression(getAttribute().getName()));
+        return new PathExpression(pathElements);
+    }
+
     private void checkDereferenceAllowed() {
         if (!isDereferencable()) {
             throw new IllegalArgumentException("Dereferencing attributes in '" + getBasePath().getPathExpression() + "' is not allowed!");
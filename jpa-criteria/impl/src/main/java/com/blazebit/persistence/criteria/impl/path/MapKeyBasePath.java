@@ -18,11 +18,14 @@ package com.blazebit.persistence.criteria.impl.path;
 
 import com.blazebit.persistence.criteria.impl.BlazeCriteriaBuilderImpl;
 import com.blazebit.persistence.criteria.impl.RenderContext;
+import com.blazebit.persistence.parser.expression.Expression;
+import com.blazebit.persistence.parser.expression.PathElementExpression;
 
 import javax.persistence.criteria.Path;
 import javax.persistence.metamodel.Attribute;
 import javax.persistence.metamodel.Bindable;
 import javax.persistence.metamodel.MapAttribute;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -66,6 +69,16 @@ public class MapKeyBasePath<K, V> extends AbstractPath<Map<K, V>> implements Pat
         return mapJoin.getPathExpression();
     }
 
+    @Override
+    protected boolean addPathElements(RenderContext context, List<PathElementExpression> pathElements) {
+        return false;
+    }
+
+    @Override
+    public Expression createExpression(RenderContext context) {
+        return null;
+    }
+
     @Override
     public void renderPathExpression(RenderContext context) {
         if (mapJoin instanceof TreatedPath<?>) {
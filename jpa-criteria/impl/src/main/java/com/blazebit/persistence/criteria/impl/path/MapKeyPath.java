@@ -18,11 +18,14 @@ package com.blazebit.persistence.criteria.impl.path;
 
 import com.blazebit.persistence.criteria.impl.BlazeCriteriaBuilderImpl;
 import com.blazebit.persistence.criteria.impl.RenderContext;
+import com.blazebit.persistence.parser.expression.Expression;
+import com.blazebit.persistence.parser.expression.PathElementExpression;
 
 import javax.persistence.criteria.Path;
 import javax.persistence.metamodel.Attribute;
 import javax.persistence.metamodel.Bindable;
 import java.io.Serializable;
+import java.util.List;
 
 /**
  * @author Christian Beikov
@@ -69,6 +72,16 @@ public class MapKeyPath<K> extends AbstractPath<K> implements Path<K>, Serializa
         return "KEY(" + name + ')';
     }
 
+    @Override
+    protected boolean addPathElements(RenderContext context, List<PathElementExpression> pathElements) {
+        return false;
+    }
+
+    @Override
+    public Expression createExpression(RenderContext context) {
+        return null;
+    }
+
     @Override
     public void renderPathExpression(RenderContext context) {
         render(context);
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2014 - 2020 Blazebit.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.blazebit.persistence.criteria;
+
+import com.blazebit.persistence.CriteriaBuilder;
+import com.blazebit.persistence.criteria.impl.RenderContext;
+import com.blazebit.persistence.criteria.impl.RenderContextImpl;
+import com.blazebit.persistence.parser.expression.Expression;
+import com.blazebit.persistence.parser.expression.NumericLiteral;
+import com.blazebit.persistence.parser.expression.PathExpression;
+import com.blazebit.persistence.parser.predicate.CompoundPredicate;
+import com.blazebit.persistence.parser.predicate.InPredicate;
+import com.blazebit.persistence.testsuite.AbstractCoreTest;
+import com.blazebit.persistence.testsuite.entity.Document;
+import com.blazebit.persistence.testsuite.entity.Document_;
+import com.blazebit.persistence.testsuite.entity.NameObject_;
+import org.junit.Test;
+
+import javax.persistence.criteria.ParameterExpression;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.Collection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Asserts that paths, parameters and literals are passed to the query builder as constructed expressions instead of being rendered and parsed.
+ *
+ * @author Christian Beikov
+ * @since 1.5.0
+ */
+public class ExpressionConstructionTest extends AbstractCoreTest {
+
+    @Test
+    public void whereWithPathsParametersAndLiterals() {
+        BlazeCriteriaQuery<Long> cq = BlazeCriteria.get(cbf, Long.class);
+        BlazeCriteriaBuilder cb = cq.getCriteriaBuilder();
+        Root<Document> root = cq.from(Document.class, "document");
+        ParameterExpression<String> nameParam = cb.parameter(String.class, "name");
+        Predicate predicate = cb.and(
+                cb.equal(root.get(Document_.id), 1L),
+                cb.equal(root.get(Document_.name), nameParam),
+                cb.equal(root.get(Document_.nameObject).get(NameObject_.primaryName), "abc"),
+                cb.isNull(root.get(Document_.someValue))
+        );
+
+        RenderContextImpl context = new RenderContextImpl();
+        context.setClauseType(RenderContext.ClauseType.WHERE);
+        Expression expression = context.createExpression(cbf.create(em, Long.class), predicate);
+        assertTrue(expression instanceof CompoundPredicate);
+        assertEquals(4, ((CompoundPredicate) expression).getChildren().size());
+        assertEquals(1, context.getImplicitParameterBindings().size());
+
+        cq.select(root.get(Document_.id));
+        cq.where(predicate);
+        CriteriaBuilder<?> criteriaBuilder = cq.createCriteriaBuilder(em);
+        assertEquals("SELECT document.id FROM Document document WHERE document.id = 1L AND document.name = :name " +
+                "AND document.nameObject.primaryName = :generated_param_0 AND document.someValue IS NULL", criteriaBuilder.getQueryString());
+    }
+
+    @Test
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public void inWithLiteralsAndParameters() {
+        BlazeCriteriaQuery<Long> cq = BlazeCriteria.get(cbf, Long.class);
+        BlazeCriteriaBuilder cb = cq.getCriteriaBuilder();
+        Root<Document> root = cq.from(Document.class, "document");
+        ParameterExpression<Collection> namesParam = cb.parameter(Collection.class, "names");
+        ParameterExpression<Integer> idxParam = cb.parameter(Integer.class, "idx");
+        Predicate literalIn = root.get(Document_.id).in(1L, 2L);
+        Predicate collectionParameterIn = root.get(Document_.name).in(namesParam);
+        Predicate parameterIn = root.get(Document_.idx).in(idxParam, root.get(Document_.defaultContact));
+
+        RenderContextImpl context = new RenderContextImpl();
+        context.setClauseType(RenderContext.ClauseType.WHERE);
+        CriteriaBuilder<Long> builder = cbf.create(em, Long.class);
+        assertTrue(context.createExpression(builder, literalIn) instanceof InPredicate);
+        assertTrue(context.createExpression(builder, collectionParameterIn) instanceof InPredicate);
+        assertTrue(context.createExpression(builder, parameterIn) instanceof InPredicate);
+
+        cq.select(root.get(Document_.id));
+        cq.where(literalIn, collectionParameterIn, parameterIn);
+        CriteriaBuilder<?> criteriaBuilder = cq.createCriteriaBuilder(em);
+        assertEquals("SELECT document.id FROM Document document WHERE document.id IN " + listParameter("generated_param_0") + " " +
+                "AND document.name IN " + listParameter("names") + " AND document.idx IN (:idx, document.defaultContact)", criteriaBuilder.getQueryString());
+    }
+
+    @Test
+    public void orderByPathAndLiteral() {
+        BlazeCriteriaQuery<Long> cq = BlazeCriteria.get(cbf, Long.class);
+        BlazeCriteriaBuilder cb = cq.getCriteriaBuilder();
+        Root<Document> root = cq.from(Document.class, "document");
+
+        RenderContextImpl context = new RenderContextImpl();
+        context.setClauseType(RenderContext.ClauseType.ORDER_BY);
+        CriteriaBuilder<Long> builder = cbf.create(em, Long.class);
+        assertTrue(context.createExpression(builder, root.get(Document_.name)) instanceof PathExpression);
+        assertTrue(context.createExpression(builder, cb.literal(1)) instanceof NumericLiteral);
+
+        cq.select(root.get(Document_.id));
+        cq.orderBy(cb.asc(root.get(Document_.name)), cb.desc(root.get(Document_.id)));
+        CriteriaBuilder<?> criteriaBuilder = cq.createCriteriaBuilder(em);
+        assertEquals("SELECT document.id FROM Document document ORDER BY document.name ASC, " + renderNullPrecedence("document.id", "DESC", "LAST"), criteriaBuilder.getQueryString());
+    }
+
+    @Test
+    public void unsupportedPartUndoesParameterRegistrations() {
+        BlazeCriteriaQuery<Long> cq = BlazeCriteria.get(cbf, Long.class);
+        BlazeCriteriaBuilder cb = cq.getCriteriaBuilder();
+        Root<Document> root = cq.from(Document.class, "document");
+        ParameterExpression<String> unnamedParam = cb.parameter(String.class);
+        Predicate predicate = cb.and(
+                cb.equal(root.get(Document_.name), "abc"),
+                cb.equal(root.get(Document_.nonJoinable), unnamedParam),
+                cb.equal(cb.lower(root.get(Document_.name)), "abc")
+        );
+
+        RenderContextImpl context = new RenderContextImpl();
+        context.setClauseType(RenderContext.ClauseType.WHERE);
+        assertNull(context.createExpression(cbf.create(em, Long.class), predicate));
+        assertTrue(context.getImplicitParameterBindings().isEmpty());
+        assertTrue(context.getExplicitParameterNameMapping().isEmpty());
+        assertNull(unnamedParam.getName());
+
+        cq.select(root.get(Document_.id));
+        cq.where(predicate);
+        CriteriaBuilder<?> criteriaBuilder = cq.createCriteriaBuilder(em);
+        assertEquals("SELECT document.id FROM Document document WHERE document.name = :generated_param_0 " +
+                "AND document.nonJoinable = :generated_param_1 AND LOWER(document.name) = :generated_param_2", criteriaBuilder.getQueryString());
+    }
+}